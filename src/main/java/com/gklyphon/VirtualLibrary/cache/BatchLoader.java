@@ -0,0 +1,145 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent lookups by key into batches, each loaded with a single call.
+ *
+ * <p>The first lookup that finds no open batch opens one and leads it: it waits for the
+ * window, during which concurrent lookups join the batch, then loads all of its keys at once
+ * on its own thread and hands every caller its value. A batch that reaches the maximum size
+ * is closed early and loaded at once. A key that is already being loaded is not loaded again:
+ * its caller waits for the load in flight.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private Batch<K> open;
+
+    /**
+     * @param batchFunction loads the values of a set of keys; keys without a value are left out
+     * @param window        how long a batch stays open for other lookups to join
+     * @param maxBatchSize  the maximum number of keys of a batch
+     */
+    public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize) {
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Loads the value of a key together with the keys looked up concurrently.
+     *
+     * @param key the key
+     * @return the value, or null if the key has none
+     * @throws RuntimeException the exception thrown by the load of the batch
+     */
+    public V load(K key) {
+        Batch<K> batch = null;
+        CompletableFuture<V> future;
+        boolean leader = false;
+        lock.lock();
+        try {
+            future = loading.get(key);
+            if (future == null) {
+                batch = open;
+                if (batch == null) {
+                    batch = open = new Batch<>();
+                    leader = true;
+                }
+                future = new CompletableFuture<>();
+                loading.put(key, future);
+                batch.keys.add(key);
+                if (batch.keys.size() >= maxBatchSize) {
+                    open = null;
+                    batch.full.countDown();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (leader) {
+            awaitWindow(batch);
+            dispatch(batch);
+        }
+        return join(future);
+    }
+
+    private void awaitWindow(Batch<K> batch) {
+        try {
+            if (windowNanos > 0) {
+                batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (open == batch) {
+                open = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch(Batch<K> batch) {
+        Map<K, V> values = null;
+        Throwable failure = null;
+        try {
+            values = batchFunction.apply(batch.keys);
+        } catch (RuntimeException | Error ex) {
+            failure = ex;
+        }
+        for (K key : batch.keys) {
+            CompletableFuture<V> future = loading.remove(key);
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(values != null ? values.get(key) : null);
+            }
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The keys of one batch, and the signal that it is full.
+     */
+    private static final class Batch<K> {
+        final Set<K> keys = new LinkedHashSet<>();
+        final CountDownLatch full = new CountDownLatch(1);
+    }
+}
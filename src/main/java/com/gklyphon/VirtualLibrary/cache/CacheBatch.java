@@ -0,0 +1,70 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The cache entries a batch write puts and evicts, applied together by
+ * {@link CatalogCache#writeBatch(CacheBatch)}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class CacheBatch {
+
+    private final Map<String, Map<Object, Object>> puts = new LinkedHashMap<>();
+    private final Map<String, Set<Object>> evictions = new LinkedHashMap<>();
+
+    /**
+     * Writes an entry through to a cache.
+     *
+     * @param cacheName the cache name
+     * @param key       the key of the entry
+     * @param value     the value of the entry
+     * @return this batch
+     */
+    public CacheBatch put(String cacheName, Object key, Object value) {
+        puts.computeIfAbsent(cacheName, name -> new LinkedHashMap<>()).put(key, value);
+        return this;
+    }
+
+    /**
+     * Evicts an entry from a cache. Null keys are ignored.
+     *
+     * @param cacheName the cache name
+     * @param key       the key of the entry
+     * @return this batch
+     */
+    public CacheBatch evict(String cacheName, Object key) {
+        if (key != null) {
+            evictions.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key);
+        }
+        return this;
+    }
+
+    /**
+     * Evicts a book by every key it is cached under, and its author.
+     *
+     * @param book the keys of the book
+     * @return this batch
+     */
+    public CacheBatch evictBook(BookRow book) {
+        return evict("books", book.id())
+                .evict("books", book.isbn())
+                .evict("books", book.title())
+                .evict("authors", book.authorId());
+    }
+
+    Map<String, Map<Object, Object>> puts() {
+        return puts;
+    }
+
+    Map<String, Set<Object>> evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,278 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Programmatic invalidation for the book and author caches.
+ *
+ * <p>Single entries are evicted by every key they are cached under (id, ISBN and title
+ * for books). Cached pages are never evicted one by one: their keys include a catalog
+ * generation number, and bumping that number makes every cached page unreachable.
+ * The stale pages then expire through the cache TTL.</p>
+ *
+ * <p>The generation and the time it started also form the {@link CatalogStamp}
+ * that pages and listings are validated against.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+public class CatalogCache {
+
+    static final String GENERATION_KEY = "generation:catalog";
+    static final String MODIFIED_KEY = "generation:catalog:modified";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public CatalogCache(CacheManager cacheManager, StringRedisTemplate stringRedisTemplate) {
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * Returns the current catalog generation, used as a prefix for page cache keys.
+     *
+     * @return the current generation, 0 if none has been recorded yet
+     */
+    public long generation() {
+        String value = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    /**
+     * Returns the current catalog stamp with a single Redis round-trip.
+     * When no write has been recorded yet, the current time is stored as the
+     * start of generation 0, so the stamp never predates the data it validates.
+     *
+     * @return the current catalog stamp
+     */
+    public CatalogStamp stamp() {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(GENERATION_KEY, MODIFIED_KEY));
+        String generation = values != null ? values.get(0) : null;
+        String modifiedAt = values != null ? values.get(1) : null;
+        if (modifiedAt == null) {
+            String now = Long.toString(System.currentTimeMillis());
+            stringRedisTemplate.opsForValue().setIfAbsent(MODIFIED_KEY, now);
+            modifiedAt = now;
+        }
+        return new CatalogStamp(generation != null ? Long.parseLong(generation) : 0L, Long.parseLong(modifiedAt));
+    }
+
+    /**
+     * Evicts the given books by id, ISBN and title, evicts their authors,
+     * and starts a new page generation. Runs after the current transaction commits.
+     *
+     * @param books the keys of the books that changed
+     */
+    public void evictBooks(Collection<BookRow> books) {
+        afterCommit(() -> {
+            evictBookEntries(books);
+            bumpGeneration();
+        });
+    }
+
+    /**
+     * Evicts the given author together with the books deleted alongside them,
+     * and starts a new page generation. Runs after the current transaction commits.
+     *
+     * @param authorId the ID of the author that changed
+     * @param books    the keys of the author's books that changed
+     */
+    public void evictAuthor(Long authorId, Collection<BookRow> books) {
+        afterCommit(() -> {
+            evictBookEntries(books);
+            evict(cacheManager.getCache("authors"), authorId);
+            bumpGeneration();
+        });
+    }
+
+    /**
+     * Starts a new page generation after the current transaction commits,
+     * for writes whose single entries are refreshed by {@code @CachePut}.
+     */
+    public void invalidatePages() {
+        afterCommit(this::bumpGeneration);
+    }
+
+    /**
+     * Applies the puts and evictions of a batch write and starts a new page generation.
+     * Runs after the current transaction commits. Redis caches receive all of their
+     * commands in a single pipelined round-trip.
+     *
+     * @param batch the entries to put and evict
+     */
+    public void writeBatch(CacheBatch batch) {
+        afterCommit(() -> {
+            List<byte[][]> sets = new ArrayList<>();
+            List<Expiration> expirations = new ArrayList<>();
+            List<byte[]> deletes = new ArrayList<>();
+            batch.puts().forEach((name, entries) -> {
+                Cache cache = cacheManager.getCache(name);
+                if (cache instanceof RedisCache redisCache) {
+                    RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+                    entries.forEach((key, value) -> {
+                        sets.add(new byte[][]{redisKey(redisCache, key),
+                                ByteUtils.getBytes(config.getValueSerializationPair().write(value))});
+                        Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+                        expirations.add(ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl));
+                    });
+                } else if (cache != null) {
+                    entries.forEach(cache::put);
+                }
+            });
+            batch.evictions().forEach((name, keys) -> {
+                Cache cache = cacheManager.getCache(name);
+                if (cache instanceof RedisCache redisCache) {
+                    keys.forEach(key -> deletes.add(redisKey(redisCache, key)));
+                } else {
+                    keys.forEach(key -> evict(cache, key));
+                }
+            });
+            if (!sets.isEmpty() || !deletes.isEmpty()) {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    if (!deletes.isEmpty()) {
+                        connection.keyCommands().del(deletes.toArray(byte[][]::new));
+                    }
+                    for (int i = 0; i < sets.size(); i++) {
+                        connection.stringCommands().set(sets.get(i)[0], sets.get(i)[1], expirations.get(i),
+                                RedisStringCommands.SetOption.upsert());
+                    }
+                    return null;
+                });
+            }
+            bumpGeneration();
+        });
+    }
+
+    /**
+     * Reads entries of a cache with a single {@code MGET}, without deserializing them.
+     *
+     * @param cacheName the cache name
+     * @param keys      the keys of the entries
+     * @return the serialized values of the cached keys; empty if the cache is not a Redis cache
+     */
+    public Map<Object, byte[]> getAll(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty() || !(cacheManager.getCache(cacheName) instanceof RedisCache redisCache)) {
+            return Map.of();
+        }
+        List<Object> ordered = new ArrayList<>(keys);
+        byte[][] redisKeys = ordered.stream().map(key -> redisKey(redisCache, key)).toArray(byte[][]::new);
+        List<byte[]> values = stringRedisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(redisKeys));
+        Map<Object, byte[]> found = new HashMap<>();
+        for (int i = 0; values != null && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(ordered.get(i), values.get(i));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Writes serialized entries to a cache with their TTL, in a single pipelined round-trip.
+     * Unlike {@link #writeBatch(CacheBatch)} this fills the cache after a read and does not
+     * start a new page generation.
+     *
+     * @param cacheName the cache name
+     * @param values    the serialized values by key
+     */
+    public void putAll(String cacheName, Map<?, byte[]> values) {
+        if (values.isEmpty() || !(cacheManager.getCache(cacheName) instanceof RedisCache redisCache)) {
+            return;
+        }
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> {
+                Duration ttl = config.getTtlFunction().getTimeToLive(key, null);
+                connection.stringCommands().set(redisKey(redisCache, key), value,
+                        ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl),
+                        RedisStringCommands.SetOption.upsert());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Returns how the values of a cache are serialized, so that values read with
+     * {@link #getAll(String, Collection)} can be deserialized and values for
+     * {@link #putAll(String, Map)} serialized.
+     *
+     * @param cacheName the cache name
+     * @return the serializer of a Redis cache, or JDK serialization for other caches
+     */
+    public RedisSerializationContext.SerializationPair<Object> serializer(String cacheName) {
+        if (cacheManager.getCache(cacheName) instanceof RedisCache redisCache) {
+            return redisCache.getCacheConfiguration().getValueSerializationPair();
+        }
+        return RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.java());
+    }
+
+    private static byte[] redisKey(RedisCache cache, Object key) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        String converted = config.getConversionService().convert(key, String.class);
+        String redisKey = config.usePrefix() ? config.getKeyPrefixFor(cache.getName()) + converted : converted;
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(redisKey));
+    }
+
+    private void evictBookEntries(Collection<BookRow> books) {
+        Cache bookCache = cacheManager.getCache("books");
+        Cache authorCache = cacheManager.getCache("authors");
+        for (BookRow book : books) {
+            evict(bookCache, book.id());
+            evict(bookCache, book.isbn());
+            evict(bookCache, book.title());
+            evict(authorCache, book.authorId());
+        }
+    }
+
+    private void bumpGeneration() {
+        // The start time moves first, so a stamp never pairs a new generation with an older time
+        stringRedisTemplate.opsForValue().set(MODIFIED_KEY, Long.toString(System.currentTimeMillis()));
+        stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+        evict(cacheManager.getCache("books"), SimpleKey.EMPTY);
+        evict(cacheManager.getCache("authors"), SimpleKey.EMPTY);
+    }
+
+    private static void evict(Cache cache, Object key) {
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
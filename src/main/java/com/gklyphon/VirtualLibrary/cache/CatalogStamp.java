@@ -0,0 +1,42 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+/**
+ * A version stamp of the whole catalog, used as the HTTP validator of book and
+ * author pages and listings, and as the version a catalog snapshot was exported at.
+ * Any committed write to a book or an author may change which items a listing holds
+ * and starts a new generation, so a stamp that is still current proves that a
+ * previously served listing is still current too. Single books and authors are
+ * validated by their own {@link com.gklyphon.VirtualLibrary.controller.EntityStamp}
+ * instead, which writes to other items leave valid.
+ *
+ * @param generation the catalog generation
+ * @param modifiedAt the time the generation started, in epoch milliseconds
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record CatalogStamp(long generation, long modifiedAt) {
+
+    /**
+     * Returns the strong entity tag of the stamp. The start time is part of the tag,
+     * so generations counted again after the counter is lost never repeat a tag.
+     *
+     * @return the quoted entity tag
+     */
+    public String etag() {
+        return etag(null);
+    }
+
+    /**
+     * Returns the strong entity tag of one representation variant of the stamp,
+     * so that different wire formats of the same data never share a tag.
+     *
+     * @param variant the variant token, or null for the default representation
+     * @return the quoted entity tag
+     */
+    public String etag(String variant) {
+        String tag = generation + "-" + Long.toString(modifiedAt, 36);
+        return "\"" + (variant != null ? tag + "-" + variant : tag) + "\"";
+    }
+}
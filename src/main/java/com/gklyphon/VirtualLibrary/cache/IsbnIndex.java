@@ -0,0 +1,254 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
+import com.gklyphon.VirtualLibrary.model.projection.IsbnRow;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-process index from packed ISBNs to book IDs, so a lookup by ISBN resolves to an ID
+ * without a database round-trip, and an unknown ISBN is answered without one at all.
+ *
+ * <p>The index is loaded when the application starts and rebuilt by
+ * {@code isbn-index.rebuild-cron}. In between, it follows the catalog generation: when a
+ * write on any node has started a new generation, the next lookup that misses reads the
+ * ISBNs of the books updated since the last sync, reaching back {@code sync.commit-lag-seconds}
+ * for transactions that were still committing. A miss is only reported as
+ * {@link #ABSENT} once the index has caught up with the current generation.</p>
+ *
+ * <p>An ID found in the index may be stale, since a changed or deleted book keeps its old
+ * ISBN in the index until the next rebuild: callers load the book and compare its ISBN, and
+ * {@link #evict(String, long)} the entry when it no longer matches.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class IsbnIndex {
+
+    /**
+     * Result of a lookup the index cannot answer, to be resolved by the database.
+     */
+    public static final long UNKNOWN = 0L;
+
+    /**
+     * Result of a lookup of an ISBN no book has.
+     */
+    public static final long ABSENT = -1L;
+
+    static final int BATCH_SIZE = 10_000;
+
+    private final IBookRepository bookRepository;
+    private final CatalogCache catalogCache;
+    private final boolean enabled;
+    private final boolean offHeap;
+    private final Duration commitLag;
+    private final StampedLock lock = new StampedLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private LongLongIndex index;
+    private volatile boolean ready;
+    private volatile long syncedGeneration;
+    private LocalDateTime syncedAt;
+
+    public IsbnIndex(IBookRepository bookRepository, CatalogCache catalogCache,
+                     @Value("${isbn-index.enabled:true}") boolean enabled,
+                     @Value("${isbn-index.off-heap:false}") boolean offHeap,
+                     @Value("${sync.commit-lag-seconds:5}") long commitLagSeconds) {
+        this.bookRepository = bookRepository;
+        this.catalogCache = catalogCache;
+        this.enabled = enabled;
+        this.offHeap = offHeap;
+        this.commitLag = Duration.ofSeconds(commitLagSeconds);
+    }
+
+    /**
+     * Resolves an ISBN to the ID of the book holding it.
+     *
+     * @param isbn the ISBN, in any form {@link Isbn} recognizes
+     * @return the ID of the book, {@link #ABSENT} if no book holds the ISBN, or {@link #UNKNOWN}
+     * if the index is not loaded, not up to date, or the value is not a valid ISBN
+     */
+    public long lookup(String isbn) {
+        if (!ready) {
+            return UNKNOWN;
+        }
+        long packed = Isbn.pack(isbn);
+        if (packed == Isbn.INVALID) {
+            return UNKNOWN;
+        }
+        long id = get(packed);
+        if (id != 0) {
+            return id;
+        }
+        if (catalogCache.generation() != syncedGeneration && !catchUp()) {
+            return UNKNOWN;
+        }
+        id = get(packed);
+        return id != 0 ? id : ABSENT;
+    }
+
+    /**
+     * Removes the entry of an ISBN if it still points to the given book.
+     *
+     * @param isbn the ISBN the book no longer holds
+     * @param id   the ID of the book
+     */
+    public void evict(String isbn, long id) {
+        long packed = Isbn.pack(isbn);
+        if (packed == Isbn.INVALID || !ready) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            index.remove(packed, id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Loads the index in the background once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            Thread.ofVirtual().name("isbn-index").start(this::rebuild);
+        }
+    }
+
+    /**
+     * Loads every ISBN into a new index and replaces the current one with it,
+     * dropping the stale entries left by changed and deleted books.
+     * Scheduled by {@code isbn-index.rebuild-cron}.
+     */
+    @Scheduled(cron = "${isbn-index.rebuild-cron:-}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            long generation = catalogCache.generation();
+            LocalDateTime start = LocalDateTime.now();
+            LongLongIndex built = new LongLongIndex(bookRepository.count(), offHeap);
+            long lastId = 0;
+            List<IsbnRow> rows;
+            do {
+                rows = bookRepository.findIsbnsAfter(lastId, Limit.of(BATCH_SIZE));
+                for (IsbnRow row : rows) {
+                    long packed = Isbn.pack(row.isbn());
+                    if (packed != Isbn.INVALID) {
+                        built.put(packed, row.id());
+                    }
+                    lastId = row.id();
+                }
+            } while (rows.size() == BATCH_SIZE);
+            long stamp = lock.writeLock();
+            try {
+                index = built;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            syncedAt = start;
+            syncedGeneration = generation;
+            ready = true;
+            log.info("ISBN index loaded: {} books in {} bytes", built.size(), built.footprint());
+        } catch (RuntimeException ex) {
+            log.warn("ISBN index could not be loaded: {}", ex.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of ISBNs in the index.
+     *
+     * @return the number of entries, 0 until the index is loaded
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return index != null ? index.size() : 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long get(long packed) {
+        long stamp = lock.tryOptimisticRead();
+        long id = index.get(packed);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                id = index.get(packed);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Applies the books updated since the last sync, unless another lookup is already doing so.
+     *
+     * @return true if the index is up to date with the generation read at the start
+     */
+    private boolean catchUp() {
+        if (!syncLock.tryLock()) {
+            return false;
+        }
+        try {
+            long generation = catalogCache.generation();
+            if (generation == syncedGeneration) {
+                return true;
+            }
+            LocalDateTime updatedAt = syncedAt.minus(commitLag);
+            long id = 0;
+            List<IsbnRow> rows;
+            do {
+                rows = bookRepository.findIsbnsChangedAfter(updatedAt, id, Limit.of(BATCH_SIZE));
+                long stamp = lock.writeLock();
+                try {
+                    for (IsbnRow row : rows) {
+                        long packed = Isbn.pack(row.isbn());
+                        if (packed != Isbn.INVALID) {
+                            index.put(packed, row.id());
+                        }
+                    }
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+                if (!rows.isEmpty()) {
+                    IsbnRow last = rows.get(rows.size() - 1);
+                    updatedAt = last.updatedAt();
+                    id = last.id();
+                }
+            } while (rows.size() == BATCH_SIZE);
+            if (updatedAt.isAfter(syncedAt)) {
+                syncedAt = updatedAt;
+            }
+            syncedGeneration = generation;
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("ISBN index could not catch up: {}", ex.getMessage());
+            return false;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+}
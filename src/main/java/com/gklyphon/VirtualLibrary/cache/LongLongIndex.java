@@ -0,0 +1,190 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Open-addressing hash map from {@code long} keys to {@code long} values, without boxing.
+ *
+ * <p>Keys and values are interleaved in one {@link LongBuffer}, either on the heap or in
+ * direct memory outside of it, so an entry takes 16 bytes per slot and the table is kept
+ * at most {@value #LOAD_FACTOR} full. Collisions are resolved by linear probing, and
+ * removals shift the following entries back instead of leaving markers.</p>
+ *
+ * <p>Key 0 marks an empty slot and value 0 an absent one, so neither can be stored.
+ * Writes must not run concurrently. {@link #get(long)} never fails while a write runs,
+ * but may then return a wrong value, which callers detect with an optimistic lock.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class LongLongIndex {
+
+    static final double LOAD_FACTOR = 0.75;
+    private static final int MIN_SLOTS = 16;
+
+    private final boolean offHeap;
+    private volatile LongBuffer table;
+    private int size;
+
+    /**
+     * Creates an index sized for the expected number of entries.
+     *
+     * @param expected the expected number of entries
+     * @param offHeap  whether to keep the table in direct memory
+     */
+    public LongLongIndex(long expected, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.table = allocate(slotsFor(expected));
+    }
+
+    /**
+     * Returns the value stored for a key.
+     *
+     * @param key the key, not 0
+     * @return the value, or 0 if the key is absent
+     */
+    public long get(long key) {
+        LongBuffer current = table;
+        int slots = current.capacity() / 2;
+        int slot = slot(key, slots);
+        for (int probes = 0; probes < slots; probes++) {
+            long stored = current.get(slot * 2);
+            if (stored == key) {
+                return current.get(slot * 2 + 1);
+            }
+            if (stored == 0) {
+                return 0;
+            }
+            slot = slot + 1 == slots ? 0 : slot + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Stores a value for a key, replacing the previous one.
+     *
+     * @param key   the key, not 0
+     * @param value the value, not 0
+     */
+    public void put(long key, long value) {
+        if (size + 1 > slots() * LOAD_FACTOR) {
+            grow();
+        }
+        if (insert(table, key, value)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes a key if it holds the given value.
+     *
+     * @param key   the key
+     * @param value the value the key must hold
+     * @return true if the entry was removed
+     */
+    public boolean remove(long key, long value) {
+        LongBuffer current = table;
+        int slots = slots();
+        int slot = slot(key, slots);
+        while (current.get(slot * 2) != key) {
+            if (current.get(slot * 2) == 0) {
+                return false;
+            }
+            slot = slot + 1 == slots ? 0 : slot + 1;
+        }
+        if (current.get(slot * 2 + 1) != value) {
+            return false;
+        }
+        int free = slot;
+        int next = slot;
+        while (true) {
+            next = next + 1 == slots ? 0 : next + 1;
+            long stored = current.get(next * 2);
+            if (stored == 0) {
+                break;
+            }
+            int home = slot(stored, slots);
+            boolean stays = free <= next ? free < home && home <= next : free < home || home <= next;
+            if (!stays) {
+                current.put(free * 2, stored);
+                current.put(free * 2 + 1, current.get(next * 2 + 1));
+                free = next;
+            }
+        }
+        current.put(free * 2, 0);
+        current.put(free * 2 + 1, 0);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the memory taken by the table.
+     *
+     * @return the size of the table in bytes
+     */
+    public long footprint() {
+        return (long) table.capacity() * Long.BYTES;
+    }
+
+    private int slots() {
+        return table.capacity() / 2;
+    }
+
+    private void grow() {
+        LongBuffer previous = table;
+        LongBuffer grown = allocate(slots() * 2);
+        for (int slot = 0; slot < previous.capacity() / 2; slot++) {
+            long key = previous.get(slot * 2);
+            if (key != 0) {
+                insert(grown, key, previous.get(slot * 2 + 1));
+            }
+        }
+        table = grown;
+    }
+
+    private static boolean insert(LongBuffer table, long key, long value) {
+        int slots = table.capacity() / 2;
+        int slot = slot(key, slots);
+        while (true) {
+            long stored = table.get(slot * 2);
+            if (stored == key || stored == 0) {
+                table.put(slot * 2 + 1, value);
+                table.put(slot * 2, key);
+                return stored == 0;
+            }
+            slot = slot + 1 == slots ? 0 : slot + 1;
+        }
+    }
+
+    private static int slot(long key, int slots) {
+        // Fibonacci hashing, then the high bits are scaled to the slot count without a division
+        long hash = (key * 0x9E3779B97F4A7C15L) >>> 32;
+        return (int) ((hash * slots) >>> 32);
+    }
+
+    private static int slotsFor(long expected) {
+        long slots = (long) Math.ceil(expected / LOAD_FACTOR) + 1;
+        if (slots > Integer.MAX_VALUE / (2 * Long.BYTES)) {
+            throw new IllegalArgumentException("Too many entries: " + expected);
+        }
+        return (int) Math.max(MIN_SLOTS, slots);
+    }
+
+    private LongBuffer allocate(int slots) {
+        return offHeap
+                ? ByteBuffer.allocateDirect(slots * 2 * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(slots * 2);
+    }
+}
@@ -0,0 +1,239 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.config.jackson.JacksonConfig;
+import com.gklyphon.VirtualLibrary.config.web.ResponseCacheData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Cache of encoded response bodies of single book and author reads.
+ *
+ * <p>Bodies are stored per resource, field set and wire format, with the same mappers the message
+ * converters use, so a cached body is byte for byte what the converter would have written.
+ * Each one is stored with the entity tag and modification time of the representation, and with
+ * the catalog generation it was last checked in. The body and the current generation are read
+ * in one round trip, and while no write has committed since, the body is served with its stored
+ * validators: the resource is neither loaded nor serialized.</p>
+ *
+ * <p>Once a write starts a new generation, the next read loads the resource and derives its tag;
+ * if that still matches the stored one, the body is stored again in the new generation without
+ * being serialized, otherwise it is encoded afresh. Bodies expire through
+ * {@code response-cache.ttl-seconds}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class ResponseBodyCache {
+
+    static final String KEY_PREFIX = "response:";
+
+    /**
+     * Wire format of a cached body.
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(JacksonConfig.APPLICATION_SMILE);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ResponseCacheData responseCacheData;
+    private final ObjectMapper[] mappers = new ObjectMapper[Format.values().length];
+
+    public ResponseBodyCache(StringRedisTemplate stringRedisTemplate, ResponseCacheData responseCacheData,
+                             ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter,
+                             MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.responseCacheData = responseCacheData;
+        mappers[Format.JSON.ordinal()] = objectMapper;
+        mappers[Format.CBOR.ordinal()] = cborConverter.getObjectMapper();
+        mappers[Format.SMILE.ordinal()] = smileConverter.getObjectMapper();
+    }
+
+    /**
+     * Resolves the format a request accepts, preferring the one with the highest quality.
+     *
+     * @param request the current request
+     * @return the format, or null when the cache is disabled or the request accepts none of them,
+     * in which case the response is rendered by the message converters
+     */
+    public Format format(WebRequest request) {
+        if (!responseCacheData.isEnabled()) {
+            return null;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return Format.JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return null;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() > 0) {
+                for (Format format : Format.values()) {
+                    if (mediaType.includes(format.mediaType)) {
+                        return format;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the cached body of a resource together with the current catalog generation,
+     * in a single round trip.
+     *
+     * @param resource the key of the resource and field set
+     * @param format   the wire format
+     * @return the lookup, or null when Redis cannot be read, in which case nothing is cached
+     */
+    public Lookup get(String resource, Format format) {
+        byte[] generationKey = CatalogCache.GENERATION_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] key = key(resource, format);
+        List<byte[]> values;
+        try {
+            values = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(generationKey, key));
+        } catch (RuntimeException ex) {
+            log.warn("Response cache read failed: {}", ex.getMessage());
+            return null;
+        }
+        if (values == null || values.size() != 2) {
+            return null;
+        }
+        byte[] generation = values.get(0);
+        return new Lookup(generation != null ? Long.parseLong(new String(generation, StandardCharsets.UTF_8)) : 0L,
+                values.get(1) != null ? Entry.decode(values.get(1)) : null);
+    }
+
+    /**
+     * Encodes a body in a wire format, with the mapper of that format's message converter.
+     *
+     * @param format the wire format
+     * @param body   the body to encode
+     * @return the encoded body
+     */
+    public byte[] encode(Format format, Object body) {
+        try {
+            return mappers[format.ordinal()].writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to encode response body", ex);
+        }
+    }
+
+    /**
+     * Stores the body of a resource, replacing the one stored before.
+     *
+     * @param resource the key of the resource and field set
+     * @param format   the wire format
+     * @param entry    the encoded body and its validators
+     */
+    public void put(String resource, Format format, Entry entry) {
+        byte[] key = key(resource, format);
+        byte[] value = entry.encode();
+        Expiration expiration = Expiration.from(Duration.ofSeconds(responseCacheData.getTtlSeconds()));
+        try {
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+        } catch (RuntimeException ex) {
+            log.warn("Response cache write failed: {}", ex.getMessage());
+        }
+    }
+
+    private static byte[] key(String resource, Format format) {
+        return (KEY_PREFIX + format.name().toLowerCase() + ":" + resource).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The result of a lookup.
+     *
+     * @param generation the current catalog generation
+     * @param entry      the cached body, or null on a miss
+     */
+    public record Lookup(long generation, Entry entry) {
+
+        /**
+         * Tells whether the cached body was stored in the current catalog generation,
+         * in which case no write has committed since and it may be served without loading the resource.
+         *
+         * @return true if the entry is current
+         */
+        public boolean isCurrent() {
+            return entry != null && entry.generation() == generation;
+        }
+    }
+
+    /**
+     * An encoded body with the validators of the representation it encodes.
+     *
+     * @param generation the catalog generation the body was last checked in
+     * @param tag        the entity tag of the representation, without quotes or variant
+     * @param modifiedAt the time the representation last changed, in epoch milliseconds, or -1 if unknown
+     * @param body       the encoded body
+     */
+    public record Entry(long generation, String tag, long modifiedAt, byte[] body) {
+
+        /**
+         * Stored as a line holding the generation, the time and the tag, followed by the body.
+         */
+        byte[] encode() {
+            byte[] header = (generation + " " + modifiedAt + " " + tag + "\n").getBytes(StandardCharsets.UTF_8);
+            byte[] value = Arrays.copyOf(header, header.length + body.length);
+            System.arraycopy(body, 0, value, header.length, body.length);
+            return value;
+        }
+
+        static Entry decode(byte[] value) {
+            int end = 0;
+            while (end < value.length && value[end] != '\n') {
+                end++;
+            }
+            if (end == value.length) {
+                return null;
+            }
+            String[] header = new String(value, 0, end, StandardCharsets.UTF_8).split(" ", 3);
+            if (header.length != 3) {
+                return null;
+            }
+            return new Entry(Long.parseLong(header[0]), header[2], Long.parseLong(header[1]),
+                    Arrays.copyOfRange(value, end + 1, value.length));
+        }
+    }
+}
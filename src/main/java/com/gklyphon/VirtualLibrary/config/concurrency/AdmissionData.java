@@ -0,0 +1,50 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * This class maps the admission control properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'admission' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionData {
+
+    /**
+     * Whether requests must acquire a permit before reaching the service layer.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of requests allowed to run concurrently.
+     * A value of 0 or less uses the maximum size of the JDBC connection pool.
+     */
+    private int maxConcurrent;
+
+    /**
+     * Time in milliseconds a request waits for a permit before being rejected.
+     */
+    private long acquireTimeoutMs = 500;
+
+    /**
+     * Ant-style paths, below the context path, of requests that never reach the database
+     * and may stream for long, such as e-book upload chunks and the event stream. They are
+     * not admitted through the filter.
+     */
+    private List<String> excludedPaths = List.of(
+            "/v1/events",
+            "/v1/books/*/ebook/uploads/*",
+            "/v1/books/*/ebook/uploads/*/complete");
+}
@@ -0,0 +1,37 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the batch loader properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'batch-loader' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "batch-loader")
+public class BatchLoaderData {
+
+    /**
+     * Whether concurrent lookups by ID are coalesced. When disabled, every lookup is loaded on its own.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long the first lookup of a batch waits for others to join it, in microseconds.
+     */
+    private long windowMicros = 500;
+
+    /**
+     * Maximum number of IDs loaded by one batch. A full batch is loaded without waiting for the window to end.
+     */
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,63 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class for request concurrency.
+ *
+ * <p>Virtual threads for Tomcat and the task executors are switched on with
+ * {@code spring.threads.virtual.enabled}. When admission control is enabled this
+ * class registers a {@link DbAdmissionFilter} in front of the API so that the
+ * number of concurrent requests never exceeds the JDBC pool size. File transfers
+ * and event streams that never reach the database are left out of it.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    private final AdmissionData admissionData;
+
+    public ConcurrencyConfig(AdmissionData admissionData) {
+        this.admissionData = admissionData;
+    }
+
+    /**
+     * Registers the admission filter for the API endpoints.
+     * The number of permits defaults to the maximum size of the Hikari pool.
+     *
+     * @param dataSource   the application data source
+     * @param objectMapper the mapper used to write rejection bodies
+     * @return the filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<DbAdmissionFilter> dbAdmissionFilter(DataSource dataSource,
+                                                                        ObjectMapper objectMapper) {
+        DbAdmissionFilter filter = new DbAdmissionFilter(
+                resolveMaxConcurrent(dataSource), admissionData.getAcquireTimeoutMs(),
+                admissionData.getExcludedPaths(), objectMapper);
+        FilterRegistrationBean<DbAdmissionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/v1/*");
+        return registration;
+    }
+
+    private int resolveMaxConcurrent(DataSource dataSource) {
+        if (admissionData.getMaxConcurrent() > 0) {
+            return admissionData.getMaxConcurrent();
+        }
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        return 10;
+    }
+}
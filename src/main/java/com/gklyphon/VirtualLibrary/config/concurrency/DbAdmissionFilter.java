@@ -0,0 +1,186 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servlet filter that limits how many requests may run concurrently.
+ *
+ * <p>With virtual threads every request gets its own thread, so nothing stops
+ * thousands of them from queueing on the JDBC pool at once. This filter bounds
+ * the number of in-flight requests to the pool size; requests that cannot get
+ * a permit within the configured timeout are rejected with 503 instead of
+ * piling up on the pool.</p>
+ *
+ * <p>File transfers and event streams may last as long as the client's connection
+ * allows, so holding a permit for them would starve requests that need the pool.
+ * Paths that never reach the database are excluded from the filter; a handler that
+ * checks the database before streaming calls {@link #release(ServletRequest)} first.</p>
+ *
+ * <p>A request that reads on several connections at once takes a permit for each
+ * further connection through {@link #tryAcquire(int)}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class DbAdmissionFilter extends OncePerRequestFilter {
+
+    static final String PERMIT_ATTRIBUTE = DbAdmissionFilter.class.getName() + ".permit";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final List<String> excludedPaths;
+    private final ObjectMapper objectMapper;
+
+    public DbAdmissionFilter(int maxConcurrent, long acquireTimeoutMs, List<String> excludedPaths,
+                             ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.excludedPaths = List.copyOf(excludedPaths);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Releases the permits held by a request before the request completes, so that a
+     * handler done with the database can stream its body without holding them. Calling
+     * it again, or for a request that holds no permit, does nothing.
+     *
+     * @param request the current request
+     */
+    public static void release(ServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            permit.release();
+        }
+    }
+
+    /**
+     * Takes further permits for the current request without waiting, for a request about to
+     * use that many more connections at once. They are released with the request's own permit.
+     * Not waiting keeps a request that already holds a permit from blocking others that do too.
+     *
+     * @param count the number of further permits
+     * @return true if they were taken, or if the current thread serves no admitted request
+     */
+    public static boolean tryAcquire(int count) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getRequest().getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            return permit.tryAcquire(count);
+        }
+        return true;
+    }
+
+    /**
+     * Acquires a permit before continuing the filter chain and releases it afterwards.
+     * Responds with 503 Service Unavailable when no permit becomes available in time.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response);
+            return;
+        }
+        Permit permit = new Permit(permits);
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release();
+        }
+    }
+
+    /**
+     * Skips the paths excluded from admission control.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : excludedPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of permits currently available.
+     *
+     * @return the available permits
+     */
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        log.warn("Request rejected: no database permit available after {} ms", acquireTimeoutMs);
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                "Server is busy, please retry later.");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * The permits held by one request, released at most once.
+     */
+    private static final class Permit {
+
+        private final Semaphore permits;
+        private final AtomicInteger held = new AtomicInteger(1);
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        private boolean tryAcquire(int count) {
+            if (!permits.tryAcquire(count)) {
+                return false;
+            }
+            if (held.getAndUpdate(current -> current > 0 ? current + count : 0) == 0) {
+                permits.release(count);
+                return false;
+            }
+            return true;
+        }
+
+        private void release() {
+            int count = held.getAndSet(0);
+            if (count > 0) {
+                permits.release(count);
+            }
+        }
+    }
+}
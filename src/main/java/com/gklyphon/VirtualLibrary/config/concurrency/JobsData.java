@@ -0,0 +1,86 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class maps the background job properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'jobs' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jobs")
+public class JobsData {
+
+    /**
+     * Whether this node claims and runs jobs. Nodes that do not can still queue them.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval between two looks for claimable jobs, in milliseconds. Jobs queued on this node start at once.
+     */
+    private long pollIntervalMs = 2000;
+
+    /**
+     * How long a claimed job stays with this node without being renewed, in seconds.
+     * Running jobs are renewed every third of it; a job whose lease expires is resumed by another node.
+     */
+    private int leaseSeconds = 60;
+
+    /**
+     * Maximum number of runs of a job; a failed job is retried until it has run this many times.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before a failed job is retried, in seconds, multiplied by the number of runs so far.
+     */
+    private int retryDelaySeconds = 30;
+
+    /**
+     * Maximum number of jobs of one type waiting to run. Beyond it, new jobs are refused.
+     */
+    private int maxQueued = 100;
+
+    /**
+     * Number of jobs of a type that run at once on this node, unless set in {@link #concurrency}.
+     */
+    private int defaultConcurrency = 1;
+
+    /**
+     * Number of jobs that run at once on this node, by job type.
+     */
+    private Map<String, Integer> concurrency = new HashMap<>();
+
+    /**
+     * How long this node waits for its running jobs when it stops, in seconds, before interrupting them.
+     */
+    private int shutdownTimeoutSeconds = 10;
+
+    /**
+     * Number of days finished jobs are kept.
+     */
+    private int retentionDays = 7;
+
+    /**
+     * Returns the number of jobs of a type that run at once on this node.
+     *
+     * @param type the job type
+     * @return the concurrency limit of the type
+     */
+    public int concurrencyOf(String type) {
+        return Math.max(1, concurrency.getOrDefault(type, defaultConcurrency));
+    }
+}
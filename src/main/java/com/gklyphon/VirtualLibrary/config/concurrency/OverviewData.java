@@ -0,0 +1,28 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the author overview properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'author-overview' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "author-overview")
+public class OverviewData {
+
+    /**
+     * Deadline shared by the reads of an overview, in milliseconds. Reads still running
+     * when it passes are cancelled.
+     */
+    private long timeoutMs = 2000;
+}
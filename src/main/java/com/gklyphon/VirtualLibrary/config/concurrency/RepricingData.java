@@ -0,0 +1,33 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the bulk repricing properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'repricing' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "repricing")
+public class RepricingData {
+
+    /**
+     * Number of books read and updated per transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Share of the time, in percent, a job may spend running chunks. After each chunk the job
+     * pauses so that its chunks take at most this share of the database's time.
+     */
+    private int maxDutyPercent = 25;
+}
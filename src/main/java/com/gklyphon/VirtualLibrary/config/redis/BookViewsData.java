@@ -0,0 +1,47 @@
+package com.gklyphon.VirtualLibrary.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the book view counter properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'book-views' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "book-views")
+public class BookViewsData {
+
+    /**
+     * Whether views of books are counted.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval in milliseconds between flushes of the counted views to Redis.
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Number of hourly view buckets kept in Redis, which is also the longest leaderboard window.
+     */
+    private int maxWindowHours = 168;
+
+    /**
+     * Time in seconds a computed leaderboard is reused before it is recomputed from the buckets.
+     */
+    private long leaderboardTtlSeconds = 30;
+
+    /**
+     * Maximum number of books counted between two flushes. Views of further books are dropped.
+     */
+    private int maxTrackedBooks = 100_000;
+}
@@ -0,0 +1,47 @@
+package com.gklyphon.VirtualLibrary.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the catalog event stream properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'catalog-events' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "catalog-events")
+public class CatalogEventsData {
+
+    /**
+     * Whether committed writes are published to Redis and relayed to subscribers.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis pub/sub channel the events are published on.
+     */
+    private String channel = "catalog:events";
+
+    /**
+     * Number of events buffered per subscriber before the subscriber is told to resync.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Interval in milliseconds between heartbeats sent to idle subscribers.
+     */
+    private long heartbeatMs = 30_000;
+
+    /**
+     * Time in milliseconds after which a subscription is closed and the client reconnects.
+     */
+    private long timeoutMs = 1_800_000;
+}
@@ -1,18 +1,47 @@
 package com.gklyphon.VirtualLibrary.config.redis;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.gklyphon.VirtualLibrary.config.jackson.JacksonConfig;
+import com.gklyphon.VirtualLibrary.event.CatalogEventHub;
 import io.lettuce.core.RedisConnectionException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Redis configuration class that uses Lettuce as the Redis client.
- * It defines the necessary beans for Redis connections and operations.
+ * It defines the necessary beans for Redis connections, cache serialization and catalog events.
  *
  * @author JFCiscoHuerta
  * @version 1.0
@@ -21,6 +50,11 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Configuration
 public class RedisConfig {
 
+    /**
+     * Caches whose values are pages, which keep JDK serialization.
+     */
+    static final List<String> PAGE_CACHES = List.of("booksPage", "authorsPage", "booksFields", "authorsFields");
+
     private final RedisData redisData;
 
     public RedisConfig(RedisData redisData) {
@@ -45,23 +79,138 @@ public class RedisConfig {
     }
 
     /**
-     * Creates and configures a {@link RedisTemplate} for Redis operations.
-     * Sets custom serializers for keys and values.
+     * Makes the catalog caches store their values as typed JSON, written and read by a mapper
+     * with the setup shared by the HTTP converters. The caches of pages keep the JDK serialization
+     * of the defaults: a {@code Page} and its {@code Pageable} can be written as JSON but not
+     * constructed from it.
      *
-     * @param redisConnectionFactory The Redis connection factory.
-     * @return A configured RedisTemplate instance.
+     * @return A customizer of the Redis cache manager.
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory);
+    public RedisCacheManagerBuilderCustomizer catalogCacheSerialization() {
+        RedisSerializationContext.SerializationPair<Object> json =
+                RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer());
+        return builder -> {
+            RedisCacheConfiguration defaults = builder.cacheDefaults();
+            builder.cacheDefaults(defaults.serializeValuesWith(json));
+            PAGE_CACHES.forEach(name -> builder.withCacheConfiguration(name, defaults));
+        };
+    }
+
+    /**
+     * Creates the serializer of cache values: JSON with the class of each value as a type hint,
+     * written by a mapper with the shared setup and the serializers of the catalog types built
+     * up front. Hibernate collections are written as plain copies, so a cached author can be read
+     * without a session.
+     *
+     * @return The serializer of cache values.
+     */
+    public static GenericJackson2JsonRedisSerializer cacheValueSerializer() {
+        ObjectMapper mapper = JacksonConfig.configure(new ObjectMapper());
+        mapper.registerModule(new SimpleModule("HibernateCollections").setSerializerModifier(
+                new BeanSerializerModifier() {
+                    @Override
+                    public JsonSerializer<?> modifyCollectionSerializer(SerializationConfig config,
+                                                                        CollectionType type,
+                                                                        BeanDescription beanDesc,
+                                                                        JsonSerializer<?> serializer) {
+                        return new DetachedCollectionSerializer(serializer);
+                    }
+                }));
+        return GenericJackson2JsonRedisSerializer.builder()
+                .objectMapper(mapper)
+                .defaultTyping(true)
+                .build()
+                .configure(JacksonConfig::warm);
+    }
+
+    /**
+     * Writes every collection through the serializer Jackson built for it, after copying a Hibernate
+     * collection into a plain one, so the type hint names the copy. A collection that was never
+     * loaded is written as {@code null} instead of being loaded outside its session.
+     */
+    static final class DetachedCollectionSerializer extends StdSerializer<Collection<?>>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        @SuppressWarnings("unchecked")
+        DetachedCollectionSerializer(JsonSerializer<?> delegate) {
+            super((Class<Collection<?>>) (Class<?>) Collection.class);
+            this.delegate = (JsonSerializer<Object>) delegate;
+        }
 
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            return delegate instanceof ContextualSerializer contextual
+                    ? new DetachedCollectionSerializer(contextual.createContextual(provider, property))
+                    : this;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Collection<?> collection) {
+            return delegate.isEmpty(provider, detach(collection));
+        }
+
+        @Override
+        public void serialize(Collection<?> collection, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            Object detached = detach(collection);
+            if (detached == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                delegate.serialize(detached, gen, provider);
+            }
+        }
+
+        @Override
+        public void serializeWithType(Collection<?> collection, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSer) throws IOException {
+            Object detached = detach(collection);
+            if (detached == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                delegate.serializeWithType(detached, gen, provider, typeSer);
+            }
+        }
 
-        return template;
+        private static Collection<?> detach(Collection<?> collection) {
+            if (!(collection instanceof PersistentCollection<?> persistent)) {
+                return collection;
+            }
+            if (!persistent.wasInitialized()) {
+                return null;
+            }
+            return collection instanceof Set<?> set ? new LinkedHashSet<>(set) : new ArrayList<>(collection);
+        }
+    }
+
+    /**
+     * Creates the subscription of this node to the catalog event channel,
+     * relaying every message to the local subscribers.
+     *
+     * @param redisConnectionFactory The Redis connection factory.
+     * @param catalogEventHub        The relay to the local subscribers.
+     * @param catalogEventsData      The catalog event properties.
+     * @return A listener container subscribed to the catalog event channel.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "catalog-events", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer catalogEventListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       CatalogEventHub catalogEventHub,
+                                                                       CatalogEventsData catalogEventsData) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(catalogEventHub, new ChannelTopic(catalogEventsData.getChannel()));
+        return container;
     }
 
 }
@@ -39,14 +39,32 @@ public class SecurityConfig {
         http.authorizeHttpRequests(
                 (auths) -> auths
                         .requestMatchers(HttpMethod.GET, "/v1/books", "/v1/books/{id}",
-                                "/v1/books/by-title", "/v1/books/by-isbn").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/v1/books/save-book").permitAll()
-                        .requestMatchers(HttpMethod.PUT, "/v1/books/update-book/{id}").permitAll()
-                        .requestMatchers(HttpMethod.DELETE, "/v1/books/delete-book/{id}").permitAll()
-                        .requestMatchers(HttpMethod.GET,"/v1/authors", "/v1/authors/{id}").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/v1/authors/save-author").permitAll()
+                                "/v1/books/by-title", "/v1/books/by-isbn", "/v1/books/changes", "/v1/books/popular",
+                                "/v1/books/{id}/cover").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/v1/books/save-book", "/v1/books/batch").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/v1/books/update-book/{id}", "/v1/books/{id}/cover").permitAll()
+                        .requestMatchers(HttpMethod.PATCH, "/v1/books/{id}").permitAll()
+                        .requestMatchers(HttpMethod.DELETE, "/v1/books/delete-book/{id}", "/v1/books/{id}/cover").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/books/{id}/ebook", "/v1/books/{id}/ebook/uploads/{uploadId}").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/v1/books/{id}/ebook/uploads",
+                                "/v1/books/{id}/ebook/uploads/{uploadId}/complete").permitAll()
+                        .requestMatchers(HttpMethod.PATCH, "/v1/books/{id}/ebook/uploads/{uploadId}").permitAll()
+                        .requestMatchers(HttpMethod.DELETE, "/v1/books/{id}/ebook", "/v1/books/{id}/ebook/uploads/{uploadId}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/books/{id}/copies", "/v1/loans/{loanId}").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/v1/books/{id}/copies").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/v1/books/{id}/checkouts", "/v1/loans/{loanId}/return").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/books/repricing-jobs/{jobId}").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/v1/books/repricing-jobs",
+                                "/v1/books/repricing-jobs/{jobId}/cancel").permitAll()
+                        .requestMatchers(HttpMethod.GET,"/v1/authors", "/v1/authors/{id}",
+                                "/v1/authors/stats", "/v1/authors/{id}/stats", "/v1/authors/{id}/overview",
+                                "/v1/authors/changes").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/v1/authors/save-author", "/v1/authors/batch").permitAll()
                         .requestMatchers(HttpMethod.PUT, "/v1/authors/update-author/{id}").permitAll()
+                        .requestMatchers(HttpMethod.PATCH, "/v1/authors/{id}").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/v1/authors/delete-author/{id}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/events").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/jobs").permitAll()
                         .anyRequest().permitAll())
                 .csrf(AbstractHttpConfigurer::disable)
         ;
@@ -56,7 +74,8 @@ public class SecurityConfig {
     /**
      * Configures Cross-Origin Resource Sharing (CORS) for the application.
      *
-     * <p>Allows requests from any origin with various HTTP methods and authorized headers.
+     * <p>Allows requests from any origin with various HTTP methods and authorized headers,
+     * including conditional request headers, and exposes the ETag to scripts.
      * Enables the use of credentials in requests.</p>
      *
      * @return the configured {@link CorsConfigurationSource} instance.
@@ -65,8 +84,10 @@ public class SecurityConfig {
     CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Collections.singletonList("*"));
-        configuration.setAllowedMethods(List.of("GET","POST","PUT","DELETE"));
-        configuration.setAllowedHeaders(List.of("Content-Type","Authorization"));
+        configuration.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE"));
+        configuration.setAllowedHeaders(List.of("Content-Type","Authorization","If-None-Match","If-Modified-Since",
+                "Idempotency-Key"));
+        configuration.setExposedHeaders(List.of("ETag"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,64 @@
+package com.gklyphon.VirtualLibrary.config.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * This class maps the book cover properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'covers' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "covers")
+public class CoverData {
+
+    /**
+     * Directory holding the covers, and the thumbnail cache under it.
+     */
+    private String directory = "covers";
+
+    /**
+     * Largest cover accepted, in bytes.
+     */
+    private long maxSizeBytes = 5 * 1024 * 1024;
+
+    /**
+     * Cache-Control max-age of cover and thumbnail responses.
+     */
+    private long maxAgeSeconds = 86400;
+
+    /**
+     * Widths thumbnails can be requested in.
+     */
+    private List<Integer> thumbnailWidths = List.of(96, 192, 384);
+
+    /**
+     * Threads resizing covers into thumbnails.
+     */
+    private int thumbnailThreads = 2;
+
+    /**
+     * Thumbnails waiting for a thread at most; further requests are served the full cover.
+     */
+    private int thumbnailQueueSize = 64;
+
+    /**
+     * Milliseconds a request waits for its thumbnail before it is served the full cover.
+     */
+    private long thumbnailTimeoutMs = 2000;
+
+    /**
+     * Total size of the cached thumbnails, beyond which the least recently used are deleted.
+     */
+    private long thumbnailCacheBytes = 256L * 1024 * 1024;
+}
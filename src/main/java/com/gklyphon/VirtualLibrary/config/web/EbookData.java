@@ -0,0 +1,57 @@
+package com.gklyphon.VirtualLibrary.config.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the e-book storage properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'ebooks' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "ebooks")
+public class EbookData {
+
+    /**
+     * Directory holding the e-books, and the uploads in progress under it.
+     */
+    private String directory = "ebooks";
+
+    /**
+     * Largest e-book accepted, in bytes.
+     */
+    private long maxSizeBytes = 1024L * 1024 * 1024;
+
+    /**
+     * Hours an upload is kept after its last chunk before it is purged.
+     */
+    private long uploadExpiryHours = 24;
+
+    /**
+     * Requests reading the same e-book at once at most.
+     */
+    private int maxConcurrentReads = 8;
+
+    /**
+     * Milliseconds a download waits for a reader slot before it is answered with 503.
+     */
+    private long readWaitMs = 500;
+
+    /**
+     * E-books kept mapped at once; the least recently read are released first.
+     */
+    private int mappedFiles = 64;
+
+    /**
+     * Cache-Control max-age of e-book responses, which are private to the client.
+     */
+    private long maxAgeSeconds = 3600;
+}
@@ -0,0 +1,32 @@
+package com.gklyphon.VirtualLibrary.config.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the HTTP caching properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'http-cache' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheData {
+
+    /**
+     * Seconds a client may use a response without revalidating it.
+     */
+    private long maxAgeSeconds = 0;
+
+    /**
+     * Seconds a client may keep using a stale response while it revalidates in the background.
+     */
+    private long staleWhileRevalidateSeconds = 60;
+}
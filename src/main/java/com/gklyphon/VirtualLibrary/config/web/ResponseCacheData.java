@@ -0,0 +1,32 @@
+package com.gklyphon.VirtualLibrary.config.web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class maps the response body cache properties from the application
+ * configuration file (application.properties or application.yml).
+ * It uses the 'response-cache' prefix to bind the configuration values.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheData {
+
+    /**
+     * Whether single book and author reads are served from cached encoded bodies.
+     */
+    private boolean enabled;
+
+    /**
+     * Seconds an encoded body is kept, including after a write made it unreachable.
+     */
+    private long ttlSeconds = 300;
+}
@@ -1,9 +1,19 @@
 package com.gklyphon.VirtualLibrary.controller;
 
-import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.media.CoverStorage;
+import com.gklyphon.VirtualLibrary.media.EbookStorage;
 import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorOverview;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.ChangeFeed;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.service.IAuthorOverviewService;
 import com.gklyphon.VirtualLibrary.service.IAuthorService;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
+import com.gklyphon.VirtualLibrary.service.IChangeFeedService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +25,18 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for managing authors.
@@ -35,12 +50,51 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/v1/authors")
 public class AuthorController {
 
+    /**
+     * Maximum number of author IDs accepted by the bulk statistics endpoint.
+     */
+    static final int MAX_STATS_IDS = 100;
+
+    /**
+     * Maximum number of authors accepted by the batch endpoint.
+     */
+    static final int MAX_BATCH_ITEMS = 500;
+
+    /**
+     * Maximum number of changed and of deleted authors returned by one change feed call.
+     */
+    static final int MAX_CHANGES = 1000;
+
+    /**
+     * Maximum number of books returned by the overview endpoint.
+     */
+    static final int MAX_OVERVIEW_BOOKS = 100;
+
     private final IAuthorService authorService;
+    private final IAuthorStatsService authorStatsService;
     private final PagedResourcesAssembler<Author> pagedResourcesAssembler;
+    private final PagedResourcesAssembler<AuthorFields> fieldsAssembler;
+    private final ConditionalResponses conditionalResponses;
+    private final IChangeFeedService changeFeedService;
+    private final IAuthorOverviewService authorOverviewService;
+    private final CoverStorage coverStorage;
+    private final EbookStorage ebookStorage;
 
-    public AuthorController(IAuthorService authorService, PagedResourcesAssembler<Author> pagedResourcesAssembler) {
+    public AuthorController(IAuthorService authorService, IAuthorStatsService authorStatsService,
+                            PagedResourcesAssembler<Author> pagedResourcesAssembler,
+                            PagedResourcesAssembler<AuthorFields> fieldsAssembler,
+                            ConditionalResponses conditionalResponses, IChangeFeedService changeFeedService,
+                            IAuthorOverviewService authorOverviewService, CoverStorage coverStorage,
+                            EbookStorage ebookStorage) {
         this.authorService = authorService;
+        this.authorStatsService = authorStatsService;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.fieldsAssembler = fieldsAssembler;
+        this.conditionalResponses = conditionalResponses;
+        this.changeFeedService = changeFeedService;
+        this.authorOverviewService = authorOverviewService;
+        this.coverStorage = coverStorage;
+        this.ebookStorage = ebookStorage;
     }
 
     /**
@@ -48,7 +102,10 @@ public class AuthorController {
      *
      * @param page the page number to retrieve (default is 0)
      * @param size the size of the page to retrieve (default is 10)
-     * @return a ResponseEntity containing a PagedModel of authors
+     * @param fields the comma-separated fields to return, or null for the full author
+     * @param view the page representation, hal or plain; null to negotiate it from the Accept header
+     * @param request the current request, checked for conditional headers
+     * @return a ResponseEntity containing a HAL or plain page of authors, or NOT_MODIFIED
      */
     @Operation(summary = "Retrieve a paginated list of authors",
             description = "Retrieves a paginated list of all authors available in the library.")
@@ -56,28 +113,45 @@ public class AuthorController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of authors.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "A requested field does not exist."),
             @ApiResponse(responseCode = "404", description = "No author found.")
     })
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<Author>>> getAllAuthors(
+    public ResponseEntity<?> getAllAuthors(
             @Parameter(description = "The page number to retrieve (default is 0)",
                     required = false, example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tha size of the page to retrieve (default is 10)",
                     required = false, example = "10")
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Comma-separated fields to return, such as lastname,country. "
+                    + "Only these columns are read.", required = false, example = "firstname,lastname")
+            @RequestParam(name = "fields", required = false) String fields,
+            @Parameter(description = "Page representation: hal (default) or plain, which returns the items "
+                    + "and a compact page block without links. Also selected by accepting "
+                    + PlainPage.MEDIA_TYPE_VALUE + ".", required = false, example = "plain")
+            @RequestParam(name = "view", required = false) String view,
+            WebRequest request
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Author> authors = authorService.findAllPageable(pageable);
-        PagedModel<EntityModel<Author>> pagedModel = pagedResourcesAssembler.toModel(authors);
-        return new ResponseEntity<>(pagedModel, HttpStatus.OK);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        boolean plain = PlainPage.requested(view, request);
+        if (fields != null) {
+            FieldSet fieldSet = FieldSet.forAuthors(fields);
+            return conditionalResponses.ok(request,
+                    () -> PlainPage.render(authorService.findAllPageable(pageable, fieldSet), fieldsAssembler, plain));
+        }
+        return conditionalResponses.ok(request,
+                () -> PlainPage.render(authorService.findAllPageable(pageable), pagedResourcesAssembler, plain));
     }
 
     /**
      * Retrieves an author by their unique identifier.
      *
      * @param id the unique identifier of the author to retrieve
-     * @return a ResponseEntity containing the author if found, otherwise NO_CONTENT
+     * @param fields the comma-separated fields to return, or null for the full author
+     * @param request the current request, checked for conditional headers
+     * @return a ResponseEntity containing the author if found, NOT_MODIFIED, otherwise NO_CONTENT
      */
     @Operation(summary = "Retrieve an author by ID",
             description = "Fetches an author using its unique identifier.")
@@ -85,14 +159,127 @@ public class AuthorController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the author.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "A requested field does not exist."),
             @ApiResponse(responseCode = "204", description = "No author found for the provided ID.")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Author> getAuthorById(
+    public ResponseEntity<?> getAuthorById(
             @Parameter(description = "Unique identifier of the author to retrieve")
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = "Comma-separated fields to return, such as lastname,country. "
+                    + "Only these columns are read.", required = false, example = "firstname,lastname")
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        if (fields != null) {
+            FieldSet fieldSet = FieldSet.forAuthors(fields);
+            return conditionalResponses.ok(request, "author:" + id + ":" + fieldSet.key(),
+                    () -> authorService.findById(id, fieldSet));
+        }
+        return conditionalResponses.ok(request, "author:" + id, () -> authorService.findById(id));
+    }
+
+    /**
+     * Retrieves the book statistics of an author.
+     *
+     * @param id the unique identifier of the author
+     * @return a ResponseEntity containing the author's statistics
+     */
+    @Operation(summary = "Retrieve the statistics of an author",
+            description = "Fetches the number of books and the average book price of an author.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the statistics.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorStats.class))}),
+            @ApiResponse(responseCode = "404", description = "Author not found for the provided ID.")
+    })
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<AuthorStats> getAuthorStats(
+            @Parameter(description = "Unique identifier of the author")
             @PathVariable(name = "id") Long id) {
-        Author author = authorService.findById(id);
-        return author != null ? new ResponseEntity<>(author, HttpStatus.OK) : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        return new ResponseEntity<>(authorStatsService.findByAuthorId(id), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves an author together with their first books and their book statistics.
+     *
+     * @param id   the unique identifier of the author
+     * @param size the maximum number of books to return (default is 10)
+     * @return a ResponseEntity containing the author's overview
+     */
+    @Operation(summary = "Retrieve the overview of an author",
+            description = "Fetches an author, their first books ordered by ID and their statistics in one request. "
+                    + "The three are read in parallel under a shared deadline.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the overview.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorOverview.class))}),
+            @ApiResponse(responseCode = "400", description = "The number of books is out of range."),
+            @ApiResponse(responseCode = "404", description = "Author not found for the provided ID."),
+            @ApiResponse(responseCode = "503", description = "The overview could not be read in time.")
+    })
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<AuthorOverview> getAuthorOverview(
+            @Parameter(description = "Unique identifier of the author")
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = "Maximum number of books to return, up to " + MAX_OVERVIEW_BOOKS, example = "10")
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        if (size < 1 || size > MAX_OVERVIEW_BOOKS) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(authorOverviewService.findByAuthorId(id, size), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the book statistics of several authors.
+     *
+     * @param ids the unique identifiers of the authors
+     * @return a ResponseEntity containing the statistics of the authors that have books
+     */
+    @Operation(summary = "Retrieve the statistics of several authors",
+            description = "Fetches the statistics of up to " + MAX_STATS_IDS + " authors in one request. "
+                    + "Authors without books are omitted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the statistics."),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs were provided.")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<List<AuthorStats>> getAuthorsStats(
+            @Parameter(description = "Unique identifiers of the authors", example = "1,2,3")
+            @RequestParam(name = "ids") List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_STATS_IDS) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(authorStatsService.findAllByAuthorIds(ids), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the authors created, updated or deleted since a sync token.
+     *
+     * @param since the token returned by the previous call, or null for a first sync
+     * @param limit the maximum number of changed and of deleted authors to return (default is 100)
+     * @return a ResponseEntity containing the changes and the token to continue with
+     */
+    @Operation(summary = "Get Author Changes",
+            description = "Returns the authors changed and the IDs of the authors deleted since the sync token, "
+                    + "with the token to pass on the next call. Without a token every author is a change.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the changes."),
+            @ApiResponse(responseCode = "400", description = "The token is malformed or the limit is out of range."),
+            @ApiResponse(responseCode = "410", description = "The token is older than the tombstone retention; "
+                    + "sync again without it.")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeed<Author>> getAuthorChanges(
+            @Parameter(description = "Token returned by the previous call; omit it for a first sync")
+            @RequestParam(name = "since", required = false) String since,
+            @Parameter(description = "Maximum number of changed and of deleted authors to return, up to "
+                    + MAX_CHANGES, example = "100")
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(changeFeedService.authorChanges(since, limit), HttpStatus.OK);
     }
 
     /**
@@ -121,10 +308,39 @@ public class AuthorController {
     }
 
     /**
-     * Deletes an author by their unique identifier.
+     * Creates and updates several authors in one transaction.
+     * Authors without an ID are created; authors with an ID are overwritten.
+     *
+     * @param authors the authors to write
+     * @return the outcome of each author in request order, OK if all were written or MULTI_STATUS otherwise
+     */
+    @Operation(summary = "Create or update authors in a batch",
+            description = "Writes up to " + MAX_BATCH_ITEMS + " authors in one transaction using JDBC batches. "
+                    + "Each item reports its own status; invalid items are not written.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every author was written."),
+            @ApiResponse(responseCode = "207", description = "Some authors were not written; see each item's status."),
+            @ApiResponse(responseCode = "400", description = "No authors or too many authors were provided.")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> saveAuthors(
+            @Parameter(description = "Authors to create, or to update when they carry an ID")
+            @RequestBody List<Author> authors) {
+        if (authors.isEmpty() || authors.size() > MAX_BATCH_ITEMS) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<BatchItemResult> results = authorService.saveAll(authors);
+        boolean written = results.stream().allMatch(BatchItemResult::succeeded);
+        return new ResponseEntity<>(results, written ? HttpStatus.OK : HttpStatus.MULTI_STATUS);
+    }
+
+    /**
+     * Deletes an author by their unique identifier, together with their books and the covers
+     * and e-books of those books.
      *
      * @param id the unique identifier of the author to delete
      * @return a ResponseEntity indicating the status of the delete operation
+     * @throws IOException if a cover or an e-book cannot be deleted
      */
     @Operation(summary = "Delete an author by ID",
             description = "Removes an author from the database using its unique identifier.")
@@ -136,17 +352,22 @@ public class AuthorController {
     public ResponseEntity<?> deleteAuthor(
             @Parameter(description = "Unique identifier of the author to delete")
             @PathVariable(name = "id") Long id
-    ){
-        authorService.deleteById(id);
+    ) throws IOException {
+        for (Long bookId : authorService.deleteWithBooks(id)) {
+            coverStorage.delete(bookId);
+            ebookStorage.delete(bookId);
+        }
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
     /**
      * Updates an author's details by their unique identifier.
+     * Stale updates and violated constraints are answered by the
+     * {@link com.gklyphon.VirtualLibrary.exception.GlobalExceptionHandler}.
      *
      * @param id     the unique identifier of the author to update
      * @param author the new details for the author
-     * @return a ResponseEntity with the updated author or an error status
+     * @return a ResponseEntity with the updated author
      */
     @Operation(
             summary = "Update an author by ID",
@@ -154,24 +375,46 @@ public class AuthorController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Author successfully updated."),
+            @ApiResponse(responseCode = "400", description = "The author violates a constraint."),
             @ApiResponse(responseCode = "404", description = "Author not found."),
-            @ApiResponse(responseCode = "500", description = "An internal server error occurred.")
+            @ApiResponse(responseCode = "409", description = "The author was modified by another request.")
     })
     @PutMapping("/update-author/{id}")
     public ResponseEntity<?> updateAuthor(
             @PathVariable Long id,
-            @RequestBody Author author) {
-        ResponseEntity<?> responseEntity;
-        try {
-            Author originalAuthor = authorService.findById(id);
-            BeanUtils.copyProperties(author, originalAuthor, "id");
-            Author authorUpdated = authorService.save(originalAuthor);
-            responseEntity = new ResponseEntity<>(authorUpdated, HttpStatus.CREATED);
-        } catch (ElementNotFoundException ex) {
-            responseEntity = new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        } catch (Exception ex) {
-            responseEntity = new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        return responseEntity;
+            @Valid @RequestBody Author author) {
+        Author originalAuthor = authorService.findById(id);
+        BeanUtils.copyProperties(author, originalAuthor, "id", "version");
+        return new ResponseEntity<>(authorService.save(originalAuthor), HttpStatus.CREATED);
+    }
+
+    /**
+     * Partially updates an author using a JSON Merge Patch document.
+     * Only the fields present in the document are written, in a single UPDATE statement.
+     *
+     * @param id    the unique identifier of the author to patch
+     * @param patch the merge patch document, optionally carrying the expected {@code version}
+     * @return a ResponseEntity containing the patched author
+     */
+    @Operation(
+            summary = "Patch an author by ID",
+            description = "Applies a JSON Merge Patch document to an author. Include \"version\" to reject stale updates."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Author successfully patched.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Author.class))}),
+            @ApiResponse(responseCode = "400", description = "The patch document is invalid "
+                    + "or violates a constraint of the author."),
+            @ApiResponse(responseCode = "404", description = "Author not found."),
+            @ApiResponse(responseCode = "409", description = "The author was modified by another request.")
+    })
+    @PatchMapping(value = "/{id}", consumes = {BookController.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Author> patchAuthor(
+            @Parameter(description = "Unique identifier of the author to patch")
+            @PathVariable Long id,
+            @Parameter(description = "JSON Merge Patch document")
+            @RequestBody Map<String, Object> patch) {
+        return new ResponseEntity<>(authorService.patch(id, patch), HttpStatus.OK);
     }
 }
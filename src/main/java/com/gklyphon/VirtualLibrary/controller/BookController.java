@@ -1,31 +1,57 @@
 package com.gklyphon.VirtualLibrary.controller;
 
 import com.fasterxml.jackson.databind.util.BeanUtil;
+import com.gklyphon.VirtualLibrary.config.concurrency.DbAdmissionFilter;
+import com.gklyphon.VirtualLibrary.config.redis.BookViewsData;
+import com.gklyphon.VirtualLibrary.config.web.CoverData;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.media.Cover;
+import com.gklyphon.VirtualLibrary.media.CoverStorage;
+import com.gklyphon.VirtualLibrary.media.EbookStorage;
+import com.gklyphon.VirtualLibrary.media.ThumbnailCache;
 import com.gklyphon.VirtualLibrary.model.entity.Author;
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.ChangeFeed;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
+import com.gklyphon.VirtualLibrary.model.projection.PopularBook;
 import com.gklyphon.VirtualLibrary.service.IAuthorService;
 import com.gklyphon.VirtualLibrary.service.IBookService;
+import com.gklyphon.VirtualLibrary.service.IBookViewService;
+import com.gklyphon.VirtualLibrary.service.IChangeFeedService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.beans.Beans;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * REST controller for managing Book entities.
@@ -39,15 +65,64 @@ import java.beans.Beans;
 @RequestMapping("/v1/books")
 public class BookController {
 
+    /**
+     * Media type of JSON Merge Patch documents (RFC 7396).
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Maximum number of books accepted by the batch endpoint.
+     */
+    static final int MAX_BATCH_ITEMS = 500;
+
+    /**
+     * Maximum number of changed and of deleted books returned by one change feed call.
+     */
+    static final int MAX_CHANGES = 1000;
+
+    /**
+     * Maximum number of books returned by the popularity leaderboard.
+     */
+    static final int MAX_POPULAR = 100;
+
+    /**
+     * Leaderboard windows: a number of hours or days, such as 24h or 7d.
+     */
+    static final Pattern WINDOW = Pattern.compile("(\\d{1,5})([hd])");
+
     private final IBookService bookService;
     private final IAuthorService authorService;
     private final PagedResourcesAssembler<Book> pagedResourcesAssembler;
+    private final PagedResourcesAssembler<BookFields> fieldsAssembler;
+    private final ConditionalResponses conditionalResponses;
+    private final IChangeFeedService changeFeedService;
+    private final CoverStorage coverStorage;
+    private final ThumbnailCache thumbnailCache;
+    private final FileResponses fileResponses;
+    private final CacheControl coverCacheControl;
+    private final EbookStorage ebookStorage;
+    private final IBookViewService bookViewService;
+    private final int maxWindowHours;
 
     @Autowired
-    public BookController(IAuthorService authorService, IBookService bookService, PagedResourcesAssembler<Book> pagedResourcesAssembler) {
+    public BookController(IAuthorService authorService, IBookService bookService, PagedResourcesAssembler<Book> pagedResourcesAssembler,
+                          PagedResourcesAssembler<BookFields> fieldsAssembler, ConditionalResponses conditionalResponses,
+                          IChangeFeedService changeFeedService, CoverStorage coverStorage, ThumbnailCache thumbnailCache,
+                          FileResponses fileResponses, CoverData coverData, EbookStorage ebookStorage,
+                          IBookViewService bookViewService, BookViewsData bookViewsData) {
         this.authorService = authorService;
         this.bookService = bookService;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.fieldsAssembler = fieldsAssembler;
+        this.conditionalResponses = conditionalResponses;
+        this.changeFeedService = changeFeedService;
+        this.coverStorage = coverStorage;
+        this.thumbnailCache = thumbnailCache;
+        this.fileResponses = fileResponses;
+        this.coverCacheControl = CacheControl.maxAge(Duration.ofSeconds(coverData.getMaxAgeSeconds()));
+        this.ebookStorage = ebookStorage;
+        this.bookViewService = bookViewService;
+        this.maxWindowHours = bookViewsData.getMaxWindowHours();
     }
 
     /**
@@ -55,7 +130,10 @@ public class BookController {
      *
      * @param page the page number to retrieve (default is 0)
      * @param size the size of the page (default is 10)
-     * @return a ResponseEntity containing a paginated model of books
+     * @param fields the comma-separated fields to return, or null for the full book
+     * @param view the page representation, hal or plain; null to negotiate it from the Accept header
+     * @param request the current request, checked for conditional headers
+     * @return a ResponseEntity containing a HAL or plain page of books, or NOT_MODIFIED
      */
     @Operation(summary = "Get All Books",
             description = "Retrieves a paginated list of all books available in the library.")
@@ -63,29 +141,47 @@ public class BookController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of books.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "A requested field does not exist."),
             @ApiResponse(responseCode = "404", description = "No books found.")
     })
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<Book>>> getAllBooks(
+    public ResponseEntity<?> getAllBooks(
             @Parameter(description = "The page number to retrieve (default is 0)",
                     required = false, example = "0")
             @RequestParam(defaultValue = "0", required = false) int page,
             @Parameter(description = "The size of the page to retrieve (default is 10)",
                     required = false,
                     example = "10")
-            @RequestParam(defaultValue = "10", required = false) int size) {
+            @RequestParam(defaultValue = "10", required = false) int size,
+            @Parameter(description = "Comma-separated fields to return, such as title,isbn,author.lastname. "
+                    + "Only these columns are read.", required = false, example = "title,isbn")
+            @RequestParam(name = "fields", required = false) String fields,
+            @Parameter(description = "Page representation: hal (default) or plain, which returns the items "
+                    + "and a compact page block without links. Also selected by accepting "
+                    + PlainPage.MEDIA_TYPE_VALUE + ".", required = false, example = "plain")
+            @RequestParam(name = "view", required = false) String view,
+            WebRequest request) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Book> books = bookService.findAllPageable(pageable);
-        PagedModel<EntityModel<Book>> pagedModel = pagedResourcesAssembler.toModel(books);
-        return new ResponseEntity<>(pagedModel, HttpStatus.OK);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        boolean plain = PlainPage.requested(view, request);
+        if (fields != null) {
+            FieldSet fieldSet = FieldSet.forBooks(fields);
+            return conditionalResponses.ok(request,
+                    () -> PlainPage.render(bookService.findAllPageable(pageable, fieldSet), fieldsAssembler, plain));
+        }
+        return conditionalResponses.ok(request,
+                () -> PlainPage.render(bookService.findAllPageable(pageable), pagedResourcesAssembler, plain));
     }
 
     /**
-     * Retrieves a book by its unique identifier.
+     * Retrieves a book by its unique identifier. Each call answered with the book or with
+     * NOT_MODIFIED counts as a view of the book.
      *
      * @param id the unique identifier of the book
-     * @return a ResponseEntity containing the book if found, or NO_CONTENT if not found
+     * @param fields the comma-separated fields to return, or null for the full book
+     * @param request the current request, checked for conditional headers
+     * @return a ResponseEntity containing the book if found, NOT_MODIFIED, or NO_CONTENT if not found
      */
     @Operation(summary = "Retrieve a Book by ID",
             description = "Fetches a book using its unique identifier.")
@@ -93,21 +189,40 @@ public class BookController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the book.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "A requested field does not exist."),
             @ApiResponse(responseCode = "204", description = "No book found for the provided ID.")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Book> getBookById(
+    public ResponseEntity<?> getBookById(
             @Parameter(description = "Unique identifier of the book to retrieve")
-            @PathVariable(name = "id") Long id) {
-        Book book = bookService.findById(id);
-        return book != null ? new ResponseEntity<>(book, HttpStatus.OK) : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = "Comma-separated fields to return, such as title,isbn,author.lastname. "
+                    + "Only these columns are read.", required = false, example = "title,isbn")
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        ResponseEntity<?> response;
+        if (fields != null) {
+            FieldSet fieldSet = FieldSet.forBooks(fields);
+            response = conditionalResponses.ok(request, "book:" + id + ":" + fieldSet.key(),
+                    () -> bookService.findById(id, fieldSet));
+        } else {
+            response = conditionalResponses.ok(request, "book:" + id, () -> bookService.findById(id));
+        }
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.OK)
+                || response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            bookViewService.record(id);
+        }
+        return response;
     }
 
     /**
      * Retrieves a book by its title.
      *
      * @param title the title of the book
-     * @return a ResponseEntity containing the book if found, or NO_CONTENT if not found
+     * @param fields the comma-separated fields to return, or null for the full book
+     * @param request the current request, checked for conditional headers
+     * @return a ResponseEntity containing the book if found, NOT_MODIFIED, or NO_CONTENT if not found
      */
     @Operation(summary = "Retrieve a Book by Title",
             description = "Fetches a book using its title.")
@@ -115,21 +230,33 @@ public class BookController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the book.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "A requested field does not exist."),
             @ApiResponse(responseCode = "204", description = "No book found for the provided title.")
     })
     @GetMapping("/by-title")
-    public ResponseEntity<Book> getBookByTitle(
+    public ResponseEntity<?> getBookByTitle(
             @Parameter(description = "Title of the book to retrieve")
-            @RequestParam(name = "title") String title) {
-        Book book = bookService.findByTitle(title);
-        return book != null ? new ResponseEntity<>(book, HttpStatus.OK) : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            @RequestParam(name = "title") String title,
+            @Parameter(description = "Comma-separated fields to return, such as title,isbn,author.lastname. "
+                    + "Only these columns are read.", required = false, example = "title,isbn")
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        if (fields != null) {
+            FieldSet fieldSet = FieldSet.forBooks(fields);
+            return conditionalResponses.ok(request, "book:title:" + title + ":" + fieldSet.key(),
+                    () -> bookService.findByTitle(title, fieldSet));
+        }
+        return conditionalResponses.ok(request, "book:title:" + title, () -> bookService.findByTitle(title));
     }
 
     /**
      * Retrieves a book by its ISBN.
      *
      * @param isbn the ISBN of the book
-     * @return a ResponseEntity containing the book if found, or NO_CONTENT if not found
+     * @param fields the comma-separated fields to return, or null for the full book
+     * @param request the current request, checked for conditional headers
+     * @return a ResponseEntity containing the book if found, NOT_MODIFIED, or NO_CONTENT if not found
      */
     @Operation(summary = "Retrieve a Book by ISBN",
             description = "Fetches a book using its ISBN.")
@@ -137,14 +264,86 @@ public class BookController {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the book.",
                     content = {@Content(mediaType = "application/json",
                             schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "A requested field does not exist."),
             @ApiResponse(responseCode = "204", description = "No book found for the provided ISBN.")
     })
     @GetMapping("/by-isbn")
-    public ResponseEntity<Book> getBookByIsbn(
+    public ResponseEntity<?> getBookByIsbn(
             @Parameter(description = "ISBN of the book to retrieve")
-            @RequestParam(name = "isbn") String isbn) {
-        Book book = bookService.findByIsbn(isbn);
-        return book != null ? new ResponseEntity<>(book, HttpStatus.OK) : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            @RequestParam(name = "isbn") String isbn,
+            @Parameter(description = "Comma-separated fields to return, such as title,isbn,author.lastname. "
+                    + "Only these columns are read.", required = false, example = "title,isbn")
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        String canonical = Isbn.normalize(isbn);
+        if (fields != null) {
+            FieldSet fieldSet = FieldSet.forBooks(fields);
+            return conditionalResponses.ok(request, "book:isbn:" + canonical + ":" + fieldSet.key(),
+                    () -> bookService.findByIsbn(canonical, fieldSet));
+        }
+        return conditionalResponses.ok(request, "book:isbn:" + canonical, () -> bookService.findByIsbn(canonical));
+    }
+
+    /**
+     * Retrieves the books created, updated or deleted since a sync token.
+     *
+     * @param since the token returned by the previous call, or null for a first sync
+     * @param limit the maximum number of changed and of deleted books to return (default is 100)
+     * @return a ResponseEntity containing the changes and the token to continue with
+     */
+    @Operation(summary = "Get Book Changes",
+            description = "Returns the books changed and the IDs of the books deleted since the sync token, "
+                    + "with the token to pass on the next call. Without a token every book is a change.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the changes."),
+            @ApiResponse(responseCode = "400", description = "The token is malformed or the limit is out of range."),
+            @ApiResponse(responseCode = "410", description = "The token is older than the tombstone retention; "
+                    + "sync again without it.")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeed<Book>> getBookChanges(
+            @Parameter(description = "Token returned by the previous call; omit it for a first sync")
+            @RequestParam(name = "since", required = false) String since,
+            @Parameter(description = "Maximum number of changed and of deleted books to return, up to "
+                    + MAX_CHANGES, example = "100")
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(changeFeedService.bookChanges(since, limit), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the most viewed books within a window ending now.
+     *
+     * @param window the length of the window, in hours or days such as 24h or 7d (default is 24h)
+     * @param limit  the maximum number of books to return (default is 10)
+     * @return a ResponseEntity containing the books with their views, most viewed first
+     */
+    @Operation(summary = "Get Popular Books",
+            description = "Returns the books with the most views within the window. Views are counted in "
+                    + "hourly buckets and reach the leaderboard within a few seconds.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the leaderboard."),
+            @ApiResponse(responseCode = "400", description = "The window is malformed or too long, "
+                    + "or the limit is out of range.")
+    })
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularBook>> getPopularBooks(
+            @Parameter(description = "Length of the window in hours or days, such as 24h or 7d", example = "24h")
+            @RequestParam(name = "window", defaultValue = "24h") String window,
+            @Parameter(description = "Maximum number of books to return, up to " + MAX_POPULAR, example = "10")
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        Matcher matcher = WINDOW.matcher(window);
+        if (!matcher.matches() || limit < 1 || limit > MAX_POPULAR) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        int hours = Integer.parseInt(matcher.group(1)) * ("d".equals(matcher.group(2)) ? 24 : 1);
+        if (hours < 1 || hours > maxWindowHours) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(bookViewService.popular(hours, limit), HttpStatus.OK);
     }
 
     /**
@@ -175,6 +374,34 @@ public class BookController {
         return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Creates and updates several books in one transaction.
+     * Books without an ID are created; books with an ID are overwritten.
+     *
+     * @param books the books to write
+     * @return the outcome of each book in request order, OK if all were written or MULTI_STATUS otherwise
+     */
+    @Operation(summary = "Create or update books in a batch",
+            description = "Writes up to " + MAX_BATCH_ITEMS + " books in one transaction using JDBC batches. "
+                    + "Each item reports its own status; invalid items are not written.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every book was written."),
+            @ApiResponse(responseCode = "207", description = "Some books were not written; see each item's status."),
+            @ApiResponse(responseCode = "400", description = "No books or too many books were provided.")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> saveBooks(
+            @Parameter(description = "Books to create, or to update when they carry an ID. "
+                    + "The author is referenced by ID only, as {\"id\": 1}.")
+            @RequestBody List<Book> books) {
+        if (books.isEmpty() || books.size() > MAX_BATCH_ITEMS) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<BatchItemResult> results = bookService.saveAll(books);
+        boolean written = results.stream().allMatch(BatchItemResult::succeeded);
+        return new ResponseEntity<>(results, written ? HttpStatus.OK : HttpStatus.MULTI_STATUS);
+    }
+
     /**
      * Deletes a book by its unique identifier.
      *
@@ -190,17 +417,21 @@ public class BookController {
     @DeleteMapping("/delete-book/{id}")
     public ResponseEntity<?> deleteBook(
             @Parameter(description = "Unique identifier of the book to delete")
-            @PathVariable(name = "id") Long id) {
+            @PathVariable(name = "id") Long id) throws IOException {
         bookService.deleteById(id);
+        coverStorage.delete(id);
+        ebookStorage.delete(id);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
     /**
      * Updates a book's details by its unique identifier.
+     * Stale updates, duplicate ISBNs and violated constraints are answered by the
+     * {@link com.gklyphon.VirtualLibrary.exception.GlobalExceptionHandler}.
      *
      * @param id   the unique identifier of the book to update
      * @param book the new details for the book
-     * @return a ResponseEntity containing the updated book or an error status
+     * @return a ResponseEntity containing the updated book
      */
     @Operation(
             summary = "Update a Book by ID",
@@ -208,25 +439,145 @@ public class BookController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Book successfully updated."),
+            @ApiResponse(responseCode = "400", description = "The book violates a constraint."),
             @ApiResponse(responseCode = "404", description = "Book not found for the provided ID."),
-            @ApiResponse(responseCode = "500", description = "An internal server error occurred.")
+            @ApiResponse(responseCode = "409", description = "The book was modified by another request, "
+                    + "or its ISBN is already in use.")
     })
     @PutMapping("/update-book/{id}")
     public ResponseEntity<?> updateBook(
             @Parameter(description = "Unique identifier of the book to update")
             @PathVariable Long id,
             @Parameter(description = "Book object to update")
-            @RequestBody Book book) {
-        try {
-            Book originalBook = bookService.findById(id);
-            if (originalBook == null) {
-                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-            }
-            BeanUtils.copyProperties(book, originalBook, "id");
-            Book updatedBook = bookService.save(originalBook);
-            return new ResponseEntity<>(updatedBook, HttpStatus.CREATED);
-        } catch (Exception e) {
-            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+            @Valid @RequestBody Book book) {
+        Book originalBook = bookService.findById(id);
+        BeanUtils.copyProperties(book, originalBook, "id", "version");
+        Book updatedBook = bookService.save(originalBook);
+        return new ResponseEntity<>(updatedBook, HttpStatus.CREATED);
+    }
+
+    /**
+     * Partially updates a book using a JSON Merge Patch document.
+     * Only the fields present in the document are written, in a single UPDATE statement.
+     *
+     * @param id    the unique identifier of the book to patch
+     * @param patch the merge patch document, optionally carrying the expected {@code version}
+     * @return a ResponseEntity containing the patched book
+     */
+    @Operation(
+            summary = "Patch a Book by ID",
+            description = "Applies a JSON Merge Patch document to a book. Include \"version\" to reject stale updates."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Book successfully patched.",
+                    content = {@Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Book.class))}),
+            @ApiResponse(responseCode = "400", description = "The patch document is invalid "
+                    + "or violates a constraint of the book."),
+            @ApiResponse(responseCode = "404", description = "Book not found for the provided ID."),
+            @ApiResponse(responseCode = "409", description = "The book was modified by another request, "
+                    + "or its ISBN is already in use.")
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Book> patchBook(
+            @Parameter(description = "Unique identifier of the book to patch")
+            @PathVariable Long id,
+            @Parameter(description = "JSON Merge Patch document")
+            @RequestBody Map<String, Object> patch) {
+        return new ResponseEntity<>(bookService.patch(id, patch), HttpStatus.OK);
+    }
+
+    /**
+     * Uploads the cover image of a book, replacing the previous one.
+     * The database permit is released once the book is found, before the image is read.
+     *
+     * @param id      the unique identifier of the book
+     * @param request the request whose body is the image
+     * @return NO_CONTENT with the ETag of the stored cover
+     * @throws IOException if the image cannot be read or stored
+     */
+    @Operation(summary = "Upload a Book Cover",
+            description = "Stores a JPEG or PNG image as the cover of a book, replacing the previous one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cover successfully stored."),
+            @ApiResponse(responseCode = "400", description = "The body is not a JPEG or PNG image."),
+            @ApiResponse(responseCode = "404", description = "Book not found for the provided ID."),
+            @ApiResponse(responseCode = "413", description = "The image exceeds the maximum size.")
+    })
+    @PutMapping(value = "/{id}/cover", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+    public ResponseEntity<Void> uploadCover(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            HttpServletRequest request) throws IOException {
+        bookService.findById(id);
+        DbAdmissionFilter.release(request);
+        Cover cover = coverStorage.store(id, request.getInputStream());
+        return ResponseEntity.noContent().eTag(cover.etag()).build();
+    }
+
+    /**
+     * Downloads the cover image of a book, or a thumbnail of it.
+     * Supports conditional requests and a single byte range. The book is looked up first, so
+     * the cover of a deleted book is never served; the image is read from disk, so the
+     * database permit is released before it is sent.
+     *
+     * @param id       the unique identifier of the book
+     * @param width    the width of the thumbnail, or null for the full cover
+     * @param request  the current request, checked for conditional and range headers
+     * @param response the response the image is written to
+     * @throws IOException if the image cannot be read or written
+     */
+    @Operation(summary = "Download a Book Cover",
+            description = "Returns the cover image of a book, or a thumbnail of it when a width is given. "
+                    + "Supports If-None-Match, If-Modified-Since, Range and If-Range.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the cover."),
+            @ApiResponse(responseCode = "206", description = "Successfully retrieved the requested range."),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "400", description = "The thumbnail width is not offered."),
+            @ApiResponse(responseCode = "404", description = "Book not found, or the book has no cover."),
+            @ApiResponse(responseCode = "416", description = "The range is beyond the end of the image.")
+    })
+    @GetMapping("/{id}/cover")
+    public void getCover(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Parameter(description = "Width of the thumbnail to return, one of covers.thumbnail-widths",
+                    required = false, example = "192")
+            @RequestParam(name = "width", required = false) Integer width,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        bookService.findById(id);
+        DbAdmissionFilter.release(request);
+        Cover cover = coverStorage.find(id);
+        if (cover == null) {
+            throw new ElementNotFoundException("Cover of book with id: " + id + " not found.");
+        }
+        if (width != null) {
+            cover = thumbnailCache.thumbnail(cover, width);
+        }
+        fileResponses.write(cover, coverCacheControl, request, response);
+    }
+
+    /**
+     * Deletes the cover image of a book.
+     *
+     * @param id the unique identifier of the book
+     * @return NO_CONTENT, or NOT_FOUND if the book has no cover
+     * @throws IOException if the image cannot be deleted
+     */
+    @Operation(summary = "Delete a Book Cover",
+            description = "Removes the cover image of a book.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cover successfully deleted."),
+            @ApiResponse(responseCode = "404", description = "The book has no cover.")
+    })
+    @DeleteMapping("/{id}/cover")
+    public ResponseEntity<Void> deleteCover(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id) throws IOException {
+        if (!coverStorage.delete(id)) {
+            throw new ElementNotFoundException("Cover of book with id: " + id + " not found.");
         }
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,64 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.event.CatalogEventHub;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST controller streaming catalog changes to live replicas as Server-Sent Events.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RestController
+@RequestMapping("/v1/events")
+public class CatalogEventController {
+
+    private static final Set<String> TYPES = Set.of(Tombstone.BOOK, Tombstone.AUTHOR);
+
+    private final CatalogEventHub catalogEventHub;
+
+    public CatalogEventController(CatalogEventHub catalogEventHub) {
+        this.catalogEventHub = catalogEventHub;
+    }
+
+    /**
+     * Opens a stream of the book and author changes committed from now on.
+     *
+     * @param types the entity types to receive, or null for all of them
+     * @return a ResponseEntity containing the event stream, or BAD_REQUEST for an unknown type
+     */
+    @Operation(summary = "Stream catalog changes",
+            description = "Pushes a 'change' event with the type, action, id and version of each book or author "
+                    + "written from now on. A 'resync' event means changes were dropped because the client "
+                    + "fell behind; the client then catches up through the change feeds.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The event stream is open."),
+            @ApiResponse(responseCode = "400", description = "An unknown entity type was requested.")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @Parameter(description = "Entity types to receive, book and/or author (default is both)", example = "book")
+            @RequestParam(name = "types", required = false) List<String> types) {
+        Set<String> selected = types == null || types.isEmpty() ? TYPES : Set.copyOf(types);
+        if (!TYPES.containsAll(selected)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(catalogEventHub.subscribe(selected), HttpStatus.OK);
+    }
+}
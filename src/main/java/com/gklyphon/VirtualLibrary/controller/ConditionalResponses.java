@@ -0,0 +1,146 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.cache.ResponseBodyCache;
+import com.gklyphon.VirtualLibrary.config.web.HttpCacheData;
+import com.gklyphon.VirtualLibrary.snapshot.MappedCatalog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Builds conditional GET responses for book and author resources.
+ *
+ * <p>Pages carry the current {@link CatalogStamp} as a strong ETag and as {@code Last-Modified}:
+ * any committed write may change which items a page holds, so the catalog generation is their
+ * version. When the request's {@code If-None-Match} or {@code If-Modified-Since} still matches
+ * the stamp, a 304 is returned and the page is never loaded nor serialized. The stamp is read
+ * before the page is loaded, so a validator never claims a newer version than the body it is
+ * sent with.</p>
+ *
+ * <p>A single book or author carries an {@link EntityStamp} derived from the versions of the
+ * rows it is rendered from, so writes to other items leave it valid. Unless its cached body
+ * is current, the item is loaded, through the catalog caches, before it is validated, and
+ * a 304 only skips its serialization.</p>
+ *
+ * <p>Every response carries a {@code Cache-Control} header allowing {@code stale-while-revalidate}.
+ * The representation is negotiated from the {@code Accept} header, so responses vary by it and
+ * the ETag carries a token of it: JSON, CBOR and Smile copies of the same data never validate
+ * each other.</p>
+ *
+ * <p>Single resources may also be served from the {@link ResponseBodyCache}, whose bodies are
+ * cached with their validators and the catalog generation they were checked in. While no write
+ * has committed since, a cached body is validated and written as it is stored, without loading
+ * the item.</p>
+ *
+ * <p>On a read-only node, the page stamp is the one the current {@link MappedCatalog} snapshot was
+ * exported at, and bodies are not cached, so neither touches Redis.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+public class ConditionalResponses {
+
+    private final CatalogCache catalogCache;
+    private final ResponseBodyCache responseBodyCache;
+    private final MappedCatalog mappedCatalog;
+    private final CacheControl cacheControl;
+
+    public ConditionalResponses(CatalogCache catalogCache, ResponseBodyCache responseBodyCache,
+                                HttpCacheData httpCacheData, ObjectProvider<MappedCatalog> mappedCatalog) {
+        this.catalogCache = catalogCache;
+        this.responseBodyCache = responseBodyCache;
+        this.mappedCatalog = mappedCatalog.getIfAvailable();
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(httpCacheData.getMaxAgeSeconds()))
+                .staleWhileRevalidate(Duration.ofSeconds(httpCacheData.getStaleWhileRevalidateSeconds()));
+    }
+
+    /**
+     * Returns 200 with the supplied body, or 304 if the client's copy is still current.
+     *
+     * @param request the current request
+     * @param body    loads the body, only called when the client's copy is stale
+     * @param <T>     the body type
+     * @return the response, NO_CONTENT if the supplied body is null
+     */
+    public <T> ResponseEntity<T> ok(WebRequest request, Supplier<T> body) {
+        CatalogStamp stamp = stamp();
+        String etag = stamp.etag(variant(request));
+        ResponseEntity.BodyBuilder response = headers(etag, stamp.modifiedAt());
+        if (request.checkNotModified(etag, stamp.modifiedAt())) {
+            return response.build();
+        }
+        T value = body.get();
+        return value != null ? response.body(value) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Returns 200 with the body of a single resource, or 304 if the client's copy is still
+     * current. When the request accepts a cached format and the resource's cached body is
+     * current, the body is validated and written as it is stored without loading the resource;
+     * otherwise the resource is loaded, validated, and its body cached.
+     *
+     * @param request  the current request
+     * @param resource the key of the resource and its field set, such as {@code book:42}
+     * @param body     loads the book or author, or its selected fields, only called on a cache miss
+     * @return the response, NO_CONTENT if the supplied body is null
+     */
+    public ResponseEntity<?> ok(WebRequest request, String resource, Supplier<?> body) {
+        ResponseBodyCache.Format format = mappedCatalog == null ? responseBodyCache.format(request) : null;
+        ResponseBodyCache.Lookup cached = format != null ? responseBodyCache.get(resource, format) : null;
+        if (cached != null && cached.isCurrent()) {
+            ResponseBodyCache.Entry entry = cached.entry();
+            String etag = new EntityStamp(entry.tag(), entry.modifiedAt()).etag(variant(request));
+            ResponseEntity.BodyBuilder response = headers(etag, entry.modifiedAt());
+            if (request.checkNotModified(etag, entry.modifiedAt())) {
+                return response.build();
+            }
+            return response.contentType(format.mediaType()).body(entry.body());
+        }
+        Object value = body.get();
+        if (value == null) {
+            return ResponseEntity.noContent().build();
+        }
+        EntityStamp stamp = EntityStamp.of(value);
+        String etag = stamp.etag(variant(request));
+        ResponseEntity.BodyBuilder response = headers(etag, stamp.modifiedAt());
+        if (request.checkNotModified(etag, stamp.modifiedAt())) {
+            return response.build();
+        }
+        if (cached == null) {
+            return response.body(value);
+        }
+        ResponseBodyCache.Entry previous = cached.entry();
+        byte[] bytes = previous != null && previous.tag().equals(stamp.tag())
+                ? previous.body() : responseBodyCache.encode(format, value);
+        responseBodyCache.put(resource, format,
+                new ResponseBodyCache.Entry(cached.generation(), stamp.tag(), stamp.modifiedAt(), bytes));
+        return response.contentType(format.mediaType()).body(bytes);
+    }
+
+    private CatalogStamp stamp() {
+        return mappedCatalog != null ? mappedCatalog.current().stamp() : catalogCache.stamp();
+    }
+
+    private ResponseEntity.BodyBuilder headers(String etag, long modifiedAt) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT);
+        return modifiedAt >= 0 ? response.lastModified(modifiedAt) : response;
+    }
+
+    private static String variant(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && !accept.isBlank() ? Integer.toString(accept.hashCode(), 36) : null;
+    }
+}
@@ -0,0 +1,261 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.config.concurrency.DbAdmissionFilter;
+import com.gklyphon.VirtualLibrary.config.web.EbookData;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.media.EbookStorage;
+import com.gklyphon.VirtualLibrary.media.EbookUpload;
+import com.gklyphon.VirtualLibrary.media.MappedFile;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static com.gklyphon.VirtualLibrary.exception.custom.UploadOffsetConflictException.UPLOAD_OFFSET;
+
+/**
+ * REST controller for the e-book files of books: resumable chunked uploads and ranged downloads.
+ *
+ * <p>An upload is started with a POST, which returns its location. Its chunks are sent in order
+ * with PATCH, each carrying the {@code Upload-Offset} it starts at; a client that lost a response
+ * reads the offset back with GET and resumes from there. A final POST to {@code complete} stores
+ * the e-book.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RestController
+@RequestMapping("/v1/books/{id}/ebook")
+public class EbookController {
+
+    /**
+     * Media type of upload chunks, as used by resumable upload protocols.
+     */
+    public static final String OFFSET_OCTET_STREAM_VALUE = "application/offset+octet-stream";
+
+    private final IBookService bookService;
+    private final EbookStorage ebookStorage;
+    private final FileResponses fileResponses;
+    private final CacheControl cacheControl;
+
+    public EbookController(IBookService bookService, EbookStorage ebookStorage, FileResponses fileResponses,
+                           EbookData ebookData) {
+        this.bookService = bookService;
+        this.ebookStorage = ebookStorage;
+        this.fileResponses = fileResponses;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(ebookData.getMaxAgeSeconds())).cachePrivate();
+    }
+
+    /**
+     * Starts an upload of the e-book of a book.
+     *
+     * @param id the unique identifier of the book
+     * @return CREATED with the location and state of the upload
+     * @throws IOException if the upload cannot be created
+     */
+    @Operation(summary = "Start an E-book Upload",
+            description = "Starts a resumable upload of an EPUB or PDF file for a book.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload started; send its chunks to the returned location."),
+            @ApiResponse(responseCode = "404", description = "Book not found for the provided ID.")
+    })
+    @PostMapping("/uploads")
+    public ResponseEntity<EbookUpload> startUpload(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id) throws IOException {
+        bookService.findById(id);
+        EbookUpload upload = ebookStorage.start(id);
+        return ResponseEntity.created(URI.create("/v1/books/" + id + "/ebook/uploads/" + upload.id()))
+                .header(UPLOAD_OFFSET, "0")
+                .body(upload);
+    }
+
+    /**
+     * Retrieves the state of an upload, to resume it.
+     *
+     * @param id       the unique identifier of the book
+     * @param uploadId the unique identifier of the upload
+     * @return the upload, with the offset the next chunk starts at
+     */
+    @Operation(summary = "Get an E-book Upload",
+            description = "Returns the offset an upload ends at, where the next chunk starts.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the upload."),
+            @ApiResponse(responseCode = "404", description = "Upload not found.")
+    })
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<EbookUpload> getUpload(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Parameter(description = "Unique identifier of the upload")
+            @PathVariable String uploadId) {
+        EbookUpload upload = ebookStorage.find(id, uploadId);
+        return ResponseEntity.ok().header(UPLOAD_OFFSET, Long.toString(upload.offset())).body(upload);
+    }
+
+    /**
+     * Appends a chunk to an upload.
+     *
+     * @param id       the unique identifier of the book
+     * @param uploadId the unique identifier of the upload
+     * @param offset   the offset of the chunk
+     * @param request  the request whose body is the chunk
+     * @return NO_CONTENT with the offset the upload now ends at
+     * @throws IOException if the chunk cannot be read or stored
+     */
+    @Operation(summary = "Upload an E-book Chunk",
+            description = "Appends the body to the upload. Upload-Offset must be the offset the upload ends at.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Chunk stored; Upload-Offset is where the next one starts."),
+            @ApiResponse(responseCode = "404", description = "Upload not found."),
+            @ApiResponse(responseCode = "409", description = "The upload ends at another offset, returned in Upload-Offset."),
+            @ApiResponse(responseCode = "413", description = "The e-book exceeds the maximum size.")
+    })
+    @PatchMapping(value = "/uploads/{uploadId}",
+            consumes = {OFFSET_OCTET_STREAM_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Void> uploadChunk(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Parameter(description = "Unique identifier of the upload")
+            @PathVariable String uploadId,
+            @Parameter(description = "Offset of the chunk in the e-book")
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request) throws IOException {
+        EbookUpload upload = ebookStorage.append(id, uploadId, offset, request.getInputStream());
+        return ResponseEntity.noContent().header(UPLOAD_OFFSET, Long.toString(upload.offset())).build();
+    }
+
+    /**
+     * Completes an upload, replacing the e-book of the book.
+     *
+     * @param id       the unique identifier of the book
+     * @param uploadId the unique identifier of the upload
+     * @param sha256   the SHA-256 of the e-book in hex, or null not to check it
+     * @return the upload, with the SHA-256 of the stored e-book
+     * @throws IOException if the e-book cannot be stored
+     */
+    @Operation(summary = "Complete an E-book Upload",
+            description = "Stores the uploaded EPUB or PDF file as the e-book of the book, "
+                    + "after checking it against the SHA-256 if one is given.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "E-book successfully stored."),
+            @ApiResponse(responseCode = "400", description = "The file is not an EPUB or PDF, or does not match "
+                    + "the SHA-256; the upload is discarded."),
+            @ApiResponse(responseCode = "404", description = "Upload not found.")
+    })
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<EbookUpload> completeUpload(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Parameter(description = "Unique identifier of the upload")
+            @PathVariable String uploadId,
+            @Parameter(description = "SHA-256 of the whole e-book in hex", required = false)
+            @RequestParam(name = "sha256", required = false) String sha256) throws IOException {
+        return ResponseEntity.ok(ebookStorage.complete(id, uploadId, sha256));
+    }
+
+    /**
+     * Discards an upload.
+     *
+     * @param id       the unique identifier of the book
+     * @param uploadId the unique identifier of the upload
+     * @return NO_CONTENT
+     * @throws IOException if the upload cannot be deleted
+     */
+    @Operation(summary = "Abort an E-book Upload",
+            description = "Discards an upload and the chunks received.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload discarded."),
+            @ApiResponse(responseCode = "404", description = "Upload not found.")
+    })
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUpload(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Parameter(description = "Unique identifier of the upload")
+            @PathVariable String uploadId) throws IOException {
+        if (!ebookStorage.abort(id, uploadId)) {
+            throw new ElementNotFoundException("E-book upload " + uploadId + " not found.");
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Downloads the e-book of a book. Supports conditional requests and a single byte range.
+     * The book is looked up first, so the e-book of a deleted book is never served, and the
+     * database permit is released before the file is sent.
+     *
+     * @param id       the unique identifier of the book
+     * @param request  the current request, checked for conditional and range headers
+     * @param response the response the e-book is written to
+     * @throws IOException if the e-book cannot be read or written
+     */
+    @Operation(summary = "Download an E-book",
+            description = "Returns the EPUB or PDF file of a book. Supports If-None-Match, If-Modified-Since, "
+                    + "Range and If-Range.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the e-book."),
+            @ApiResponse(responseCode = "206", description = "Successfully retrieved the requested range."),
+            @ApiResponse(responseCode = "304", description = "The client's copy is still current."),
+            @ApiResponse(responseCode = "404", description = "Book not found, or the book has no e-book."),
+            @ApiResponse(responseCode = "416", description = "The range is beyond the end of the e-book."),
+            @ApiResponse(responseCode = "503", description = "The e-book is read by too many requests; retry later.")
+    })
+    @GetMapping
+    public void getEbook(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        bookService.findById(id);
+        DbAdmissionFilter.release(request);
+        try (MappedFile.Reader reader = ebookStorage.open(id)) {
+            if (reader == null) {
+                throw new ElementNotFoundException("E-book of book with id: " + id + " not found.");
+            }
+            fileResponses.write(reader.file(), cacheControl, reader::write, request, response);
+        }
+    }
+
+    /**
+     * Deletes the e-book of a book.
+     *
+     * @param id the unique identifier of the book
+     * @return NO_CONTENT, or NOT_FOUND if the book has no e-book
+     * @throws IOException if the e-book cannot be deleted
+     */
+    @Operation(summary = "Delete an E-book",
+            description = "Removes the e-book of a book.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "E-book successfully deleted."),
+            @ApiResponse(responseCode = "404", description = "The book has no e-book.")
+    })
+    @DeleteMapping
+    public ResponseEntity<Void> deleteEbook(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id) throws IOException {
+        if (!ebookStorage.delete(id)) {
+            throw new ElementNotFoundException("E-book of book with id: " + id + " not found.");
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
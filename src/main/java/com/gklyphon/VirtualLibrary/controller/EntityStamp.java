@@ -0,0 +1,107 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.model.entity.Auditable;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * The HTTP validators of a single book or author representation, derived from the
+ * rows it is rendered from rather than from the catalog generation, so that a write
+ * to one book does not invalidate the copies clients hold of every other one.
+ *
+ * <p>A book's JSON embeds its author, so its tag is the book's ID and version followed by the
+ * author's, and it was last modified when the later of both was. An author's JSON embeds its
+ * books, so its tag carries a digest of their IDs and versions; a book deleted or moved to another
+ * author changes neither the author's version nor its update time, so an author has no
+ * {@code Last-Modified}. A {@code ?fields=} projection is tagged by a digest of its values.</p>
+ *
+ * @param tag        the tag of the representation, without quotes or variant
+ * @param modifiedAt the time the representation last changed, in epoch milliseconds, or -1 if unknown
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record EntityStamp(String tag, long modifiedAt) {
+
+    /**
+     * Derives the stamp of a response body.
+     *
+     * @param value a book, an author or the selected fields of either
+     * @return the stamp
+     * @throws IllegalArgumentException if the value is of none of these types
+     */
+    public static EntityStamp of(Object value) {
+        if (value instanceof Book book) {
+            Author author = book.getAuthor();
+            String tag = book.getId() + "." + version(book);
+            if (author == null) {
+                return new EntityStamp(tag, modifiedAt(book.getUpdatedAt()));
+            }
+            long modifiedAt = Math.max(modifiedAt(book.getUpdatedAt()), modifiedAt(author.getUpdatedAt()));
+            if (book.getUpdatedAt() == null || author.getUpdatedAt() == null) {
+                modifiedAt = -1;
+            }
+            return new EntityStamp(tag + "-" + author.getId() + "." + version(author), modifiedAt);
+        }
+        if (value instanceof Author author) {
+            StringBuilder books = new StringBuilder();
+            if (author.getBooks() != null) {
+                author.getBooks().stream()
+                        .sorted(Comparator.comparing(Book::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .forEach(book -> books.append(book.getId()).append('.').append(version(book)).append(','));
+            }
+            return new EntityStamp(author.getId() + "." + version(author) + "-" + digest(books.toString()), -1);
+        }
+        if (value instanceof Map<?, ?> fields) {
+            return new EntityStamp(fields.get("id") + "-" + digest(fields.toString()), -1);
+        }
+        throw new IllegalArgumentException("No validators for " + value.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns the strong entity tag of one representation variant of the stamp,
+     * so that different wire formats of the same data never share a tag.
+     *
+     * @param variant the variant token, or null for the default representation
+     * @return the quoted entity tag
+     */
+    public String etag(String variant) {
+        return "\"" + (variant != null ? tag + "-" + variant : tag) + "\"";
+    }
+
+    /**
+     * Returns the strong entity tag of the default representation.
+     *
+     * @return the quoted entity tag
+     */
+    public String etag() {
+        return etag(null);
+    }
+
+    private static long version(Auditable entity) {
+        return entity.getVersion() != null ? entity.getVersion() : 0L;
+    }
+
+    private static long modifiedAt(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.media.StoredFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes stored files, such as covers and e-books, to the response without copying them through the heap.
+ *
+ * <p>Each response carries the file's strong ETag, {@code Last-Modified} and
+ * {@code Accept-Ranges}, and is answered with 304 when the client's copy is current.
+ * A single byte range is served as 206, honouring {@code If-Range}; a range beyond the
+ * end of the file is answered with 416, and several ranges with the whole file.</p>
+ *
+ * <p>The body is handed to Tomcat's sendfile when the connector supports it, so the bytes
+ * go from the page cache to the socket without entering the JVM. Otherwise the file channel
+ * transfers them to the response stream, which the JDK does without a user-space buffer
+ * when it can. Callers may instead write the body themselves, for example from a mapped file.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+public class FileResponses {
+
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * Writes a range of a file's body to the response stream.
+     */
+    @FunctionalInterface
+    public interface RangeWriter {
+
+        /**
+         * Writes a range of the file.
+         *
+         * @param start the offset of the first byte
+         * @param count the number of bytes
+         * @param out   the response stream
+         * @throws IOException if the file cannot be read or the stream written
+         */
+        void write(long start, long count, OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes a file, or the requested range of it, or 304 if the client's copy is current.
+     * The body is sent with sendfile when the connector supports it, or transferred from the file channel.
+     *
+     * @param file         the file to write
+     * @param cacheControl the Cache-Control of the response
+     * @param request      the current request
+     * @param response     the response to write to
+     * @throws IOException if the file cannot be read or the response written
+     */
+    public void write(StoredFile file, CacheControl cacheControl, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        long[] range = prepare(file, cacheControl, request, response);
+        if (range == null) {
+            return;
+        }
+        long start = range[0];
+        long end = range[1];
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, out);
+                if (sent <= 0) {
+                    throw new IOException("File " + file.path() + " ended before " + (end + 1) + " bytes.");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /**
+     * Writes a file, or the requested range of it, or 304 if the client's copy is current,
+     * with a body written by the caller.
+     *
+     * @param file         the file to write
+     * @param cacheControl the Cache-Control of the response
+     * @param body         writes the range of the file to the response stream
+     * @param request      the current request
+     * @param response     the response to write to
+     * @throws IOException if the file cannot be read or the response written
+     */
+    public void write(StoredFile file, CacheControl cacheControl, RangeWriter body, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        long[] range = prepare(file, cacheControl, request, response);
+        if (range != null) {
+            body.write(range[0], range[1] - range[0] + 1, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Writes the status and headers of the response.
+     *
+     * @return the first and last byte of the body to write, or null if there is no body
+     */
+    private static long[] prepare(StoredFile file, CacheControl cacheControl, HttpServletRequest request,
+                                  HttpServletResponse response) {
+        String etag = file.etag();
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag, file.modifiedAt())) {
+            return null;
+        }
+        long length = file.length();
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = range(request, etag, file.modifiedAt());
+        if (range != null) {
+            if (length == 0 || range.getRangeStart(length) >= length) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return null;
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentType(file.mediaType().toString());
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return null;
+        }
+        return new long[]{start, end};
+    }
+
+    /**
+     * Returns the single range requested, or null if the whole file is to be sent:
+     * when no range is requested, several are, the header is malformed, or
+     * {@code If-Range} names another version of the file.
+     */
+    private static HttpRange range(HttpServletRequest request, String etag, long modifiedAt) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            long date;
+            try {
+                date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+            if (date == -1 || modifiedAt / 1000 > date / 1000) {
+                return null;
+            }
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.model.entity.BookCopies;
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+import com.gklyphon.VirtualLibrary.model.projection.CheckoutRequest;
+import com.gklyphon.VirtualLibrary.model.projection.CopiesRequest;
+import com.gklyphon.VirtualLibrary.service.ILendingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * REST controller for lending copies of books.
+ *
+ * <p>A checkout carries an {@code Idempotency-Key} chosen by the client; retrying it with
+ * the same key returns the same loan, so a client that lost the response can retry
+ * without borrowing a second copy.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RestController
+@RequestMapping("/v1")
+public class LendingController {
+
+    /**
+     * Header carrying the idempotency key of a checkout.
+     */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    /**
+     * Maximum length of an idempotency key.
+     */
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final ILendingService lendingService;
+
+    public LendingController(ILendingService lendingService) {
+        this.lendingService = lendingService;
+    }
+
+    /**
+     * Retrieves the copies of a book.
+     *
+     * @param id the unique identifier of the book
+     * @return the total and available copies of the book
+     */
+    @Operation(summary = "Get Book Copies",
+            description = "Returns how many copies of a book the library owns and how many are available.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the copies."),
+            @ApiResponse(responseCode = "404", description = "The book has no copies.")
+    })
+    @GetMapping("/books/{id}/copies")
+    public ResponseEntity<BookCopies> getCopies(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id) {
+        return ResponseEntity.ok(lendingService.findCopies(id));
+    }
+
+    /**
+     * Sets the number of copies of a book.
+     *
+     * @param id      the unique identifier of the book
+     * @param request the new number of copies
+     * @return the total and available copies of the book
+     */
+    @Operation(summary = "Set Book Copies",
+            description = "Sets how many copies of a book the library owns. Copies on loan stay on loan.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Copies successfully set."),
+            @ApiResponse(responseCode = "400", description = "The number of copies is out of range."),
+            @ApiResponse(responseCode = "404", description = "Book not found for the provided ID."),
+            @ApiResponse(responseCode = "409", description = "More copies are on loan than the new total.")
+    })
+    @PutMapping("/books/{id}/copies")
+    public ResponseEntity<BookCopies> setCopies(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Valid @RequestBody CopiesRequest request) {
+        return ResponseEntity.ok(lendingService.setCopies(id, request.total()));
+    }
+
+    /**
+     * Lends a copy of a book.
+     *
+     * @param id             the unique identifier of the book
+     * @param idempotencyKey the key identifying the checkout across retries
+     * @param request        the borrower
+     * @return CREATED with the loan, the same one on every retry with the key
+     */
+    @Operation(summary = "Check Out a Book",
+            description = "Lends an available copy of a book. Retrying with the same Idempotency-Key "
+                    + "returns the same loan.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Copy lent."),
+            @ApiResponse(responseCode = "400", description = "The idempotency key or the borrower is missing or too long."),
+            @ApiResponse(responseCode = "404", description = "The book has no copies."),
+            @ApiResponse(responseCode = "409", description = "Every copy of the book is on loan."),
+            @ApiResponse(responseCode = "422", description = "The idempotency key was used to borrow another book.")
+    })
+    @PostMapping("/books/{id}/checkouts")
+    public ResponseEntity<Loan> checkout(
+            @Parameter(description = "Unique identifier of the book")
+            @PathVariable Long id,
+            @Parameter(description = "Key identifying the checkout across retries, up to " + MAX_KEY_LENGTH
+                    + " characters", example = "5f0c8a5e-3b7d-4f3c-9d1e-2a4b6c8d0e1f")
+            @RequestHeader(IDEMPOTENCY_KEY) String idempotencyKey,
+            @Valid @RequestBody CheckoutRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Loan loan = lendingService.checkout(id, request.borrower(), idempotencyKey);
+        return ResponseEntity.created(URI.create("/v1/loans/" + loan.getId())).body(loan);
+    }
+
+    /**
+     * Retrieves a loan by its unique identifier.
+     *
+     * @param loanId the unique identifier of the loan
+     * @return the loan
+     */
+    @Operation(summary = "Get a Loan",
+            description = "Fetches a loan using its unique identifier.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the loan."),
+            @ApiResponse(responseCode = "404", description = "Loan not found for the provided ID.")
+    })
+    @GetMapping("/loans/{loanId}")
+    public ResponseEntity<Loan> getLoan(
+            @Parameter(description = "Unique identifier of the loan")
+            @PathVariable Long loanId) {
+        return ResponseEntity.ok(lendingService.findLoan(loanId));
+    }
+
+    /**
+     * Returns a lent copy.
+     *
+     * @param loanId the unique identifier of the loan
+     * @return the returned loan
+     */
+    @Operation(summary = "Return a Book",
+            description = "Puts the lent copy back. Returning a loan again changes nothing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Copy returned."),
+            @ApiResponse(responseCode = "404", description = "Loan not found for the provided ID.")
+    })
+    @PostMapping("/loans/{loanId}/return")
+    public ResponseEntity<Loan> returnLoan(
+            @Parameter(description = "Unique identifier of the loan")
+            @PathVariable Long loanId) {
+        return ResponseEntity.ok(lendingService.returnLoan(loanId));
+    }
+}
@@ -0,0 +1,91 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Plain representation of a page: the items as they are, followed by a compact metadata block.
+ *
+ * <p>Unlike the HAL page built by {@link PagedResourcesAssembler}, items are not wrapped in
+ * {@code EntityModel}s and no links are built, so serving a page only allocates this record.
+ * The list of the page is written as is. Clients select it with {@code ?view=plain} or by
+ * accepting {@value #MEDIA_TYPE_VALUE}.</p>
+ *
+ * @param content the items of the page
+ * @param page    the position of the page
+ * @param <T>     the item type
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record PlainPage<T>(List<T> content, Metadata page) {
+
+    /**
+     * Media type selecting the plain representation of a page.
+     */
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.virtual-library.page+json";
+
+    /**
+     * Value of the {@code view} parameter selecting the plain representation.
+     */
+    public static final String VIEW = "plain";
+
+    /**
+     * Position of a page within its result.
+     *
+     * @param number        the zero-based page number
+     * @param size          the requested page size
+     * @param totalElements the number of items in the whole result
+     * @param totalPages    the number of pages in the whole result
+     * @param next          the number of the next page, or null on the last page
+     */
+    public record Metadata(int number, int size, long totalElements, int totalPages,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) Integer next) {
+    }
+
+    /**
+     * Creates the plain representation of a page.
+     *
+     * @param page the page
+     * @param <T>  the item type
+     * @return the plain page
+     */
+    public static <T> PlainPage<T> of(Page<T> page) {
+        return new PlainPage<>(page.getContent(), new Metadata(page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.hasNext() ? page.getNumber() + 1 : null));
+    }
+
+    /**
+     * Renders a page as plain when the client asked for it, or as a HAL page otherwise.
+     *
+     * @param page      the page
+     * @param assembler the assembler of the HAL page
+     * @param plain     whether the plain representation was requested
+     * @param <T>       the item type
+     * @return the representation of the page
+     */
+    public static <T> Object render(Page<T> page, PagedResourcesAssembler<T> assembler, boolean plain) {
+        return plain ? of(page) : assembler.toModel(page);
+    }
+
+    /**
+     * Tells whether a request asked for the plain representation.
+     *
+     * @param view    the {@code view} parameter, possibly null
+     * @param request the current request
+     * @return true if the parameter or the {@code Accept} header selects the plain representation
+     */
+    public static boolean requested(String view, WebRequest request) {
+        if (view != null) {
+            return VIEW.equalsIgnoreCase(view);
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MEDIA_TYPE_VALUE);
+    }
+}
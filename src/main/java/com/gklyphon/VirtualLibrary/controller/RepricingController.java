@@ -0,0 +1,107 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.RepricingRequest;
+import com.gklyphon.VirtualLibrary.service.IRepricingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * REST controller for bulk repricing of books.
+ *
+ * <p>A repricing is accepted as a job and runs in the background; its location reports
+ * how many of the matching books have been walked and repriced, and it can be cancelled
+ * between chunks.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RestController
+@RequestMapping("/v1/books/repricing-jobs")
+public class RepricingController {
+
+    private final IRepricingService repricingService;
+
+    public RepricingController(IRepricingService repricingService) {
+        this.repricingService = repricingService;
+    }
+
+    /**
+     * Starts a bulk repricing.
+     *
+     * @param request the filter of the books and the rule to apply
+     * @return ACCEPTED with the location and state of the job
+     */
+    @Operation(summary = "Start a Bulk Repricing",
+            description = "Reprices the priced books matching every filter given (author, price range, IDs) "
+                    + "by a percentage, a fixed amount, or rounding to a step, in the background.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Repricing job started."),
+            @ApiResponse(responseCode = "400", description = "The filter or the rule is invalid."),
+            @ApiResponse(responseCode = "503", description = "Too many repricing jobs are waiting; retry later.")
+    })
+    @PostMapping
+    public ResponseEntity<RepricingJob> start(@Valid @RequestBody RepricingRequest request) {
+        if (request.minPrice() != null && request.maxPrice() != null
+                && request.minPrice().compareTo(request.maxPrice()) > 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        RepricingJob job = repricingService.start(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/books/repricing-jobs/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Retrieves a repricing job and its progress.
+     *
+     * @param jobId the unique identifier of the job
+     * @return the job
+     */
+    @Operation(summary = "Get a Repricing Job",
+            description = "Returns the state of a repricing job and how many books it has walked and repriced.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the job."),
+            @ApiResponse(responseCode = "404", description = "Job not found for the provided ID.")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<RepricingJob> getJob(
+            @Parameter(description = "Unique identifier of the repricing job")
+            @PathVariable Long jobId) {
+        return ResponseEntity.ok(repricingService.find(jobId));
+    }
+
+    /**
+     * Cancels a repricing job.
+     *
+     * @param jobId the unique identifier of the job
+     * @return the job
+     */
+    @Operation(summary = "Cancel a Repricing Job",
+            description = "Stops a repricing job before its next chunk. Books already repriced keep their "
+                    + "new prices. Cancelling a finished job changes nothing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation requested."),
+            @ApiResponse(responseCode = "404", description = "Job not found for the provided ID.")
+    })
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<RepricingJob> cancel(
+            @Parameter(description = "Unique identifier of the repricing job")
+            @PathVariable Long jobId) {
+        return ResponseEntity.ok(repricingService.cancel(jobId));
+    }
+}
@@ -0,0 +1,50 @@
+package com.gklyphon.VirtualLibrary.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+
+/**
+ * A committed change to a book or an author, as pushed to live subscribers.
+ * The event identifies the row and its new version; subscribers read the row itself,
+ * or pull the change feed, when they need more than that.
+ *
+ * @param type    the entity type, {@link Tombstone#BOOK} or {@link Tombstone#AUTHOR}
+ * @param action  {@link #CREATED}, {@link #UPDATED} or {@link #DELETED}
+ * @param id      the ID of the entity
+ * @param version the version of the entity after the change, or null when it was deleted
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CatalogEvent(String type, String action, Long id, Long version) {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    /**
+     * Creates the event of a saved entity.
+     *
+     * @param type    the entity type
+     * @param created whether the entity was inserted rather than updated
+     * @param id      the ID of the entity
+     * @param version the version of the entity after the write
+     * @return the event
+     */
+    public static CatalogEvent saved(String type, boolean created, Long id, Long version) {
+        return new CatalogEvent(type, created ? CREATED : UPDATED, id, version);
+    }
+
+    /**
+     * Creates the event of a deleted entity.
+     *
+     * @param type the entity type
+     * @param id   the ID of the entity
+     * @return the event
+     */
+    public static CatalogEvent deleted(String type, Long id) {
+        return new CatalogEvent(type, DELETED, id, null);
+    }
+}
@@ -0,0 +1,140 @@
+package com.gklyphon.VirtualLibrary.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.config.redis.CatalogEventsData;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Relays the catalog events received on this node's Redis subscription to its live subscribers.
+ *
+ * <p>Subscriptions are asynchronous responses, so an idle subscriber holds no thread.
+ * Writing to a subscriber runs on a virtual thread only while it has something to send,
+ * and each subscriber buffers a bounded number of events, so a slow or stalled client
+ * never holds back the others.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class CatalogEventHub implements MessageListener {
+
+    private static final TypeReference<List<CatalogEvent>> EVENTS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final CatalogEventsData catalogEventsData;
+    private final Set<CatalogSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CatalogEventHub(ObjectMapper objectMapper, CatalogEventsData catalogEventsData) {
+        this.objectMapper = objectMapper;
+        this.catalogEventsData = catalogEventsData;
+    }
+
+    /**
+     * Opens a subscription to the events of the given entity types.
+     *
+     * @param types the entity types to receive
+     * @return the emitter of the subscription's response
+     */
+    public SseEmitter subscribe(Set<String> types) {
+        SseEmitter emitter = new SseEmitter(catalogEventsData.getTimeoutMs());
+        CatalogSubscriber subscriber = new CatalogSubscriber(emitter, types, catalogEventsData.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions on this node.
+     *
+     * @return the number of subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Receives a message published by {@link CatalogEventPublisher} on any node.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            dispatch(objectMapper.readValue(message.getBody(), EVENTS));
+        } catch (IOException ex) {
+            log.warn("Ignoring malformed catalog event message: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Buffers the events for every subscriber of their types and schedules the writes.
+     *
+     * @param events the events, in the order they happened
+     */
+    public void dispatch(List<CatalogEvent> events) {
+        for (CatalogSubscriber subscriber : subscribers) {
+            boolean pending = false;
+            for (CatalogEvent event : events) {
+                pending |= subscriber.offer(event);
+            }
+            if (pending) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Sends a heartbeat to every subscriber, which keeps idle connections open through
+     * proxies and detects clients that went away. Scheduled by {@code catalog-events.heartbeat-ms}.
+     */
+    @Scheduled(fixedDelayString = "${catalog-events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (CatalogSubscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Completes every subscription so clients reconnect to another node.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(CatalogSubscriber::close);
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    private void schedule(CatalogSubscriber subscriber) {
+        if (subscriber.isClosed()) {
+            subscribers.remove(subscriber);
+            return;
+        }
+        if (subscriber.claimDrain()) {
+            try {
+                senders.execute(subscriber::drain);
+            } catch (RejectedExecutionException ex) {
+                subscriber.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.gklyphon.VirtualLibrary.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.config.redis.CatalogEventsData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Publishes catalog events on a Redis channel once the writing transaction commits,
+ * so every node relays them to its own subscribers and rolled-back writes are never seen.
+ *
+ * <p>The events of one transaction are sent as a single message. Publishing is best effort:
+ * a failure is logged and does not affect the committed write, and subscribers that miss
+ * events catch up through the change feeds.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class CatalogEventPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CatalogEventsData catalogEventsData;
+
+    public CatalogEventPublisher(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                 CatalogEventsData catalogEventsData) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.catalogEventsData = catalogEventsData;
+    }
+
+    /**
+     * Publishes an event after the current transaction commits.
+     *
+     * @param event the event
+     */
+    public void publish(CatalogEvent event) {
+        publish(List.of(event));
+    }
+
+    /**
+     * Publishes events in one message after the current transaction commits.
+     *
+     * @param events the events, in the order they happened
+     */
+    public void publish(List<CatalogEvent> events) {
+        if (!events.isEmpty()) {
+            publish(() -> events);
+        }
+    }
+
+    /**
+     * Publishes events in one message after the current transaction commits, building them
+     * only then. Entities saved through JPA receive their new version when the transaction
+     * flushes, so events carrying it must be built after commit.
+     *
+     * @param events builds the events, in the order they happened
+     */
+    public void publish(Supplier<List<CatalogEvent>> events) {
+        if (!catalogEventsData.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(events.get());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(events.get());
+            }
+        });
+    }
+
+    private void send(List<CatalogEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(catalogEventsData.getChannel(), objectMapper.writeValueAsString(events));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            log.warn("Failed to publish {} catalog events: {}", events.size(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.gklyphon.VirtualLibrary.event;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One live subscription: the emitter of its open response and a bounded buffer of
+ * events not yet written to it.
+ *
+ * <p>Events are offered by the Redis listener without blocking. At most one drain writes
+ * to the emitter at a time, on a sender thread, so a slow client only fills its own
+ * buffer. When the buffer overflows, the buffered events are dropped and the next drain
+ * sends a single {@value #RESYNC} event, after which the client pulls the change feed.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class CatalogSubscriber {
+
+    /**
+     * Name of the events that carry a change.
+     */
+    static final String CHANGE = "change";
+
+    /**
+     * Name of the event telling the client it missed changes.
+     */
+    static final String RESYNC = "resync";
+
+    private final SseEmitter emitter;
+    private final Set<String> types;
+    private final BlockingQueue<CatalogEvent> buffer;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    CatalogSubscriber(SseEmitter emitter, Set<String> types, int bufferSize) {
+        this.emitter = emitter;
+        this.types = types;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Buffers an event of a subscribed type, or flags an overflow when the buffer is full.
+     *
+     * @param event the event
+     * @return true if the subscriber has something to send
+     */
+    boolean offer(CatalogEvent event) {
+        if (closed || !types.contains(event.type())) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            overflowed.set(true);
+        }
+        return true;
+    }
+
+    /**
+     * Asks the next drain to send a heartbeat.
+     */
+    void heartbeat() {
+        heartbeatDue.set(true);
+    }
+
+    /**
+     * Claims the right to drain.
+     *
+     * @return true if the caller must run {@link #drain()}, false if a drain is already running
+     */
+    boolean claimDrain() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+    /**
+     * Writes everything pending to the emitter. Must only run after a successful {@link #claimDrain()}.
+     * Work that arrives while the drain finishes is picked up before it returns.
+     */
+    void drain() {
+        do {
+            try {
+                if (overflowed.getAndSet(false)) {
+                    buffer.clear();
+                    emitter.send(SseEmitter.event().name(RESYNC).data("", MediaType.TEXT_PLAIN));
+                }
+                CatalogEvent event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event().name(CHANGE).data(event, MediaType.APPLICATION_JSON));
+                }
+                if (heartbeatDue.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+        } while (hasPending() && claimDrain());
+    }
+
+    /**
+     * Stops accepting events and completes the response.
+     */
+    void close() {
+        closed = true;
+        buffer.clear();
+        emitter.complete();
+    }
+
+    private boolean hasPending() {
+        return !buffer.isEmpty() || overflowed.get() || heartbeatDue.get();
+    }
+}
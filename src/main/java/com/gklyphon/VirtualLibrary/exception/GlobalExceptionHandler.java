@@ -1,36 +1,392 @@
 package com.gklyphon.VirtualLibrary.exception;
 
+import com.gklyphon.VirtualLibrary.exception.custom.CopiesOnLoanException;
+import com.gklyphon.VirtualLibrary.exception.custom.DeadlineExceededException;
 import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileBusyException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileTooLargeException;
+import com.gklyphon.VirtualLibrary.exception.custom.IdempotencyKeyReuseException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidCoverException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidEbookException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidFieldsException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidPatchException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidSyncTokenException;
+import com.gklyphon.VirtualLibrary.exception.custom.JobQueueFullException;
+import com.gklyphon.VirtualLibrary.exception.custom.NoCopyAvailableException;
+import com.gklyphon.VirtualLibrary.exception.custom.ReadOnlyNodeException;
+import com.gklyphon.VirtualLibrary.exception.custom.SyncTokenExpiredException;
+import com.gklyphon.VirtualLibrary.exception.custom.UploadOffsetConflictException;
+import com.gklyphon.VirtualLibrary.exception.custom.VersionConflictException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionSystemException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
+import java.time.Duration;
+
 /**
  * Global exception handler for the Virtual Library API.
  * This class centralizes exception management and ensures
  * consistent error responses.
  *
+ * <p>The lookups of unknown elements it answers are counted in the
+ * {@value #NOT_FOUND_METER} counter, read at {@code /actuator/metrics}.</p>
+ *
  * @author JFCiscoHuerta
  * @version 1.0
  * @since 18-Oct-2024
  */
 @Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler implements MeterBinder {
+
+    static final String NOT_FOUND_METER = "library.not.found";
+
+    /**
+     * SQLSTATE of a unique constraint violation.
+     */
+    static final String UNIQUE_VIOLATION = "23505";
+
+    private final RateLimitedLog notFoundLog;
+
+    public GlobalExceptionHandler(@Value("${errors.not-found.log-interval-ms:1000}") long notFoundLogIntervalMs) {
+        this.notFoundLog = new RateLimitedLog(Duration.ofMillis(notFoundLogIntervalMs));
+    }
 
     /**
      * Handles ElementNotFoundException and returns a NOT_FOUND response.
+     * Lookups of unknown elements are counted, and at most one per
+     * {@code errors.not-found.log-interval-ms} is logged along with the number left out.
      *
      * @param ex the exception that was thrown when an element was not found
      * @return ResponseEntity containing the exception message and HTTP status 404
      */
     @ExceptionHandler(ElementNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleElementNotFound(ElementNotFoundException ex) {
-        log.error("Element not found: {}", ex.getMessage());
+        long suppressed = notFoundLog.record();
+        if (suppressed == 0) {
+            log.warn("Element not found: {}", ex.getMessage());
+        } else if (suppressed > 0) {
+            log.warn("Element not found: {} ({} more since the last report)", ex.getMessage(), suppressed);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Element not found: {}", ex.getMessage());
+        }
         ErrorResponse errorResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
-}
\ No newline at end of file
+    /**
+     * Handles VersionConflictException and returns a CONFLICT response.
+     *
+     * @param ex the exception that was thrown when an update was based on a stale version
+     * @return ResponseEntity containing the exception message and HTTP status 409
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(VersionConflictException ex) {
+        log.warn("Version conflict: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles optimistic-lock failures of full updates and returns a CONFLICT response.
+     *
+     * @param ex the exception that was thrown when a saved entity had been modified since it was read
+     * @return ResponseEntity containing an error message and HTTP status 409
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic lock failure: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(),
+                "The resource was modified by another request.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles DataIntegrityViolationException. A duplicate unique value, such as an ISBN
+     * already in use, is a CONFLICT; any other violated constraint, such as a reference
+     * to a missing author or a value too long for its column, is a BAD_REQUEST.
+     *
+     * @param ex the exception that was thrown when a write violated a database constraint
+     * @return ResponseEntity containing an error message and HTTP status 409 or 400
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        HttpStatus status = UNIQUE_VIOLATION.equals(sqlState(ex)) ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
+        String message = status == HttpStatus.CONFLICT
+                ? "A unique value of the request, such as the ISBN, is already in use."
+                : "The request violates a data constraint.";
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), message));
+    }
+
+    /**
+     * Handles ConstraintViolationException and returns a BAD_REQUEST response.
+     *
+     * @param ex the exception that was thrown when a saved entity violated a declared constraint
+     * @return ResponseEntity containing the first violation and HTTP status 400
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
+        String message = ex.getConstraintViolations().stream().findFirst()
+                .map(violation -> "Field '" + violation.getPropertyPath() + "' " + violation.getMessage() + ".")
+                .orElse(ex.getMessage());
+        log.warn("Constraint violation: {}", message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), message));
+    }
+
+    /**
+     * Handles TransactionSystemException. Constraints of updated entities are checked when
+     * the transaction commits, so their violations arrive wrapped and are answered as
+     * {@link #handleConstraintViolation(ConstraintViolationException)} does; any other
+     * commit failure is an INTERNAL_SERVER_ERROR.
+     *
+     * @param ex the exception that was thrown when a transaction failed to commit
+     * @return ResponseEntity containing an error message and HTTP status 400 or 500
+     */
+    @ExceptionHandler(TransactionSystemException.class)
+    public ResponseEntity<ErrorResponse> handleTransactionSystem(TransactionSystemException ex) {
+        if (ex.getRootCause() instanceof ConstraintViolationException violation) {
+            return handleConstraintViolation(violation);
+        }
+        log.error("Transaction failed to commit", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), "The transaction failed to commit."));
+    }
+
+    /**
+     * Handles InvalidPatchException and returns a BAD_REQUEST response.
+     *
+     * @param ex the exception that was thrown when a patch document could not be applied
+     * @return ResponseEntity containing the exception message and HTTP status 400
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPatch(InvalidPatchException ex) {
+        log.warn("Invalid patch: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles InvalidFieldsException and returns a BAD_REQUEST response.
+     *
+     * @param ex the exception that was thrown when a sparse fieldset named an unknown field
+     * @return ResponseEntity containing the exception message and HTTP status 400
+     */
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFields(InvalidFieldsException ex) {
+        log.warn("Invalid fields: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles InvalidSyncTokenException and returns a BAD_REQUEST response.
+     *
+     * @param ex the exception that was thrown when a change feed token could not be parsed
+     * @return ResponseEntity containing the exception message and HTTP status 400
+     */
+    @ExceptionHandler(InvalidSyncTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSyncToken(InvalidSyncTokenException ex) {
+        log.warn("Invalid sync token: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles SyncTokenExpiredException and returns a GONE response.
+     *
+     * @param ex the exception that was thrown when a change feed token was too old
+     * @return ResponseEntity containing the exception message and HTTP status 410
+     */
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleSyncTokenExpired(SyncTokenExpiredException ex) {
+        log.warn("Expired sync token: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.GONE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    /**
+     * Handles ReadOnlyNodeException and returns a METHOD_NOT_ALLOWED response.
+     *
+     * @param ex the exception that was thrown when a write reached a read-only node
+     * @return ResponseEntity containing the exception message and HTTP status 405
+     */
+    @ExceptionHandler(ReadOnlyNodeException.class)
+    public ResponseEntity<ErrorResponse> handleReadOnlyNode(ReadOnlyNodeException ex) {
+        log.warn("Write on read-only node: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.METHOD_NOT_ALLOWED.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(errorResponse);
+    }
+
+    /**
+     * Handles InvalidCoverException and returns a BAD_REQUEST response.
+     *
+     * @param ex the exception that was thrown when a cover was not a supported image
+     * @return ResponseEntity containing the exception message and HTTP status 400
+     */
+    @ExceptionHandler(InvalidCoverException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCover(InvalidCoverException ex) {
+        log.warn("Invalid cover: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles FileTooLargeException and returns a PAYLOAD_TOO_LARGE response.
+     *
+     * @param ex the exception that was thrown when an uploaded file exceeded the maximum size
+     * @return ResponseEntity containing the exception message and HTTP status 413
+     */
+    @ExceptionHandler(FileTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleFileTooLarge(FileTooLargeException ex) {
+        log.warn("File too large: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
+    /**
+     * Handles InvalidEbookException and returns a BAD_REQUEST response.
+     *
+     * @param ex the exception that was thrown when an e-book upload could not be completed
+     * @return ResponseEntity containing the exception message and HTTP status 400
+     */
+    @ExceptionHandler(InvalidEbookException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidEbook(InvalidEbookException ex) {
+        log.warn("Invalid e-book: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles UploadOffsetConflictException and returns a CONFLICT response.
+     *
+     * @param ex the exception that was thrown when a chunk did not start at the end of its upload
+     * @return ResponseEntity containing the exception message and HTTP status 409
+     */
+    @ExceptionHandler(UploadOffsetConflictException.class)
+    public ResponseEntity<ErrorResponse> handleUploadOffsetConflict(UploadOffsetConflictException ex) {
+        log.warn("Upload offset conflict: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(UploadOffsetConflictException.UPLOAD_OFFSET, Long.toString(ex.getOffset()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles FileBusyException and returns a SERVICE_UNAVAILABLE response.
+     *
+     * @param ex the exception that was thrown when a file had as many readers as it allows
+     * @return ResponseEntity containing the exception message and HTTP status 503
+     */
+    @ExceptionHandler(FileBusyException.class)
+    public ResponseEntity<ErrorResponse> handleFileBusy(FileBusyException ex) {
+        log.warn("File busy: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles JobQueueFullException and returns a SERVICE_UNAVAILABLE response.
+     *
+     * @param ex the exception that was thrown when the queue of a job type was full
+     * @return ResponseEntity containing the exception message and HTTP status 503
+     */
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleJobQueueFull(JobQueueFullException ex) {
+        log.warn("Job queue full: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles DeadlineExceededException and returns a SERVICE_UNAVAILABLE response.
+     *
+     * @param ex the exception that was thrown when the reads of a request missed their deadline
+     * @return ResponseEntity containing the exception message and HTTP status 503
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException ex) {
+        log.warn("Deadline exceeded: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles NoCopyAvailableException and returns a CONFLICT response.
+     * Running out of copies is an expected outcome of a checkout, so it is only logged at debug level.
+     *
+     * @param ex the exception that was thrown when every copy of a book was on loan
+     * @return ResponseEntity containing the exception message and HTTP status 409
+     */
+    @ExceptionHandler(NoCopyAvailableException.class)
+    public ResponseEntity<ErrorResponse> handleNoCopyAvailable(NoCopyAvailableException ex) {
+        log.debug("No copy available: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles CopiesOnLoanException and returns a CONFLICT response.
+     *
+     * @param ex the exception that was thrown when fewer copies were set than are on loan
+     * @return ResponseEntity containing the exception message and HTTP status 409
+     */
+    @ExceptionHandler(CopiesOnLoanException.class)
+    public ResponseEntity<ErrorResponse> handleCopiesOnLoan(CopiesOnLoanException ex) {
+        log.warn("Copies on loan: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles IdempotencyKeyReuseException and returns an UNPROCESSABLE_ENTITY response.
+     *
+     * @param ex the exception that was thrown when an idempotency key was reused for another request
+     * @return ResponseEntity containing the exception message and HTTP status 422
+     */
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuse(IdempotencyKeyReuseException ex) {
+        log.warn("Idempotency key reused: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    private static String sqlState(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException.getSQLState();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers the counter of NOT_FOUND responses, which reads the occurrences
+     * the not-found log already counts.
+     *
+     * @param registry the registry to register the counter with
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(NOT_FOUND_METER, notFoundLog, RateLimitedLog::occurrences)
+                .description("Lookups of unknown elements answered with 404 Not Found")
+                .register(registry);
+    }
+}
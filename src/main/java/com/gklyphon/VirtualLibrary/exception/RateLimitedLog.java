@@ -0,0 +1,55 @@
+package com.gklyphon.VirtualLibrary.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the occurrences of an event and lets at most one of them per interval be logged.
+ * The occurrences in between are only counted, and reported with the next logged one.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class RateLimitedLog {
+
+    private final long intervalNanos;
+    private final AtomicLong nextReportAt;
+    private final LongAdder occurrences = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    RateLimitedLog(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextReportAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Records an occurrence.
+     *
+     * @return the number of occurrences not logged since the last report if this one
+     * should be logged, or -1 if it should not
+     */
+    long record() {
+        return record(System.nanoTime());
+    }
+
+    long record(long now) {
+        occurrences.increment();
+        long next = nextReportAt.get();
+        if (now - next >= 0 && nextReportAt.compareAndSet(next, now + intervalNanos)) {
+            return suppressed.sumThenReset();
+        }
+        suppressed.increment();
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences recorded so far.
+     *
+     * @return the number of occurrences
+     */
+    long occurrences() {
+        return occurrences.sum();
+    }
+}
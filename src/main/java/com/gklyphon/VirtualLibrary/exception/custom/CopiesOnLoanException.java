@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when the number of copies of a book is set
+ * below the number of copies currently on loan.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class CopiesOnLoanException extends RuntimeException {
+
+    /**
+     * Creates a new CopiesOnLoanException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public CopiesOnLoanException(String message) {
+        super(message);
+    }
+
+}
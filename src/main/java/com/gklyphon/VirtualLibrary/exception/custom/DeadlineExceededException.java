@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when the reads serving a request do not finish before their deadline.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Creates a new DeadlineExceededException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+}
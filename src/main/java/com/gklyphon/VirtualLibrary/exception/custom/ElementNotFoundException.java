@@ -4,6 +4,9 @@ package com.gklyphon.VirtualLibrary.exception.custom;
  * Custom exception thrown when an element is not found in the system.
  * This extends RuntimeException to allow unchecked propagation of the error.
  *
+ * <p>Every request for an unknown ID, ISBN or title throws one, and the handler only reports
+ * its message, so it neither fills in a stack trace nor records suppressed exceptions.</p>
+ *
  * @author JFCiscoHuerta
  * @version 1.0
  * @since 18-Oct-2024
@@ -16,7 +19,7 @@ public class ElementNotFoundException extends RuntimeException {
      * @param message a descriptive message explaining the cause of the exception
      */
     public ElementNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -26,7 +29,7 @@ public class ElementNotFoundException extends RuntimeException {
      * @param cause the underlying reason for this exception (can be null)
      */
     public ElementNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
 }
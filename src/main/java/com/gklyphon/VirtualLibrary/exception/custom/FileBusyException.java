@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a file is already read by as many requests as it allows.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class FileBusyException extends RuntimeException {
+
+    /**
+     * Creates a new FileBusyException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public FileBusyException(String message) {
+        super(message);
+    }
+
+}
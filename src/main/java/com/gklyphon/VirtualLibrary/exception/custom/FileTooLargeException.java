@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when an uploaded cover or e-book exceeds the maximum size.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class FileTooLargeException extends RuntimeException {
+
+    /**
+     * Creates a new FileTooLargeException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public FileTooLargeException(String message) {
+        super(message);
+    }
+
+}
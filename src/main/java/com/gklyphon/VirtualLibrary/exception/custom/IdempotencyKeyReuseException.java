@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when an idempotency key is sent with a request
+ * other than the one it was first used for.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    /**
+     * Creates a new IdempotencyKeyReuseException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when an uploaded cover is not a supported image,
+ * or a thumbnail is requested in a width that is not offered.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidCoverException extends RuntimeException {
+
+    /**
+     * Creates a new InvalidCoverException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public InvalidCoverException(String message) {
+        super(message);
+    }
+
+}
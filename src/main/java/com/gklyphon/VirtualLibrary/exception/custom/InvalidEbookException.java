@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when an uploaded e-book is not an EPUB or PDF file,
+ * or does not match the checksum it was uploaded with.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidEbookException extends RuntimeException {
+
+    /**
+     * Creates a new InvalidEbookException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public InvalidEbookException(String message) {
+        super(message);
+    }
+
+}
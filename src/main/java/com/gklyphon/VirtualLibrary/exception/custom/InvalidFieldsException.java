@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a sparse fieldset names a field that
+ * does not exist or cannot be selected.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidFieldsException extends RuntimeException {
+
+    /**
+     * Creates a new InvalidFieldsException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+
+}
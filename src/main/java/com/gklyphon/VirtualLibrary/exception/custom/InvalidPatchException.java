@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a patch document cannot be applied,
+ * for example because it names an unknown or read-only field.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidPatchException extends RuntimeException {
+
+    /**
+     * Creates a new InvalidPatchException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+
+}
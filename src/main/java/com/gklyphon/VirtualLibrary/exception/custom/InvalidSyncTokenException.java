@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a change feed token cannot be parsed.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidSyncTokenException extends RuntimeException {
+
+    /**
+     * Creates a new InvalidSyncTokenException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public InvalidSyncTokenException(String message) {
+        super(message);
+    }
+
+}
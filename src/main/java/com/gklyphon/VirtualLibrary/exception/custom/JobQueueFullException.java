@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when as many jobs of a type are waiting to run as the queue allows.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class JobQueueFullException extends RuntimeException {
+
+    /**
+     * Creates a new JobQueueFullException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public JobQueueFullException(String message) {
+        super(message);
+    }
+
+}
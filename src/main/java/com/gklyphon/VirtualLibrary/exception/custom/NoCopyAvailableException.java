@@ -0,0 +1,25 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a checkout finds every copy of a book on loan.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * <p>When a popular title runs out, most checkouts end with one, and the handler only
+ * reports its message, so it neither fills in a stack trace nor records suppressed exceptions.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class NoCopyAvailableException extends RuntimeException {
+
+    /**
+     * Creates a new NoCopyAvailableException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public NoCopyAvailableException(String message) {
+        super(message, null, false, false);
+    }
+
+}
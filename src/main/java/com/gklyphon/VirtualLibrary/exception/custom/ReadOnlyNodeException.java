@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a write reaches a node that serves the catalog
+ * from a read-only snapshot. Writes must be sent to a primary node.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class ReadOnlyNodeException extends RuntimeException {
+
+    /**
+     * Creates a new ReadOnlyNodeException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public ReadOnlyNodeException(String message) {
+        super(message);
+    }
+
+}
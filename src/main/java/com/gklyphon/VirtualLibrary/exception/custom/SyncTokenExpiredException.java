@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when a change feed token is older than the tombstone retention.
+ * Deletions since then may have been purged, so the client must sync again from the start.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class SyncTokenExpiredException extends RuntimeException {
+
+    /**
+     * Creates a new SyncTokenExpiredException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+
+}
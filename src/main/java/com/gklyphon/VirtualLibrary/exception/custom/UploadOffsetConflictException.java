@@ -0,0 +1,35 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+import lombok.Getter;
+
+/**
+ * Custom exception thrown when a chunk of a resumable upload does not start
+ * where the upload currently ends, carrying that offset so the client can resume from it.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+public class UploadOffsetConflictException extends RuntimeException {
+
+    /**
+     * Header carrying the offset of a chunk, and the offset an upload ends at.
+     */
+    public static final String UPLOAD_OFFSET = "Upload-Offset";
+
+    private final long offset;
+
+    /**
+     * Creates a new UploadOffsetConflictException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     * @param offset  the offset the upload currently ends at
+     */
+    public UploadOffsetConflictException(String message, long offset) {
+        super(message);
+        this.offset = offset;
+    }
+
+}
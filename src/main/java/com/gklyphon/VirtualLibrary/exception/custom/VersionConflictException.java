@@ -0,0 +1,23 @@
+package com.gklyphon.VirtualLibrary.exception.custom;
+
+/**
+ * Custom exception thrown when an update is rejected because the element
+ * was modified since the version the client based its changes on.
+ * This extends RuntimeException to allow unchecked propagation of the error.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * Creates a new VersionConflictException with the specified detail message.
+     *
+     * @param message a descriptive message explaining the cause of the exception
+     */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
+import com.gklyphon.VirtualLibrary.model.projection.IsbnRow;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites the ISBNs stored before they were normalized, such as {@code 978-0135957059},
+ * in their canonical form, so lookups by the canonical value find those books. Queued when the
+ * application starts; once the catalog is canonical a run only scans the rows that could not be.
+ *
+ * <p>Each batch is rewritten in its own transaction, on rows locked and read again, and the
+ * last book of each batch is checkpointed. A book whose canonical ISBN is already held by
+ * another book keeps its ISBN and is logged.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class CanonicalIsbnJob implements JobHandler {
+
+    public static final String TYPE = "isbn-canonicalize";
+
+    static final int BATCH_SIZE = 1_000;
+
+    private final IBookRepository bookRepository;
+    private final CatalogCache catalogCache;
+    private final JobScheduler jobScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    public CanonicalIsbnJob(IBookRepository bookRepository, CatalogCache catalogCache, JobScheduler jobScheduler,
+                            PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.catalogCache = catalogCache;
+        this.jobScheduler = jobScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queues a run unless one is queued or running.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedule() {
+        jobScheduler.submitUnique(TYPE);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void run(JobExecution execution) {
+        long afterId = execution.resumeFrom(0L);
+        long rewritten = 0;
+        List<IsbnRow> rows;
+        do {
+            rows = bookRepository.findUncanonicalIsbnsAfter(afterId, Limit.of(BATCH_SIZE));
+            List<Long> ids = rows.stream()
+                    .filter(row -> !row.isbn().equals(Isbn.normalize(row.isbn())))
+                    .map(IsbnRow::id)
+                    .toList();
+            if (!ids.isEmpty()) {
+                rewritten += transactionTemplate.execute(status -> canonicalize(ids));
+            }
+            if (!rows.isEmpty()) {
+                afterId = rows.get(rows.size() - 1).id();
+                execution.checkpoint(afterId);
+            }
+        } while (rows.size() == BATCH_SIZE);
+        log.info("ISBNs rewritten in canonical form: {}", rewritten);
+    }
+
+    /**
+     * Rewrites the ISBNs of the given books, evicting both their old and new cache keys after commit.
+     *
+     * @return the number of books rewritten
+     */
+    private int canonicalize(List<Long> ids) {
+        List<BookRow> rows = bookRepository.lockRows(ids).stream().map(Versioned::value).toList();
+        Map<String, Long> owners = new HashMap<>();
+        bookRepository.findRowsByIsbnIn(rows.stream().map(row -> Isbn.normalize(row.isbn())).toList())
+                .forEach(row -> owners.put(row.isbn(), row.id()));
+        LocalDateTime now = LocalDateTime.now();
+        List<BookRow> changed = new ArrayList<>();
+        for (BookRow row : rows) {
+            String isbn = Isbn.normalize(row.isbn());
+            if (isbn == null || isbn.equals(row.isbn())) {
+                continue;
+            }
+            Long owner = owners.putIfAbsent(isbn, row.id());
+            if (owner != null && !owner.equals(row.id())) {
+                log.warn("Book {} keeps ISBN {}: book {} already holds {}", row.id(), row.isbn(), owner, isbn);
+                continue;
+            }
+            bookRepository.updateIsbn(row.id(), isbn, now);
+            changed.add(row);
+            changed.add(new BookRow(row.id(), isbn, row.title(), row.authorId(), row.price()));
+        }
+        if (!changed.isEmpty()) {
+            catalogCache.evictBooks(changed);
+        }
+        return changed.size() / 2;
+    }
+}
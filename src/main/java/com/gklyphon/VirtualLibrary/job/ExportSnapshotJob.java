@@ -0,0 +1,47 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.snapshot.CatalogSnapshotExporter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports the catalog snapshot on one node. Queued by {@code snapshot.export-cron}; a run
+ * rewrites the whole snapshot, so a run already queued or running is not queued again.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+public class ExportSnapshotJob implements JobHandler {
+
+    public static final String TYPE = "snapshot-export";
+
+    private final CatalogSnapshotExporter catalogSnapshotExporter;
+    private final JobScheduler jobScheduler;
+
+    public ExportSnapshotJob(CatalogSnapshotExporter catalogSnapshotExporter, JobScheduler jobScheduler) {
+        this.catalogSnapshotExporter = catalogSnapshotExporter;
+        this.jobScheduler = jobScheduler;
+    }
+
+    /**
+     * Queues an export unless one is queued or running.
+     */
+    @Scheduled(cron = "${snapshot.export-cron:-}")
+    public void schedule() {
+        jobScheduler.submitUnique(TYPE);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void run(JobExecution execution) {
+        CatalogStamp stamp = catalogSnapshotExporter.export();
+        execution.checkpoint(stamp.generation());
+    }
+}
@@ -0,0 +1,139 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+
+/**
+ * A run of a job, as seen by its {@link JobHandler}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class JobExecution {
+
+    /**
+     * Records the checkpoint of a job while its node holds the lease.
+     */
+    @FunctionalInterface
+    public interface CheckpointWriter {
+
+        /**
+         * Records where a job resumes.
+         *
+         * @param jobId      the ID of the job
+         * @param checkpoint where the job resumes
+         * @return false if the node no longer holds the lease
+         */
+        boolean write(Long jobId, String checkpoint);
+    }
+
+    private final Job job;
+    private final int maxAttempts;
+    private final CheckpointWriter checkpointWriter;
+    private volatile String checkpoint;
+    private volatile boolean leaseLost;
+
+    public JobExecution(Job job, int maxAttempts, CheckpointWriter checkpointWriter) {
+        this.job = job;
+        this.maxAttempts = maxAttempts;
+        this.checkpointWriter = checkpointWriter;
+        this.checkpoint = job.getCheckpoint();
+    }
+
+    /**
+     * Returns the ID of the job.
+     *
+     * @return the job ID
+     */
+    public Long id() {
+        return job.getId();
+    }
+
+    /**
+     * Returns what the job works on.
+     *
+     * @return the payload given when the job was queued, possibly null
+     */
+    public String payload() {
+        return job.getPayload();
+    }
+
+    /**
+     * Returns the number of this run of the job, starting at 1.
+     *
+     * @return the attempt number
+     */
+    public int attempt() {
+        return job.getAttempts();
+    }
+
+    /**
+     * Returns whether the job fails for good if this run fails.
+     *
+     * @return true if this is the last run allowed
+     */
+    public boolean isLastAttempt() {
+        return job.getAttempts() >= maxAttempts;
+    }
+
+    /**
+     * Returns where the job resumes.
+     *
+     * @return the last checkpoint recorded, or null if the job starts over
+     */
+    public String checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Returns where the job resumes, as a number.
+     *
+     * @param initial the value to start from when no checkpoint was recorded
+     * @return the last checkpoint recorded, or the initial value
+     */
+    public long resumeFrom(long initial) {
+        String value = checkpoint;
+        return value != null ? Long.parseLong(value) : initial;
+    }
+
+    /**
+     * Records where the job resumes if it runs again, and renews its lease.
+     *
+     * @param value where the job resumes
+     * @throws LeaseLostException if another node took over the job
+     */
+    public void checkpoint(String value) {
+        if (leaseLost || !checkpointWriter.write(job.getId(), value)) {
+            leaseLost = true;
+            throw new LeaseLostException(job.getId());
+        }
+        checkpoint = value;
+    }
+
+    /**
+     * Records where the job resumes if it runs again, and renews its lease.
+     *
+     * @param value where the job resumes
+     * @throws LeaseLostException if another node took over the job
+     */
+    public void checkpoint(long value) {
+        checkpoint(Long.toString(value));
+    }
+
+    /**
+     * Returns whether another node took over the job.
+     *
+     * @return true if the lease was lost
+     */
+    public boolean isLeaseLost() {
+        return leaseLost;
+    }
+
+    void loseLease() {
+        leaseLost = true;
+    }
+
+    Job job() {
+        return job;
+    }
+}
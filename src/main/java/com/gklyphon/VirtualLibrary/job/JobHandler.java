@@ -0,0 +1,33 @@
+package com.gklyphon.VirtualLibrary.job;
+
+/**
+ * Runs the jobs of one type. Handlers are beans, found by the {@link JobScheduler} at startup.
+ *
+ * <p>A job may run more than once: after a failure, or on another node when the one running it
+ * stopped. A handler records its progress with {@link JobExecution#checkpoint(String)} and resumes
+ * from {@link JobExecution#checkpoint()}, so a job that runs again does not repeat its work.
+ * A handler stops when interrupted, by letting {@link InterruptedException} propagate.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface JobHandler {
+
+    /**
+     * Returns the type of the jobs this handler runs.
+     *
+     * @return the job type
+     */
+    String type();
+
+    /**
+     * Runs a job until it is done.
+     *
+     * @param execution the job, with its payload and last checkpoint
+     * @throws InterruptedException if the node is stopping; the job is queued again
+     * @throws LeaseLostException   if another node took over the job
+     * @throws Exception            if the job failed; it is retried until it has run {@code jobs.max-attempts} times
+     */
+    void run(JobExecution execution) throws Exception;
+}
@@ -0,0 +1,387 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.config.concurrency.JobsData;
+import com.gklyphon.VirtualLibrary.exception.custom.JobQueueFullException;
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+import com.gklyphon.VirtualLibrary.repository.IJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs background jobs queued in the jobs table, on virtual threads.
+ *
+ * <p>A dispatcher thread claims due jobs for the types that have a free permit, oldest first,
+ * and starts each one on its own virtual thread. A claim takes a lease on the job's row with
+ * {@code FOR UPDATE SKIP LOCKED}, so each job runs on one node at a time, and the dispatcher
+ * renews the leases of its running jobs every third of {@code jobs.lease-seconds}. A job whose
+ * lease expires, because its node stopped or stalled, is claimed again by another node and
+ * resumes from its last checkpoint; its first node then sees the lease as lost and stops.</p>
+ *
+ * <p>Each type runs at most {@code jobs.concurrency.<type>} jobs at once on a node, and at most
+ * {@code jobs.max-queued} jobs of a type wait to run; beyond that new jobs are refused, which
+ * pushes back on callers instead of letting the queue grow without bound. A failed job is
+ * retried with a growing delay until it has run {@code jobs.max-attempts} times. When the node
+ * stops, running jobs are given {@code jobs.shutdown-timeout-seconds} to finish, then interrupted
+ * and queued again.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class JobScheduler implements SmartLifecycle {
+
+    private final IJobRepository jobRepository;
+    private final JobsData jobsData;
+    private final ObjectProvider<JobHandler> handlerProvider;
+    private final String owner;
+    private final Map<String, JobHandler> handlers = new HashMap<>();
+    private final Map<String, TypeState> types = new ConcurrentHashMap<>();
+    private final Map<Long, Running> running = new ConcurrentHashMap<>();
+    private final Semaphore wakeup = new Semaphore(0);
+    private volatile boolean started;
+    private volatile Thread dispatcher;
+    private long renewedAt;
+
+    public JobScheduler(IJobRepository jobRepository, JobsData jobsData, ObjectProvider<JobHandler> handlerProvider) {
+        this.jobRepository = jobRepository;
+        this.jobsData = jobsData;
+        this.handlerProvider = handlerProvider;
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Queues a job.
+     *
+     * @param type    the job type
+     * @param payload what the job works on, possibly null
+     * @return the ID of the job
+     * @throws JobQueueFullException if as many jobs of the type are waiting as the queue allows
+     */
+    public Long submit(String type, String payload) {
+        if (jobRepository.countPending(type) >= jobsData.getMaxQueued()) {
+            throw new JobQueueFullException(jobsData.getMaxQueued() + " jobs of type " + type
+                    + " are waiting to run.");
+        }
+        Long id = jobRepository.enqueue(type, payload, null, LocalDateTime.now()).get(0);
+        wakeUpAfterCommit();
+        return id;
+    }
+
+    /**
+     * Queues a job unless a job of the same type, queued the same way, is waiting or running
+     * on any node, as for periodic maintenance that a second run would only repeat.
+     *
+     * @param type the job type
+     * @return the ID of the job, or empty if one was already queued
+     */
+    public Optional<Long> submitUnique(String type) {
+        List<Long> ids = jobRepository.enqueue(type, null, type, LocalDateTime.now());
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        wakeUpAfterCommit();
+        return Optional.of(ids.get(0));
+    }
+
+    /**
+     * Reports the queue depths and the runs of each job type.
+     *
+     * @return the state of each job type
+     */
+    public JobsReport report() {
+        Map<String, long[]> active = new HashMap<>();
+        for (Object[] row : jobRepository.countActive()) {
+            long[] counts = active.computeIfAbsent((String) row[0], type -> new long[2]);
+            counts[Job.Status.PENDING.name().equals(row[1]) ? 0 : 1] = ((Number) row[2]).longValue();
+        }
+        TreeSet<String> names = new TreeSet<>(active.keySet());
+        names.addAll(handlers.keySet());
+        List<JobsReport.TypeReport> reports = new ArrayList<>();
+        for (String type : names) {
+            TypeState state = state(type);
+            long[] counts = active.getOrDefault(type, new long[2]);
+            long runs = state.completed.sum() + state.failed.sum() + state.retried.sum() + state.leasesLost.sum();
+            reports.add(new JobsReport.TypeReport(type, state.concurrency,
+                    state.concurrency - state.permits.availablePermits(), counts[0], counts[1],
+                    state.completed.sum(), state.failed.sum(), state.retried.sum(), state.leasesLost.sum(),
+                    runs > 0 ? state.runNanos.sum() / runs / 1_000_000 : 0,
+                    state.maxNanos.get() / 1_000_000, state.lastNanos.get() / 1_000_000));
+        }
+        return new JobsReport(owner, jobsData.isEnabled(), reports);
+    }
+
+    /**
+     * Deletes the jobs that finished more than {@code jobs.retention-days} ago.
+     * Scheduled by {@code jobs.purge-cron}.
+     *
+     * @return the number of jobs deleted
+     */
+    @Scheduled(cron = "${jobs.purge-cron:-}")
+    public int purge() {
+        int deleted = jobRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(jobsData.getRetentionDays()));
+        log.info("Purged {} finished jobs", deleted);
+        return deleted;
+    }
+
+    /**
+     * Finds the job handlers and, if this node runs jobs, starts the dispatcher.
+     */
+    @Override
+    public void start() {
+        handlerProvider.orderedStream().forEach(handler -> handlers.put(handler.type(), handler));
+        started = true;
+        if (jobsData.isEnabled()) {
+            dispatcher = Thread.ofVirtual().name("job-dispatcher").start(this::dispatch);
+            log.info("Job scheduler {} started for {}", owner, handlers.keySet());
+        }
+    }
+
+    /**
+     * Stops claiming jobs, waits for the running ones to finish, then interrupts them
+     * so they are queued again.
+     */
+    @Override
+    public void stop() {
+        started = false;
+        wakeup.release();
+        Thread thread = dispatcher;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(jobsData.getShutdownTimeoutSeconds());
+            while (!running.isEmpty() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            running.values().forEach(job -> job.thread.interrupt());
+            for (Running job : running.values()) {
+                job.thread.join(TimeUnit.SECONDS.toMillis(jobsData.getShutdownTimeoutSeconds()));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    /**
+     * Claims and starts due jobs until the node stops, renewing leases as it goes.
+     */
+    void dispatch() {
+        while (started) {
+            try {
+                renewLeases();
+                for (Map.Entry<String, JobHandler> handler : handlers.entrySet()) {
+                    TypeState state = state(handler.getKey());
+                    boolean claimed = true;
+                    while (claimed && started && state.permits.tryAcquire()) {
+                        claimed = false;
+                        try {
+                            claimed = claim(handler.getValue(), state);
+                        } finally {
+                            if (!claimed) {
+                                state.permits.release();
+                            }
+                        }
+                    }
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Job dispatch failed: {}", ex.toString());
+            }
+            try {
+                wakeup.tryAcquire(jobsData.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                wakeup.drainPermits();
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Claims the next due job of a handler's type and starts it on a virtual thread.
+     *
+     * @return true if a job was claimed
+     */
+    private boolean claim(JobHandler handler, TypeState state) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = jobRepository.claim(handler.type(), owner, now, leaseUntil(now));
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        Job job = jobRepository.findById(claimed.get(0)).orElseThrow();
+        JobExecution execution = new JobExecution(job, jobsData.getMaxAttempts(), (id, checkpoint) ->
+                jobRepository.checkpoint(id, owner, checkpoint, leaseUntil(LocalDateTime.now())) == 1);
+        Thread thread = Thread.ofVirtual().name("job-" + job.getType() + "-" + job.getId()).unstarted(
+                () -> execute(handler, execution, state));
+        running.put(job.getId(), new Running(execution, thread));
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Runs a claimed job and records its outcome, unless another node took it over meanwhile.
+     */
+    void execute(JobHandler handler, JobExecution execution, TypeState state) {
+        Job job = execution.job();
+        long start = System.nanoTime();
+        try {
+            if (job.getAttempts() > jobsData.getMaxAttempts()) {
+                jobRepository.finish(job.getId(), owner, Job.Status.FAILED.name(),
+                        "Abandoned after " + (job.getAttempts() - 1) + " runs", LocalDateTime.now());
+                state.failed.increment();
+                return;
+            }
+            handler.run(execution);
+            if (jobRepository.finish(job.getId(), owner, Job.Status.COMPLETED.name(), null, LocalDateTime.now()) == 1) {
+                state.completed.increment();
+            } else {
+                state.leasesLost.increment();
+            }
+        } catch (LeaseLostException ex) {
+            log.warn("Job {} of type {} stopped: its lease was taken over", job.getId(), job.getType());
+            state.leasesLost.increment();
+        } catch (Exception ex) {
+            // A job interrupted because its node is stopping is queued again, whatever it threw
+            boolean interrupted = Thread.interrupted() || ex instanceof InterruptedException;
+            if (execution.isLeaseLost()) {
+                state.leasesLost.increment();
+            } else if (interrupted && !started) {
+                jobRepository.release(job.getId(), owner);
+            } else {
+                fail(job, ex, state);
+            }
+        } finally {
+            long nanos = System.nanoTime() - start;
+            state.runNanos.add(nanos);
+            state.lastNanos.set(nanos);
+            state.maxNanos.accumulateAndGet(nanos, Math::max);
+            running.remove(job.getId());
+            state.permits.release();
+            wakeup.release();
+        }
+    }
+
+    private void fail(Job job, Exception ex, TypeState state) {
+        String error = ex.toString().length() > 500 ? ex.toString().substring(0, 500) : ex.toString();
+        if (job.getAttempts() < jobsData.getMaxAttempts()) {
+            log.warn("Job {} of type {} failed on run {}; retrying", job.getId(), job.getType(), job.getAttempts(), ex);
+            LocalDateTime runAfter = LocalDateTime.now().plusSeconds(
+                    (long) jobsData.getRetryDelaySeconds() * job.getAttempts());
+            jobRepository.retry(job.getId(), owner, error, runAfter);
+            state.retried.increment();
+        } else {
+            log.error("Job {} of type {} failed on run {}", job.getId(), job.getType(), job.getAttempts(), ex);
+            jobRepository.finish(job.getId(), owner, Job.Status.FAILED.name(), error, LocalDateTime.now());
+            state.failed.increment();
+        }
+    }
+
+    /**
+     * Renews the leases of the jobs running on this node every third of the lease,
+     * and interrupts the jobs whose lease was taken over.
+     */
+    private void renewLeases() {
+        long now = System.nanoTime();
+        if (running.isEmpty() || now - renewedAt < TimeUnit.SECONDS.toNanos(jobsData.getLeaseSeconds()) / 3) {
+            return;
+        }
+        renewedAt = now;
+        List<Long> ids = new ArrayList<>(running.keySet());
+        List<Long> renewed = jobRepository.renew(ids, owner, leaseUntil(LocalDateTime.now()));
+        ids.removeAll(renewed);
+        for (Long id : ids) {
+            Running job = running.get(id);
+            if (job != null) {
+                log.warn("Lease of job {} was lost; stopping it", id);
+                job.execution.loseLease();
+                job.thread.interrupt();
+            }
+        }
+    }
+
+    private LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plusSeconds(jobsData.getLeaseSeconds());
+    }
+
+    TypeState state(String type) {
+        return types.computeIfAbsent(type, name -> new TypeState(jobsData.concurrencyOf(name)));
+    }
+
+    /**
+     * Wakes the dispatcher once the current transaction commits, so a job queued on this node
+     * starts without waiting for the next poll.
+     */
+    private void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeup.release();
+                }
+            });
+        } else {
+            wakeup.release();
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return "node";
+        }
+    }
+
+    /**
+     * A job running on this node.
+     */
+    private record Running(JobExecution execution, Thread thread) {
+    }
+
+    /**
+     * The permits and run statistics of one job type on this node.
+     */
+    static final class TypeState {
+        final int concurrency;
+        final Semaphore permits;
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder retried = new LongAdder();
+        final LongAdder leasesLost = new LongAdder();
+        final LongAdder runNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final AtomicLong lastNanos = new AtomicLong();
+
+        TypeState(int concurrency) {
+            this.concurrency = concurrency;
+            this.permits = new Semaphore(concurrency);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint reporting the background jobs: for each type, how many run on this node
+ * and on all nodes, how many wait, and how long runs take. Exposed at {@code /actuator/jobs}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+@Endpoint(id = "jobs")
+public class JobsEndpoint {
+
+    private final JobScheduler jobScheduler;
+
+    public JobsEndpoint(JobScheduler jobScheduler) {
+        this.jobScheduler = jobScheduler;
+    }
+
+    /**
+     * Reports the state of the background jobs.
+     *
+     * @return the state of each job type
+     */
+    @ReadOperation
+    public JobsReport jobs() {
+        return jobScheduler.report();
+    }
+}
@@ -0,0 +1,39 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import java.util.List;
+
+/**
+ * The state of the background jobs, as reported by the {@code jobs} actuator endpoint.
+ *
+ * @param node    the name this node holds leases under
+ * @param enabled whether this node runs jobs
+ * @param types   the state of each job type
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record JobsReport(String node, boolean enabled, List<TypeReport> types) {
+
+    /**
+     * The state of the jobs of one type. Queue depths cover every node; the other figures
+     * cover this node since it started.
+     *
+     * @param type         the job type
+     * @param concurrency  the number of jobs of the type that may run at once on this node
+     * @param running      the number of jobs of the type running on this node
+     * @param queued       the number of jobs of the type waiting to run
+     * @param runningTotal the number of jobs of the type running on any node
+     * @param completed    the number of runs that completed
+     * @param failed       the number of runs that failed for good
+     * @param retried      the number of runs that failed and were queued again
+     * @param leasesLost   the number of runs stopped because another node took over
+     * @param averageRunMs the average duration of a run, in milliseconds
+     * @param maxRunMs     the longest run, in milliseconds
+     * @param lastRunMs    the duration of the last run, in milliseconds
+     */
+    public record TypeReport(String type, int concurrency, int running, long queued, long runningTotal,
+                             long completed, long failed, long retried, long leasesLost,
+                             long averageRunMs, long maxRunMs, long lastRunMs) {
+    }
+}
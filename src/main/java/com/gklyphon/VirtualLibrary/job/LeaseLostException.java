@@ -0,0 +1,21 @@
+package com.gklyphon.VirtualLibrary.job;
+
+/**
+ * Thrown when a node no longer holds the lease of the job it runs, because the lease
+ * expired and another node took over. The job must stop without writing anything else.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class LeaseLostException extends RuntimeException {
+
+    /**
+     * Creates a new LeaseLostException for the given job.
+     *
+     * @param jobId the ID of the job
+     */
+    public LeaseLostException(Long jobId) {
+        super("Lease of job " + jobId + " was lost", null, false, false);
+    }
+}
@@ -0,0 +1,45 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the author statistics on one node. Queued by {@code stats.reconcile.cron}; the last
+ * author of each batch is checkpointed, so a run taken over by another node resumes after it.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+public class ReconcileStatsJob implements JobHandler {
+
+    public static final String TYPE = "stats-reconcile";
+
+    private final IAuthorStatsService authorStatsService;
+    private final JobScheduler jobScheduler;
+
+    public ReconcileStatsJob(IAuthorStatsService authorStatsService, JobScheduler jobScheduler) {
+        this.authorStatsService = authorStatsService;
+        this.jobScheduler = jobScheduler;
+    }
+
+    /**
+     * Queues a reconciliation unless one is queued or running.
+     */
+    @Scheduled(cron = "${stats.reconcile.cron:-}")
+    public void schedule() {
+        jobScheduler.submitUnique(TYPE);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void run(JobExecution execution) {
+        authorStatsService.reconcile(execution.resumeFrom(0L), execution::checkpoint);
+    }
+}
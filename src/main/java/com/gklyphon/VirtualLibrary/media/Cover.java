@@ -0,0 +1,41 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * An image file served for a book: its cover as uploaded, or a thumbnail of it.
+ *
+ * @param bookId     the ID of the book
+ * @param path       the file
+ * @param mediaType  the image type
+ * @param length     the size of the file in bytes
+ * @param modifiedAt the time the file was written, in epoch milliseconds
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record Cover(long bookId, Path path, MediaType mediaType, long length, long modifiedAt) implements StoredFile {
+
+    /**
+     * Reads the size and modification time of an image file.
+     *
+     * @param bookId    the ID of the book
+     * @param path      the file
+     * @param mediaType the image type
+     * @return the cover, or null if the file does not exist
+     * @throws IOException if the file attributes cannot be read
+     */
+    static Cover of(long bookId, Path path, MediaType mediaType) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new Cover(bookId, path, mediaType, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+}
@@ -0,0 +1,155 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.CoverData;
+import com.gklyphon.VirtualLibrary.exception.custom.FileTooLargeException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidCoverException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Stores book covers as files on local disk, one per book, under {@code covers.directory}.
+ *
+ * <p>Covers are JPEG or PNG images, recognized by their leading bytes rather than the declared
+ * content type, and kept as {@code <book id>.jpg} or {@code <book id>.png}. An upload is streamed
+ * to a temporary file, never held in memory, and moved over the previous cover once complete,
+ * so a download never sees a partial file.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+public class CoverStorage {
+
+    static final List<MediaType> TYPES = List.of(MediaType.IMAGE_JPEG, MediaType.IMAGE_PNG);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final Path directory;
+    private final long maxSizeBytes;
+
+    public CoverStorage(CoverData coverData) {
+        this.directory = Path.of(coverData.getDirectory()).toAbsolutePath();
+        this.maxSizeBytes = coverData.getMaxSizeBytes();
+    }
+
+    /**
+     * Stores the cover of a book, replacing the previous one.
+     *
+     * @param bookId the ID of the book
+     * @param body   the image, read until its end and closed
+     * @return the stored cover
+     * @throws InvalidCoverException  if the image is not a JPEG or PNG
+     * @throws FileTooLargeException if the image exceeds {@code covers.max-size-bytes}
+     * @throws IOException            if the file cannot be written
+     */
+    public Cover store(long bookId, InputStream body) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, bookId + "-", ".upload");
+        try {
+            MediaType type;
+            try (InputStream in = body; OutputStream out = Files.newOutputStream(temporary)) {
+                byte[] head = in.readNBytes(PNG.length);
+                type = detect(head);
+                out.write(head);
+                long size = head.length;
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    size += read;
+                    if (size > maxSizeBytes) {
+                        throw new FileTooLargeException("Cover must be at most " + maxSizeBytes + " bytes.");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            Files.move(temporary, path(bookId, type), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            for (MediaType other : TYPES) {
+                if (!other.equals(type)) {
+                    Files.deleteIfExists(path(bookId, other));
+                }
+            }
+            return Cover.of(bookId, path(bookId, type), type);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Finds the cover of a book.
+     *
+     * @param bookId the ID of the book
+     * @return the cover, or null if the book has none
+     * @throws IOException if the file attributes cannot be read
+     */
+    public Cover find(long bookId) throws IOException {
+        for (MediaType type : TYPES) {
+            Cover cover = Cover.of(bookId, path(bookId, type), type);
+            if (cover != null) {
+                return cover;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deletes the cover of a book. Its thumbnails are left to the eviction of the thumbnail cache.
+     *
+     * @param bookId the ID of the book
+     * @return true if the book had a cover
+     * @throws IOException if the file cannot be deleted
+     */
+    public boolean delete(long bookId) throws IOException {
+        boolean deleted = false;
+        for (MediaType type : TYPES) {
+            deleted |= Files.deleteIfExists(path(bookId, type));
+        }
+        return deleted;
+    }
+
+    /**
+     * Returns the file name extension of an image type.
+     *
+     * @param type JPEG or PNG
+     * @return jpg or png
+     */
+    static String extension(MediaType type) {
+        return MediaType.IMAGE_PNG.equals(type) ? "png" : "jpg";
+    }
+
+    private Path path(long bookId, MediaType type) {
+        return directory.resolve(bookId + "." + extension(type));
+    }
+
+    private static MediaType detect(byte[] head) {
+        if (startsWith(head, JPEG)) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (startsWith(head, PNG)) {
+            return MediaType.IMAGE_PNG;
+        }
+        throw new InvalidCoverException("Cover must be a JPEG or PNG image.");
+    }
+
+    private static boolean startsWith(byte[] head, byte[] signature) {
+        if (head.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (head[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
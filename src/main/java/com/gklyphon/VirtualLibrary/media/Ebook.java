@@ -0,0 +1,41 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * The e-book file of a book, an EPUB or a PDF.
+ *
+ * @param bookId     the ID of the book
+ * @param path       the file
+ * @param mediaType  the e-book type
+ * @param length     the size of the file in bytes
+ * @param modifiedAt the time the file was written, in epoch milliseconds
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record Ebook(long bookId, Path path, MediaType mediaType, long length, long modifiedAt) implements StoredFile {
+
+    /**
+     * Reads the size and modification time of an e-book file.
+     *
+     * @param bookId    the ID of the book
+     * @param path      the file
+     * @param mediaType the e-book type
+     * @return the e-book, or null if the file does not exist
+     * @throws IOException if the file attributes cannot be read
+     */
+    static Ebook of(long bookId, Path path, MediaType mediaType) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new Ebook(bookId, path, mediaType, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+}
@@ -0,0 +1,533 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.EbookData;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileBusyException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileTooLargeException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidEbookException;
+import com.gklyphon.VirtualLibrary.exception.custom.UploadOffsetConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stores book e-books as files on local disk, one per book, under {@code ebooks.directory}.
+ *
+ * <p>E-books arrive through resumable uploads: an upload is started, its chunks are appended in
+ * order at the offset it ends at, and it is completed once the whole file was sent. Each chunk is
+ * streamed to the partial file through a fixed buffer while the SHA-256 of the file is updated,
+ * so no upload is ever held in memory and completing it does not read the file again. A chunk
+ * cut short keeps the bytes received, and the client resumes from the offset the upload reports.
+ * If the node restarts, the checksum of a partial file is recomputed on its next chunk.</p>
+ *
+ * <p>A completed upload is recognized as EPUB or PDF by its leading bytes, checked against the
+ * checksum the client sent, and moved over the previous e-book of the book as
+ * {@code <book id>.epub} or {@code <book id>.pdf}. Uploads left without a chunk for
+ * {@code ebooks.upload-expiry-hours} are purged by {@code ebooks.uploads.purge-cron}.</p>
+ *
+ * <p>Downloads read the e-book through a {@link MappedFile}, kept mapped for the most recently
+ * read {@code ebooks.mapped-files} e-books. At most {@code ebooks.max-concurrent-reads} requests
+ * read the e-book of a book at once. Their slots are kept per book, apart from the mappings and
+ * only while a request holds or waits for one, so evicting or remapping an e-book being read
+ * never lets more readers in.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class EbookStorage {
+
+    /**
+     * Media type of EPUB files.
+     */
+    public static final MediaType EPUB = MediaType.parseMediaType("application/epub+zip");
+
+    static final List<MediaType> TYPES = List.of(EPUB, MediaType.APPLICATION_PDF);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f]{32}");
+    private static final byte[] PDF = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    // An EPUB is a ZIP archive whose first entry is an uncompressed "mimetype" file
+    private static final byte[] ZIP = {'P', 'K', 3, 4};
+    private static final byte[] EPUB_MIMETYPE = "mimetypeapplication/epub+zip".getBytes(StandardCharsets.US_ASCII);
+    private static final int EPUB_MIMETYPE_OFFSET = 30;
+
+    private final Path directory;
+    private final Path uploads;
+    private final long maxSizeBytes;
+    private final Duration uploadExpiry;
+    private final int maxConcurrentReads;
+    private final long readWaitMs;
+    private final Map<String, Upload> active = new ConcurrentHashMap<>();
+    private final Map<Long, MappedFile> mapped;
+    private final Map<Long, ReadSlots> readSlots = new ConcurrentHashMap<>();
+
+    public EbookStorage(EbookData ebookData) {
+        this.directory = Path.of(ebookData.getDirectory()).toAbsolutePath();
+        this.uploads = directory.resolve("uploads");
+        this.maxSizeBytes = ebookData.getMaxSizeBytes();
+        this.uploadExpiry = Duration.ofHours(ebookData.getUploadExpiryHours());
+        this.maxConcurrentReads = ebookData.getMaxConcurrentReads();
+        this.readWaitMs = ebookData.getReadWaitMs();
+        int mappedFiles = ebookData.getMappedFiles();
+        this.mapped = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MappedFile> eldest) {
+                return size() > mappedFiles;
+            }
+        };
+    }
+
+    /**
+     * Starts an upload of the e-book of a book.
+     *
+     * @param bookId the ID of the book
+     * @return the upload, at offset 0
+     * @throws IOException if the partial file cannot be created
+     */
+    public EbookUpload start(long bookId) throws IOException {
+        Files.createDirectories(uploads);
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Upload upload = new Upload(partial(bookId, id), sha256(), 0);
+        Files.createFile(upload.path);
+        active.put(id, upload);
+        return new EbookUpload(id, bookId, 0, null);
+    }
+
+    /**
+     * Returns the state of an upload, to resume it from its offset.
+     *
+     * @param bookId the ID of the book
+     * @param id     the ID of the upload
+     * @return the upload
+     * @throws ElementNotFoundException if the upload does not exist
+     */
+    public EbookUpload find(long bookId, String id) {
+        Upload upload = upload(bookId, id);
+        synchronized (upload) {
+            check(upload, id);
+            return new EbookUpload(id, bookId, upload.offset, null);
+        }
+    }
+
+    /**
+     * Appends a chunk to an upload.
+     *
+     * @param bookId the ID of the book
+     * @param id     the ID of the upload
+     * @param offset the offset of the chunk, which must be the offset the upload ends at
+     * @param body   the chunk, read until its end and closed
+     * @return the upload, ending after the bytes received
+     * @throws ElementNotFoundException      if the upload does not exist
+     * @throws UploadOffsetConflictException if the upload does not end at the offset
+     * @throws FileTooLargeException         if the e-book would exceed {@code ebooks.max-size-bytes}
+     * @throws IOException                   if the chunk cannot be read or written
+     */
+    public EbookUpload append(long bookId, String id, long offset, InputStream body) throws IOException {
+        Upload upload = upload(bookId, id);
+        synchronized (upload) {
+            check(upload, id);
+            if (upload.offset != offset) {
+                throw new UploadOffsetConflictException(
+                        "Upload " + id + " ends at offset " + upload.offset + ", not " + offset + ".", upload.offset);
+            }
+            try (InputStream in = body; FileChannel channel = FileChannel.open(upload.path, StandardOpenOption.WRITE)) {
+                try {
+                    channel.position(upload.offset);
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        if (upload.offset + read > maxSizeBytes) {
+                            throw new FileTooLargeException("E-book must be at most " + maxSizeBytes + " bytes.");
+                        }
+                        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                        while (chunk.hasRemaining()) {
+                            channel.write(chunk);
+                        }
+                        upload.digest.update(buffer, 0, read);
+                        upload.offset += read;
+                    }
+                } finally {
+                    // Bytes written but not hashed, if a write failed, are dropped
+                    if (channel.size() > upload.offset) {
+                        channel.truncate(upload.offset);
+                    }
+                }
+            }
+            return new EbookUpload(id, bookId, upload.offset, null);
+        }
+    }
+
+    /**
+     * Completes an upload, replacing the previous e-book of the book.
+     *
+     * @param bookId the ID of the book
+     * @param id     the ID of the upload
+     * @param sha256 the SHA-256 of the e-book in hex, or null not to check it
+     * @return the upload, with the SHA-256 of the stored e-book
+     * @throws ElementNotFoundException if the upload does not exist
+     * @throws InvalidEbookException    if the e-book is not an EPUB or PDF, or does not match the checksum;
+     *                                  the upload is then discarded
+     * @throws IOException              if the e-book cannot be stored
+     */
+    public EbookUpload complete(long bookId, String id, String sha256) throws IOException {
+        Upload upload = upload(bookId, id);
+        synchronized (upload) {
+            check(upload, id);
+            close(upload, id);
+            try {
+                MediaType type = detect(upload.path);
+                String actual = HexFormat.of().formatHex(upload.digest.digest());
+                if (sha256 != null && !sha256.equalsIgnoreCase(actual)) {
+                    throw new InvalidEbookException("E-book does not match its SHA-256, " + actual + ".");
+                }
+                Path target = path(bookId, type);
+                Files.move(upload.path, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                for (MediaType other : TYPES) {
+                    if (!other.equals(type)) {
+                        Files.deleteIfExists(path(bookId, other));
+                    }
+                }
+                return new EbookUpload(id, bookId, upload.offset, actual);
+            } finally {
+                Files.deleteIfExists(upload.path);
+            }
+        }
+    }
+
+    /**
+     * Discards an upload.
+     *
+     * @param bookId the ID of the book
+     * @param id     the ID of the upload
+     * @return true if the upload existed
+     * @throws IOException if the partial file cannot be deleted
+     */
+    public boolean abort(long bookId, String id) throws IOException {
+        Upload upload;
+        try {
+            upload = upload(bookId, id);
+        } catch (ElementNotFoundException ex) {
+            return false;
+        }
+        synchronized (upload) {
+            if (upload.closed) {
+                return false;
+            }
+            close(upload, id);
+            return Files.deleteIfExists(upload.path);
+        }
+    }
+
+    /**
+     * Finds the e-book of a book.
+     *
+     * @param bookId the ID of the book
+     * @return the e-book, or null if the book has none
+     * @throws IOException if the file attributes cannot be read
+     */
+    public Ebook find(long bookId) throws IOException {
+        for (MediaType type : TYPES) {
+            Ebook ebook = Ebook.of(bookId, path(bookId, type), type);
+            if (ebook != null) {
+                return ebook;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens the e-book of a book for reading, mapping it unless it is mapped already.
+     *
+     * @param bookId the ID of the book
+     * @return a reader of the e-book, to be closed once the response is written; null if the book has none
+     * @throws com.gklyphon.VirtualLibrary.exception.custom.FileBusyException
+     *                     if the e-book has {@code ebooks.max-concurrent-reads} readers
+     * @throws IOException if the e-book cannot be mapped
+     */
+    public MappedFile.Reader open(long bookId) throws IOException {
+        ReadSlots slots = readSlots.compute(bookId,
+                (id, current) -> (current != null ? current : new ReadSlots(maxConcurrentReads)).retain());
+        boolean acquired = false;
+        MappedFile.Reader reader = null;
+        try {
+            acquired = slots.tryAcquire(readWaitMs);
+            if (!acquired) {
+                throw new FileBusyException("E-book of book " + bookId + " has too many readers.");
+            }
+            MappedFile file = map(bookId);
+            if (file != null) {
+                reader = file.open(() -> release(bookId, slots, true));
+            }
+            return reader;
+        } finally {
+            if (reader == null) {
+                release(bookId, slots, acquired);
+            }
+        }
+    }
+
+    /**
+     * Returns the mapping of the current e-book of a book, mapping it unless it is mapped already.
+     */
+    private MappedFile map(long bookId) throws IOException {
+        MappedFile file;
+        do {
+            Ebook ebook = find(bookId);
+            if (ebook == null) {
+                return null;
+            }
+            synchronized (mapped) {
+                file = mapped.get(bookId);
+                if (file == null || !file.file().version().equals(ebook.version())) {
+                    file = MappedFile.map(ebook);
+                    if (file != null) {
+                        mapped.put(bookId, file);
+                    }
+                }
+            }
+            // A null mapping means the e-book was replaced while it was being mapped
+        } while (file == null);
+        return file;
+    }
+
+    /**
+     * Gives back a reader slot, if one was taken, and drops the slots of a book no request uses.
+     */
+    private void release(long bookId, ReadSlots slots, boolean acquired) {
+        if (acquired) {
+            slots.permits.release();
+        }
+        readSlots.computeIfPresent(bookId, (id, current) -> current.release() > 0 ? current : null);
+    }
+
+    /**
+     * Deletes the e-book of a book.
+     *
+     * @param bookId the ID of the book
+     * @return true if the book had an e-book
+     * @throws IOException if the file cannot be deleted
+     */
+    public boolean delete(long bookId) throws IOException {
+        boolean deleted = false;
+        for (MediaType type : TYPES) {
+            deleted |= Files.deleteIfExists(path(bookId, type));
+        }
+        synchronized (mapped) {
+            mapped.remove(bookId);
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the uploads that received no chunk for {@code ebooks.upload-expiry-hours}.
+     * Scheduled by {@code ebooks.uploads.purge-cron}.
+     *
+     * @return the number of uploads deleted
+     */
+    @Scheduled(cron = "${ebooks.uploads.purge-cron:-}")
+    public int purgeUploads() {
+        if (!Files.isDirectory(uploads)) {
+            return 0;
+        }
+        Instant before = Instant.now().minus(uploadExpiry);
+        int purged = 0;
+        try (Stream<Path> files = Files.list(uploads)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(".part")) {
+                    continue;
+                }
+                String id = name.substring(name.indexOf('-') + 1, name.length() - ".part".length());
+                Upload upload = active.get(id);
+                if (upload == null) {
+                    purged += expired(file, before) && Files.deleteIfExists(file) ? 1 : 0;
+                    continue;
+                }
+                synchronized (upload) {
+                    if (!upload.closed && expired(file, before)) {
+                        close(upload, id);
+                        purged += Files.deleteIfExists(file) ? 1 : 0;
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("E-book uploads could not be purged from {}: {}", uploads, ex.getMessage());
+        }
+        log.info("Purged {} expired e-book uploads", purged);
+        return purged;
+    }
+
+    /**
+     * Returns the state of an active upload, restoring it from its partial file after a restart.
+     */
+    private Upload upload(long bookId, String id) {
+        if (id == null || !UPLOAD_ID.matcher(id).matches()) {
+            throw new ElementNotFoundException("E-book upload " + id + " not found.");
+        }
+        Upload upload = active.computeIfAbsent(id, key -> restore(partial(bookId, key)));
+        if (upload == null || !upload.path.equals(partial(bookId, id))) {
+            throw new ElementNotFoundException("E-book upload " + id + " not found.");
+        }
+        return upload;
+    }
+
+    private void check(Upload upload, String id) {
+        if (upload.closed) {
+            throw new ElementNotFoundException("E-book upload " + id + " not found.");
+        }
+    }
+
+    private void close(Upload upload, String id) {
+        upload.closed = true;
+        active.remove(id, upload);
+    }
+
+    /**
+     * Rehashes a partial file left by a previous run, or returns null if there is none.
+     */
+    private static Upload restore(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        long offset = 0;
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+                offset += read;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new Upload(path, digest, offset);
+    }
+
+    private static boolean expired(Path file, Instant before) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(before);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static MediaType detect(Path path) throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(path)) {
+            head = in.readNBytes(EPUB_MIMETYPE_OFFSET + EPUB_MIMETYPE.length);
+        }
+        if (startsWith(head, 0, PDF)) {
+            return MediaType.APPLICATION_PDF;
+        }
+        if (startsWith(head, 0, ZIP) && startsWith(head, EPUB_MIMETYPE_OFFSET, EPUB_MIMETYPE)) {
+            return EPUB;
+        }
+        throw new InvalidEbookException("E-book must be an EPUB or PDF file.");
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] signature) {
+        return head.length >= offset + signature.length
+                && Arrays.equals(head, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static String extension(MediaType type) {
+        return MediaType.APPLICATION_PDF.equals(type) ? "pdf" : "epub";
+    }
+
+    private Path path(long bookId, MediaType type) {
+        return directory.resolve(bookId + "." + extension(type));
+    }
+
+    private Path partial(long bookId, String id) {
+        return uploads.resolve(bookId + "-" + id + ".part");
+    }
+
+    /**
+     * An upload in progress: its partial file, and the checksum and length of what it holds.
+     * Guarded by its own monitor.
+     */
+    private static final class Upload {
+
+        private final Path path;
+        private final MessageDigest digest;
+        private long offset;
+        private boolean closed;
+
+        private Upload(Path path, MessageDigest digest, long offset) {
+            this.path = path;
+            this.digest = digest;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * The reader slots of one book, with the number of requests holding or waiting for one.
+     * The count only changes inside the map's atomic updates of the book's entry.
+     */
+    private static final class ReadSlots {
+
+        private final Semaphore permits;
+        private int users;
+
+        private ReadSlots(int maxReaders) {
+            this.permits = new Semaphore(maxReaders);
+        }
+
+        private ReadSlots retain() {
+            users++;
+            return this;
+        }
+
+        private int release() {
+            return --users;
+        }
+
+        private boolean tryAcquire(long waitMs) {
+            try {
+                return permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.gklyphon.VirtualLibrary.media;
+
+/**
+ * The state of a resumable e-book upload.
+ *
+ * @param id     the ID of the upload
+ * @param bookId the ID of the book
+ * @param offset the number of bytes received, where the next chunk starts
+ * @param sha256 the SHA-256 of the e-book in hex once the upload is complete, null before
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record EbookUpload(String id, long bookId, long offset, String sha256) {
+}
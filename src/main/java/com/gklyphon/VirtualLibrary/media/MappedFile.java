@@ -0,0 +1,139 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A stored file mapped into memory, read by concurrent requests through their own readers.
+ *
+ * <p>The file is mapped read-only in segments of at most 1 GiB. The mapped pages belong to the
+ * page cache, not the heap, so reading a file of any size takes no more heap than a copy buffer
+ * per request, and concurrent readers of the same file share the same pages. Readers slice the
+ * segments at absolute positions, so they never contend on a buffer position.</p>
+ *
+ * <p>The number of readers is bounded by the owner of the mapping, which hands each reader the
+ * release of its slot; mappings come and go with the owner's cache, while slots must not.</p>
+ *
+ * <p>Files are never rewritten in place, only replaced, so a mapping stays readable while the
+ * file it was made of is replaced or deleted.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class MappedFile {
+
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    private final StoredFile file;
+    private final MappedByteBuffer[] segments;
+
+    private MappedFile(StoredFile file, MappedByteBuffer[] segments) {
+        this.file = file;
+        this.segments = segments;
+    }
+
+    /**
+     * Maps a file, unless it was replaced by one of another size since its attributes were read.
+     *
+     * @param file the file, with the attributes read before mapping it
+     * @return the mapped file, or null if the file changed size or no longer exists
+     * @throws IOException if the file cannot be mapped
+     */
+    static MappedFile map(StoredFile file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size != file.length()) {
+                return null;
+            }
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return new MappedFile(file, segments);
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the file as it was when it was mapped.
+     *
+     * @return the file
+     */
+    public StoredFile file() {
+        return file;
+    }
+
+    /**
+     * Opens a reader of the file for a request holding a reader slot.
+     *
+     * @param release releases the request's slot, run once when the reader is closed
+     * @return a reader, to be closed once the response is written
+     */
+    Reader open(Runnable release) {
+        return new Reader(release);
+    }
+
+    /**
+     * Holds a reader slot of a mapped file until it is closed.
+     */
+    public final class Reader implements AutoCloseable {
+
+        private final Runnable release;
+        private boolean closed;
+
+        private Reader(Runnable release) {
+            this.release = release;
+        }
+
+        /**
+         * Returns the file being read.
+         *
+         * @return the file
+         */
+        public StoredFile file() {
+            return file;
+        }
+
+        /**
+         * Writes a range of the file.
+         *
+         * @param start the offset of the first byte
+         * @param count the number of bytes
+         * @param out   the stream to write to
+         * @throws IOException if the stream cannot be written
+         */
+        public void write(long start, long count, OutputStream out) throws IOException {
+            WritableByteChannel channel = Channels.newChannel(out);
+            long position = start;
+            long end = start + count;
+            while (position < end) {
+                int offset = (int) (position % SEGMENT_SIZE);
+                MappedByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)];
+                int length = (int) Math.min(end - position, segment.capacity() - offset);
+                ByteBuffer slice = segment.slice(offset, length);
+                while (slice.hasRemaining()) {
+                    channel.write(slice);
+                }
+                position += length;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+/**
+ * A file served as it is stored on local disk, such as a book cover or e-book.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface StoredFile {
+
+    /**
+     * Returns the file.
+     *
+     * @return the path of the file
+     */
+    Path path();
+
+    /**
+     * Returns the type of the file.
+     *
+     * @return the media type the file is served with
+     */
+    MediaType mediaType();
+
+    /**
+     * Returns the size of the file.
+     *
+     * @return the size in bytes
+     */
+    long length();
+
+    /**
+     * Returns the time the file was written.
+     *
+     * @return the time in epoch milliseconds
+     */
+    long modifiedAt();
+
+    /**
+     * Returns a token changing whenever the file is replaced, used in entity tags and derived file names.
+     *
+     * @return the size and modification time of the file in base 36
+     */
+    default String version() {
+        return Long.toString(length(), 36) + "-" + Long.toString(modifiedAt(), 36);
+    }
+
+    /**
+     * Returns the strong entity tag of the file.
+     *
+     * @return the quoted entity tag
+     */
+    default String etag() {
+        return "\"" + version() + "\"";
+    }
+}
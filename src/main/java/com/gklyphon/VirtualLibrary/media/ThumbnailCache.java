@@ -0,0 +1,237 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.CoverData;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidCoverException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Resized copies of book covers, generated on first request and kept on disk.
+ *
+ * <p>Thumbnails are only offered in the widths of {@code covers.thumbnail-widths}. They are
+ * resized on a pool of {@code covers.thumbnail-threads} threads with a queue of
+ * {@code covers.thumbnail-queue-size}, so resizing never takes more than those threads however
+ * many requests arrive; concurrent requests for the same thumbnail share one resize. A request
+ * that finds the queue full, or waits longer than {@code covers.thumbnail-timeout-ms}, is
+ * served the full cover instead.</p>
+ *
+ * <p>Files are named after the cover's version, so a new cover is never served an old
+ * thumbnail. Their total size is kept under {@code covers.thumbnail-cache-bytes} by deleting
+ * the least recently served ones; the files found at startup are ordered by modification time.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class ThumbnailCache {
+
+    private final Path directory;
+    private final List<Integer> widths;
+    private final long maxBytes;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Cover>> resizing = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ThumbnailCache(CoverData coverData) {
+        this.directory = Path.of(coverData.getDirectory()).toAbsolutePath().resolve("thumbnails");
+        this.widths = List.copyOf(coverData.getThumbnailWidths());
+        this.maxBytes = coverData.getThumbnailCacheBytes();
+        this.timeoutMs = coverData.getThumbnailTimeoutMs();
+        this.executor = new ThreadPoolExecutor(coverData.getThumbnailThreads(), coverData.getThumbnailThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(coverData.getThumbnailQueueSize()),
+                Thread.ofPlatform().name("thumbnail-", 0).daemon().factory());
+        load();
+    }
+
+    /**
+     * Returns a thumbnail of a cover, resizing it if it is not cached.
+     *
+     * @param cover the cover
+     * @param width the width of the thumbnail, one of {@code covers.thumbnail-widths}
+     * @return the thumbnail, or the cover itself if the thumbnail could not be made in time
+     * @throws InvalidCoverException if the width is not offered
+     */
+    public Cover thumbnail(Cover cover, int width) {
+        if (!widths.contains(width)) {
+            throw new InvalidCoverException("Thumbnail width must be one of " + widths + ".");
+        }
+        String name = cover.bookId() + "-" + cover.version() + "-" + width + "." + CoverStorage.extension(cover.mediaType());
+        if (touch(name)) {
+            try {
+                Cover cached = Cover.of(cover.bookId(), directory.resolve(name), cover.mediaType());
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (IOException ex) {
+                log.warn("Thumbnail {} could not be read: {}", name, ex.getMessage());
+            }
+        }
+        CompletableFuture<Cover> created = new CompletableFuture<>();
+        CompletableFuture<Cover> future = resizing.putIfAbsent(name, created);
+        if (future == null) {
+            future = created;
+            try {
+                executor.execute(() -> {
+                    try {
+                        created.complete(resize(cover, width, name));
+                    } catch (RuntimeException ex) {
+                        created.completeExceptionally(ex);
+                    } finally {
+                        resizing.remove(name, created);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                resizing.remove(name, created);
+                return cover;
+            }
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            return cover;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return cover;
+        } catch (ExecutionException ex) {
+            log.warn("Thumbnail {} could not be made: {}", name, ex.getCause().getMessage());
+            return cover;
+        }
+    }
+
+    /**
+     * Returns the total size of the cached thumbnails.
+     *
+     * @return the size in bytes
+     */
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Cover resize(Cover cover, int width, String name) {
+        try {
+            BufferedImage image = ImageIO.read(cover.path().toFile());
+            if (image == null) {
+                throw new IOException("Unreadable image " + cover.path());
+            }
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, name, ".tmp");
+            try {
+                if (image.getWidth() <= width) {
+                    // Never enlarged: the cover is cached as it is
+                    Files.copy(cover.path(), temporary, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    ImageIO.write(scale(image, width, cover.mediaType()),
+                            MediaType.IMAGE_PNG.equals(cover.mediaType()) ? "png" : "jpeg", temporary.toFile());
+                }
+                Files.move(temporary, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            Cover thumbnail = Cover.of(cover.bookId(), directory.resolve(name), cover.mediaType());
+            add(name, thumbnail.length());
+            return thumbnail;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, MediaType type) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        boolean png = MediaType.IMAGE_PNG.equals(type);
+        BufferedImage resized = new BufferedImage(width, height,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private synchronized boolean touch(String name) {
+        return entries.get(name) != null;
+    }
+
+    /**
+     * Records a new thumbnail and deletes the least recently served ones beyond the size bound.
+     */
+    private synchronized void add(String name, long length) {
+        Long previous = entries.put(name, length);
+        totalBytes += length - (previous != null ? previous : 0);
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(name)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException ex) {
+                log.warn("Thumbnail {} could not be evicted: {}", entry.getKey(), ex.getMessage());
+                continue;
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    private void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                    .map(file -> {
+                        try {
+                            return Map.entry(file, Files.readAttributes(file, BasicFileAttributes.class));
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    })
+                    .sorted(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()))
+                    .forEach(entry -> add(entry.getKey().getFileName().toString(), entry.getValue().size()));
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("Thumbnail cache could not be loaded from {}: {}", directory, ex.getMessage());
+        }
+    }
+}
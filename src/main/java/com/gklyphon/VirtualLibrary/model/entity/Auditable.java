@@ -4,20 +4,31 @@ import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @MappedSuperclass
-public class Auditable {
+public class Auditable implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4180470317052380176L;
 
     @Column(updatable = false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @PrePersist
     protected void createdAt() {
         this.createdAt = LocalDateTime.now();
@@ -1,6 +1,8 @@
 package com.gklyphon.VirtualLibrary.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.io.Serial;
@@ -12,13 +14,17 @@ import java.util.Set;
 /**
  * Represents an author entity in the Virtual Library.
  * This class is mapped to the "authors" table in the database.
+ * Names and country fit their columns, which is checked when an author is saved
+ * and when a merge patch is applied.
  *
  * @author JFCiscoHuerta
  * @version 1.0
  * @since 22-Oct-2024
  */
 @Entity
-@Table(name = "authors")
+@Table(name = "authors", indexes = {
+        @Index(name = "idx_authors_updated_at", columnList = "updated_at, id")
+})
 @Builder
 @Getter
 @Setter
@@ -32,11 +38,15 @@ public class Author extends Auditable implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @Size(max = 255)
     private String firstname;
+    @Size(max = 255)
     private String lastname;
     private LocalDate birthdate;
+    @Size(max = 255)
     private String country;
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @JsonIgnoreProperties("author")
     private Set<Book> books;
 }
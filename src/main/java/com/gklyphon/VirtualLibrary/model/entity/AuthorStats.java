@@ -0,0 +1,76 @@
+package com.gklyphon.VirtualLibrary.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents the aggregated book statistics of an author.
+ * This class is mapped to the "author_stats" table in the database, which is
+ * maintained incrementally whenever a book is saved or deleted, so the
+ * statistics can be read without scanning the "books" table.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "author_stats")
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuthorStats implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2311859384610925027L;
+
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    /**
+     * Number of books written by the author.
+     */
+    private long bookCount;
+
+    /**
+     * Number of the author's books that have a price.
+     */
+    private long pricedCount;
+
+    /**
+     * Sum of the prices of the author's books.
+     */
+    private BigDecimal priceSum;
+
+    /**
+     * Creates empty statistics for an author without books.
+     *
+     * @param authorId the ID of the author
+     * @return statistics with all counters at zero
+     */
+    public static AuthorStats empty(Long authorId) {
+        return new AuthorStats(authorId, 0, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * Returns the average price of the author's priced books.
+     *
+     * @return the average price rounded to two decimals, or null if no book has a price
+     */
+    public BigDecimal getAveragePrice() {
+        if (pricedCount == 0 || priceSum == null) {
+            return null;
+        }
+        return priceSum.divide(BigDecimal.valueOf(pricedCount), 2, RoundingMode.HALF_UP);
+    }
+}
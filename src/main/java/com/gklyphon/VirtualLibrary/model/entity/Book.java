@@ -1,6 +1,10 @@
 package com.gklyphon.VirtualLibrary.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.io.Serial;
@@ -18,7 +22,11 @@ import java.math.BigDecimal;
  * - {@code @NoArgsConstructor} generates a no-arguments constructor.</p>
  *
  * <p>Data Integrity Constraints:
- * - The ISBN field is unique across all book entries.</p>
+ * - The ISBN field is unique across all book entries. Valid ISBN-10s and ISBN-13s are set
+ *   in their canonical form (see {@link Isbn}), so hyphenated variants are one value.
+ * - Title and author lookups are backed by indexes.
+ * - Title and ISBN fit their columns, and prices have at most two decimals. These constraints
+ *   are checked when a book is saved and when a merge patch is applied.</p>
  *
  * @author JFCiscoHuerta
  * @version 1.0
@@ -27,6 +35,10 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "books" ,uniqueConstraints = {
         @UniqueConstraint(columnNames = "isbn")
+}, indexes = {
+        @Index(name = "idx_books_title", columnList = "title"),
+        @Index(name = "idx_books_author_id", columnList = "author_id"),
+        @Index(name = "idx_books_updated_at", columnList = "updated_at, id")
 })
 @Builder
 @Getter
@@ -42,13 +54,26 @@ public class Book extends Auditable implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Size(max = 255)
     private String title;
 
+    @Size(max = 255)
     private String isbn;
 
+    @Digits(integer = 36, fraction = 2)
     private BigDecimal price;
 
     @ManyToOne
     @JoinColumn(name = "author_id")
+    @JsonIgnoreProperties("books")
     private Author author;
+
+    /**
+     * Sets the ISBN in its canonical form.
+     *
+     * @param isbn the ISBN as entered
+     */
+    public void setIsbn(String isbn) {
+        this.isbn = Isbn.normalize(isbn);
+    }
 }
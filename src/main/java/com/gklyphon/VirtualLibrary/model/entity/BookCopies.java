@@ -0,0 +1,63 @@
+package com.gklyphon.VirtualLibrary.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Represents the lendable copies of a book.
+ * This class is mapped to the "book_copies" table in the database. The number of
+ * available copies is only changed by conditional updates, so it never drops below
+ * zero however many checkouts race for the last copy. The row is deleted with its book.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "book_copies")
+@Check(constraints = "available >= 0 AND available <= total")
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookCopies implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5419316408274013641L;
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @JsonIgnore
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Book book;
+
+    /**
+     * Number of copies the library owns.
+     */
+    private int total;
+
+    /**
+     * Number of copies not on loan.
+     */
+    private int available;
+}
@@ -0,0 +1,110 @@
+package com.gklyphon.VirtualLibrary.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Represents a background job queued for any node to run.
+ * This class is mapped to the "jobs" table in the database. A node claims a job by taking
+ * its lease, and renews the lease while the job runs; a job whose lease expires is resumed
+ * by another node from its last checkpoint.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "jobs", indexes = @Index(name = "idx_jobs_status_type", columnList = "status, type"))
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class Job implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 8166093874217436201L;
+
+    /**
+     * The states of a job.
+     */
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * What the job works on, as its handler reads it, or null.
+     */
+    @Column(length = 2000)
+    private String payload;
+
+    /**
+     * Where the job resumes, as its handler last recorded it, or null to start over.
+     */
+    @Column(length = 2000)
+    private String checkpoint;
+
+    /**
+     * Key of a job that may be queued only once at a time, cleared when it finishes.
+     */
+    @Column(name = "dedupe_key", unique = true, length = 64)
+    private String dedupeKey;
+
+    /**
+     * Number of times the job has been claimed.
+     */
+    private int attempts;
+
+    /**
+     * The node holding the job, or null.
+     */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * Time before which the job is not claimed, set when it is retried.
+     */
+    @Column(name = "run_after", nullable = false)
+    private LocalDateTime runAfter;
+
+    /**
+     * Why the last run failed, or null.
+     */
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,65 @@
+package com.gklyphon.VirtualLibrary.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Represents a copy of a book lent to a borrower.
+ * This class is mapped to the "loans" table in the database, which is written in the
+ * transaction that takes the copy, so an acknowledged checkout is never lost. Each loan
+ * holds the idempotency key of the checkout that created it, so a retried checkout
+ * returns the same loan instead of taking a second copy. Loans are kept once returned.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "loans", indexes = {
+        @Index(name = "idx_loans_book_id", columnList = "book_id")
+})
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class Loan implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6043516935271458723L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Idempotency key of the checkout that created the loan.
+     */
+    @Column(name = "request_id", nullable = false, unique = true, length = 64)
+    private String requestId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false, length = 100)
+    private String borrower;
+
+    @Column(name = "checked_out_at", nullable = false)
+    private LocalDateTime checkedOutAt;
+
+    /**
+     * When the copy was returned, or null while it is on loan.
+     */
+    @Column(name = "returned_at")
+    private LocalDateTime returnedAt;
+}
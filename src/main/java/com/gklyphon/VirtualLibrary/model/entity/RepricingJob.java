@@ -0,0 +1,130 @@
+package com.gklyphon.VirtualLibrary.model.entity;
+
+import com.gklyphon.VirtualLibrary.model.projection.RepriceRule;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents a bulk repricing of books and its progress.
+ * This class is mapped to the "repricing_jobs" table in the database. The job walks the
+ * matching books in ID order, one chunk per transaction, and records the last ID reached
+ * in the same transaction as the chunk, so it can resume after a restart without
+ * repricing any book twice.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "repricing_jobs")
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RepricingJob implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2750139668520318617L;
+
+    /**
+     * The states of a job.
+     */
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, CANCELLED, FAILED;
+
+        /**
+         * Returns whether a job in this state will not run again.
+         *
+         * @return true for completed, cancelled and failed jobs
+         */
+        public boolean isFinished() {
+            return this == COMPLETED || this == CANCELLED || this == FAILED;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "min_price")
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price")
+    private BigDecimal maxPrice;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "book_ids")
+    private List<Long> bookIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 16)
+    private RepriceRule.Type ruleType;
+
+    @Column(name = "rule_value", nullable = false)
+    private BigDecimal ruleValue;
+
+    /**
+     * Number of books that matched the filter when the job was created.
+     */
+    private long total;
+
+    /**
+     * Number of matching books walked so far.
+     */
+    private long processed;
+
+    /**
+     * Number of books whose price was changed so far.
+     */
+    private long repriced;
+
+    /**
+     * ID of the last book walked, where the next chunk starts.
+     */
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    /**
+     * Whether cancellation was requested while the job was running. The job stops before its next chunk.
+     */
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    /**
+     * Why the job failed, or null.
+     */
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
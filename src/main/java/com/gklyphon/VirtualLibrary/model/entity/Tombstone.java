@@ -0,0 +1,67 @@
+package com.gklyphon.VirtualLibrary.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Records that a book or an author was deleted.
+ * This class is mapped to the "tombstones" table in the database, which is written
+ * by the same statement that deletes the row, so the change feeds can report deletions
+ * to clients that mirror the catalog. Tombstones are purged after a retention period.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "tombstones", indexes = {
+        @Index(name = "idx_tombstones_type_deleted_at", columnList = "entity_type, deleted_at, id")
+})
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class Tombstone implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3172265498270162954L;
+
+    /**
+     * Entity type of deleted books.
+     */
+    public static final String BOOK = "book";
+
+    /**
+     * Entity type of deleted authors.
+     */
+    public static final String AUTHOR = "author";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Type of the deleted entity, {@link #BOOK} or {@link #AUTHOR}.
+     */
+    private String entityType;
+
+    /**
+     * ID of the deleted entity.
+     */
+    private Long entityId;
+
+    /**
+     * When the entity was deleted.
+     */
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,16 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import java.util.List;
+
+/**
+ * The outcome of deleting an author together with their books.
+ *
+ * @param authorCount the number of author rows deleted, 0 or 1
+ * @param books       the keys of the book rows deleted with the author
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record AuthorDeletion(int authorCount, List<BookRow> books) {
+}
@@ -0,0 +1,21 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+
+/**
+ * The selected fields of an author, read by a column-limited query.
+ * Pages of it are rendered under the same HAL relation as full authors.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Relation(collectionRelation = "authorList")
+public class AuthorFields extends LinkedHashMap<String, Object> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
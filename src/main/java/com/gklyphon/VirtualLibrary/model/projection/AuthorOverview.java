@@ -0,0 +1,21 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+
+import java.util.List;
+
+/**
+ * Everything the author detail screen shows, read in one request.
+ *
+ * @param author   the fields of the author, without their books
+ * @param books    the first books of the author, ordered by ID
+ * @param hasMore  whether the author has more books than returned
+ * @param stats    the book statistics of the author
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record AuthorOverview(AuthorFields author, List<Book> books, boolean hasMore, AuthorStats stats) {
+}
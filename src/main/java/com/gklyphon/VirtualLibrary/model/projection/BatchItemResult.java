@@ -0,0 +1,55 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The outcome of one item of a batch write.
+ *
+ * @param index   the position of the item in the request
+ * @param status  the HTTP status the item would have had as a single request
+ * @param id      the ID of the written row, null if the item failed
+ * @param version the version of the written row, null if the item failed
+ * @param message why the item failed, null if it was written
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, int status, Long id, Long version, String message) {
+
+    /**
+     * Creates the result of a written item.
+     *
+     * @param index   the position of the item in the request
+     * @param status  CREATED or OK
+     * @param id      the ID of the written row
+     * @param version the version of the written row
+     * @return the result
+     */
+    public static BatchItemResult written(int index, HttpStatus status, Long id, Long version) {
+        return new BatchItemResult(index, status.value(), id, version, null);
+    }
+
+    /**
+     * Creates the result of an item that was not written.
+     *
+     * @param index   the position of the item in the request
+     * @param status  the status of the failure
+     * @param message why the item failed
+     * @return the result
+     */
+    public static BatchItemResult failed(int index, HttpStatus status, String message) {
+        return new BatchItemResult(index, status.value(), null, null, message);
+    }
+
+    /**
+     * Tells whether the item was written.
+     *
+     * @return true for a 2xx status
+     */
+    public boolean succeeded() {
+        return status / 100 == 2;
+    }
+}
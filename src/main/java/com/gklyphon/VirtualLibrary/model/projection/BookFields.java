@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import org.springframework.hateoas.server.core.Relation;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+
+/**
+ * The selected fields of a book, read by a column-limited query.
+ * Nested associations are maps themselves. Pages of it are rendered
+ * under the same HAL relation as full books.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Relation(collectionRelation = "bookList")
+public class BookFields extends LinkedHashMap<String, Object> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
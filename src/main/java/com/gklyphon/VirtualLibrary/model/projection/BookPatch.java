@@ -0,0 +1,17 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+
+/**
+ * The outcome of patching a book: the updated entity and the row as it was
+ * before the update, read by the same statement.
+ *
+ * @param book     the updated book
+ * @param previous the book row before the update
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record BookPatch(Book book, BookRow previous) {
+}
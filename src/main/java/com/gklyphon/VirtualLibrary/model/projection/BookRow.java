@@ -0,0 +1,21 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * A compact view of a book row, as returned by bulk write statements.
+ * It carries the values the book caches are keyed by and the values
+ * the author statistics are derived from.
+ *
+ * @param id       the ID of the book
+ * @param isbn     the ISBN of the book
+ * @param title    the title of the book
+ * @param authorId the ID of the book's author, possibly null
+ * @param price    the price of the book, possibly null
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record BookRow(Long id, String isbn, String title, Long authorId, BigDecimal price) {
+}
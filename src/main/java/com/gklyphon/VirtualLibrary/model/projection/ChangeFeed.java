@@ -0,0 +1,19 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import java.util.List;
+
+/**
+ * One page of a change feed.
+ *
+ * @param changed the rows created or updated since the token, in update order
+ * @param deleted the IDs of the rows deleted since the token, in deletion order
+ * @param next    the token to request the following changes with
+ * @param hasMore whether more changes are already available with {@code next}
+ * @param <T>     the entity type
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record ChangeFeed<T>(List<T> changed, List<Long> deleted, String next, boolean hasMore) {
+}
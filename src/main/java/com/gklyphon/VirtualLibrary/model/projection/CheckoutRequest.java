@@ -0,0 +1,16 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * The body of a checkout.
+ *
+ * @param borrower the borrower of the copy
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record CheckoutRequest(@NotBlank @Size(max = 100) String borrower) {
+}
@@ -0,0 +1,16 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * The body of a change to the number of copies of a book.
+ *
+ * @param total the number of copies the library owns
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record CopiesRequest(@Min(0) @Max(1_000_000) int total) {
+}
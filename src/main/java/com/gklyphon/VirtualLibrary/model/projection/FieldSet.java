@@ -0,0 +1,96 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidFieldsException;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A validated sparse fieldset, as requested with {@code ?fields=title,isbn,author.lastname}.
+ *
+ * <p>Paths are kept in a canonical order and always include {@code id}, so equal
+ * selections produce equal cache keys whatever order the client wrote them in.
+ * Naming an association alone, such as {@code author}, selects all of its fields.
+ * Naming a field of an association also selects the association's id.</p>
+ *
+ * @param paths the selected field paths, in canonical order
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record FieldSet(List<String> paths) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that can be selected on books.
+     */
+    public static final List<String> BOOK_FIELDS = List.of(
+            "id", "title", "isbn", "price", "createdAt", "updatedAt", "version",
+            "author.id", "author.firstname", "author.lastname", "author.birthdate", "author.country");
+
+    /**
+     * Fields that can be selected on authors.
+     */
+    public static final List<String> AUTHOR_FIELDS = List.of(
+            "id", "firstname", "lastname", "birthdate", "country", "createdAt", "updatedAt", "version");
+
+    /**
+     * Parses a fieldset for books.
+     *
+     * @param fields the comma-separated field paths
+     * @return the validated fieldset
+     * @throws InvalidFieldsException if a path is not a book field
+     */
+    public static FieldSet forBooks(String fields) {
+        return parse(fields, BOOK_FIELDS);
+    }
+
+    /**
+     * Parses a fieldset for authors.
+     *
+     * @param fields the comma-separated field paths
+     * @return the validated fieldset
+     * @throws InvalidFieldsException if a path is not an author field
+     */
+    public static FieldSet forAuthors(String fields) {
+        return parse(fields, AUTHOR_FIELDS);
+    }
+
+    private static FieldSet parse(String fields, List<String> allowed) {
+        Set<String> selected = new HashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String path = field.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            int dot = path.indexOf('.');
+            if (allowed.contains(path)) {
+                selected.add(path);
+                if (dot > 0) {
+                    selected.add(path.substring(0, dot) + ".id");
+                }
+            } else if (allowed.stream().anyMatch(candidate -> candidate.startsWith(path + "."))) {
+                allowed.stream().filter(candidate -> candidate.startsWith(path + ".")).forEach(selected::add);
+            } else {
+                throw new InvalidFieldsException("Field '" + path + "' cannot be selected.");
+            }
+        }
+        return new FieldSet(allowed.stream().filter(selected::contains).toList());
+    }
+
+    /**
+     * Returns the canonical form of the fieldset, used in cache keys.
+     *
+     * @return the selected paths joined by commas
+     */
+    public String key() {
+        return String.join(",", paths);
+    }
+}
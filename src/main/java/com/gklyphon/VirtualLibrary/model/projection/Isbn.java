@@ -0,0 +1,116 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+/**
+ * Canonical form and 64-bit encoding of ISBNs.
+ *
+ * <p>An ISBN-10 or ISBN-13 is recognized with or without hyphens and spaces, and only when
+ * its check digit is valid. Its canonical form is the 13 digits of the ISBN-13, so
+ * {@code 0-306-40615-2}, {@code 978-0-306-40615-7} and {@code 9780306406157} are one key.
+ * Those 13 digits are also the packed encoding: they fit in a {@code long} and are never 0.
+ * Values that are not recognized as ISBNs are kept as they are, trimmed.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class Isbn {
+
+    /**
+     * Packed value of a string that is not a valid ISBN.
+     */
+    public static final long INVALID = -1L;
+
+    private Isbn() {
+    }
+
+    /**
+     * Returns the canonical form of an ISBN.
+     *
+     * @param isbn the ISBN as entered, possibly null
+     * @return the 13 digits of the ISBN-13, or the trimmed value if it is not a valid ISBN
+     */
+    public static String normalize(String isbn) {
+        if (isbn == null) {
+            return null;
+        }
+        long packed = pack(isbn);
+        return packed != INVALID ? unpack(packed) : isbn.trim();
+    }
+
+    /**
+     * Encodes an ISBN as the numeric value of its ISBN-13 digits.
+     *
+     * @param isbn the ISBN as entered, possibly null
+     * @return the packed ISBN, or {@link #INVALID} if it is not a valid ISBN-10 or ISBN-13
+     */
+    public static long pack(String isbn) {
+        if (isbn == null) {
+            return INVALID;
+        }
+        int[] digits = new int[13];
+        int count = 0;
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            if (count == 13) {
+                return INVALID;
+            }
+            if (c >= '0' && c <= '9') {
+                digits[count++] = c - '0';
+            } else if ((c == 'X' || c == 'x') && count == 9) {
+                digits[count++] = 10;
+            } else {
+                return INVALID;
+            }
+        }
+        if (count == 10) {
+            return isbn10(digits);
+        }
+        return count == 13 ? isbn13(digits) : INVALID;
+    }
+
+    /**
+     * Decodes a packed ISBN into its canonical form.
+     *
+     * @param packed the packed ISBN
+     * @return the 13 digits of the ISBN-13
+     */
+    public static String unpack(long packed) {
+        return Long.toString(packed);
+    }
+
+    private static long isbn10(int[] digits) {
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += (10 - i) * digits[i];
+        }
+        if (sum % 11 != 0) {
+            return INVALID;
+        }
+        long value = 978;
+        int check = 9 + 3 * 7 + 8;
+        for (int i = 0; i < 9; i++) {
+            value = value * 10 + digits[i];
+            check += (i % 2 == 0 ? 3 : 1) * digits[i];
+        }
+        return value * 10 + (10 - check % 10) % 10;
+    }
+
+    private static long isbn13(int[] digits) {
+        if (digits[0] != 9 || digits[1] != 7 || (digits[2] != 8 && digits[2] != 9)) {
+            return INVALID;
+        }
+        int sum = 0;
+        long value = 0;
+        for (int i = 0; i < 13; i++) {
+            if (digits[i] == 10) {
+                return INVALID;
+            }
+            sum += (i % 2 == 0 ? 1 : 3) * digits[i];
+            value = value * 10 + digits[i];
+        }
+        return sum % 10 == 0 ? value : INVALID;
+    }
+}
@@ -0,0 +1,17 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * The ISBN of a book row, as loaded into the in-process ISBN index.
+ *
+ * @param id        the ID of the book
+ * @param isbn      the ISBN of the book, as stored
+ * @param updatedAt the time the book was last updated
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record IsbnRow(Long id, String isbn, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,16 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+
+/**
+ * A book of the popularity leaderboard.
+ *
+ * @param book  the book
+ * @param views the number of views of the book within the leaderboard window
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record PopularBook(Book book, long views) {
+}
@@ -0,0 +1,60 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * How a bulk repricing changes each price.
+ *
+ * @param type  the kind of change
+ * @param value the percentage, the amount, or the step to round to
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record RepriceRule(@NotNull Type type, @NotNull BigDecimal value) {
+
+    /**
+     * The kinds of price change.
+     */
+    public enum Type {
+
+        /**
+         * Changes prices by a percentage, such as 10 or -15, rounded to cents.
+         */
+        PERCENT,
+
+        /**
+         * Adds an amount, possibly negative, to prices; prices never drop below zero.
+         */
+        FIXED,
+
+        /**
+         * Rounds prices to the nearest multiple of a step, such as 0.05 or 1.
+         */
+        ROUND
+    }
+
+    /**
+     * Returns whether the value is meaningful for the type: a percentage above -100
+     * or a positive rounding step.
+     *
+     * @return true if the rule can be applied
+     */
+    @JsonIgnore
+    @AssertTrue(message = "percent must be above -100 and round must be positive")
+    public boolean isApplicable() {
+        if (type == null || value == null) {
+            return true;
+        }
+        return switch (type) {
+            case PERCENT -> value.compareTo(BigDecimal.valueOf(-100)) > 0;
+            case ROUND -> value.signum() > 0;
+            case FIXED -> true;
+        };
+    }
+}
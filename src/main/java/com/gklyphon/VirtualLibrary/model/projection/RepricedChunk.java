@@ -0,0 +1,17 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import java.util.List;
+
+/**
+ * The outcome of repricing one chunk of books.
+ *
+ * @param lastId   the ID of the last book walked, where the next chunk starts, or null if no book was left
+ * @param scanned  the number of matching books walked
+ * @param repriced the books whose price changed, with their new prices and versions
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record RepricedChunk(Long lastId, int scanned, List<Versioned<BookRow>> repriced) {
+}
@@ -0,0 +1,26 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The body of a bulk repricing: which books to reprice and how. Books without
+ * a price are never repriced; the filters that are set must all match.
+ *
+ * @param authorId the author of the books, or null for any author
+ * @param minPrice the lowest current price to reprice, or null for no bound
+ * @param maxPrice the highest current price to reprice, or null for no bound
+ * @param bookIds  the IDs of the books, or null for any book
+ * @param rule     the change applied to each price
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record RepricingRequest(Long authorId, BigDecimal minPrice, BigDecimal maxPrice,
+                               @Size(max = 1000) List<Long> bookIds, @NotNull @Valid RepriceRule rule) {
+}
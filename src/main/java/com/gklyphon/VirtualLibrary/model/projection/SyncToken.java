@@ -0,0 +1,79 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidSyncTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position of a client in a change feed: the last changed row and the last tombstone it has seen.
+ * Rows are ordered by {@code (updatedAt, id)} and tombstones by {@code (deletedAt, id)}, so a
+ * feed resumes exactly after the last item it returned.
+ *
+ * <p>The token is exchanged as an opaque URL-safe string.</p>
+ *
+ * @param changedAt the update time of the last changed row seen
+ * @param changedId the ID of the last changed row seen
+ * @param deletedAt the deletion time of the last tombstone seen
+ * @param deletedId the ID of the last tombstone seen
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record SyncToken(LocalDateTime changedAt, long changedId, LocalDateTime deletedAt, long deletedId) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Creates the token of a client that has nothing yet. Every existing row is a change,
+     * and deletions before the given time are irrelevant since the client never saw those rows.
+     *
+     * @param start the time the first sync starts
+     * @return the initial token
+     */
+    public static SyncToken initial(LocalDateTime start) {
+        return new SyncToken(EPOCH, 0, start, 0);
+    }
+
+    /**
+     * Parses a token written by {@link #encode()}.
+     *
+     * @param token the encoded token
+     * @return the token
+     * @throws InvalidSyncTokenException if the token is malformed
+     */
+    public static SyncToken decode(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split("\\.");
+            if (parts.length == 4) {
+                return new SyncToken(time(Long.parseLong(parts[0])), Long.parseLong(parts[1]),
+                        time(Long.parseLong(parts[2])), Long.parseLong(parts[3]));
+            }
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            // Reported below
+        }
+        throw new InvalidSyncTokenException("Sync token is malformed.");
+    }
+
+    /**
+     * Encodes the token as an opaque URL-safe string.
+     *
+     * @return the encoded token
+     */
+    public String encode() {
+        String value = micros(changedAt) + "." + changedId + "." + micros(deletedAt) + "." + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long micros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(EPOCH, time);
+    }
+
+    private static LocalDateTime time(long micros) {
+        return EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
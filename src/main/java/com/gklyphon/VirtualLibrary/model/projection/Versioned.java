@@ -0,0 +1,15 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+/**
+ * A value read together with the optimistic-lock version of its row.
+ *
+ * @param value   the value read from the row
+ * @param version the version of the row, 0 if it has none
+ * @param <T>     the value type
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record Versioned<T>(T value, long version) {
+}
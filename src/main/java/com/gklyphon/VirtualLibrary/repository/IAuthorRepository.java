@@ -1,7 +1,14 @@
 package com.gklyphon.VirtualLibrary.repository;
 
 import com.gklyphon.VirtualLibrary.model.entity.Author;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for managing {@link Author} entities.
@@ -11,5 +18,31 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @version 1.0
  * @since 22-Oct-2024
  */
-public interface IAuthorRepository extends JpaRepository<Author, Long> {
+public interface IAuthorRepository extends JpaRepository<Author, Long>, IAuthorRepositoryCustom {
+
+    /**
+     * Retrieves which of the given author IDs exist, without loading the authors.
+     *
+     * @param ids the IDs to check
+     * @return the IDs that exist
+     */
+    @Query("SELECT a.id FROM Author a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the authors created or updated after a position of the change feed, in
+     * {@code (updatedAt, id)} order, walking the index on those columns.
+     *
+     * @param updatedAt the update time of the last author seen
+     * @param id        the ID of the last author seen
+     * @param horizon   the exclusive upper bound of update times
+     * @param limit     the maximum number of authors to return
+     * @return the changed authors
+     * @see IBookRepository#findChangedAfter(LocalDateTime, long, LocalDateTime, Limit)
+     */
+    @Query("SELECT a FROM Author a "
+            + "WHERE (a.updatedAt, a.id) > (:updatedAt, :id) AND a.updatedAt < :horizon "
+            + "ORDER BY a.updatedAt, a.id")
+    List<Author> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id,
+                                  @Param("horizon") LocalDateTime horizon, Limit limit);
 }
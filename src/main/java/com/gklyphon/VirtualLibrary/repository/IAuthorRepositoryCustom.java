@@ -0,0 +1,89 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorDeletion;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for {@link Author} operations that are
+ * expressed as hand-written SQL instead of derived queries.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IAuthorRepositoryCustom {
+
+    /**
+     * Applies a JSON Merge Patch document to an author with a single UPDATE statement.
+     * Only the fields present in the document are written. A numeric {@code version}
+     * field, when present, is used as an optimistic-lock precondition.
+     *
+     * @param id    the ID of the author to update
+     * @param patch the merge patch document
+     * @return the updated author, or empty if no author matched the id and version
+     */
+    Optional<Author> patch(Long id, Map<String, Object> patch);
+
+    /**
+     * Deletes an author, all of their books and their statistics with a single statement.
+     * The books are removed set-based rather than one by one through the JPA cascade,
+     * and a tombstone is recorded for the author and each book for the change feeds.
+     *
+     * @param id the ID of the author to delete
+     * @return the number of authors deleted and the keys of the deleted books
+     */
+    AuthorDeletion deleteWithBooks(Long id);
+
+    /**
+     * Reads a page of authors with a query that selects only the given fields.
+     *
+     * @param fields   the fields to select
+     * @param pageable the page to read
+     * @return the page of selected fields
+     */
+    Page<AuthorFields> findFields(FieldSet fields, Pageable pageable);
+
+    /**
+     * Reads a single author with a query that selects only the given fields.
+     *
+     * @param id     the ID of the author
+     * @param fields the fields to select
+     * @return the selected fields, or empty if no author matched
+     */
+    Optional<AuthorFields> findFieldsById(Long id, FieldSet fields);
+
+    /**
+     * Reads the versions of several authors and locks their rows until the transaction ends.
+     *
+     * @param ids the IDs of the authors
+     * @return the IDs found with their versions, in ID order
+     */
+    List<Versioned<Long>> lockVersions(Collection<Long> ids);
+
+    /**
+     * Inserts new authors as JDBC batches. Each author is given its ID, timestamps
+     * and initial version.
+     *
+     * @param authors the authors to insert, without IDs
+     */
+    void insertBatch(List<Author> authors);
+
+    /**
+     * Overwrites the columns of existing authors as JDBC batches, with the version and
+     * update timestamp the authors carry. Their books are not touched.
+     *
+     * @param authors the authors to update, with IDs
+     * @return the number of rows updated for each author, in order
+     */
+    int[] updateBatch(List<Author> authors);
+}
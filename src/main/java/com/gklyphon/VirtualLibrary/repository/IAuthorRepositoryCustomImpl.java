@@ -0,0 +1,157 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorDeletion;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link IAuthorRepositoryCustom} backed by native SQL
+ * and column-limited JPQL.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IAuthorRepositoryCustomImpl implements IAuthorRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Author> patch(Long id, Map<String, Object> patch) {
+        PatchStatement<Author> statement = new PatchStatement<>(entityManager, Author.class, "authors")
+                .expectVersion(PatchStatement.expectedVersion(patch));
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "firstname" -> statement.set(field, "firstname", String.class, PatchStatement.asString(field, value));
+                case "lastname" -> statement.set(field, "lastname", String.class, PatchStatement.asString(field, value));
+                case "country" -> statement.set(field, "country", String.class, PatchStatement.asString(field, value));
+                case "birthdate" -> statement.set(field, "birthdate", LocalDate.class, PatchStatement.asDate(field, value));
+                case PatchStatement.VERSION_FIELD -> { }
+                default -> throw PatchStatement.notPatchable(field);
+            }
+        });
+        return statement.execute(id);
+    }
+
+    /**
+     * Deletes the author's books, statistics and the author in one statement using data-modifying CTEs.
+     * Each returned row describes one deleted book; an author without books yields a single
+     * row whose book columns are null. No rows means the author did not exist.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public AuthorDeletion deleteWithBooks(Long id) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        WITH deleted_books AS (
+                            DELETE FROM books WHERE author_id = :id RETURNING id, isbn, title, author_id, price
+                        ), deleted_stats AS (
+                            DELETE FROM author_stats WHERE author_id = :id
+                        ), deleted_author AS (
+                            DELETE FROM authors WHERE id = :id RETURNING id
+                        ), tombstones AS (
+                            INSERT INTO tombstones (entity_type, entity_id, deleted_at)
+                            SELECT 'book', id, CAST(:now AS timestamp) FROM deleted_books
+                            UNION ALL
+                            SELECT 'author', id, :now FROM deleted_author
+                        )
+                        SELECT b.id, b.isbn, b.title, a.id, b.price
+                        FROM deleted_author a LEFT JOIN deleted_books b ON b.author_id = a.id
+                        """)
+                .setParameter("id", id)
+                .setParameter("now", LocalDateTime.now())
+                .getResultList();
+        List<BookRow> books = rows.stream()
+                .filter(row -> row[0] != null)
+                .map(IBookRepositoryCustomImpl::toBookRow)
+                .toList();
+        return new AuthorDeletion(rows.isEmpty() ? 0 : 1, books);
+    }
+
+    @Override
+    public Page<AuthorFields> findFields(FieldSet fields, Pageable pageable) {
+        return new SparseQuery<>(entityManager, "Author", fields, AuthorFields::new).findPage(pageable);
+    }
+
+    @Override
+    public Optional<AuthorFields> findFieldsById(Long id, FieldSet fields) {
+        return new SparseQuery<>(entityManager, "Author", fields, AuthorFields::new).findOne("id", id);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Versioned<Long>> lockVersions(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT id, COALESCE(version, 0) FROM authors WHERE id IN (:ids) ORDER BY id FOR UPDATE")
+                .setParameter("ids", ids)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new Versioned<>(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    @Override
+    public void insertBatch(List<Author> authors) {
+        if (authors.isEmpty()) {
+            return;
+        }
+        List<Long> ids = JdbcBatch.allocateIds(entityManager, "authors", authors.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < authors.size(); i++) {
+            authors.get(i).setId(ids.get(i));
+            JdbcBatch.created(authors.get(i), now);
+        }
+        JdbcBatch.execute(entityManager, """
+                INSERT INTO authors (id, firstname, lastname, birthdate, country, created_at, updated_at, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, authors, (statement, author) -> {
+            statement.setLong(1, author.getId());
+            bindColumns(statement, 2, author);
+            JdbcBatch.setTimestamp(statement, 6, author.getCreatedAt());
+            JdbcBatch.setTimestamp(statement, 7, author.getUpdatedAt());
+            statement.setLong(8, author.getVersion());
+        });
+    }
+
+    @Override
+    public int[] updateBatch(List<Author> authors) {
+        return JdbcBatch.execute(entityManager, """
+                UPDATE authors SET firstname = ?, lastname = ?, birthdate = ?, country = ?, updated_at = ?, version = ?
+                WHERE id = ?
+                """, authors, (statement, author) -> {
+            bindColumns(statement, 1, author);
+            JdbcBatch.setTimestamp(statement, 5, author.getUpdatedAt());
+            statement.setLong(6, author.getVersion());
+            statement.setLong(7, author.getId());
+        });
+    }
+
+    private static void bindColumns(PreparedStatement statement, int first, Author author) throws SQLException {
+        JdbcBatch.setNullable(statement, first, author.getFirstname(), Types.VARCHAR);
+        JdbcBatch.setNullable(statement, first + 1, author.getLastname(), Types.VARCHAR);
+        JdbcBatch.setNullable(statement, first + 2,
+                author.getBirthdate() != null ? Date.valueOf(author.getBirthdate()) : null, Types.DATE);
+        JdbcBatch.setNullable(statement, first + 3, author.getCountry(), Types.VARCHAR);
+    }
+}
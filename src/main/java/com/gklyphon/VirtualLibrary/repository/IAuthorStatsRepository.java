@@ -0,0 +1,128 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link AuthorStats} entities.
+ * Statistics are never read-modify-written; they are adjusted with
+ * atomic upserts and rebuilt from the books table in batches.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IAuthorStatsRepository extends JpaRepository<AuthorStats, Long> {
+
+    /**
+     * Adds the given deltas to an author's statistics, creating the row if needed.
+     *
+     * @param authorId    the ID of the author
+     * @param bookDelta   the change in the number of books
+     * @param pricedDelta the change in the number of priced books
+     * @param priceDelta  the change in the sum of prices
+     * @return the number of rows written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO author_stats (author_id, book_count, priced_count, price_sum)
+            VALUES (:authorId, :bookDelta, :pricedDelta, :priceDelta)
+            ON CONFLICT (author_id) DO UPDATE SET
+                book_count = author_stats.book_count + EXCLUDED.book_count,
+                priced_count = author_stats.priced_count + EXCLUDED.priced_count,
+                price_sum = author_stats.price_sum + EXCLUDED.price_sum
+            """, nativeQuery = true)
+    int applyDelta(@Param("authorId") Long authorId, @Param("bookDelta") long bookDelta,
+                   @Param("pricedDelta") long pricedDelta, @Param("priceDelta") BigDecimal priceDelta);
+
+    /**
+     * Recomputes the statistics of the next batch of authors from the books table.
+     * Authors are visited in ID order starting after the given cursor.
+     *
+     * <p>The statistics rows of the batch are created if missing and locked before the books
+     * are counted, in a later statement: a writer that has already adjusted a row commits
+     * before the count is taken and is included in it, and a writer that comes later waits
+     * and adds its change to the rebuilt value. Counting in the same statement as the write
+     * would use a snapshot from before the lock, and overwrite the change of a writer it
+     * waited for.</p>
+     *
+     * @param afterId   the last author ID of the previous batch, 0 to start
+     * @param batchSize the maximum number of authors in the batch
+     * @return the IDs of the authors rebuilt in this batch, empty when done
+     */
+    @Transactional
+    default List<Long> rebuildBatch(long afterId, int batchSize) {
+        List<Long> ids = findAuthorIdsAfter(afterId, batchSize);
+        if (!ids.isEmpty()) {
+            insertMissing(ids);
+            lockByAuthorIds(ids);
+            recount(ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Retrieves the IDs of the authors after the given one, in ID order.
+     *
+     * @param afterId   the last author ID of the previous batch
+     * @param batchSize the maximum number of IDs
+     * @return the author IDs
+     */
+    @Query(value = "SELECT id FROM authors WHERE id > :afterId ORDER BY id LIMIT :batchSize", nativeQuery = true)
+    List<Long> findAuthorIdsAfter(@Param("afterId") long afterId, @Param("batchSize") int batchSize);
+
+    /**
+     * Creates empty statistics for the given authors that have none.
+     *
+     * @param authorIds the IDs of the authors
+     * @return the number of rows created
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO author_stats (author_id, book_count, priced_count, price_sum)
+            SELECT id, 0, 0, 0 FROM authors WHERE id IN (:authorIds)
+            ON CONFLICT (author_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertMissing(@Param("authorIds") List<Long> authorIds);
+
+    /**
+     * Locks the statistics of the given authors until the transaction ends, in ID order,
+     * waiting for the writers that hold them.
+     *
+     * @param authorIds the IDs of the authors
+     * @return the IDs of the authors locked
+     */
+    @Query(value = "SELECT author_id FROM author_stats WHERE author_id IN (:authorIds) ORDER BY author_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockByAuthorIds(@Param("authorIds") List<Long> authorIds);
+
+    /**
+     * Overwrites the statistics of the given authors with a count of their books.
+     *
+     * @param authorIds the IDs of the authors
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE author_stats s SET
+                book_count = t.book_count,
+                priced_count = t.priced_count,
+                price_sum = t.price_sum
+            FROM (
+                SELECT a.id, COUNT(b.id) AS book_count, COUNT(b.price) AS priced_count,
+                       COALESCE(SUM(b.price), 0) AS price_sum
+                FROM authors a LEFT JOIN books b ON b.author_id = a.id
+                WHERE a.id IN (:authorIds)
+                GROUP BY a.id
+            ) t
+            WHERE s.author_id = t.id
+            """, nativeQuery = true)
+    int recount(@Param("authorIds") List<Long> authorIds);
+}
@@ -0,0 +1,63 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.BookCopies;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository interface for the lendable {@link BookCopies} of each book.
+ *
+ * The available count is never read-modify-written; every change is a single
+ * conditional update, so concurrent checkouts serialize on the row in the
+ * database and can never take more copies than exist.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IBookCopiesRepository extends JpaRepository<BookCopies, Long> {
+
+    /**
+     * Takes one available copy of a book.
+     *
+     * @param bookId the ID of the book
+     * @return 1 if a copy was taken, 0 if none is available or the book has no copies
+     */
+    @Modifying
+    @Query(value = "UPDATE book_copies SET available = available - 1 WHERE book_id = :bookId AND available > 0",
+            nativeQuery = true)
+    int takeCopy(@Param("bookId") Long bookId);
+
+    /**
+     * Puts a returned copy of a book back.
+     *
+     * @param bookId the ID of the book
+     * @return 1 if the copy was put back, 0 if the book has no copies or none is on loan
+     */
+    @Modifying
+    @Query(value = "UPDATE book_copies SET available = available + 1 WHERE book_id = :bookId AND available < total",
+            nativeQuery = true)
+    int returnCopy(@Param("bookId") Long bookId);
+
+    /**
+     * Sets the number of copies of a book, creating the row if needed. The available count
+     * moves by the same amount as the total, so copies on loan stay on loan; the update is
+     * skipped when the new total is lower than the number of copies on loan.
+     *
+     * @param bookId the ID of the book
+     * @param total  the new number of copies
+     * @return 1 if the copies were set, 0 if more copies are on loan than the new total
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO book_copies (book_id, total, available)
+            VALUES (:bookId, :total, :total)
+            ON CONFLICT (book_id) DO UPDATE SET
+                total = EXCLUDED.total,
+                available = book_copies.available + EXCLUDED.total - book_copies.total
+            WHERE book_copies.total - book_copies.available <= EXCLUDED.total
+            """, nativeQuery = true)
+    int setTotal(@Param("bookId") Long bookId, @Param("total") int total);
+}
@@ -1,8 +1,20 @@
 package com.gklyphon.VirtualLibrary.repository;
 
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.IsbnRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,7 +29,7 @@ import java.util.Optional;
  * @version 1.0
  * @since 18-Oct-2024
  */
-public interface IBookRepository extends JpaRepository<Book, Long> {
+public interface IBookRepository extends JpaRepository<Book, Long>, IBookRepositoryCustom {
 
     /**
      * Retrieves a book by its ISBN.
@@ -34,4 +46,105 @@ public interface IBookRepository extends JpaRepository<Book, Long> {
      * @return an {@link Optional} containing the found book or empty if not found
      */
     Optional<Book> findByTitle(String title);
+
+    /**
+     * Retrieves the books with the given IDs, with their authors in the same query.
+     *
+     * @param ids the IDs of the books
+     * @return the books found
+     */
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.author WHERE b.id IN :ids")
+    List<Book> findWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves a slice of the books of an author, with the author in the same query.
+     * Unlike a page, a slice is read without counting the author's books.
+     *
+     * @param authorId the ID of the author
+     * @param pageable the pagination information
+     * @return a slice of the author's books
+     */
+    @EntityGraph(attributePaths = "author")
+    Slice<Book> findByAuthorId(Long authorId, Pageable pageable);
+
+    /**
+     * Retrieves the rows of the books holding any of the given ISBNs.
+     *
+     * @param isbns the ISBNs to look up
+     * @return the rows of the books found
+     */
+    @Query("SELECT new com.gklyphon.VirtualLibrary.model.projection.BookRow(b.id, b.isbn, b.title, b.author.id, b.price) "
+            + "FROM Book b WHERE b.isbn IN :isbns")
+    List<BookRow> findRowsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * Retrieves the books created or updated after a position of the change feed, in
+     * {@code (updatedAt, id)} order, walking the index on those columns. Rows updated at
+     * or after the horizon are left for a later call, since transactions that started
+     * before it may still commit with an earlier update time.
+     *
+     * @param updatedAt the update time of the last book seen
+     * @param id        the ID of the last book seen
+     * @param horizon   the exclusive upper bound of update times
+     * @param limit     the maximum number of books to return
+     * @return the changed books with their authors
+     */
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.author "
+            + "WHERE (b.updatedAt, b.id) > (:updatedAt, :id) AND b.updatedAt < :horizon "
+            + "ORDER BY b.updatedAt, b.id")
+    List<Book> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id,
+                                @Param("horizon") LocalDateTime horizon, Limit limit);
+
+    /**
+     * Retrieves the ISBNs of the books after a given ID, in ID order, to load the ISBN index
+     * page by page along the primary key.
+     *
+     * @param id    the ID of the last book seen
+     * @param limit the maximum number of rows to return
+     * @return the ISBN rows
+     */
+    @Query("SELECT new com.gklyphon.VirtualLibrary.model.projection.IsbnRow(b.id, b.isbn, b.updatedAt) "
+            + "FROM Book b WHERE b.id > :id AND b.isbn IS NOT NULL ORDER BY b.id")
+    List<IsbnRow> findIsbnsAfter(@Param("id") long id, Limit limit);
+
+    /**
+     * Retrieves the ISBNs of the books updated after a position, in {@code (updatedAt, id)} order,
+     * to bring the ISBN index up to date.
+     *
+     * @param updatedAt the update time of the last book seen
+     * @param id        the ID of the last book seen
+     * @param limit     the maximum number of rows to return
+     * @return the ISBN rows
+     */
+    @Query("SELECT new com.gklyphon.VirtualLibrary.model.projection.IsbnRow(b.id, b.isbn, b.updatedAt) "
+            + "FROM Book b WHERE (b.updatedAt, b.id) > (:updatedAt, :id) AND b.isbn IS NOT NULL "
+            + "ORDER BY b.updatedAt, b.id")
+    List<IsbnRow> findIsbnsChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") long id,
+                                        Limit limit);
+
+    /**
+     * Retrieves the ISBNs after a given ID, in ID order, that may not be in canonical form:
+     * those with a hyphen or a space, and ten-character ones that may be ISBN-10s.
+     *
+     * @param id    the ID of the last book seen
+     * @param limit the maximum number of rows to return
+     * @return the ISBN rows
+     */
+    @Query("SELECT new com.gklyphon.VirtualLibrary.model.projection.IsbnRow(b.id, b.isbn, b.updatedAt) "
+            + "FROM Book b WHERE b.id > :id "
+            + "AND (b.isbn LIKE '%-%' OR b.isbn LIKE '% %' OR LENGTH(b.isbn) = 10) ORDER BY b.id")
+    List<IsbnRow> findUncanonicalIsbnsAfter(@Param("id") long id, Limit limit);
+
+    /**
+     * Rewrites the ISBN of a book, advancing its version and update time.
+     *
+     * @param id        the ID of the book
+     * @param isbn      the new ISBN
+     * @param updatedAt the update time
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Book b SET b.isbn = :isbn, b.version = COALESCE(b.version, 0) + 1, b.updatedAt = :updatedAt "
+            + "WHERE b.id = :id")
+    int updateIsbn(@Param("id") Long id, @Param("isbn") String isbn, @Param("updatedAt") LocalDateTime updatedAt);
 }
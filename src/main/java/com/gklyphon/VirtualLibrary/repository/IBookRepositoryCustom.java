@@ -0,0 +1,126 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.RepricedChunk;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for {@link Book} operations that are
+ * expressed as hand-written SQL instead of derived queries.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IBookRepositoryCustom {
+
+    /**
+     * Applies a JSON Merge Patch document to a book with a single UPDATE statement.
+     * Only the fields present in the document are written. A numeric {@code version}
+     * field, when present, is used as an optimistic-lock precondition. The same
+     * statement returns the values the update replaced.
+     *
+     * @param id    the ID of the book to update
+     * @param patch the merge patch document
+     * @return the updated book and its previous row, or empty if no book matched the id and version
+     */
+    Optional<BookPatch> patch(Long id, Map<String, Object> patch);
+
+    /**
+     * Deletes a book with a single statement and returns the deleted row.
+     * The same statement removes the book from its author's statistics and records
+     * its tombstone for the change feed. The size of the returned list is the affected row count.
+     *
+     * @param id the ID of the book to delete
+     * @return the deleted book row, or an empty list if no book matched
+     */
+    List<BookRow> deleteReturningRow(Long id);
+
+    /**
+     * Reads the current row of a book and locks it until the transaction ends,
+     * so the values an update replaces are known to the caller.
+     *
+     * @param id the ID of the book
+     * @return the current book row, or empty if no book matched
+     */
+    Optional<BookRow> lockRow(Long id);
+
+    /**
+     * Reads a page of books with a query that selects only the given fields.
+     *
+     * @param fields   the fields to select
+     * @param pageable the page to read
+     * @return the page of selected fields
+     */
+    Page<BookFields> findFields(FieldSet fields, Pageable pageable);
+
+    /**
+     * Reads a single book with a query that selects only the given fields.
+     *
+     * @param attribute the unique attribute to look the book up by: id, isbn or title
+     * @param value     the value of the attribute
+     * @param fields    the fields to select
+     * @return the selected fields, or empty if no book matched
+     */
+    Optional<BookFields> findFieldsBy(String attribute, Object value, FieldSet fields);
+
+    /**
+     * Reads the current rows and versions of several books and locks them until the
+     * transaction ends, so a batch update knows the values it replaces.
+     *
+     * @param ids the IDs of the books
+     * @return the rows found, in ID order
+     */
+    List<Versioned<BookRow>> lockRows(Collection<Long> ids);
+
+    /**
+     * Inserts new books as JDBC batches. Each book is given its ID, timestamps and
+     * initial version. Only the ID of the author is written; it is not loaded.
+     *
+     * @param books the books to insert, without IDs
+     */
+    void insertBatch(List<Book> books);
+
+    /**
+     * Overwrites the columns of existing books as JDBC batches, with the version and
+     * update timestamp the books carry.
+     *
+     * @param books the books to update, with IDs
+     * @return the number of rows updated for each book, in order
+     */
+    int[] updateBatch(List<Book> books);
+
+    /**
+     * Counts the priced books matching the filter of a repricing job.
+     *
+     * @param job the repricing job
+     * @return the number of books the job will walk
+     */
+    long countRepriceable(RepricingJob job);
+
+    /**
+     * Reprices the next chunk of books matching the filter of a repricing job, with a single
+     * statement. The chunk is the books after the job's last ID, in ID order, locked until the
+     * transaction ends. Only books whose price changes are written; their version and update
+     * timestamp move, and the same statement adjusts their authors' statistics.
+     *
+     * @param job       the repricing job, with the last ID reached
+     * @param chunkSize the maximum number of books in the chunk
+     * @param now       the update timestamp of the repriced books
+     * @return the chunk walked and the books repriced
+     */
+    RepricedChunk repriceChunk(RepricingJob job, int chunkSize, LocalDateTime now);
+}
@@ -0,0 +1,266 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.RepricedChunk;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link IBookRepositoryCustom} backed by native SQL
+ * and column-limited JPQL.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IBookRepositoryCustomImpl implements IBookRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<BookPatch> patch(Long id, Map<String, Object> patch) {
+        PatchStatement<Book> statement = new PatchStatement<>(entityManager, Book.class, "books")
+                .expectVersion(PatchStatement.expectedVersion(patch))
+                .returnPrevious("isbn", String.class)
+                .returnPrevious("title", String.class)
+                .returnPrevious("author_id", Long.class)
+                .returnPrevious("price", BigDecimal.class);
+        patch.forEach((field, value) -> {
+            switch (field) {
+                case "title" -> statement.set(field, "title", String.class, PatchStatement.asString(field, value));
+                case "isbn" -> statement.set(field, "isbn", String.class, Isbn.normalize(PatchStatement.asString(field, value)));
+                case "price" -> statement.set(field, "price", BigDecimal.class, PatchStatement.asDecimal(field, value));
+                case "author" -> statement.set("author_id", Long.class, PatchStatement.asReferenceId(field, value));
+                case PatchStatement.VERSION_FIELD -> { }
+                default -> throw PatchStatement.notPatchable(field);
+            }
+        });
+        return statement.executeWithPrevious(id).map(row -> new BookPatch((Book) row[0],
+                new BookRow(id, (String) row[1], (String) row[2], (Long) row[3], (BigDecimal) row[4])));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BookRow> deleteReturningRow(Long id) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        WITH deleted AS (
+                            DELETE FROM books WHERE id = :id RETURNING id, isbn, title, author_id, price
+                        ), deleted_stats AS (
+                            UPDATE author_stats s SET
+                                book_count = s.book_count - 1,
+                                priced_count = s.priced_count - CASE WHEN d.price IS NULL THEN 0 ELSE 1 END,
+                                price_sum = s.price_sum - COALESCE(d.price, 0)
+                            FROM deleted d WHERE s.author_id = d.author_id
+                        ), tombstone AS (
+                            INSERT INTO tombstones (entity_type, entity_id, deleted_at)
+                            SELECT 'book', id, :now FROM deleted
+                        )
+                        SELECT id, isbn, title, author_id, price FROM deleted
+                        """)
+                .setParameter("id", id)
+                .setParameter("now", LocalDateTime.now())
+                .getResultList();
+        return rows.stream().map(IBookRepositoryCustomImpl::toBookRow).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<BookRow> lockRow(Long id) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT id, isbn, title, author_id, price FROM books WHERE id = :id FOR UPDATE")
+                .setParameter("id", id)
+                .getResultList();
+        return rows.stream().map(IBookRepositoryCustomImpl::toBookRow).findFirst();
+    }
+
+    @Override
+    public Page<BookFields> findFields(FieldSet fields, Pageable pageable) {
+        return new SparseQuery<>(entityManager, "Book", fields, BookFields::new).findPage(pageable);
+    }
+
+    @Override
+    public Optional<BookFields> findFieldsBy(String attribute, Object value, FieldSet fields) {
+        return new SparseQuery<>(entityManager, "Book", fields, BookFields::new).findOne(attribute, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Versioned<BookRow>> lockRows(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT id, isbn, title, author_id, price, COALESCE(version, 0) FROM books
+                        WHERE id IN (:ids) ORDER BY id FOR UPDATE
+                        """)
+                .setParameter("ids", ids)
+                .getResultList();
+        return rows.stream().map(row -> new Versioned<>(toBookRow(row), ((Number) row[5]).longValue())).toList();
+    }
+
+    @Override
+    public void insertBatch(List<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        List<Long> ids = JdbcBatch.allocateIds(entityManager, "books", books.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < books.size(); i++) {
+            books.get(i).setId(ids.get(i));
+            JdbcBatch.created(books.get(i), now);
+        }
+        JdbcBatch.execute(entityManager, """
+                INSERT INTO books (id, title, isbn, price, author_id, created_at, updated_at, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, books, (statement, book) -> {
+            statement.setLong(1, book.getId());
+            bindColumns(statement, 2, book);
+            JdbcBatch.setTimestamp(statement, 6, book.getCreatedAt());
+            JdbcBatch.setTimestamp(statement, 7, book.getUpdatedAt());
+            statement.setLong(8, book.getVersion());
+        });
+    }
+
+    @Override
+    public int[] updateBatch(List<Book> books) {
+        return JdbcBatch.execute(entityManager, """
+                UPDATE books SET title = ?, isbn = ?, price = ?, author_id = ?, updated_at = ?, version = ?
+                WHERE id = ?
+                """, books, (statement, book) -> {
+            bindColumns(statement, 1, book);
+            JdbcBatch.setTimestamp(statement, 5, book.getUpdatedAt());
+            statement.setLong(6, book.getVersion());
+            statement.setLong(7, book.getId());
+        });
+    }
+
+    @Override
+    public long countRepriceable(RepricingJob job) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM books WHERE price IS NOT NULL" + repricingFilter(job));
+        bindRepricingFilter(query, job);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RepricedChunk repriceChunk(RepricingJob job, int chunkSize, LocalDateTime now) {
+        String price = repricedPrice(job, "c.price");
+        Query query = entityManager.createNativeQuery("""
+                        WITH chunk AS (
+                            SELECT id, price FROM books
+                            WHERE id > :lastId AND price IS NOT NULL%s
+                            ORDER BY id LIMIT :chunkSize FOR UPDATE
+                        ), repriced AS (
+                            UPDATE books b SET
+                                price = %s,
+                                version = COALESCE(b.version, 0) + 1,
+                                updated_at = :now
+                            FROM chunk c WHERE b.id = c.id AND %s <> c.price
+                            RETURNING b.id, b.isbn, b.title, b.author_id, b.price, b.version, b.price - c.price AS delta
+                        ), repriced_stats AS (
+                            UPDATE author_stats s SET price_sum = s.price_sum + d.delta
+                            FROM (SELECT author_id, SUM(delta) AS delta FROM repriced GROUP BY author_id) d
+                            WHERE s.author_id = d.author_id
+                        )
+                        SELECT c.id, r.isbn, r.title, r.author_id, r.price, r.version
+                        FROM chunk c LEFT JOIN repriced r ON r.id = c.id ORDER BY c.id
+                        """.formatted(repricingFilter(job), price, price))
+                .setParameter("lastId", job.getLastId())
+                .setParameter("chunkSize", chunkSize)
+                .setParameter("value", job.getRuleValue())
+                .setParameter("now", now);
+        bindRepricingFilter(query, job);
+        List<Object[]> rows = query.getResultList();
+        List<Versioned<BookRow>> repriced = rows.stream()
+                .filter(row -> row[5] != null)
+                .map(row -> new Versioned<>(toBookRow(row), ((Number) row[5]).longValue()))
+                .toList();
+        Long lastId = rows.isEmpty() ? null : ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        return new RepricedChunk(lastId, rows.size(), repriced);
+    }
+
+    /**
+     * Returns the conditions of a repricing job's filter, each preceded by AND.
+     */
+    private static String repricingFilter(RepricingJob job) {
+        StringBuilder filter = new StringBuilder();
+        if (job.getAuthorId() != null) {
+            filter.append(" AND author_id = :authorId");
+        }
+        if (job.getMinPrice() != null) {
+            filter.append(" AND price >= :minPrice");
+        }
+        if (job.getMaxPrice() != null) {
+            filter.append(" AND price <= :maxPrice");
+        }
+        if (job.getBookIds() != null) {
+            filter.append(job.getBookIds().isEmpty() ? " AND FALSE" : " AND id IN (:bookIds)");
+        }
+        return filter.toString();
+    }
+
+    private static void bindRepricingFilter(Query query, RepricingJob job) {
+        if (job.getAuthorId() != null) {
+            query.setParameter("authorId", job.getAuthorId());
+        }
+        if (job.getMinPrice() != null) {
+            query.setParameter("minPrice", job.getMinPrice());
+        }
+        if (job.getMaxPrice() != null) {
+            query.setParameter("maxPrice", job.getMaxPrice());
+        }
+        if (job.getBookIds() != null && !job.getBookIds().isEmpty()) {
+            query.setParameter("bookIds", job.getBookIds());
+        }
+    }
+
+    /**
+     * Returns the SQL expression of the new price, rounded to cents as the column stores it.
+     */
+    private static String repricedPrice(RepricingJob job, String price) {
+        return switch (job.getRuleType()) {
+            case PERCENT -> "ROUND(" + price + " * (100 + :value) / 100, 2)";
+            case FIXED -> "ROUND(GREATEST(" + price + " + :value, 0), 2)";
+            case ROUND -> "ROUND(ROUND(" + price + " / :value) * :value, 2)";
+        };
+    }
+
+    private static void bindColumns(PreparedStatement statement, int first, Book book) throws SQLException {
+        JdbcBatch.setNullable(statement, first, book.getTitle(), Types.VARCHAR);
+        JdbcBatch.setNullable(statement, first + 1, book.getIsbn(), Types.VARCHAR);
+        JdbcBatch.setNullable(statement, first + 2, book.getPrice(), Types.NUMERIC);
+        JdbcBatch.setNullable(statement, first + 3,
+                book.getAuthor() != null ? book.getAuthor().getId() : null, Types.BIGINT);
+    }
+
+    static BookRow toBookRow(Object[] row) {
+        return new BookRow(
+                row[0] != null ? ((Number) row[0]).longValue() : null,
+                (String) row[1],
+                (String) row[2],
+                row[3] != null ? ((Number) row[3]).longValue() : null,
+                (BigDecimal) row[4]);
+    }
+}
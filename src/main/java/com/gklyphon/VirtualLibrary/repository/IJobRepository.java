@@ -0,0 +1,194 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link Job} entities.
+ *
+ * Jobs are claimed, renewed and finished with conditional statements on their lease,
+ * so a job is held by one node at a time and a node that lost a lease cannot write to the job.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IJobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * Queues a job, unless a job with the same dedupe key is queued or running.
+     *
+     * @param type      the job type
+     * @param payload   what the job works on, possibly null
+     * @param dedupeKey the dedupe key, or null to always queue
+     * @param now       the creation time
+     * @return the ID of the job, or an empty list if a job with the key exists
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO jobs (type, status, payload, dedupe_key, attempts, run_after, created_at)
+            VALUES (:type, 'PENDING', :payload, :dedupeKey, 0, :now, :now)
+            ON CONFLICT (dedupe_key) DO NOTHING
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> enqueue(@Param("type") String type, @Param("payload") String payload,
+                       @Param("dedupeKey") String dedupeKey, @Param("now") LocalDateTime now);
+
+    /**
+     * Claims the oldest job of a type that is due, or whose lease has expired, for a node.
+     * Jobs locked by another node's claim are skipped, so nodes never wait on each other.
+     *
+     * @param type       the job type
+     * @param owner      the node claiming the job
+     * @param now        the current time
+     * @param leaseUntil the end of the lease
+     * @return the ID of the claimed job, or an empty list if none is claimable
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE jobs SET
+                status = 'RUNNING',
+                lease_owner = :owner,
+                lease_until = :leaseUntil,
+                attempts = attempts + 1,
+                started_at = COALESCE(started_at, :now)
+            WHERE id = (
+                SELECT id FROM jobs
+                WHERE type = :type AND (status = 'PENDING' AND run_after <= :now
+                    OR status = 'RUNNING' AND lease_until < :now)
+                ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> claim(@Param("type") String type, @Param("owner") String owner, @Param("now") LocalDateTime now,
+                     @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Extends the leases a node holds on running jobs.
+     *
+     * @param ids        the IDs of the jobs
+     * @param owner      the node holding the leases
+     * @param leaseUntil the new end of the leases
+     * @return the IDs of the jobs whose lease the node still held
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE jobs SET lease_until = :leaseUntil
+            WHERE id IN (:ids) AND lease_owner = :owner AND status = 'RUNNING'
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> renew(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+                     @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Records where a job resumes, and extends its lease.
+     *
+     * @param id         the ID of the job
+     * @param owner      the node holding the lease
+     * @param checkpoint where the job resumes
+     * @param leaseUntil the new end of the lease
+     * @return 1 if recorded, 0 if the node no longer holds the lease
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE jobs SET checkpoint = :checkpoint, lease_until = :leaseUntil
+            WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int checkpoint(@Param("id") Long id, @Param("owner") String owner, @Param("checkpoint") String checkpoint,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Finishes a job and releases its lease and dedupe key.
+     *
+     * @param id     the ID of the job
+     * @param owner  the node holding the lease
+     * @param status COMPLETED or FAILED
+     * @param error  why the job failed, or null
+     * @param now    the finishing time
+     * @return 1 if finished, 0 if the node no longer holds the lease
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE jobs SET status = :status, error = :error, finished_at = :now,
+                lease_owner = NULL, lease_until = NULL, dedupe_key = NULL
+            WHERE id = :id AND lease_owner = :owner
+            """, nativeQuery = true)
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("status") String status,
+               @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * Puts a failed job back in the queue to be retried, and releases its lease.
+     *
+     * @param id       the ID of the job
+     * @param owner    the node holding the lease
+     * @param error    why the run failed
+     * @param runAfter the time before which the job is not claimed again
+     * @return 1 if queued, 0 if the node no longer holds the lease
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE jobs SET status = 'PENDING', error = :error, run_after = :runAfter,
+                lease_owner = NULL, lease_until = NULL
+            WHERE id = :id AND lease_owner = :owner
+            """, nativeQuery = true)
+    int retry(@Param("id") Long id, @Param("owner") String owner, @Param("error") String error,
+              @Param("runAfter") LocalDateTime runAfter);
+
+    /**
+     * Puts a job interrupted by its node stopping back in the queue, without counting the run
+     * as an attempt, and releases its lease.
+     *
+     * @param id    the ID of the job
+     * @param owner the node holding the lease
+     * @return 1 if queued, 0 if the node no longer holds the lease
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE jobs SET status = 'PENDING', attempts = attempts - 1, lease_owner = NULL, lease_until = NULL
+            WHERE id = :id AND lease_owner = :owner
+            """, nativeQuery = true)
+    int release(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * Counts the queued and running jobs of each type.
+     *
+     * @return rows of type, status and count
+     */
+    @Query(value = """
+            SELECT type, status, COUNT(*) FROM jobs
+            WHERE status IN ('PENDING', 'RUNNING') GROUP BY type, status
+            """, nativeQuery = true)
+    List<Object[]> countActive();
+
+    /**
+     * Counts the jobs of a type waiting to run.
+     *
+     * @param type the job type
+     * @return the number of pending jobs
+     */
+    @Query(value = "SELECT COUNT(*) FROM jobs WHERE status = 'PENDING' AND type = :type", nativeQuery = true)
+    long countPending(@Param("type") String type);
+
+    /**
+     * Deletes the jobs that finished before the given time.
+     *
+     * @param before the cutoff time
+     * @return the number of jobs deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM jobs WHERE finished_at < :before", nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
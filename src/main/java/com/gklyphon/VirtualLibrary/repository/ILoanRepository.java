@@ -0,0 +1,62 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link Loan} entities.
+ *
+ * Loans are created and closed with conditional statements, so a retried
+ * checkout or return changes nothing the second time.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ILoanRepository extends JpaRepository<Loan, Long> {
+
+    /**
+     * Retrieves the loan created by a checkout.
+     *
+     * @param requestId the idempotency key of the checkout
+     * @return an {@link Optional} containing the loan or empty if none was created
+     */
+    Optional<Loan> findByRequestId(String requestId);
+
+    /**
+     * Creates a loan unless one already holds the idempotency key. When another transaction
+     * is inserting the same key, waits for it and creates nothing if it commits.
+     *
+     * @param requestId    the idempotency key of the checkout
+     * @param bookId       the ID of the book
+     * @param borrower     the borrower
+     * @param checkedOutAt the time of the checkout
+     * @return 1 if the loan was created, 0 if the key is taken
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO loans (request_id, book_id, borrower, checked_out_at)
+            VALUES (:requestId, :bookId, :borrower, :checkedOutAt)
+            ON CONFLICT (request_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("requestId") String requestId, @Param("bookId") Long bookId,
+                       @Param("borrower") String borrower, @Param("checkedOutAt") LocalDateTime checkedOutAt);
+
+    /**
+     * Closes a loan that is still open.
+     *
+     * @param id         the ID of the loan
+     * @param returnedAt the time of the return
+     * @return 1 if the loan was closed, 0 if it was already returned
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE loans SET returned_at = :returnedAt WHERE id = :id AND returned_at IS NULL",
+            nativeQuery = true)
+    int markReturned(@Param("id") Long id, @Param("returnedAt") LocalDateTime returnedAt);
+}
@@ -0,0 +1,64 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link RepricingJob} entities.
+ *
+ * Each chunk of a job locks the job's row first, so the chunk and the cursor it
+ * advances commit together, and two runners of the same job take turns.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IRepricingJobRepository extends JpaRepository<RepricingJob, Long> {
+
+    /**
+     * Reads a job and locks its row until the transaction ends.
+     *
+     * @param id the ID of the job
+     * @return the job, or empty if none matched
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM RepricingJob j WHERE j.id = :id")
+    Optional<RepricingJob> lockById(@Param("id") Long id);
+
+    /**
+     * Requests the cancellation of a job that has not finished. A pending job is cancelled
+     * at once; a running one stops before its next chunk.
+     *
+     * @param id  the ID of the job
+     * @param now the time a pending job is cancelled at
+     * @return 1 if cancellation was requested, 0 if the job does not exist or has finished
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE repricing_jobs SET
+                cancel_requested = TRUE,
+                status = CASE WHEN status = 'PENDING' THEN 'CANCELLED' ELSE status END,
+                finished_at = CASE WHEN status = 'PENDING' THEN :now ELSE finished_at END
+            WHERE id = :id AND status IN ('PENDING', 'RUNNING')
+            """, nativeQuery = true)
+    int requestCancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds the IDs of the jobs in the given states, oldest first.
+     *
+     * @param statuses the states
+     * @return the IDs of the jobs
+     */
+    @Query("SELECT j.id FROM RepricingJob j WHERE j.status IN :statuses ORDER BY j.id")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<RepricingJob.Status> statuses);
+}
@@ -0,0 +1,50 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for reading and purging {@link Tombstone} entities.
+ * Tombstones are written by the statements that delete books and authors.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * Retrieves the tombstones of an entity type recorded after a position of the change feed,
+     * in {@code (deletedAt, id)} order.
+     *
+     * @param entityType the entity type
+     * @param deletedAt  the deletion time of the last tombstone seen
+     * @param id         the ID of the last tombstone seen
+     * @param horizon    the exclusive upper bound of deletion times
+     * @param limit      the maximum number of tombstones to return
+     * @return the tombstones found
+     */
+    @Query("SELECT t FROM Tombstone t WHERE t.entityType = :entityType "
+            + "AND (t.deletedAt, t.id) > (:deletedAt, :id) AND t.deletedAt < :horizon "
+            + "ORDER BY t.deletedAt, t.id")
+    List<Tombstone> findDeletedAfter(@Param("entityType") String entityType,
+                                     @Param("deletedAt") LocalDateTime deletedAt, @Param("id") long id,
+                                     @Param("horizon") LocalDateTime horizon, Limit limit);
+
+    /**
+     * Deletes the tombstones recorded before the given time.
+     *
+     * @param before the exclusive upper bound of deletion times
+     * @return the number of tombstones deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int purgeBefore(@Param("before") LocalDateTime before);
+}
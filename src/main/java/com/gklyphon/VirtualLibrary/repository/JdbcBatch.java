@@ -0,0 +1,122 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.entity.Auditable;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes many rows of a table as JDBC batches on the connection of the current transaction.
+ *
+ * <p>The entities use identity columns, which keep Hibernate from batching inserts because
+ * each generated key must be read back. Identifiers are therefore taken from the identity
+ * sequence in one round-trip up front, and the rows are sent with explicit identifiers.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class JdbcBatch {
+
+    /**
+     * Number of rows sent per JDBC batch.
+     */
+    static final int BATCH_SIZE = 100;
+
+    /**
+     * Binds the parameters of one row.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private JdbcBatch() {
+    }
+
+    /**
+     * Reserves identifiers from the identity sequence of a table.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param table         the table name
+     * @param count         the number of identifiers to reserve
+     * @return the reserved identifiers
+     */
+    @SuppressWarnings("unchecked")
+    static List<Long> allocateIds(EntityManager entityManager, String table, int count) {
+        List<Number> ids = entityManager.createNativeQuery(
+                        "SELECT nextval(pg_get_serial_sequence(:table, 'id')) FROM generate_series(1, :count)")
+                .setParameter("table", table)
+                .setParameter("count", count)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /**
+     * Executes a statement once per row, in batches of {@link #BATCH_SIZE}.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param sql           the statement
+     * @param rows          the rows to bind
+     * @param binder        binds the parameters of one row
+     * @param <T>           the row type
+     * @return the update count of each row, in order
+     */
+    static <T> int[] execute(EntityManager entityManager, String sql, List<T> rows, Binder<T> binder) {
+        int[] counts = new int[rows.size()];
+        if (rows.isEmpty()) {
+            return counts;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int sent = 0;
+                for (int i = 0; i < rows.size(); i++) {
+                    binder.bind(statement, rows.get(i));
+                    statement.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) {
+                        int[] batch = statement.executeBatch();
+                        System.arraycopy(batch, 0, counts, sent, batch.length);
+                        sent += batch.length;
+                    }
+                }
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Stamps an entity as created now, as {@code @PrePersist} would.
+     *
+     * @param entity the entity
+     * @param now    the current time
+     */
+    static void created(Auditable entity, LocalDateTime now) {
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        entity.setVersion(0L);
+    }
+
+    static void setNullable(PreparedStatement statement, int index, Object value, int sqlType) throws SQLException {
+        if (value != null) {
+            statement.setObject(index, value, sqlType);
+        } else {
+            statement.setNull(index, sqlType);
+        }
+    }
+
+    static Timestamp timestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+
+    static void setTimestamp(PreparedStatement statement, int index, LocalDateTime time) throws SQLException {
+        setNullable(statement, index, timestamp(time), Types.TIMESTAMP);
+    }
+}
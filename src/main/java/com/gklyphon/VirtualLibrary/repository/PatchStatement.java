@@ -0,0 +1,270 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidPatchException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.BasicType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Builds and executes a single {@code UPDATE ... RETURNING *} statement that
+ * writes only the columns present in a JSON Merge Patch document.
+ *
+ * <p>The statement bumps the optimistic-lock version and the update timestamp,
+ * optionally checks the version the client expects, and maps the returned row
+ * back to the entity, so a partial update costs one round-trip. Patched values are
+ * checked against the constraints the entity declares on their properties, the same
+ * ones checked when the entity is saved.</p>
+ *
+ * @param <T> the entity type returned by the statement
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class PatchStatement<T> {
+
+    /**
+     * Patch field holding the version the client based its changes on.
+     */
+    static final String VERSION_FIELD = "version";
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private final String table;
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+    private final Map<String, Class<?>> columnTypes = new LinkedHashMap<>();
+    private final Map<String, Class<?>> previousColumns = new LinkedHashMap<>();
+    private Long expectedVersion;
+
+    PatchStatement(EntityManager entityManager, Class<T> entityClass, String table) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        this.table = table;
+    }
+
+    /**
+     * Adds a column assignment to the statement.
+     *
+     * @param column the column name
+     * @param type   the Java type of the column, used to bind null values
+     * @param value  the new value, possibly null
+     * @return this statement
+     */
+    PatchStatement<T> set(String column, Class<?> type, Object value) {
+        columns.put(column, value);
+        columnTypes.put(column, type);
+        return this;
+    }
+
+    /**
+     * Adds the assignment of an entity property to the statement, once the value
+     * satisfies the constraints the entity declares on the property.
+     *
+     * @param property the entity property, as named in the patch document
+     * @param column   the column name
+     * @param type     the Java type of the property
+     * @param value    the new value, possibly null
+     * @return this statement
+     * @throws InvalidPatchException if the value violates a constraint of the property
+     */
+    PatchStatement<T> set(String property, String column, Class<?> type, Object value) {
+        Set<ConstraintViolation<T>> violations = VALIDATOR.validateValue(entityClass, property, value);
+        if (!violations.isEmpty()) {
+            throw new InvalidPatchException("Field '" + property + "' " + violations.iterator().next().getMessage() + ".");
+        }
+        return set(column, type, value);
+    }
+
+    /**
+     * Requires the row to still have the given version for the update to apply.
+     *
+     * @param version the expected version, or null to skip the check
+     * @return this statement
+     */
+    PatchStatement<T> expectVersion(Long version) {
+        this.expectedVersion = version;
+        return this;
+    }
+
+    /**
+     * Also returns the value a column had before the update. The row is read and
+     * locked by a CTE of the same statement, so no extra round-trip is needed.
+     *
+     * @param column the column name
+     * @param type   the Java type of the column
+     * @return this statement
+     */
+    PatchStatement<T> returnPrevious(String column, Class<?> type) {
+        previousColumns.put(column, type);
+        return this;
+    }
+
+    /**
+     * Executes the update and maps the returned row.
+     *
+     * @param id the identifier of the row to update
+     * @return the updated entity, or empty if no row matched the id and version
+     * @throws InvalidPatchException if the patch contains no column changes
+     */
+    @SuppressWarnings("unchecked")
+    Optional<T> execute(Long id) {
+        return executeWithPrevious(id).map(row -> (T) row[0]);
+    }
+
+    /**
+     * Executes the update and maps the returned row together with the previous values
+     * requested through {@link #returnPrevious(String, Class)}.
+     *
+     * @param id the identifier of the row to update
+     * @return the updated entity followed by the previous column values in the order they
+     *         were requested, or empty if no row matched the id and version
+     * @throws InvalidPatchException if the patch contains no column changes
+     */
+    @SuppressWarnings("unchecked")
+    Optional<Object[]> executeWithPrevious(Long id) {
+        if (columns.isEmpty()) {
+            throw new InvalidPatchException("Patch document contains no changes.");
+        }
+        StringBuilder sql = new StringBuilder();
+        if (!previousColumns.isEmpty()) {
+            sql.append("WITH previous AS (SELECT id, ").append(String.join(", ", previousColumns.keySet()))
+                    .append(" FROM ").append(table).append(" WHERE id = :id FOR UPDATE) ");
+        }
+        sql.append("UPDATE ").append(table).append(" SET ");
+        int index = 0;
+        for (String column : columns.keySet()) {
+            sql.append(column).append(" = :p").append(index++).append(", ");
+        }
+        sql.append("updated_at = :updatedAt, version = COALESCE(").append(table).append(".version, 0) + 1");
+        if (!previousColumns.isEmpty()) {
+            sql.append(" FROM previous");
+        }
+        sql.append(" WHERE ").append(table).append(".id = :id");
+        if (expectedVersion != null) {
+            sql.append(" AND ").append(table).append(".version = :version");
+        }
+        sql.append(" RETURNING ").append(table).append(".*");
+        for (String column : previousColumns.keySet()) {
+            sql.append(", previous.").append(column).append(" AS previous_").append(column);
+        }
+
+        Query query;
+        if (previousColumns.isEmpty()) {
+            query = entityManager.createNativeQuery(sql.toString(), entityClass);
+        } else {
+            NativeQuery<?> nativeQuery = entityManager.createNativeQuery(sql.toString())
+                    .unwrap(NativeQuery.class)
+                    .addEntity(entityClass);
+            previousColumns.forEach((column, type) -> nativeQuery.addScalar("previous_" + column, type));
+            query = nativeQuery;
+        }
+        index = 0;
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            query.setParameter("p" + index++, bindable(column.getValue(), columnTypes.get(column.getKey())));
+        }
+        query.setParameter("updatedAt", LocalDateTime.now());
+        query.setParameter("id", id);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        List<Object> rows = query.getResultList();
+        return rows.stream().findFirst()
+                .map(row -> row instanceof Object[] values ? values : new Object[]{row});
+    }
+
+    private Object bindable(Object value, Class<?> type) {
+        if (value != null) {
+            return value;
+        }
+        BasicType<?> basicType = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getTypeConfiguration()
+                .getBasicTypeForJavaType(type);
+        return new TypedParameterValue<>(basicType, null);
+    }
+
+    /**
+     * Reads the optional version precondition from a patch document.
+     *
+     * @param patch the patch document
+     * @return the expected version, or null if the document has none
+     */
+    static Long expectedVersion(Map<String, Object> patch) {
+        Object value = patch.get(VERSION_FIELD);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        throw new InvalidPatchException("Field 'version' must be a number.");
+    }
+
+    static String asString(String field, Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        throw new InvalidPatchException("Field '" + field + "' must be a string.");
+    }
+
+    static BigDecimal asDecimal(String field, Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException ex) {
+            throw new InvalidPatchException("Field '" + field + "' must be a number.");
+        }
+    }
+
+    static LocalDate asDate(String field, Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (DateTimeParseException ex) {
+            throw new InvalidPatchException("Field '" + field + "' must be an ISO date.");
+        }
+    }
+
+    /**
+     * Reads the identifier of a referenced entity, given as {@code {"id": n}}.
+     *
+     * @param field the patch field
+     * @param value the patch value
+     * @return the referenced identifier, or null to clear the reference
+     */
+    static Long asReferenceId(String field, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Map<?, ?> reference && reference.get("id") instanceof Number id) {
+            return id.longValue();
+        }
+        throw new InvalidPatchException("Field '" + field + "' must be an object with a numeric 'id'.");
+    }
+
+    static InvalidPatchException notPatchable(String field) {
+        return new InvalidPatchException("Field '" + field + "' cannot be patched.");
+    }
+}
@@ -0,0 +1,130 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and executes a JPQL query that selects only the columns of a {@link FieldSet}.
+ *
+ * <p>Each selected path becomes one select item, and associations are joined only
+ * when one of their fields is selected. Rows are returned as nested maps, so nothing
+ * outside the fieldset is read from the database nor handed to the serializer.</p>
+ *
+ * <p>Paths come from a validated {@link FieldSet}, so they are safe to place in the query.</p>
+ *
+ * @param <M> the map type rows are returned as
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class SparseQuery<M extends Map<String, Object>> {
+
+    private final EntityManager entityManager;
+    private final String entity;
+    private final FieldSet fields;
+    private final Supplier<M> rowFactory;
+
+    SparseQuery(EntityManager entityManager, String entity, FieldSet fields, Supplier<M> rowFactory) {
+        this.entityManager = entityManager;
+        this.entity = entity;
+        this.fields = fields;
+        this.rowFactory = rowFactory;
+    }
+
+    /**
+     * Finds the single row whose attribute has the given value.
+     *
+     * @param attribute the attribute of the root entity to match
+     * @param value     the value to match
+     * @return the selected fields of the row, or empty if none matched
+     */
+    Optional<M> findOne(String attribute, Object value) {
+        return entityManager.createQuery(select() + " WHERE e." + attribute + " = :value", Tuple.class)
+                .setParameter("value", value)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .map(this::toRow);
+    }
+
+    /**
+     * Finds a page of rows. The total is only counted when the page does not reveal it.
+     *
+     * @param pageable the page to read, sorted by selected top-level fields only
+     * @return the page of selected fields
+     */
+    Page<M> findPage(Pageable pageable) {
+        TypedQuery<Tuple> query = entityManager.createQuery(select() + orderBy(pageable.getSort()), Tuple.class);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<M> content = query.getResultList().stream().map(this::toRow).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> entityManager
+                .createQuery("SELECT COUNT(e) FROM " + entity + " e", Long.class)
+                .getSingleResult());
+    }
+
+    private String select() {
+        String items = fields.paths().stream()
+                .map(path -> path.contains(".") ? path : "e." + path)
+                .collect(Collectors.joining(", "));
+        Set<String> joins = new LinkedHashSet<>();
+        for (String path : fields.paths()) {
+            int dot = path.indexOf('.');
+            if (dot > 0) {
+                joins.add(path.substring(0, dot));
+            }
+        }
+        StringBuilder jpql = new StringBuilder("SELECT ").append(items).append(" FROM ").append(entity).append(" e");
+        joins.forEach(join -> jpql.append(" LEFT JOIN e.").append(join).append(' ').append(join));
+        return jpql.toString();
+    }
+
+    private String orderBy(Sort sort) {
+        List<String> orders = sort.stream().map(order -> {
+            if (!fields.paths().contains(order.getProperty()) || order.getProperty().contains(".")) {
+                throw new IllegalArgumentException("Cannot sort by unselected field " + order.getProperty());
+            }
+            return "e." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC");
+        }).toList();
+        return " ORDER BY " + (orders.isEmpty() ? "e.id" : String.join(", ", orders));
+    }
+
+    @SuppressWarnings("unchecked")
+    private M toRow(Tuple tuple) {
+        M row = rowFactory.get();
+        List<String> paths = fields.paths();
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.get(i);
+            int dot = path.indexOf('.');
+            if (dot < 0) {
+                row.put(path, tuple.get(i));
+                continue;
+            }
+            String association = path.substring(0, dot);
+            if (tuple.get(paths.indexOf(association + ".id")) == null) {
+                row.put(association, null);
+                continue;
+            }
+            ((Map<String, Object>) row.computeIfAbsent(association, key -> new LinkedHashMap<String, Object>()))
+                    .put(path.substring(dot + 1), tuple.get(i));
+        }
+        return row;
+    }
+}
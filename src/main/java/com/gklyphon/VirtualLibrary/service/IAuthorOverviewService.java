@@ -0,0 +1,22 @@
+package com.gklyphon.VirtualLibrary.service;
+
+import com.gklyphon.VirtualLibrary.model.projection.AuthorOverview;
+
+/**
+ * Service interface for the {@link AuthorOverview} of an author.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IAuthorOverviewService {
+
+    /**
+     * Retrieves the overview of an author: the author, their first books and their statistics.
+     *
+     * @param authorId the ID of the author
+     * @param size     the maximum number of books to return
+     * @return the author's overview
+     */
+    AuthorOverview findByAuthorId(Long authorId, int size);
+}
@@ -1,6 +1,12 @@
 package com.gklyphon.VirtualLibrary.service;
 
 import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 /**
  * Service interface for managing {@link Author} entities.
@@ -12,4 +18,30 @@ import com.gklyphon.VirtualLibrary.model.entity.Author;
  * @since 22-Oct-2024
  */
 public interface IAuthorService extends IService<Author>{
+
+    /**
+     * Retrieves a paginated list of authors, reading only the selected fields.
+     *
+     * @param pageable the pagination information
+     * @param fields   the fields to select
+     * @return a page of selected author fields
+     */
+    Page<AuthorFields> findAllPageable(Pageable pageable, FieldSet fields);
+
+    /**
+     * Retrieves the selected fields of an author by their ID.
+     *
+     * @param id     the ID of the author
+     * @param fields the fields to select
+     * @return the selected fields of the author
+     */
+    AuthorFields findById(Long id, FieldSet fields);
+
+    /**
+     * Deletes an author together with all of their books.
+     *
+     * @param id the ID of the author
+     * @return the IDs of the books deleted with the author, whose files the caller removes
+     */
+    List<Long> deleteWithBooks(Long id);
 }
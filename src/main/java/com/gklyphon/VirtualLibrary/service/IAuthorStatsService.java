@@ -0,0 +1,71 @@
+package com.gklyphon.VirtualLibrary.service;
+
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Service interface for the materialized {@link AuthorStats} of each author.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IAuthorStatsService {
+
+    /**
+     * Retrieves the statistics of an author.
+     *
+     * @param authorId the ID of the author
+     * @return the author's statistics
+     */
+    AuthorStats findByAuthorId(Long authorId);
+
+    /**
+     * Retrieves the statistics of several authors.
+     *
+     * @param authorIds the IDs of the authors
+     * @return the statistics of the authors that exist, in no particular order
+     */
+    List<AuthorStats> findAllByAuthorIds(Collection<Long> authorIds);
+
+    /**
+     * Records that a book moved from one author and price to another.
+     * Must be called in the transaction that writes the book.
+     *
+     * @param oldAuthorId the previous author, or null if the book is new
+     * @param oldPrice    the previous price, possibly null
+     * @param newAuthorId the new author, or null if the book was removed from it
+     * @param newPrice    the new price, possibly null
+     */
+    void recordChange(Long oldAuthorId, BigDecimal oldPrice, Long newAuthorId, BigDecimal newPrice);
+
+    /**
+     * Records several book changes at once, with one upsert per affected author.
+     * Must be called in the transaction that writes the books.
+     *
+     * @param changes the written books with their previous rows, or a null previous row for new books
+     */
+    void recordChanges(Collection<BookPatch> changes);
+
+    /**
+     * Rebuilds the statistics of every author from the books table, in batches.
+     *
+     * @return the number of authors rebuilt
+     */
+    long reconcile();
+
+    /**
+     * Rebuilds the statistics of the authors after the given one, in batches, so an
+     * interrupted reconciliation can resume where it stopped.
+     *
+     * @param afterId the last author already rebuilt, 0 to start from the first
+     * @param onBatch called with the last author of each batch rebuilt
+     * @return the number of authors rebuilt
+     */
+    long reconcile(long afterId, LongConsumer onBatch);
+}
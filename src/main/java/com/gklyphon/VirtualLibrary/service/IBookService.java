@@ -1,6 +1,14 @@
 package com.gklyphon.VirtualLibrary.service;
 
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Service interface for managing Book entities.
@@ -16,7 +24,7 @@ public interface IBookService extends IService<Book> {
     /**
      * Retrieves a book by its ISBN.
      *
-     * @param isbn the ISBN of the book to be retrieved
+     * @param isbn the ISBN of the book to be retrieved, in the canonical form of {@code Isbn.normalize}
      * @return the book if found, or null if not found
      */
     Book findByIsbn(String isbn);
@@ -28,4 +36,57 @@ public interface IBookService extends IService<Book> {
      * @return the book if found, or null if not found
      */
     Book findByTitle(String title);
+
+    /**
+     * Retrieves the books with the given IDs, with their authors.
+     *
+     * @param ids the IDs of the books
+     * @return the books that exist, in no particular order
+     */
+    List<Book> findAllById(Collection<Long> ids);
+
+    /**
+     * Retrieves a slice of the books of an author, ordered as requested.
+     *
+     * @param authorId the ID of the author
+     * @param pageable the pagination information
+     * @return a slice of the author's books
+     */
+    Slice<Book> findAllByAuthorId(Long authorId, Pageable pageable);
+
+    /**
+     * Retrieves a paginated list of books, reading only the selected fields.
+     *
+     * @param pageable the pagination information
+     * @param fields   the fields to select
+     * @return a page of selected book fields
+     */
+    Page<BookFields> findAllPageable(Pageable pageable, FieldSet fields);
+
+    /**
+     * Retrieves the selected fields of a book by its ID.
+     *
+     * @param id     the ID of the book
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     */
+    BookFields findById(Long id, FieldSet fields);
+
+    /**
+     * Retrieves the selected fields of a book by its ISBN.
+     *
+     * @param isbn   the ISBN of the book, in the canonical form of {@code Isbn.normalize}
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     */
+    BookFields findByIsbn(String isbn, FieldSet fields);
+
+    /**
+     * Retrieves the selected fields of a book by its title.
+     *
+     * @param title  the title of the book
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     */
+    BookFields findByTitle(String title, FieldSet fields);
 }
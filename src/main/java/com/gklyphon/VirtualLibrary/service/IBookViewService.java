@@ -0,0 +1,40 @@
+package com.gklyphon.VirtualLibrary.service;
+
+import com.gklyphon.VirtualLibrary.model.projection.PopularBook;
+
+import java.util.List;
+
+/**
+ * Service interface for counting views of books and ranking books by them.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IBookViewService {
+
+    /**
+     * Counts a view of a book. Called on every read of a book, so it never blocks
+     * and never leaves the process.
+     *
+     * @param bookId the ID of the viewed book
+     */
+    void record(Long bookId);
+
+    /**
+     * Adds the views counted since the last flush to the leaderboard.
+     *
+     * @return the number of books whose views were flushed
+     */
+    int flush();
+
+    /**
+     * Retrieves the most viewed books within a window ending now.
+     * Deleted books are skipped, so fewer books than the limit may be returned.
+     *
+     * @param hours the length of the window in hours
+     * @param limit the maximum number of books to return
+     * @return the books with their views, most viewed first
+     */
+    List<PopularBook> popular(int hours, int limit);
+}
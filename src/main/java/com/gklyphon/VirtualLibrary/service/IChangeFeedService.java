@@ -0,0 +1,41 @@
+package com.gklyphon.VirtualLibrary.service;
+
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.ChangeFeed;
+
+/**
+ * Service interface for the change feeds of books and authors, which let clients
+ * mirror the catalog by fetching only what changed since their last sync.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IChangeFeedService {
+
+    /**
+     * Retrieves the books created, updated or deleted since a sync token.
+     *
+     * @param since the token returned by the previous call, or null for a first sync
+     * @param limit the maximum number of changed and of deleted books to return
+     * @return the changes and the token to continue with
+     */
+    ChangeFeed<Book> bookChanges(String since, int limit);
+
+    /**
+     * Retrieves the authors created, updated or deleted since a sync token.
+     *
+     * @param since the token returned by the previous call, or null for a first sync
+     * @param limit the maximum number of changed and of deleted authors to return
+     * @return the changes and the token to continue with
+     */
+    ChangeFeed<Author> authorChanges(String since, int limit);
+
+    /**
+     * Deletes the tombstones older than the retention period.
+     *
+     * @return the number of tombstones deleted
+     */
+    int purgeTombstones();
+}
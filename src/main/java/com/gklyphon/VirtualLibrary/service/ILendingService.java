@@ -0,0 +1,58 @@
+package com.gklyphon.VirtualLibrary.service;
+
+import com.gklyphon.VirtualLibrary.model.entity.BookCopies;
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+
+/**
+ * Service interface for lending copies of books.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ILendingService {
+
+    /**
+     * Retrieves the copies of a book.
+     *
+     * @param bookId the ID of the book
+     * @return the total and available copies of the book
+     */
+    BookCopies findCopies(Long bookId);
+
+    /**
+     * Sets the number of copies of a book. Copies on loan stay on loan.
+     *
+     * @param bookId the ID of the book
+     * @param total  the new number of copies
+     * @return the total and available copies of the book
+     */
+    BookCopies setCopies(Long bookId, int total);
+
+    /**
+     * Lends a copy of a book. A checkout retried with the same idempotency key
+     * returns the loan it created instead of taking another copy.
+     *
+     * @param bookId    the ID of the book
+     * @param borrower  the borrower
+     * @param requestId the idempotency key of the checkout
+     * @return the loan
+     */
+    Loan checkout(Long bookId, String borrower, String requestId);
+
+    /**
+     * Returns a lent copy. Returning a loan twice changes nothing.
+     *
+     * @param loanId the ID of the loan
+     * @return the returned loan
+     */
+    Loan returnLoan(Long loanId);
+
+    /**
+     * Retrieves a loan by its ID.
+     *
+     * @param loanId the ID of the loan
+     * @return the loan
+     */
+    Loan findLoan(Long loanId);
+}
@@ -0,0 +1,40 @@
+package com.gklyphon.VirtualLibrary.service;
+
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.RepricingRequest;
+
+/**
+ * Service interface for bulk repricing jobs.
+ * A job reprices the books matching a filter in the background, chunk by chunk,
+ * and records its progress as it goes.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IRepricingService {
+
+    /**
+     * Creates a repricing job and starts it in the background.
+     *
+     * @param request the filter and rule of the job
+     * @return the pending job, with the number of books it will walk
+     */
+    RepricingJob start(RepricingRequest request);
+
+    /**
+     * Retrieves a repricing job and its progress.
+     *
+     * @param id the ID of the job
+     * @return the job
+     */
+    RepricingJob find(Long id);
+
+    /**
+     * Cancels a repricing job. Chunks already repriced stay repriced.
+     *
+     * @param id the ID of the job
+     * @return the job
+     */
+    RepricingJob cancel(Long id);
+}
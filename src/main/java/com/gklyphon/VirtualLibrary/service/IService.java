@@ -1,9 +1,11 @@
 package com.gklyphon.VirtualLibrary.service;
 
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Generic service interface for managing entities.
@@ -48,6 +50,27 @@ public interface IService <T>{
      */
     T save(T t);
 
+    /**
+     * Creates and updates several entities in one transaction. Entities without an ID are
+     * created; entities with an ID overwrite the existing row, checking the {@code version}
+     * they carry when it is set. Items that fail validation are reported and not written;
+     * the others are written together.
+     *
+     * @param entities the entities to write
+     * @return the outcome of each entity, in request order
+     */
+    List<BatchItemResult> saveAll(List<T> entities);
+
+    /**
+     * Applies a JSON Merge Patch document to the entity with the specified identifier.
+     * Only the fields present in the document are changed.
+     *
+     * @param id    the unique identifier of the entity to be patched
+     * @param patch the merge patch document
+     * @return the patched entity
+     */
+    T patch(Long id, Map<String, Object> patch);
+
     /**
      * Deletes the entity with the specified unique identifier.
      *
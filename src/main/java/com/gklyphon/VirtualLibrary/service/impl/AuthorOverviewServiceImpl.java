@@ -0,0 +1,97 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.config.concurrency.DbAdmissionFilter;
+import com.gklyphon.VirtualLibrary.config.concurrency.OverviewData;
+import com.gklyphon.VirtualLibrary.exception.custom.DeadlineExceededException;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorOverview;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.service.IAuthorOverviewService;
+import com.gklyphon.VirtualLibrary.service.IAuthorService;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the IAuthorOverviewService interface.
+ * The author, their first books and their statistics are read at once, each on its own
+ * virtual thread in its own read-only transaction, so an overview takes as long as its
+ * slowest read instead of the sum of the three. The author is read with a column-limited
+ * query of their own fields, so their books are not loaded only to be left out.
+ *
+ * <p>Each parallel read holds a connection, so the overview takes two database permits
+ * beyond the one its request was admitted with. When they are not free, the three reads
+ * run one after another on a single thread, within the request's own permit.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+public class AuthorOverviewServiceImpl implements IAuthorOverviewService {
+
+    static final int READS = 3;
+
+    static final FieldSet AUTHOR_FIELDS = new FieldSet(FieldSet.AUTHOR_FIELDS);
+
+    private final IAuthorService authorService;
+    private final IBookService bookService;
+    private final IAuthorStatsService authorStatsService;
+    private final OverviewData overviewData;
+
+    public AuthorOverviewServiceImpl(IAuthorService authorService, IBookService bookService,
+                                     IAuthorStatsService authorStatsService, OverviewData overviewData) {
+        this.authorService = authorService;
+        this.bookService = bookService;
+        this.authorStatsService = authorStatsService;
+        this.overviewData = overviewData;
+    }
+
+    /**
+     * Forks the three reads in one {@link TaskScope} under the deadline of
+     * {@code author-overview.timeout-ms}, or a single subtask running them in turn when the
+     * further database permits are not free. The first read to fail cancels the others.
+     *
+     * @param authorId the ID of the author
+     * @param size     the maximum number of books to return
+     * @return the author's overview
+     * @throws ElementNotFoundException  if the author does not exist
+     * @throws DeadlineExceededException if the reads do not finish before the deadline
+     */
+    @Override
+    public AuthorOverview findByAuthorId(Long authorId, int size) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(overviewData.getTimeoutMs());
+        PageRequest firstBooks = PageRequest.of(0, size, Sort.by("id"));
+        try (TaskScope scope = new TaskScope("overview-" + authorId)) {
+            if (!DbAdmissionFilter.tryAcquire(READS - 1)) {
+                Future<AuthorOverview> overview = scope.fork(() -> overview(
+                        authorService.findById(authorId, AUTHOR_FIELDS),
+                        bookService.findAllByAuthorId(authorId, firstBooks),
+                        authorStatsService.findByAuthorId(authorId)));
+                scope.join(deadline);
+                return overview.resultNow();
+            }
+            Future<AuthorFields> author = scope.fork(() -> authorService.findById(authorId, AUTHOR_FIELDS));
+            Future<Slice<Book>> books = scope.fork(() -> bookService.findAllByAuthorId(authorId, firstBooks));
+            Future<AuthorStats> stats = scope.fork(() -> authorStatsService.findByAuthorId(authorId));
+            scope.join(deadline);
+            return overview(author.resultNow(), books.resultNow(), stats.resultNow());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DeadlineExceededException("Overview of author " + authorId + " was interrupted");
+        }
+    }
+
+    private static AuthorOverview overview(AuthorFields author, Slice<Book> books, AuthorStats stats) {
+        return new AuthorOverview(author, books.getContent(), books.hasNext(), stats);
+    }
+}
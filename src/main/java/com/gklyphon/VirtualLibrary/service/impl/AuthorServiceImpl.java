@@ -1,19 +1,39 @@
 package com.gklyphon.VirtualLibrary.service.impl;
 
+import com.gklyphon.VirtualLibrary.cache.CacheBatch;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogLoader;
+import com.gklyphon.VirtualLibrary.event.CatalogEvent;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
 import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.VersionConflictException;
 import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorDeletion;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
 import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
 import com.gklyphon.VirtualLibrary.service.IAuthorService;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the IAuthorService interface for managing authors.
@@ -28,24 +48,32 @@ public class AuthorServiceImpl implements IAuthorService {
 
     private final IAuthorRepository authorRepository;
     private final PagedResourcesAssembler<Author> pagedResourcesAssembler;
+    private final CatalogCache catalogCache;
+    private final CatalogEventPublisher catalogEventPublisher;
+    private final CatalogLoader catalogLoader;
 
-    public AuthorServiceImpl(IAuthorRepository authorRepository, PagedResourcesAssembler<Author> pagedResourcesAssembler) {
+    public AuthorServiceImpl(IAuthorRepository authorRepository, PagedResourcesAssembler<Author> pagedResourcesAssembler,
+                             CatalogCache catalogCache, CatalogEventPublisher catalogEventPublisher,
+                             CatalogLoader catalogLoader) {
         this.authorRepository = authorRepository;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.catalogCache = catalogCache;
+        this.catalogEventPublisher = catalogEventPublisher;
+        this.catalogLoader = catalogLoader;
     }
 
     /**
      * Retrieves an author by their unique identifier.
+     * Read through the authors cache by the {@link CatalogLoader}, together with the
+     * lookups of concurrent requests.
      *
      * @param id the unique identifier of the author
      * @return the Author object
      * @throws ElementNotFoundException if the author is not found
      */
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "authors", key = "#id")
     public Author findById(Long id) {
-        return authorRepository.findById(id).orElseThrow(
+        return catalogLoader.author(id).orElseThrow(
                 () -> new ElementNotFoundException("Author with id: " + id + " not found."));
     }
 
@@ -69,13 +97,48 @@ public class AuthorServiceImpl implements IAuthorService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "authorsPage", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "authorsPage",
+            key = "@catalogCache.generation() + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
     public Page<Author> findAllPageable(Pageable pageable) {
         return authorRepository.findAll(pageable);
     }
 
+    /**
+     * Retrieves a paginated list of authors with a column-limited query.
+     * Cached per page and fieldset until the next catalog write.
+     *
+     * @param pageable the pagination information
+     * @param fields   the fields to select
+     * @return a page of selected author fields
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "authorsFields", key = "@catalogCache.generation() + '-' + #fields.key() + '-'"
+            + " + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<AuthorFields> findAllPageable(Pageable pageable, FieldSet fields) {
+        return authorRepository.findFields(fields, pageable);
+    }
+
+    /**
+     * Finds the selected fields of an author by their ID with a column-limited query.
+     * Cached per fieldset until the next catalog write.
+     *
+     * @param id     the ID of the author to find
+     * @param fields the fields to select
+     * @return the selected fields of the author
+     * @throws ElementNotFoundException if no author with the given ID exists
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "authorsFields", key = "@catalogCache.generation() + '-' + #fields.key() + '-id-' + #id")
+    public AuthorFields findById(Long id, FieldSet fields) {
+        return authorRepository.findFieldsById(id, fields)
+                .orElseThrow(() -> new ElementNotFoundException("Author with id: " + id + " not found."));
+    }
+
     /**
      * Saves a new author or updates an existing one.
+     * Cached pages are invalidated and the change is published once committed.
      *
      * @param author the Author object to save
      * @return the saved Author object
@@ -84,22 +147,138 @@ public class AuthorServiceImpl implements IAuthorService {
     @Transactional
     @CachePut(value = "authors", key = "#author.id")
     public Author save(Author author) {
-        return authorRepository.save(author);
+        boolean created = author.getId() == null;
+        Author saved = authorRepository.save(author);
+        catalogCache.invalidatePages();
+        catalogEventPublisher.publish(() -> List.of(
+                CatalogEvent.saved(Tombstone.AUTHOR, created, saved.getId(), saved.getVersion())));
+        return saved;
+    }
+
+    /**
+     * Validates the batch with one locking read of the updated authors, writes the valid
+     * authors as JDBC batches, and after commit writes the new authors through to the cache
+     * and evicts the updated ones in one pipelined round-trip. Updated authors are evicted
+     * rather than written through because their books are not part of the batch.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult> saveAll(List<Author> authors) {
+        Map<Long, Long> versions = authorRepository.lockVersions(authors.stream()
+                        .filter(Objects::nonNull).map(Author::getId).filter(Objects::nonNull).toList())
+                .stream().collect(Collectors.toMap(Versioned::value, Versioned::version));
+
+        BatchItemResult[] results = new BatchItemResult[authors.size()];
+        List<Integer> created = new ArrayList<>();
+        List<Integer> updated = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < authors.size(); i++) {
+            Author author = authors.get(i);
+            if (author == null) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.BAD_REQUEST, "Item is empty.");
+            } else if (author.getId() == null) {
+                created.add(i);
+            } else if (!versions.containsKey(author.getId())) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.NOT_FOUND,
+                        "Author with id: " + author.getId() + " not found.");
+            } else if (author.getVersion() != null && !author.getVersion().equals(versions.get(author.getId()))) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.CONFLICT,
+                        "Author with id: " + author.getId() + " was modified by another request.");
+            } else if (!ids.add(author.getId())) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.CONFLICT,
+                        "Author with id: " + author.getId() + " appears more than once in the batch.");
+            } else {
+                updated.add(i);
+            }
+        }
+
+        authorRepository.insertBatch(created.stream().map(authors::get).toList());
+        LocalDateTime now = LocalDateTime.now();
+        List<Author> updates = updated.stream().map(authors::get).toList();
+        for (Author author : updates) {
+            author.setVersion(versions.get(author.getId()) + 1);
+            author.setUpdatedAt(now);
+        }
+        authorRepository.updateBatch(updates);
+
+        CacheBatch cacheBatch = new CacheBatch();
+        List<CatalogEvent> events = new ArrayList<>();
+        for (int i : created) {
+            Author author = authors.get(i);
+            author.setBooks(new HashSet<>());
+            results[i] = BatchItemResult.written(i, HttpStatus.CREATED, author.getId(), author.getVersion());
+            events.add(CatalogEvent.saved(Tombstone.AUTHOR, true, author.getId(), author.getVersion()));
+            cacheBatch.put("authors", author.getId(), author);
+        }
+        for (int i : updated) {
+            Author author = authors.get(i);
+            results[i] = BatchItemResult.written(i, HttpStatus.OK, author.getId(), author.getVersion());
+            events.add(CatalogEvent.saved(Tombstone.AUTHOR, false, author.getId(), author.getVersion()));
+            cacheBatch.evict("authors", author.getId());
+        }
+        if (!created.isEmpty() || !updated.isEmpty()) {
+            catalogCache.writeBatch(cacheBatch);
+            catalogEventPublisher.publish(events);
+        }
+        return List.of(results);
     }
 
     /**
-     * Deletes an author by their unique identifier.
+     * Applies a JSON Merge Patch document to a Author entity with a single UPDATE statement.
+     * The author is evicted from the cache and cached pages are invalidated once the
+     * transaction commits, so a rolled back update never reaches the cache.
+     *
+     * @param id    the ID of the author to patch
+     * @param patch the merge patch document
+     * @return the patched Author entity
+     * @throws ElementNotFoundException if no author with the given ID exists
+     * @throws VersionConflictException if the document's version no longer matches the stored one
+     */
+    @Override
+    @Transactional
+    public Author patch(Long id, Map<String, Object> patch) {
+        Author patched = authorRepository.patch(id, patch).orElseThrow(() ->
+                patch.containsKey("version") && authorRepository.existsById(id)
+                        ? new VersionConflictException("Author with id: " + id + " was modified by another request.")
+                        : new ElementNotFoundException("Author with id: " + id + " not found."));
+        catalogCache.evictAuthor(id, List.of());
+        catalogEventPublisher.publish(CatalogEvent.saved(Tombstone.AUTHOR, false, patched.getId(), patched.getVersion()));
+        return patched;
+    }
+
+    /**
+     * Deletes an author and all of their books with a single statement.
+     * The author and each deleted book are evicted from the cache, cached pages
+     * are invalidated, and the deletions are published once committed.
      *
      * @param id the unique identifier of the author to delete
      * @throws ElementNotFoundException if the author is not found
      */
     @Override
     @Transactional
-    @CacheEvict(value = "authors", key = "#id")
     public void deleteById(Long id) {
-        if (!authorRepository.existsById(id)) {
+        deleteWithBooks(id);
+    }
+
+    /**
+     * Deletes an author and all of their books with a single statement, as {@link #deleteById(Long)} does.
+     *
+     * @param id the unique identifier of the author to delete
+     * @return the IDs of the books deleted with the author
+     * @throws ElementNotFoundException if the author is not found
+     */
+    @Override
+    @Transactional
+    public List<Long> deleteWithBooks(Long id) {
+        AuthorDeletion deletion = authorRepository.deleteWithBooks(id);
+        if (deletion.authorCount() == 0) {
             throw new ElementNotFoundException("Author with id: " + id + " not found.");
         }
-        authorRepository.deleteById(id);
+        catalogCache.evictAuthor(id, deletion.books());
+        List<CatalogEvent> events = new ArrayList<>();
+        deletion.books().forEach(book -> events.add(CatalogEvent.deleted(Tombstone.BOOK, book.id())));
+        events.add(CatalogEvent.deleted(Tombstone.AUTHOR, id));
+        catalogEventPublisher.publish(events);
+        return deletion.books().stream().map(BookRow::id).toList();
     }
 }
@@ -0,0 +1,174 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IAuthorStatsRepository;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Implementation of the IAuthorStatsService interface.
+ * Statistics are read by primary key and adjusted with atomic upserts in the
+ * same transaction as the book write, so reads never scan the books table.
+ * A scheduled reconciliation rebuilds them from the books table in batches.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+public class AuthorStatsServiceImpl implements IAuthorStatsService {
+
+    private final IAuthorStatsRepository authorStatsRepository;
+    private final IAuthorRepository authorRepository;
+    private final int reconcileBatchSize;
+
+    public AuthorStatsServiceImpl(IAuthorStatsRepository authorStatsRepository, IAuthorRepository authorRepository,
+                                  @Value("${stats.reconcile.batch-size:1000}") int reconcileBatchSize) {
+        this.authorStatsRepository = authorStatsRepository;
+        this.authorRepository = authorRepository;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    /**
+     * Retrieves the statistics of an author by primary key.
+     * An existing author without a statistics row has no books yet.
+     *
+     * @param authorId the ID of the author
+     * @return the author's statistics
+     * @throws ElementNotFoundException if the author does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuthorStats findByAuthorId(Long authorId) {
+        return authorStatsRepository.findById(authorId).orElseGet(() -> {
+            if (!authorRepository.existsById(authorId)) {
+                throw new ElementNotFoundException("Author with id: " + authorId + " not found.");
+            }
+            return AuthorStats.empty(authorId);
+        });
+    }
+
+    /**
+     * Retrieves the statistics of several authors with a single primary key lookup.
+     *
+     * @param authorIds the IDs of the authors
+     * @return the statistics rows found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthorStats> findAllByAuthorIds(Collection<Long> authorIds) {
+        return authorStatsRepository.findAllById(authorIds);
+    }
+
+    /**
+     * Applies the change as at most two upserts, or one when the author is unchanged.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Long oldAuthorId, BigDecimal oldPrice, Long newAuthorId, BigDecimal newPrice) {
+        if (Objects.equals(oldAuthorId, newAuthorId)) {
+            if (newAuthorId != null) {
+                apply(newAuthorId, 0, priced(newPrice) - priced(oldPrice), amount(newPrice).subtract(amount(oldPrice)));
+            }
+            return;
+        }
+        if (oldAuthorId != null) {
+            apply(oldAuthorId, -1, -priced(oldPrice), amount(oldPrice).negate());
+        }
+        if (newAuthorId != null) {
+            apply(newAuthorId, 1, priced(newPrice), amount(newPrice));
+        }
+    }
+
+    /**
+     * Sums the deltas of all changes per author, then applies one upsert per author.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(Collection<BookPatch> changes) {
+        Map<Long, Delta> deltas = new TreeMap<>();
+        for (BookPatch change : changes) {
+            BookRow previous = change.previous();
+            if (previous != null && previous.authorId() != null) {
+                deltas.computeIfAbsent(previous.authorId(), id -> new Delta()).add(-1, previous.price());
+            }
+            Book book = change.book();
+            if (book.getAuthor() != null && book.getAuthor().getId() != null) {
+                deltas.computeIfAbsent(book.getAuthor().getId(), id -> new Delta()).add(1, book.getPrice());
+            }
+        }
+        deltas.forEach((authorId, delta) -> apply(authorId, delta.books, delta.priced, delta.sum));
+    }
+
+    /**
+     * Rebuilds the statistics in batches of authors, each batch in its own transaction.
+     */
+    @Override
+    public long reconcile() {
+        return reconcile(0, afterId -> { });
+    }
+
+    /**
+     * Rebuilds the statistics in batches of authors after the given one, each batch in its own
+     * transaction, reporting the last author of each batch once it is committed.
+     */
+    @Override
+    public long reconcile(long afterId, LongConsumer onBatch) {
+        long rebuilt = 0;
+        List<Long> batch;
+        while (!(batch = authorStatsRepository.rebuildBatch(afterId, reconcileBatchSize)).isEmpty()) {
+            rebuilt += batch.size();
+            afterId = batch.stream().mapToLong(Long::longValue).max().getAsLong();
+            onBatch.accept(afterId);
+        }
+        log.info("Author statistics reconciled for {} authors", rebuilt);
+        return rebuilt;
+    }
+
+    private void apply(Long authorId, long bookDelta, long pricedDelta, BigDecimal priceDelta) {
+        if (bookDelta != 0 || pricedDelta != 0 || priceDelta.signum() != 0) {
+            authorStatsRepository.applyDelta(authorId, bookDelta, pricedDelta, priceDelta);
+        }
+    }
+
+    /**
+     * Accumulated change of one author's statistics.
+     */
+    private static final class Delta {
+        long books;
+        long priced;
+        BigDecimal sum = BigDecimal.ZERO;
+
+        void add(int sign, BigDecimal price) {
+            books += sign;
+            priced += sign * priced(price);
+            sum = sign > 0 ? sum.add(amount(price)) : sum.subtract(amount(price));
+        }
+    }
+
+    private static long priced(BigDecimal price) {
+        return price != null ? 1 : 0;
+    }
+
+    private static BigDecimal amount(BigDecimal price) {
+        return price != null ? price : BigDecimal.ZERO;
+    }
+}
@@ -1,18 +1,46 @@
 package com.gklyphon.VirtualLibrary.service.impl;
 
+import com.gklyphon.VirtualLibrary.cache.CacheBatch;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogLoader;
+import com.gklyphon.VirtualLibrary.cache.IsbnIndex;
+import com.gklyphon.VirtualLibrary.event.CatalogEvent;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
 import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.VersionConflictException;
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
 import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
 import com.gklyphon.VirtualLibrary.service.IBookService;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
@@ -28,23 +56,54 @@ import java.util.List;
 public class BookServiceImpl implements IBookService {
 
     private final IBookRepository bookRepository;
+    private final IAuthorRepository authorRepository;
+    private final CatalogCache catalogCache;
+    private final IAuthorStatsService authorStatsService;
+    private final CatalogEventPublisher catalogEventPublisher;
+    private final IsbnIndex isbnIndex;
+    private final CatalogLoader catalogLoader;
 
-    public BookServiceImpl(IBookRepository bookRepository) {
+    public BookServiceImpl(IBookRepository bookRepository, IAuthorRepository authorRepository,
+                           CatalogCache catalogCache, IAuthorStatsService authorStatsService,
+                           CatalogEventPublisher catalogEventPublisher, IsbnIndex isbnIndex,
+                           CatalogLoader catalogLoader) {
         this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.catalogCache = catalogCache;
+        this.authorStatsService = authorStatsService;
+        this.catalogEventPublisher = catalogEventPublisher;
+        this.isbnIndex = isbnIndex;
+        this.catalogLoader = catalogLoader;
     }
 
     /**
      * Finds a Book entity by its ISBN.
-     * This method is marked as read-only and caches the result for future use.
+     * Caches the result for future use.
+     *
+     * <p>The ISBN is first resolved by the in-process {@link IsbnIndex}: an unknown ISBN is
+     * rejected without a query, and a known one is read by its ID through the
+     * {@link CatalogLoader}, so a book already in the books cache needs no database work.
+     * The lookup by ISBN is only run, in its own read-only transaction, when the index
+     * cannot tell or points to a book that no longer holds the ISBN.</p>
      *
-     * @param isbn the ISBN of the book to find
+     * @param isbn the ISBN of the book to find, in canonical form
      * @return the found Book entity
      * @throws ElementNotFoundException if no book with the given ISBN exists
      */
     @Override
-    @Transactional(readOnly = true)
     @Cacheable(value = "books", key = "#isbn")
     public Book findByIsbn(String isbn) {
+        long id = isbnIndex.lookup(isbn);
+        if (id == IsbnIndex.ABSENT) {
+            throw new ElementNotFoundException("Book with isbn: " + isbn + " not found.");
+        }
+        if (id != IsbnIndex.UNKNOWN) {
+            Optional<Book> book = catalogLoader.book(id);
+            if (book.isPresent() && isbn.equals(Isbn.normalize(book.get().getIsbn()))) {
+                return book.get();
+            }
+            isbnIndex.evict(isbn, id);
+        }
         return bookRepository.findByIsbn(isbn)
                 .orElseThrow(() -> new ElementNotFoundException("Book with isbn: " + isbn + " not found."));
     }
@@ -65,6 +124,31 @@ public class BookServiceImpl implements IBookService {
                 .orElseThrow(() -> new ElementNotFoundException("Book with title: " + title + " not found."));
     }
 
+    /**
+     * Finds the Book entities with the given IDs, with their authors, in one query.
+     *
+     * @param ids the IDs of the books to find
+     * @return the books that exist, in no particular order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findAllById(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : bookRepository.findWithAuthorByIdIn(ids);
+    }
+
+    /**
+     * Retrieves a slice of the books of an author, with the author, without counting them.
+     *
+     * @param authorId the ID of the author
+     * @param pageable the pagination information
+     * @return a slice of the author's books
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Book> findAllByAuthorId(Long authorId, Pageable pageable) {
+        return bookRepository.findByAuthorId(authorId, pageable);
+    }
+
     /**
      * Retrieves all Book entities.
      * This method is marked as read-only and caches the result for future use.
@@ -87,30 +171,101 @@ public class BookServiceImpl implements IBookService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "booksPage", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
+    @Cacheable(value = "booksPage",
+            key = "@catalogCache.generation() + '-' + #pageable.pageNumber + '-' + #pageable.pageSize")
     public Page<Book> findAllPageable(Pageable pageable) {
         return bookRepository.findAll(pageable);
     }
 
     /**
      * Finds a Book entity by its ID.
-     * This method is marked as read-only and caches the result for future use.
+     * Read through the books cache by the {@link CatalogLoader}, together with the
+     * lookups of concurrent requests.
      *
      * @param id the ID of the book to find
      * @return the found Book entity
      * @throws ElementNotFoundException if no book with the given ID exists
      */
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "books", key = "#id")
     public Book findById(Long id) {
-        return bookRepository.findById(id).orElseThrow(
+        return catalogLoader.book(id).orElseThrow(
                 () -> new ElementNotFoundException("Book with id: " + id + " not found."));
     }
 
+    /**
+     * Retrieves a paginated list of books with a column-limited query.
+     * Cached per page and fieldset until the next catalog write.
+     *
+     * @param pageable the pagination information
+     * @param fields   the fields to select
+     * @return a page of selected book fields
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "booksFields", key = "@catalogCache.generation() + '-' + #fields.key() + '-'"
+            + " + #pageable.pageNumber + '-' + #pageable.pageSize")
+    public Page<BookFields> findAllPageable(Pageable pageable, FieldSet fields) {
+        return bookRepository.findFields(fields, pageable);
+    }
+
+    /**
+     * Finds the selected fields of a book by its ID with a column-limited query.
+     * Cached per fieldset until the next catalog write.
+     *
+     * @param id     the ID of the book to find
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     * @throws ElementNotFoundException if no book with the given ID exists
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "booksFields", key = "@catalogCache.generation() + '-' + #fields.key() + '-id-' + #id")
+    public BookFields findById(Long id, FieldSet fields) {
+        return bookRepository.findFieldsBy("id", id, fields)
+                .orElseThrow(() -> new ElementNotFoundException("Book with id: " + id + " not found."));
+    }
+
+    /**
+     * Finds the selected fields of a book by its ISBN with a column-limited query.
+     * Cached per fieldset until the next catalog write.
+     *
+     * @param isbn   the ISBN of the book to find, in canonical form
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     * @throws ElementNotFoundException if no book with the given ISBN exists
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "booksFields", key = "@catalogCache.generation() + '-' + #fields.key() + '-isbn-' + #isbn")
+    public BookFields findByIsbn(String isbn, FieldSet fields) {
+        if (isbnIndex.lookup(isbn) == IsbnIndex.ABSENT) {
+            throw new ElementNotFoundException("Book with isbn: " + isbn + " not found.");
+        }
+        return bookRepository.findFieldsBy("isbn", isbn, fields)
+                .orElseThrow(() -> new ElementNotFoundException("Book with isbn: " + isbn + " not found."));
+    }
+
+    /**
+     * Finds the selected fields of a book by its title with a column-limited query.
+     * Cached per fieldset until the next catalog write.
+     *
+     * @param title  the title of the book to find
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     * @throws ElementNotFoundException if no book with the given title exists
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "booksFields", key = "@catalogCache.generation() + '-' + #fields.key() + '-title-' + #title")
+    public BookFields findByTitle(String title, FieldSet fields) {
+        return bookRepository.findFieldsBy("title", title, fields)
+                .orElseThrow(() -> new ElementNotFoundException("Book with title: " + title + " not found."));
+    }
+
     /**
      * Saves a new or existing Book entity.
-     * This method caches the saved entity for future use.
+     * This method caches the saved entity for future use, invalidates cached pages,
+     * updates the author statistics in the same transaction and publishes the change.
      *
      * @param book the Book entity to save
      * @return the saved Book entity
@@ -119,23 +274,160 @@ public class BookServiceImpl implements IBookService {
     @Transactional
     @CachePut(value = "books", key = "#book.id")
     public Book save(Book book) {
-        return bookRepository.save(book);
+        Optional<BookRow> previous = book.getId() != null ? bookRepository.lockRow(book.getId()) : Optional.empty();
+        Book saved = bookRepository.save(book);
+        authorStatsService.recordChange(
+                previous.map(BookRow::authorId).orElse(null),
+                previous.map(BookRow::price).orElse(null),
+                saved.getAuthor() != null ? saved.getAuthor().getId() : null,
+                saved.getPrice());
+        catalogCache.invalidatePages();
+        catalogEventPublisher.publish(() -> List.of(
+                CatalogEvent.saved(Tombstone.BOOK, previous.isEmpty(), saved.getId(), saved.getVersion())));
+        return saved;
+    }
+
+    /**
+     * Validates the whole batch with one locking read of the updated books, one lookup of the
+     * referenced authors and one lookup of the ISBNs, without loading any author. The valid
+     * books are then written as JDBC batches, their statistics are recorded with one upsert per
+     * author, and the affected cache entries are evicted in one pipelined round-trip after commit.
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResult> saveAll(List<Book> books) {
+        Map<Long, Versioned<BookRow>> current = bookRepository.lockRows(distinct(books, Book::getId)).stream()
+                .collect(Collectors.toMap(row -> row.value().id(), Function.identity()));
+        Set<Long> authors = new HashSet<>(authorRepository.findExistingIds(distinct(books, BookServiceImpl::authorId)));
+        Map<String, Long> isbnOwners = bookRepository.findRowsByIsbnIn(distinct(books, Book::getIsbn)).stream()
+                .collect(Collectors.toMap(BookRow::isbn, BookRow::id));
+
+        BatchItemResult[] results = new BatchItemResult[books.size()];
+        Set<String> isbns = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        List<Integer> created = new ArrayList<>();
+        List<Integer> updated = new ArrayList<>();
+        for (int i = 0; i < books.size(); i++) {
+            Book book = books.get(i);
+            if (book == null) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.BAD_REQUEST, "Item is empty.");
+                continue;
+            }
+            Versioned<BookRow> existing = book.getId() != null ? current.get(book.getId()) : null;
+            Long owner = book.getIsbn() != null ? isbnOwners.get(book.getIsbn()) : null;
+            if (book.getId() != null && existing == null) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.NOT_FOUND, "Book with id: " + book.getId() + " not found.");
+            } else if (existing != null && book.getVersion() != null && book.getVersion() != existing.version()) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.CONFLICT,
+                        "Book with id: " + book.getId() + " was modified by another request.");
+            } else if (book.getAuthor() != null && !authors.contains(authorId(book))) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.NOT_FOUND,
+                        "Author with id: " + authorId(book) + " not found.");
+            } else if (owner != null && !owner.equals(book.getId())) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.CONFLICT,
+                        "ISBN " + book.getIsbn() + " is already used by book with id: " + owner + ".");
+            } else if (book.getIsbn() != null && !isbns.add(book.getIsbn())) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.CONFLICT,
+                        "ISBN " + book.getIsbn() + " appears more than once in the batch.");
+            } else if (existing != null && !ids.add(book.getId())) {
+                results[i] = BatchItemResult.failed(i, HttpStatus.CONFLICT,
+                        "Book with id: " + book.getId() + " appears more than once in the batch.");
+            } else {
+                (existing != null ? updated : created).add(i);
+            }
+        }
+
+        List<Book> creates = created.stream().map(books::get).toList();
+        bookRepository.insertBatch(creates);
+        LocalDateTime now = LocalDateTime.now();
+        List<Book> updates = updated.stream().map(books::get).toList();
+        for (Book book : updates) {
+            book.setVersion(current.get(book.getId()).version() + 1);
+            book.setUpdatedAt(now);
+        }
+        bookRepository.updateBatch(updates);
+
+        List<BookPatch> changes = new ArrayList<>();
+        List<CatalogEvent> events = new ArrayList<>();
+        CacheBatch cacheBatch = new CacheBatch();
+        for (int i : created) {
+            Book book = books.get(i);
+            results[i] = BatchItemResult.written(i, HttpStatus.CREATED, book.getId(), book.getVersion());
+            changes.add(new BookPatch(book, null));
+            events.add(CatalogEvent.saved(Tombstone.BOOK, true, book.getId(), book.getVersion()));
+            cacheBatch.evict("authors", authorId(book));
+        }
+        for (int i : updated) {
+            Book book = books.get(i);
+            BookRow previous = current.get(book.getId()).value();
+            results[i] = BatchItemResult.written(i, HttpStatus.OK, book.getId(), book.getVersion());
+            changes.add(new BookPatch(book, previous));
+            events.add(CatalogEvent.saved(Tombstone.BOOK, false, book.getId(), book.getVersion()));
+            cacheBatch.evictBook(previous).evict("authors", authorId(book));
+        }
+        if (!changes.isEmpty()) {
+            authorStatsService.recordChanges(changes);
+            catalogCache.writeBatch(cacheBatch);
+            catalogEventPublisher.publish(events);
+        }
+        return List.of(results);
+    }
+
+    private static Long authorId(Book book) {
+        return book.getAuthor() != null ? book.getAuthor().getId() : null;
+    }
+
+    private static <T> Set<T> distinct(List<Book> books, Function<Book, T> value) {
+        return books.stream().filter(Objects::nonNull).map(value).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Applies a JSON Merge Patch document to a Book entity with a single UPDATE statement.
+     * The book is evicted from the cache under its ID and under both its previous and new
+     * ISBN and title, together with its previous and new authors, and cached pages are
+     * invalidated. The author statistics are updated in the same transaction.
+     *
+     * @param id    the ID of the book to patch
+     * @param patch the merge patch document
+     * @return the patched Book entity
+     * @throws ElementNotFoundException if no book with the given ID exists
+     * @throws VersionConflictException if the document's version no longer matches the stored one
+     */
+    @Override
+    @Transactional
+    public Book patch(Long id, Map<String, Object> patch) {
+        BookPatch patched = bookRepository.patch(id, patch).orElseThrow(() ->
+                patch.containsKey("version") && bookRepository.existsById(id)
+                        ? new VersionConflictException("Book with id: " + id + " was modified by another request.")
+                        : new ElementNotFoundException("Book with id: " + id + " not found."));
+        Book book = patched.book();
+        Long authorId = book.getAuthor() != null ? book.getAuthor().getId() : null;
+        authorStatsService.recordChange(patched.previous().authorId(), patched.previous().price(),
+                authorId, book.getPrice());
+        catalogCache.evictBooks(List.of(patched.previous(),
+                new BookRow(book.getId(), book.getIsbn(), book.getTitle(), authorId, book.getPrice())));
+        catalogEventPublisher.publish(CatalogEvent.saved(Tombstone.BOOK, false, book.getId(), book.getVersion()));
+        return book;
     }
 
     /**
-     * Deletes a Book entity by its ID.
-     * This method removes the cached entity as well.
+     * Deletes a Book entity by its ID with a single statement.
+     * The book is evicted from the cache under its ID, ISBN and title,
+     * and cached pages are invalidated. The statement also updates the author statistics.
+     * The deletion is published once committed.
      *
      * @param id the ID of the book to delete
      * @throws ElementNotFoundException if no book with the given ID exists
      */
     @Override
     @Transactional
-    @CacheEvict(value = "books", key = "#id")
     public void deleteById(Long id) {
-        if (!bookRepository.existsById(id)) {
+        List<BookRow> deleted = bookRepository.deleteReturningRow(id);
+        if (deleted.isEmpty()) {
             throw new ElementNotFoundException("Book with id: " + id + " not found.");
         }
-        bookRepository.deleteById(id);
+        catalogCache.evictBooks(deleted);
+        catalogEventPublisher.publish(CatalogEvent.deleted(Tombstone.BOOK, id));
     }
 }
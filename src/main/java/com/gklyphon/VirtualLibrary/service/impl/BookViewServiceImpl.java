@@ -0,0 +1,241 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.config.redis.BookViewsData;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.PopularBook;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import com.gklyphon.VirtualLibrary.service.IBookViewService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts views of books in process and ranks books by them in Redis.
+ *
+ * <p>Each book has a {@link LongAdder}, so concurrent readers of the same book increment
+ * separate cells instead of contending on one value; a view costs a map lookup and an
+ * increment, with no lock, I/O or allocation once the book is counted. The counts are
+ * drained on a fixed delay and added, in one pipelined round-trip, to a sorted set per hour
+ * ({@code views:books:<epoch hour>}) that expires after {@code book-views.max-window-hours}.
+ * A leaderboard is the union of the buckets in its window, stored for
+ * {@code book-views.leaderboard-ttl-seconds} so concurrent requests share it.</p>
+ *
+ * <p>A counter idle since the last flush is removed, but still drained by the flushes of the
+ * next {@value #RETIRED_GRACE_SECONDS} seconds, so a view recorded by a reader that looked the
+ * counter up before its removal is not lost. Views counted when the process dies are lost.
+ * Counts that cannot be flushed are kept for the next flush.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+public class BookViewServiceImpl implements IBookViewService {
+
+    static final String BUCKET_PREFIX = "views:books:";
+    static final String LEADERBOARD_PREFIX = "views:books:popular:";
+    static final long HOUR_MILLIS = 3_600_000L;
+    static final long RETIRED_GRACE_SECONDS = 10;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final Deque<Retired> retired = new ArrayDeque<>();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final IBookService bookService;
+    private final BookViewsData bookViewsData;
+
+    public BookViewServiceImpl(StringRedisTemplate stringRedisTemplate, IBookService bookService,
+                               BookViewsData bookViewsData) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.bookService = bookService;
+        this.bookViewsData = bookViewsData;
+    }
+
+    /**
+     * Counts a view of a book. Books beyond {@code book-views.max-tracked-books} since the
+     * last flush are not counted, so requests for random IDs cannot grow the map unbounded.
+     *
+     * @param bookId the ID of the viewed book
+     */
+    @Override
+    public void record(Long bookId) {
+        if (!bookViewsData.isEnabled()) {
+            return;
+        }
+        LongAdder counter = counters.get(bookId);
+        if (counter == null) {
+            if (counters.size() >= bookViewsData.getMaxTrackedBooks()) {
+                dropped.increment();
+                return;
+            }
+            counter = counters.computeIfAbsent(bookId, id -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Drains the counters and adds them to the bucket of the current hour, with a single
+     * pipelined round-trip. Counters idle since the last flush are removed.
+     *
+     * @return the number of books whose views were flushed
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${book-views.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        long droppedViews = dropped.sumThenReset();
+        if (droppedViews > 0) {
+            log.warn("Dropped {} book views beyond the {} books tracked", droppedViews,
+                    bookViewsData.getMaxTrackedBooks());
+        }
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        byte[] bucket = bytes(bucketKey(System.currentTimeMillis() / HOUR_MILLIS));
+        long expirySeconds = (bookViewsData.getMaxWindowHours() + 1L) * 3600;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltas.forEach((bookId, views) ->
+                        connection.zSetCommands().zIncrBy(bucket, views, bytes(bookId.toString())));
+                connection.keyCommands().expire(bucket, expirySeconds);
+                return null;
+            });
+        } catch (DataAccessException ex) {
+            deltas.forEach((bookId, views) -> counters.computeIfAbsent(bookId, id -> new LongAdder()).add(views));
+            log.warn("Book views could not be flushed, kept for the next flush: {}", ex.getMessage());
+            return 0;
+        }
+        return deltas.size();
+    }
+
+    /**
+     * Flushes the views counted since the last flush before shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Retrieves the most viewed books within a window ending at the current hour.
+     * Books deleted since their views were counted are skipped, and further ranks are read,
+     * twice as many as are still missing each time, until the limit is filled or the ranking ends.
+     *
+     * @param hours the length of the window in hours, at most {@code book-views.max-window-hours}
+     * @param limit the maximum number of books to return
+     * @return the books with their views, most viewed first
+     */
+    @Override
+    public List<PopularBook> popular(int hours, int limit) {
+        String leaderboard = LEADERBOARD_PREFIX + hours;
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(leaderboard))) {
+            long hour = System.currentTimeMillis() / HOUR_MILLIS;
+            List<String> buckets = new ArrayList<>(hours);
+            for (long h = hour - hours + 1; h < hour; h++) {
+                buckets.add(bucketKey(h));
+            }
+            zSet.unionAndStore(bucketKey(hour), buckets, leaderboard);
+            stringRedisTemplate.expire(leaderboard, Duration.ofSeconds(bookViewsData.getLeaderboardTtlSeconds()));
+        }
+        List<PopularBook> popular = new ArrayList<>(limit);
+        long start = 0;
+        long count = limit;
+        while (popular.size() < limit) {
+            Set<ZSetOperations.TypedTuple<String>> top =
+                    zSet.reverseRangeWithScores(leaderboard, start, start + count - 1);
+            if (top == null || top.isEmpty()) {
+                break;
+            }
+            List<Long> ids = new ArrayList<>(top.size());
+            for (ZSetOperations.TypedTuple<String> entry : top) {
+                ids.add(Long.valueOf(entry.getValue()));
+            }
+            Map<Long, Book> books = new HashMap<>();
+            for (Book book : bookService.findAllById(ids)) {
+                books.put(book.getId(), book);
+            }
+            for (ZSetOperations.TypedTuple<String> entry : top) {
+                Book book = books.get(Long.valueOf(entry.getValue()));
+                if (book != null && popular.size() < limit) {
+                    popular.add(new PopularBook(book, entry.getScore() != null ? entry.getScore().longValue() : 0));
+                }
+            }
+            if (top.size() < count) {
+                break;
+            }
+            start += count;
+            count = 2L * (limit - popular.size());
+        }
+        return popular;
+    }
+
+    /**
+     * Resets every counter and returns the views counted since the last flush,
+     * retiring the counters of books not viewed since then. Retired counters are
+     * drained until their grace period ends.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<Long, LongAdder>> it = counters.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, LongAdder> entry = it.next();
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                deltas.put(entry.getKey(), views);
+            } else {
+                it.remove();
+                retired.add(new Retired(entry.getKey(), entry.getValue(), now));
+            }
+        }
+        for (Iterator<Retired> it = retired.iterator(); it.hasNext(); ) {
+            Retired counter = it.next();
+            long views = counter.views().sumThenReset();
+            if (views > 0) {
+                deltas.merge(counter.bookId(), views, Long::sum);
+            }
+            if (now - counter.retiredAt() > TimeUnit.SECONDS.toNanos(RETIRED_GRACE_SECONDS)) {
+                it.remove();
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * A counter removed from the map while readers may still hold it.
+     *
+     * @param bookId    the ID of the book
+     * @param views     the counter
+     * @param retiredAt when it was removed, in {@link System#nanoTime()} units
+     */
+    private record Retired(Long bookId, LongAdder views, long retiredAt) {
+    }
+
+    static String bucketKey(long hour) {
+        return BUCKET_PREFIX + hour;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
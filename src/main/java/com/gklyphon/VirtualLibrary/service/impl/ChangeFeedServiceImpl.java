@@ -0,0 +1,137 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.SyncTokenExpiredException;
+import com.gklyphon.VirtualLibrary.model.entity.Auditable;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.ChangeFeed;
+import com.gklyphon.VirtualLibrary.model.projection.SyncToken;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.ITombstoneRepository;
+import com.gklyphon.VirtualLibrary.service.IChangeFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Implementation of the IChangeFeedService interface.
+ * Changed rows are read after the token's position on the {@code (updated_at, id)} index
+ * and deletions from the tombstones, so a sync reads only what changed.
+ *
+ * <p>Rows are stamped with their update time before their transaction commits, so a slow
+ * transaction can make a row visible after later rows were already returned. Each read
+ * therefore stops at a horizon, the current time minus {@code sync.commit-lag-seconds},
+ * and a token whose deletions are older than {@code sync.tombstones.retention-days}
+ * is rejected, since the tombstones it would need may have been purged.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+public class ChangeFeedServiceImpl implements IChangeFeedService {
+
+    private final IBookRepository bookRepository;
+    private final IAuthorRepository authorRepository;
+    private final ITombstoneRepository tombstoneRepository;
+    private final Duration commitLag;
+    private final Duration retention;
+
+    public ChangeFeedServiceImpl(IBookRepository bookRepository, IAuthorRepository authorRepository,
+                                 ITombstoneRepository tombstoneRepository,
+                                 @Value("${sync.commit-lag-seconds:5}") long commitLagSeconds,
+                                 @Value("${sync.tombstones.retention-days:30}") long retentionDays) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.commitLag = Duration.ofSeconds(commitLagSeconds);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeed<Book> bookChanges(String since, int limit) {
+        return changes(since, limit, Tombstone.BOOK, Book::getId,
+                (token, horizon) -> bookRepository.findChangedAfter(
+                        token.changedAt(), token.changedId(), horizon, Limit.of(limit)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeed<Author> authorChanges(String since, int limit) {
+        return changes(since, limit, Tombstone.AUTHOR, Author::getId,
+                (token, horizon) -> authorRepository.findChangedAfter(
+                        token.changedAt(), token.changedId(), horizon, Limit.of(limit)));
+    }
+
+    /**
+     * Deletes the tombstones older than the retention period.
+     * Scheduled by {@code sync.tombstones.purge-cron}.
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${sync.tombstones.purge-cron:-}")
+    public int purgeTombstones() {
+        int purged = tombstoneRepository.purgeBefore(LocalDateTime.now().minus(retention));
+        log.info("Purged {} tombstones", purged);
+        return purged;
+    }
+
+    /**
+     * Reads the changed rows and the tombstones after the token, up to the horizon.
+     * A stream that returns fewer items than the limit is exhausted up to the horizon,
+     * so its position moves to the horizon and the next call starts there.
+     */
+    private <T extends Auditable> ChangeFeed<T> changes(String since, int limit, String entityType,
+                                                        Function<T, Long> id, ChangedRows<T> changedRows) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.minus(commitLag);
+        SyncToken token = since == null ? SyncToken.initial(horizon) : SyncToken.decode(since);
+        if (token.deletedAt().isBefore(now.minus(retention))) {
+            throw new SyncTokenExpiredException("Sync token is older than the tombstone retention, sync again without it.");
+        }
+
+        List<T> changed = changedRows.find(token, horizon);
+        List<Tombstone> deleted = tombstoneRepository.findDeletedAfter(entityType,
+                token.deletedAt(), token.deletedId(), horizon, Limit.of(limit));
+
+        LocalDateTime changedAt = horizon;
+        long changedId = 0;
+        if (changed.size() == limit) {
+            T last = changed.get(limit - 1);
+            changedAt = last.getUpdatedAt();
+            changedId = id.apply(last);
+        }
+        LocalDateTime deletedAt = horizon;
+        long deletedId = 0;
+        if (deleted.size() == limit) {
+            Tombstone last = deleted.get(limit - 1);
+            deletedAt = last.getDeletedAt();
+            deletedId = last.getId();
+        }
+        SyncToken next = new SyncToken(changedAt, changedId, deletedAt, deletedId);
+        return new ChangeFeed<>(changed, deleted.stream().map(Tombstone::getEntityId).toList(), next.encode(),
+                changed.size() == limit || deleted.size() == limit);
+    }
+
+    /**
+     * Reads the rows changed after a token, up to a horizon.
+     *
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    private interface ChangedRows<T> {
+        List<T> find(SyncToken token, LocalDateTime horizon);
+    }
+}
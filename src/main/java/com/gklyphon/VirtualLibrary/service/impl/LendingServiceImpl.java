@@ -0,0 +1,143 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.CopiesOnLoanException;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.IdempotencyKeyReuseException;
+import com.gklyphon.VirtualLibrary.exception.custom.NoCopyAvailableException;
+import com.gklyphon.VirtualLibrary.model.entity.BookCopies;
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+import com.gklyphon.VirtualLibrary.repository.IBookCopiesRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.ILoanRepository;
+import com.gklyphon.VirtualLibrary.service.ILendingService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of the ILendingService interface.
+ *
+ * <p>A checkout inserts its loan, keyed by the idempotency key, and then takes a copy with
+ * a conditional update, in one transaction. The update runs last, so the row of a contended
+ * book is locked only until the commit that follows it, and it never lets the available
+ * count drop below zero. When no copy is left the transaction rolls back, loan included.
+ * A second checkout with the same key finds the loan of the first, waiting for it to
+ * commit if both run at once.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+public class LendingServiceImpl implements ILendingService {
+
+    private final IBookCopiesRepository bookCopiesRepository;
+    private final ILoanRepository loanRepository;
+    private final IBookRepository bookRepository;
+
+    public LendingServiceImpl(IBookCopiesRepository bookCopiesRepository, ILoanRepository loanRepository,
+                              IBookRepository bookRepository) {
+        this.bookCopiesRepository = bookCopiesRepository;
+        this.loanRepository = loanRepository;
+        this.bookRepository = bookRepository;
+    }
+
+    /**
+     * Retrieves the copies of a book.
+     *
+     * @param bookId the ID of the book
+     * @return the total and available copies of the book
+     * @throws ElementNotFoundException if the book has no copies
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookCopies findCopies(Long bookId) {
+        return bookCopiesRepository.findById(bookId).orElseThrow(
+                () -> new ElementNotFoundException("Book with id: " + bookId + " has no copies."));
+    }
+
+    /**
+     * Sets the number of copies of a book with a single upsert.
+     *
+     * @param bookId the ID of the book
+     * @param total  the new number of copies
+     * @return the total and available copies of the book
+     * @throws ElementNotFoundException if no book with the given ID exists
+     * @throws CopiesOnLoanException    if more copies are on loan than the new total
+     */
+    @Override
+    @Transactional
+    public BookCopies setCopies(Long bookId, int total) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new ElementNotFoundException("Book with id: " + bookId + " not found.");
+        }
+        if (bookCopiesRepository.setTotal(bookId, total) == 0) {
+            throw new CopiesOnLoanException("More than " + total + " copies of book with id: " + bookId
+                    + " are on loan.");
+        }
+        return findCopies(bookId);
+    }
+
+    /**
+     * Lends a copy of a book.
+     *
+     * @param bookId    the ID of the book
+     * @param borrower  the borrower
+     * @param requestId the idempotency key of the checkout
+     * @return the loan, created now or by an earlier checkout with the same key
+     * @throws ElementNotFoundException      if the book has no copies
+     * @throws NoCopyAvailableException      if every copy of the book is on loan
+     * @throws IdempotencyKeyReuseException  if the key was used to borrow another book
+     */
+    @Override
+    @Transactional
+    public Loan checkout(Long bookId, String borrower, String requestId) {
+        if (loanRepository.insertIfAbsent(requestId, bookId, borrower, LocalDateTime.now()) == 0) {
+            Loan loan = loanRepository.findByRequestId(requestId).orElseThrow();
+            if (!loan.getBookId().equals(bookId)) {
+                throw new IdempotencyKeyReuseException("Idempotency key " + requestId
+                        + " was used to borrow book with id: " + loan.getBookId() + ".");
+            }
+            return loan;
+        }
+        if (bookCopiesRepository.takeCopy(bookId) == 0) {
+            if (!bookCopiesRepository.existsById(bookId)) {
+                throw new ElementNotFoundException("Book with id: " + bookId + " has no copies.");
+            }
+            throw new NoCopyAvailableException("No copy of book with id: " + bookId + " is available.");
+        }
+        return loanRepository.findByRequestId(requestId).orElseThrow();
+    }
+
+    /**
+     * Returns a lent copy, putting it back only if the loan was still open.
+     *
+     * @param loanId the ID of the loan
+     * @return the returned loan
+     * @throws ElementNotFoundException if no loan with the given ID exists
+     */
+    @Override
+    @Transactional
+    public Loan returnLoan(Long loanId) {
+        Loan loan = findLoan(loanId);
+        if (loan.getReturnedAt() == null && loanRepository.markReturned(loanId, LocalDateTime.now()) == 1) {
+            bookCopiesRepository.returnCopy(loan.getBookId());
+        }
+        return findLoan(loanId);
+    }
+
+    /**
+     * Retrieves a loan by its ID.
+     *
+     * @param loanId the ID of the loan
+     * @return the loan
+     * @throws ElementNotFoundException if no loan with the given ID exists
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Loan findLoan(Long loanId) {
+        return loanRepository.findById(loanId).orElseThrow(
+                () -> new ElementNotFoundException("Loan with id: " + loanId + " not found."));
+    }
+}
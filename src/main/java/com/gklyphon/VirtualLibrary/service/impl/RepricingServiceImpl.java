@@ -0,0 +1,218 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.cache.CacheBatch;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.config.concurrency.RepricingData;
+import com.gklyphon.VirtualLibrary.event.CatalogEvent;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.JobQueueFullException;
+import com.gklyphon.VirtualLibrary.job.JobExecution;
+import com.gklyphon.VirtualLibrary.job.JobHandler;
+import com.gklyphon.VirtualLibrary.job.JobScheduler;
+import com.gklyphon.VirtualLibrary.job.LeaseLostException;
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.RepricedChunk;
+import com.gklyphon.VirtualLibrary.model.projection.RepricingRequest;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.IRepricingJobRepository;
+import com.gklyphon.VirtualLibrary.service.IRepricingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the IRepricingService interface.
+ *
+ * <p>A repricing runs as a background job of the {@link JobScheduler}, as a series of short
+ * transactions. Each one locks the repricing, reprices the next chunk of matching books in ID
+ * order with a single set-based statement, and advances the repricing's cursor and counters,
+ * checking in the same transaction that this node still holds the job's lease. A chunk is
+ * therefore applied exactly once, even when the job is interrupted and resumed on another node.
+ * Only the books of the chunk are locked, and only while it runs.</p>
+ *
+ * <p>Between chunks the job pauses in proportion to the time the chunk took, so it uses the
+ * database for at most {@code repricing.max-duty-percent} of the time and leaves the rest to
+ * requests. After each chunk that changed prices the repriced books are evicted from the
+ * caches and their updates published.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+public class RepricingServiceImpl implements IRepricingService, JobHandler {
+
+    public static final String TYPE = "repricing";
+
+    private final IRepricingJobRepository repricingJobRepository;
+    private final IBookRepository bookRepository;
+    private final CatalogCache catalogCache;
+    private final CatalogEventPublisher catalogEventPublisher;
+    private final JobScheduler jobScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxDutyPercent;
+
+    public RepricingServiceImpl(IRepricingJobRepository repricingJobRepository, IBookRepository bookRepository,
+                                CatalogCache catalogCache, CatalogEventPublisher catalogEventPublisher,
+                                JobScheduler jobScheduler, PlatformTransactionManager transactionManager,
+                                RepricingData repricingData) {
+        this.repricingJobRepository = repricingJobRepository;
+        this.bookRepository = bookRepository;
+        this.catalogCache = catalogCache;
+        this.catalogEventPublisher = catalogEventPublisher;
+        this.jobScheduler = jobScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, repricingData.getChunkSize());
+        this.maxDutyPercent = Math.clamp(repricingData.getMaxDutyPercent(), 1, 100);
+    }
+
+    /**
+     * Saves the repricing with the number of matching books and queues its job, in one transaction.
+     *
+     * @throws JobQueueFullException if as many repricings are waiting as the queue allows
+     */
+    @Override
+    public RepricingJob start(RepricingRequest request) {
+        return transactionTemplate.execute(status -> {
+            RepricingJob pending = RepricingJob.builder()
+                    .status(RepricingJob.Status.PENDING)
+                    .authorId(request.authorId())
+                    .minPrice(request.minPrice())
+                    .maxPrice(request.maxPrice())
+                    .bookIds(request.bookIds() != null ? List.copyOf(request.bookIds()) : null)
+                    .ruleType(request.rule().type())
+                    .ruleValue(request.rule().value())
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            pending.setTotal(bookRepository.countRepriceable(pending));
+            RepricingJob saved = repricingJobRepository.save(pending);
+            jobScheduler.submit(TYPE, saved.getId().toString());
+            return saved;
+        });
+    }
+
+    /**
+     * Retrieves a job by its ID.
+     *
+     * @throws ElementNotFoundException if no job with the given ID exists
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RepricingJob find(Long id) {
+        return repricingJobRepository.findById(id).orElseThrow(
+                () -> new ElementNotFoundException("Repricing job with id: " + id + " not found."));
+    }
+
+    /**
+     * Requests the cancellation with a single conditional update. Cancelling a finished job changes nothing.
+     *
+     * @throws ElementNotFoundException if no job with the given ID exists
+     */
+    @Override
+    @Transactional
+    public RepricingJob cancel(Long id) {
+        repricingJobRepository.requestCancel(id, LocalDateTime.now());
+        return find(id);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    /**
+     * Runs the chunks of a repricing until it completes or is cancelled, pausing between them.
+     * If the last run allowed fails, the repricing is marked as failed.
+     *
+     * @param execution the job, whose payload is the ID of the repricing
+     */
+    @Override
+    public void run(JobExecution execution) throws InterruptedException {
+        Long id = Long.valueOf(execution.payload());
+        try {
+            while (true) {
+                long start = System.nanoTime();
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> runChunk(id, execution)))) {
+                    return;
+                }
+                long pauseNanos = (System.nanoTime() - start) * (100 - maxDutyPercent) / maxDutyPercent;
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            }
+        } catch (RuntimeException ex) {
+            if (execution.isLastAttempt() && !(ex instanceof LeaseLostException)
+                    && !Thread.currentThread().isInterrupted()) {
+                log.error("Repricing job {} failed", id, ex);
+                transactionTemplate.executeWithoutResult(status -> repricingJobRepository.lockById(id)
+                        .filter(job -> !job.getStatus().isFinished())
+                        .ifPresent(job -> finish(job, RepricingJob.Status.FAILED, ex.toString())));
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs the next chunk of a repricing in the current transaction.
+     *
+     * @param id        the ID of the repricing
+     * @param execution the job running the repricing, checkpointed with the new cursor
+     * @return true if the repricing has chunks left
+     * @throws LeaseLostException if another node took over the job; the chunk is rolled back
+     */
+    boolean runChunk(Long id, JobExecution execution) {
+        RepricingJob job = repricingJobRepository.lockById(id).orElse(null);
+        if (job == null || job.getStatus().isFinished()) {
+            return false;
+        }
+        if (job.isCancelRequested()) {
+            finish(job, RepricingJob.Status.CANCELLED, null);
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (job.getStatus() == RepricingJob.Status.PENDING) {
+            job.setStatus(RepricingJob.Status.RUNNING);
+            job.setStartedAt(now);
+        }
+        RepricedChunk chunk = bookRepository.repriceChunk(job, chunkSize, now);
+        if (chunk.lastId() != null) {
+            job.setLastId(chunk.lastId());
+        }
+        job.setProcessed(job.getProcessed() + chunk.scanned());
+        job.setRepriced(job.getRepriced() + chunk.repriced().size());
+        execution.checkpoint(job.getLastId());
+        if (!chunk.repriced().isEmpty()) {
+            CacheBatch cacheBatch = new CacheBatch();
+            List<CatalogEvent> events = new ArrayList<>(chunk.repriced().size());
+            for (Versioned<BookRow> book : chunk.repriced()) {
+                cacheBatch.evictBook(book.value());
+                events.add(CatalogEvent.saved(Tombstone.BOOK, false, book.value().id(), book.version()));
+            }
+            catalogCache.writeBatch(cacheBatch);
+            catalogEventPublisher.publish(events);
+        }
+        if (chunk.scanned() < chunkSize) {
+            finish(job, RepricingJob.Status.COMPLETED, null);
+            return false;
+        }
+        return true;
+    }
+
+    private static void finish(RepricingJob job, RepricingJob.Status status, String error) {
+        job.setStatus(status);
+        job.setError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+        job.setFinishedAt(LocalDateTime.now());
+    }
+
+}
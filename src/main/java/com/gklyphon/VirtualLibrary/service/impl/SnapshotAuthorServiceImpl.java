@@ -0,0 +1,181 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidFieldsException;
+import com.gklyphon.VirtualLibrary.exception.custom.ReadOnlyNodeException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.service.IAuthorService;
+import com.gklyphon.VirtualLibrary.snapshot.CatalogSnapshot;
+import com.gklyphon.VirtualLibrary.snapshot.MappedCatalog;
+import com.gklyphon.VirtualLibrary.snapshot.SnapshotFields;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the IAuthorService interface for read-only nodes, active when
+ * {@code snapshot.read-only} is set. Authors are read from the mapped catalog snapshot,
+ * without a database or cache round-trip, and every write is rejected.
+ *
+ * <p>Pages are in ID order, ascending unless sorted by descending {@code id};
+ * other sort orders are not available.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "snapshot.read-only", havingValue = "true")
+public class SnapshotAuthorServiceImpl implements IAuthorService {
+
+    private final MappedCatalog mappedCatalog;
+
+    public SnapshotAuthorServiceImpl(MappedCatalog mappedCatalog) {
+        this.mappedCatalog = mappedCatalog;
+    }
+
+    /**
+     * Retrieves an author by their ID from the snapshot.
+     *
+     * @param id the unique identifier of the author
+     * @return the author, with their books
+     * @throws ElementNotFoundException if the author is not found
+     */
+    @Override
+    public Author findById(Long id) {
+        Author author = mappedCatalog.current().author(id);
+        if (author == null) {
+            throw new ElementNotFoundException("Author with id: " + id + " not found.");
+        }
+        return author;
+    }
+
+    /**
+     * Retrieves all authors in the snapshot.
+     *
+     * @return a list of all authors, in ID order
+     */
+    @Override
+    public List<Author> findAll() {
+        CatalogSnapshot snapshot = mappedCatalog.current();
+        return snapshot.authors(0, snapshot.authorCount(), false);
+    }
+
+    /**
+     * Retrieves a page of authors from the snapshot.
+     *
+     * @param pageable the pagination information
+     * @return a page of authors
+     * @throws InvalidFieldsException if the page is sorted by another field than {@code id}
+     */
+    @Override
+    public Page<Author> findAllPageable(Pageable pageable) {
+        CatalogSnapshot snapshot = mappedCatalog.current();
+        boolean descending = descending(pageable.getSort());
+        List<Author> authors = pageable.isPaged()
+                ? snapshot.authors(pageable.getOffset(), pageable.getPageSize(), descending)
+                : snapshot.authors(0, snapshot.authorCount(), descending);
+        return new PageImpl<>(authors, pageable, snapshot.authorCount());
+    }
+
+    /**
+     * Retrieves a page of the selected fields of authors from the snapshot.
+     *
+     * @param pageable the pagination information
+     * @param fields   the fields to select
+     * @return a page of selected author fields
+     * @throws InvalidFieldsException if the page is sorted by another field than {@code id}
+     */
+    @Override
+    public Page<AuthorFields> findAllPageable(Pageable pageable, FieldSet fields) {
+        return findAllPageable(pageable).map(author -> SnapshotFields.of(author, fields));
+    }
+
+    /**
+     * Finds the selected fields of an author by their ID in the snapshot.
+     *
+     * @param id     the ID of the author to find
+     * @param fields the fields to select
+     * @return the selected fields of the author
+     * @throws ElementNotFoundException if no author with the given ID exists
+     */
+    @Override
+    public AuthorFields findById(Long id, FieldSet fields) {
+        return SnapshotFields.of(findById(id), fields);
+    }
+
+    /**
+     * Rejected: authors are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public Author save(Author author) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: authors are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public List<BatchItemResult> saveAll(List<Author> authors) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: authors are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public Author patch(Long id, Map<String, Object> patch) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: authors are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public void deleteById(Long id) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: authors are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public List<Long> deleteWithBooks(Long id) {
+        throw readOnly();
+    }
+
+    private static ReadOnlyNodeException readOnly() {
+        return new ReadOnlyNodeException("Authors cannot be written on a read-only node.");
+    }
+
+    private static boolean descending(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!order.getProperty().equals("id")) {
+                throw new InvalidFieldsException("Cannot sort by " + order.getProperty() + " on a read-only node.");
+            }
+        }
+        Sort.Order id = sort.getOrderFor("id");
+        return id != null && id.isDescending();
+    }
+}
@@ -0,0 +1,283 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidFieldsException;
+import com.gklyphon.VirtualLibrary.exception.custom.ReadOnlyNodeException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import com.gklyphon.VirtualLibrary.snapshot.CatalogSnapshot;
+import com.gklyphon.VirtualLibrary.snapshot.MappedCatalog;
+import com.gklyphon.VirtualLibrary.snapshot.SnapshotFields;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the IBookService interface for read-only nodes, active when
+ * {@code snapshot.read-only} is set. Books are read from the mapped catalog snapshot,
+ * without a database or cache round-trip, and every write is rejected.
+ *
+ * <p>Pages are in ID order, ascending unless sorted by descending {@code id};
+ * other sort orders are not available.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "snapshot.read-only", havingValue = "true")
+public class SnapshotBookServiceImpl implements IBookService {
+
+    private final MappedCatalog mappedCatalog;
+
+    public SnapshotBookServiceImpl(MappedCatalog mappedCatalog) {
+        this.mappedCatalog = mappedCatalog;
+    }
+
+    /**
+     * Finds a book by its ID in the snapshot.
+     *
+     * @param id the ID of the book to find
+     * @return the found book
+     * @throws ElementNotFoundException if no book with the given ID exists
+     */
+    @Override
+    public Book findById(Long id) {
+        Book book = mappedCatalog.current().book(id);
+        if (book == null) {
+            throw new ElementNotFoundException("Book with id: " + id + " not found.");
+        }
+        return book;
+    }
+
+    /**
+     * Finds a book by its ISBN in the snapshot.
+     *
+     * @param isbn the ISBN of the book to find
+     * @return the found book
+     * @throws ElementNotFoundException if no book with the given ISBN exists
+     */
+    @Override
+    public Book findByIsbn(String isbn) {
+        Book book = mappedCatalog.current().bookByIsbn(isbn);
+        if (book == null) {
+            throw new ElementNotFoundException("Book with isbn: " + isbn + " not found.");
+        }
+        return book;
+    }
+
+    /**
+     * Finds a book by its title in the snapshot.
+     *
+     * @param title the title of the book to find
+     * @return the found book, the one with the lowest ID if several share the title
+     * @throws ElementNotFoundException if no book with the given title exists
+     */
+    @Override
+    public Book findByTitle(String title) {
+        Book book = mappedCatalog.current().bookByTitle(title);
+        if (book == null) {
+            throw new ElementNotFoundException("Book with title: " + title + " not found.");
+        }
+        return book;
+    }
+
+    /**
+     * Finds the books with the given IDs in the snapshot.
+     *
+     * @param ids the IDs of the books to find
+     * @return the books that exist, in the order of the IDs
+     */
+    @Override
+    public List<Book> findAllById(Collection<Long> ids) {
+        CatalogSnapshot snapshot = mappedCatalog.current();
+        List<Book> books = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Book book = snapshot.book(id);
+            if (book != null) {
+                books.add(book);
+            }
+        }
+        return books;
+    }
+
+    /**
+     * Retrieves a slice of the books of an author from the snapshot.
+     *
+     * @param authorId the ID of the author
+     * @param pageable the pagination information
+     * @return a slice of the author's books, empty if the snapshot has no such author
+     * @throws InvalidFieldsException if the slice is sorted by another field than {@code id}
+     */
+    @Override
+    public Slice<Book> findAllByAuthorId(Long authorId, Pageable pageable) {
+        CatalogSnapshot snapshot = mappedCatalog.current();
+        boolean descending = descending(pageable.getSort());
+        Author author = snapshot.author(authorId);
+        if (author == null) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        Comparator<Long> order = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        List<Long> ids = author.getBooks().stream().map(Book::getId).sorted(order)
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() + 1L : Long.MAX_VALUE)
+                .toList();
+        boolean hasNext = pageable.isPaged() && ids.size() > pageable.getPageSize();
+        List<Book> books = new ArrayList<>();
+        for (Long id : hasNext ? ids.subList(0, pageable.getPageSize()) : ids) {
+            books.add(snapshot.book(id));
+        }
+        return new SliceImpl<>(books, pageable, hasNext);
+    }
+
+    /**
+     * Retrieves all books in the snapshot.
+     *
+     * @return a list of all books, in ID order
+     */
+    @Override
+    public List<Book> findAll() {
+        CatalogSnapshot snapshot = mappedCatalog.current();
+        return snapshot.books(0, snapshot.bookCount(), false);
+    }
+
+    /**
+     * Retrieves a page of books from the snapshot.
+     *
+     * @param pageable the pagination information
+     * @return a page of books
+     * @throws InvalidFieldsException if the page is sorted by another field than {@code id}
+     */
+    @Override
+    public Page<Book> findAllPageable(Pageable pageable) {
+        CatalogSnapshot snapshot = mappedCatalog.current();
+        boolean descending = descending(pageable.getSort());
+        List<Book> books = pageable.isPaged()
+                ? snapshot.books(pageable.getOffset(), pageable.getPageSize(), descending)
+                : snapshot.books(0, snapshot.bookCount(), descending);
+        return new PageImpl<>(books, pageable, snapshot.bookCount());
+    }
+
+    /**
+     * Retrieves a page of the selected fields of books from the snapshot.
+     *
+     * @param pageable the pagination information
+     * @param fields   the fields to select
+     * @return a page of selected book fields
+     * @throws InvalidFieldsException if the page is sorted by another field than {@code id}
+     */
+    @Override
+    public Page<BookFields> findAllPageable(Pageable pageable, FieldSet fields) {
+        return findAllPageable(pageable).map(book -> SnapshotFields.of(book, fields));
+    }
+
+    /**
+     * Finds the selected fields of a book by its ID in the snapshot.
+     *
+     * @param id     the ID of the book to find
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     * @throws ElementNotFoundException if no book with the given ID exists
+     */
+    @Override
+    public BookFields findById(Long id, FieldSet fields) {
+        return SnapshotFields.of(findById(id), fields);
+    }
+
+    /**
+     * Finds the selected fields of a book by its ISBN in the snapshot.
+     *
+     * @param isbn   the ISBN of the book to find
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     * @throws ElementNotFoundException if no book with the given ISBN exists
+     */
+    @Override
+    public BookFields findByIsbn(String isbn, FieldSet fields) {
+        return SnapshotFields.of(findByIsbn(isbn), fields);
+    }
+
+    /**
+     * Finds the selected fields of a book by its title in the snapshot.
+     *
+     * @param title  the title of the book to find
+     * @param fields the fields to select
+     * @return the selected fields of the book
+     * @throws ElementNotFoundException if no book with the given title exists
+     */
+    @Override
+    public BookFields findByTitle(String title, FieldSet fields) {
+        return SnapshotFields.of(findByTitle(title), fields);
+    }
+
+    /**
+     * Rejected: books are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public Book save(Book book) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: books are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public List<BatchItemResult> saveAll(List<Book> books) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: books are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public Book patch(Long id, Map<String, Object> patch) {
+        throw readOnly();
+    }
+
+    /**
+     * Rejected: books are written on primary nodes.
+     *
+     * @throws ReadOnlyNodeException always
+     */
+    @Override
+    public void deleteById(Long id) {
+        throw readOnly();
+    }
+
+    private static ReadOnlyNodeException readOnly() {
+        return new ReadOnlyNodeException("Books cannot be written on a read-only node.");
+    }
+
+    private static boolean descending(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!order.getProperty().equals("id")) {
+                throw new InvalidFieldsException("Cannot sort by " + order.getProperty() + " on a read-only node.");
+            }
+        }
+        Sort.Order id = sort.getOrderFor("id");
+        return id != null && id.isDescending();
+    }
+}
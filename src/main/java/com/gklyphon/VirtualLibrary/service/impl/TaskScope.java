@@ -0,0 +1,105 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.DeadlineExceededException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the subtasks of one call on virtual threads, joined under a shared deadline.
+ *
+ * <p>Follows the shutdown-on-failure policy of {@code StructuredTaskScope}, which is a preview
+ * API in Java 21: the first subtask to fail, or the deadline, cancels the subtasks still running,
+ * and closing the scope waits for all of them, so no subtask outlives the call that forked it.
+ * Cancelling interrupts the subtask's thread, which aborts a blocking socket read of a
+ * virtual thread.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> subtasks = new ArrayList<>();
+    private final BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+
+    /**
+     * Creates a scope whose threads are named after the given prefix.
+     *
+     * @param name the prefix of the thread names
+     */
+    TaskScope(String name) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /**
+     * Starts a subtask on its own virtual thread.
+     *
+     * @param task the subtask
+     * @param <T>  the result type
+     * @return the future of the subtask, whose result is read after {@link #join(long)}
+     */
+    <T> Future<T> fork(Callable<T> task) {
+        FutureTask<T> subtask = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                completed.add(this);
+            }
+        };
+        subtasks.add(subtask);
+        executor.execute(subtask);
+        return subtask;
+    }
+
+    /**
+     * Waits for every subtask to succeed, or cancels the others at the first failure or at the deadline.
+     *
+     * @param deadline the deadline, in {@link System#nanoTime()} units
+     * @throws DeadlineExceededException if a subtask is still running at the deadline
+     * @throws InterruptedException      if the calling thread is interrupted while waiting
+     */
+    void join(long deadline) throws InterruptedException {
+        try {
+            for (int i = 0; i < subtasks.size(); i++) {
+                Future<?> subtask = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (subtask == null) {
+                    throw new DeadlineExceededException(
+                            (subtasks.size() - i) + " of " + subtasks.size() + " reads did not finish in time");
+                }
+                if (subtask.state() == Future.State.FAILED) {
+                    throw rethrow(subtask.exceptionNow());
+                }
+            }
+        } finally {
+            subtasks.forEach(subtask -> subtask.cancel(true));
+        }
+    }
+
+    /**
+     * Cancels the subtasks still running and waits for their threads to end.
+     */
+    @Override
+    public void close() {
+        subtasks.forEach(subtask -> subtask.cancel(true));
+        executor.close();
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure);
+    }
+}
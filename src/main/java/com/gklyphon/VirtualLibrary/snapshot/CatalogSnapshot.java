@@ -0,0 +1,385 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.entity.Auditable;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A read-only view of a catalog snapshot file, mapped into memory.
+ *
+ * <p>The file starts with a header of {@value #HEADER_SIZE} bytes: a magic number, the format
+ * version, the {@link CatalogStamp} the snapshot was exported at, the export time, the record
+ * counts and the offsets of four indexes. Author and book records follow, then the indexes:</p>
+ * <ul>
+ *   <li>authors and books by ID: pairs of ID and record offset, sorted by ID, searched by
+ *       bisection;</li>
+ *   <li>books by ISBN and by title: the 31-bit hash of the value in the high half of a
+ *       {@code long} and the record offset in the low half, sorted, so entries of one hash are
+ *       adjacent; the value at each candidate offset is compared with the one looked up.</li>
+ * </ul>
+ *
+ * <p>A book record holds its ID, version, creation and update times in epoch microseconds,
+ * author ID, then ISBN, title and price as length-prefixed UTF-8. An author record holds its
+ * ID, version, times, birthdate in epoch days, first name, last name and country, then the IDs
+ * of their books. Absent numbers are {@link Long#MIN_VALUE} and absent strings have length -1.
+ * All values are big-endian.</p>
+ *
+ * <p>Lookups read the mapped pages in place: index entries and the stored values they are
+ * compared with are never copied onto the heap, and only the fields of the returned entities
+ * are decoded. The mapping is shared by all threads, since it is only read at absolute
+ * positions, and stays valid after the file is replaced, so a snapshot is usable until the
+ * last reader drops it.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class CatalogSnapshot {
+
+    static final int MAGIC = 0x564C534E;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 72;
+    static final long NULL = Long.MIN_VALUE;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ByteBuffer data;
+    private final CatalogStamp stamp;
+    private final long exportedAt;
+    private final int authorCount;
+    private final int bookCount;
+    private final int authorIndex;
+    private final int bookIndex;
+    private final int isbnIndex;
+    private final int titleIndex;
+
+    private CatalogSnapshot(ByteBuffer data) throws IOException {
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a catalog snapshot");
+        }
+        if (data.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported catalog snapshot version " + data.getInt(4));
+        }
+        this.data = data;
+        this.stamp = new CatalogStamp(data.getLong(8), data.getLong(16));
+        this.exportedAt = data.getLong(24);
+        this.authorCount = data.getInt(32);
+        this.bookCount = data.getInt(36);
+        this.authorIndex = section(data.getLong(40), authorCount, 2 * Long.BYTES);
+        this.bookIndex = section(data.getLong(48), bookCount, 2 * Long.BYTES);
+        this.isbnIndex = section(data.getLong(56), bookCount, Long.BYTES);
+        this.titleIndex = section(data.getLong(64), bookCount, Long.BYTES);
+    }
+
+    /**
+     * Maps a snapshot file. The file is only read, and may be replaced or deleted afterwards.
+     *
+     * @param file the snapshot file
+     * @return the mapped snapshot
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static CatalogSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot larger than 2 GB: " + file);
+            }
+            return new CatalogSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the catalog stamp the snapshot was exported at.
+     *
+     * @return the stamp of the exported generation
+     */
+    public CatalogStamp stamp() {
+        return stamp;
+    }
+
+    /**
+     * Returns the time the snapshot was written.
+     *
+     * @return the export time in epoch milliseconds
+     */
+    public long exportedAt() {
+        return exportedAt;
+    }
+
+    /**
+     * Returns the number of books in the snapshot.
+     *
+     * @return the number of books
+     */
+    public int bookCount() {
+        return bookCount;
+    }
+
+    /**
+     * Returns the number of authors in the snapshot.
+     *
+     * @return the number of authors
+     */
+    public int authorCount() {
+        return authorCount;
+    }
+
+    /**
+     * Returns the size of the mapped file.
+     *
+     * @return the size in bytes
+     */
+    public long size() {
+        return data.capacity();
+    }
+
+    /**
+     * Finds a book by its ID.
+     *
+     * @param id the ID of the book
+     * @return the book with its author, or null if the snapshot has no such book
+     */
+    public Book book(long id) {
+        int offset = find(bookIndex, bookCount, id);
+        return offset >= 0 ? readBook(offset) : null;
+    }
+
+    /**
+     * Finds a book by its ISBN.
+     *
+     * @param isbn the ISBN, in the form it is stored in
+     * @return the book with its author, or null if the snapshot has no such book
+     */
+    public Book bookByIsbn(String isbn) {
+        int offset = find(isbnIndex, isbn, 0);
+        return offset >= 0 ? readBook(offset) : null;
+    }
+
+    /**
+     * Finds a book by its title. When several books share the title, the one with the lowest ID is returned.
+     *
+     * @param title the title
+     * @return the book with its author, or null if the snapshot has no such book
+     */
+    public Book bookByTitle(String title) {
+        int offset = find(titleIndex, title, 1);
+        return offset >= 0 ? readBook(offset) : null;
+    }
+
+    /**
+     * Returns books in ID order.
+     *
+     * @param first the position of the first book
+     * @param count the maximum number of books
+     * @param descending whether to start from the highest ID
+     * @return the books at the given positions, with their authors
+     */
+    public List<Book> books(long first, int count, boolean descending) {
+        List<Book> books = new ArrayList<>();
+        for (long i = first; i < Math.min(bookCount, first + count); i++) {
+            long position = descending ? bookCount - 1 - i : i;
+            books.add(readBook((int) data.getLong(bookIndex + (int) position * 2 * Long.BYTES + Long.BYTES)));
+        }
+        return books;
+    }
+
+    /**
+     * Finds an author by their ID.
+     *
+     * @param id the ID of the author
+     * @return the author with their books, or null if the snapshot has no such author
+     */
+    public Author author(long id) {
+        int offset = find(authorIndex, authorCount, id);
+        return offset >= 0 ? readAuthor(offset, true) : null;
+    }
+
+    /**
+     * Returns authors in ID order.
+     *
+     * @param first the position of the first author
+     * @param count the maximum number of authors
+     * @param descending whether to start from the highest ID
+     * @return the authors at the given positions, with their books
+     */
+    public List<Author> authors(long first, int count, boolean descending) {
+        List<Author> authors = new ArrayList<>();
+        for (long i = first; i < Math.min(authorCount, first + count); i++) {
+            long position = descending ? authorCount - 1 - i : i;
+            authors.add(readAuthor((int) data.getLong(authorIndex + (int) position * 2 * Long.BYTES + Long.BYTES), true));
+        }
+        return authors;
+    }
+
+    static long micros(LocalDateTime time) {
+        return time != null ? ChronoUnit.MICROS.between(EPOCH, time) : NULL;
+    }
+
+    static LocalDateTime time(long micros) {
+        return micros != NULL ? EPOCH.plus(micros, ChronoUnit.MICROS) : null;
+    }
+
+    static int hash(String value) {
+        return value.hashCode() & Integer.MAX_VALUE;
+    }
+
+    private Book readBook(int offset) {
+        Book book = readBookRecord(offset);
+        long authorId = data.getLong(offset + 4 * Long.BYTES);
+        if (authorId != NULL) {
+            int authorOffset = find(authorIndex, authorCount, authorId);
+            book.setAuthor(authorOffset >= 0 ? readAuthor(authorOffset, false) : Author.builder().id(authorId).build());
+        }
+        return book;
+    }
+
+    private Book readBookRecord(int offset) {
+        Book book = Book.builder().id(data.getLong(offset)).build();
+        audit(book, offset);
+        int position = offset + 5 * Long.BYTES;
+        book.setIsbn(readString(position));
+        position += stringLength(position);
+        book.setTitle(readString(position));
+        position += stringLength(position);
+        String price = readString(position);
+        book.setPrice(price != null ? new BigDecimal(price) : null);
+        return book;
+    }
+
+    private Author readAuthor(int offset, boolean withBooks) {
+        long birthdate = data.getLong(offset + 4 * Long.BYTES);
+        Author author = Author.builder()
+                .id(data.getLong(offset))
+                .birthdate(birthdate != NULL ? LocalDate.ofEpochDay(birthdate) : null)
+                .build();
+        audit(author, offset);
+        int position = offset + 5 * Long.BYTES;
+        author.setFirstname(readString(position));
+        position += stringLength(position);
+        author.setLastname(readString(position));
+        position += stringLength(position);
+        author.setCountry(readString(position));
+        position += stringLength(position);
+        if (withBooks) {
+            int books = data.getInt(position);
+            Set<Book> set = new HashSet<>();
+            for (int i = 0; i < books; i++) {
+                int bookOffset = find(bookIndex, bookCount, data.getLong(position + Integer.BYTES + i * Long.BYTES));
+                if (bookOffset >= 0) {
+                    set.add(readBookRecord(bookOffset));
+                }
+            }
+            author.setBooks(set);
+        }
+        return author;
+    }
+
+    private void audit(Auditable entity, int offset) {
+        long version = data.getLong(offset + Long.BYTES);
+        entity.setVersion(version != NULL ? version : null);
+        entity.setCreatedAt(time(data.getLong(offset + 2 * Long.BYTES)));
+        entity.setUpdatedAt(time(data.getLong(offset + 3 * Long.BYTES)));
+    }
+
+    private String readString(int position) {
+        int length = data.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        data.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int stringLength(int position) {
+        return Integer.BYTES + Math.max(0, data.getInt(position));
+    }
+
+    private boolean stringEquals(int position, byte[] expected) {
+        return data.getInt(position) == expected.length
+                && data.slice(position + Integer.BYTES, expected.length).equals(ByteBuffer.wrap(expected));
+    }
+
+    /**
+     * Bisects an ID index.
+     *
+     * @return the record offset, or -1 if the ID is absent
+     */
+    private int find(int index, int count, long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long stored = data.getLong(index + middle * 2 * Long.BYTES);
+            if (stored < id) {
+                low = middle + 1;
+            } else if (stored > id) {
+                high = middle - 1;
+            } else {
+                return (int) data.getLong(index + middle * 2 * Long.BYTES + Long.BYTES);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first book whose string field equals the value, among the entries of
+     * a hash index carrying the value's hash.
+     *
+     * @param skipped the number of string fields before the compared one in a book record
+     * @return the record offset, or -1 if no book holds the value
+     */
+    private int find(int index, String value, int skipped) {
+        if (value == null) {
+            return -1;
+        }
+        long first = (long) hash(value) << 32;
+        int low = 0;
+        int high = bookCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (data.getLong(index + middle * Long.BYTES) < first) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        for (int i = low; i < bookCount; i++) {
+            long entry = data.getLong(index + i * Long.BYTES);
+            if (entry >>> 32 != first >>> 32) {
+                break;
+            }
+            int offset = (int) entry;
+            int position = offset + 5 * Long.BYTES;
+            for (int field = 0; field < skipped; field++) {
+                position += stringLength(position);
+            }
+            if (stringEquals(position, expected)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private int section(long offset, int count, int entrySize) throws IOException {
+        if (offset < HEADER_SIZE || count < 0 || offset + (long) count * entrySize > data.capacity()) {
+            throw new IOException("Corrupt catalog snapshot index at " + offset);
+        }
+        return (int) offset;
+    }
+}
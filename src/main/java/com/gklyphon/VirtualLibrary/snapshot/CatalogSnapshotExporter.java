@@ -0,0 +1,159 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.entity.Auditable;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * Exports the books and authors to a {@link CatalogSnapshot} file, for read-only nodes to map.
+ *
+ * <p>Both tables are streamed in ID order within one repeatable-read transaction, so the
+ * snapshot is consistent, and the catalog stamp is read before the first query, so it never
+ * claims a newer generation than the data. The file is written next to {@code snapshot.path}
+ * and moved over it once complete, so readers only ever see whole snapshots.
+ * Run as a background job, see {@link com.gklyphon.VirtualLibrary.job.ExportSnapshotJob}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotExporter {
+
+    static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogCache catalogCache;
+    private final Path path;
+
+    public CatalogSnapshotExporter(DataSource dataSource, CatalogCache catalogCache,
+                                   @Value("${snapshot.path:catalog.snapshot}") String path) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.catalogCache = catalogCache;
+        this.path = Path.of(path).toAbsolutePath();
+    }
+
+    /**
+     * Writes a new snapshot and replaces the current file with it.
+     *
+     * @return the stamp of the exported catalog
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public CatalogStamp export() {
+        CatalogStamp stamp = catalogCache.stamp();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            long size;
+            try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(temporary, stamp)) {
+                writeAuthors(writer);
+                writeBooks(writer);
+                writer.finish();
+                size = writer.size();
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Catalog snapshot of generation {} exported to {}: {} bytes", stamp.generation(), path, size);
+            return stamp;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Catalog snapshot could not be written to " + path, ex);
+        }
+    }
+
+    private void writeAuthors(CatalogSnapshotWriter writer) throws IOException {
+        // Pairs of author ID and book ID, in author order, merged with the authors below
+        LongStream.Builder builder = LongStream.builder();
+        jdbcTemplate.query("SELECT author_id, id FROM books WHERE author_id IS NOT NULL ORDER BY author_id, id",
+                (RowCallbackHandler) rs -> builder.add(rs.getLong(1)).add(rs.getLong(2)));
+        long[] pairs = builder.build().toArray();
+        int[] next = {0};
+        try {
+            jdbcTemplate.query("SELECT id, firstname, lastname, birthdate, country, created_at, updated_at, version"
+                    + " FROM authors ORDER BY id", (RowCallbackHandler) rs -> {
+                long id = rs.getLong("id");
+                while (next[0] < pairs.length && pairs[next[0]] < id) {
+                    next[0] += 2;
+                }
+                int first = next[0];
+                while (next[0] < pairs.length && pairs[next[0]] == id) {
+                    next[0] += 2;
+                }
+                long[] bookIds = new long[(next[0] - first) / 2];
+                Arrays.setAll(bookIds, i -> pairs[first + 2 * i + 1]);
+                Author author = Author.builder()
+                        .id(id)
+                        .firstname(rs.getString("firstname"))
+                        .lastname(rs.getString("lastname"))
+                        .birthdate(rs.getObject("birthdate", LocalDate.class))
+                        .country(rs.getString("country"))
+                        .build();
+                audit(author, rs);
+                write(() -> writer.writeAuthor(author, bookIds));
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void writeBooks(CatalogSnapshotWriter writer) throws IOException {
+        try {
+            jdbcTemplate.query("SELECT id, title, isbn, price, author_id, created_at, updated_at, version"
+                    + " FROM books ORDER BY id", (RowCallbackHandler) rs -> {
+                Long authorId = rs.getObject("author_id", Long.class);
+                Book book = Book.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .isbn(rs.getString("isbn"))
+                        .price(rs.getBigDecimal("price"))
+                        .author(authorId != null ? Author.builder().id(authorId).build() : null)
+                        .build();
+                audit(book, rs);
+                write(() -> writer.writeBook(book));
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void audit(Auditable entity, ResultSet rs) throws SQLException {
+        entity.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        entity.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        entity.setVersion(rs.getObject("version", Long.class));
+    }
+
+    private static void write(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,210 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.entity.Auditable;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static com.gklyphon.VirtualLibrary.snapshot.CatalogSnapshot.HEADER_SIZE;
+import static com.gklyphon.VirtualLibrary.snapshot.CatalogSnapshot.NULL;
+
+/**
+ * Writes a catalog snapshot file in the format read by {@link CatalogSnapshot}.
+ *
+ * <p>Records are streamed to the file as they are written, and only the index entries are
+ * kept in memory, 32 bytes per book and 16 per author. Authors and books must each be
+ * written in ascending ID order. The indexes and the header are written by
+ * {@link #finish()}, so a file that was not finished is never a valid snapshot.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class CatalogSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final CatalogStamp stamp;
+    private final LongStream.Builder authorIndex = LongStream.builder();
+    private final LongStream.Builder bookIndex = LongStream.builder();
+    private final LongStream.Builder isbnIndex = LongStream.builder();
+    private final LongStream.Builder titleIndex = LongStream.builder();
+    private long position = HEADER_SIZE;
+    private long lastAuthorId = Long.MIN_VALUE;
+    private long lastBookId = Long.MIN_VALUE;
+    private int authorCount;
+    private int bookCount;
+
+    /**
+     * Creates the file, replacing any existing one.
+     *
+     * @param file  the file to write
+     * @param stamp the catalog stamp of the exported data
+     * @throws IOException if the file cannot be created
+     */
+    public CatalogSnapshotWriter(Path file, CatalogStamp stamp) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(channel.position(HEADER_SIZE)), BUFFER_SIZE));
+        this.stamp = stamp;
+    }
+
+    /**
+     * Appends an author record.
+     *
+     * @param author  the author; their books are not read
+     * @param bookIds the IDs of the author's books
+     * @throws IOException if the record cannot be written
+     */
+    public void writeAuthor(Author author, long[] bookIds) throws IOException {
+        lastAuthorId = ascending(author.getId(), lastAuthorId);
+        authorIndex.add(author.getId()).add(position);
+        authorCount++;
+        writeAudited(author.getId(), author);
+        out.writeLong(author.getBirthdate() != null ? author.getBirthdate().toEpochDay() : NULL);
+        writeString(author.getFirstname());
+        writeString(author.getLastname());
+        writeString(author.getCountry());
+        out.writeInt(bookIds.length);
+        for (long bookId : bookIds) {
+            out.writeLong(bookId);
+        }
+        advance();
+    }
+
+    /**
+     * Appends a book record.
+     *
+     * @param book the book; only the ID of its author is read
+     * @throws IOException if the record cannot be written
+     */
+    public void writeBook(Book book) throws IOException {
+        lastBookId = ascending(book.getId(), lastBookId);
+        bookIndex.add(book.getId()).add(position);
+        if (book.getIsbn() != null) {
+            isbnIndex.add(((long) CatalogSnapshot.hash(book.getIsbn()) << 32) | position);
+        }
+        if (book.getTitle() != null) {
+            titleIndex.add(((long) CatalogSnapshot.hash(book.getTitle()) << 32) | position);
+        }
+        bookCount++;
+        writeAudited(book.getId(), book);
+        out.writeLong(book.getAuthor() != null && book.getAuthor().getId() != null ? book.getAuthor().getId() : NULL);
+        writeString(book.getIsbn());
+        writeString(book.getTitle());
+        writeString(book.getPrice() != null ? book.getPrice().toPlainString() : null);
+        advance();
+    }
+
+    /**
+     * Appends the indexes, writes the header and forces the file to storage.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void finish() throws IOException {
+        long authors = writeIndex(authorIndex.build().toArray(), false);
+        long books = writeIndex(bookIndex.build().toArray(), false);
+        long isbns = writeIndex(isbnIndex.build().toArray(), true);
+        long titles = writeIndex(titleIndex.build().toArray(), true);
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(CatalogSnapshot.MAGIC)
+                .putInt(CatalogSnapshot.FORMAT_VERSION)
+                .putLong(stamp.generation())
+                .putLong(stamp.modifiedAt())
+                .putLong(System.currentTimeMillis())
+                .putInt(authorCount)
+                .putInt(bookCount)
+                .putLong(authors)
+                .putLong(books)
+                .putLong(isbns)
+                .putLong(titles)
+                .flip();
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return the size of the file once finished, without the indexes until then
+     */
+    public long size() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeAudited(Long id, Auditable entity) throws IOException {
+        out.writeLong(id);
+        out.writeLong(entity.getVersion() != null ? entity.getVersion() : NULL);
+        out.writeLong(CatalogSnapshot.micros(entity.getCreatedAt()));
+        out.writeLong(CatalogSnapshot.micros(entity.getUpdatedAt()));
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Appends an index. Hash indexes hold one entry per book, so books without the value
+     * are given negative entries, which sort before all others and never match a hash.
+     *
+     * @return the offset of the index
+     */
+    private long writeIndex(long[] entries, boolean hashed) throws IOException {
+        long offset = position;
+        if (hashed) {
+            Arrays.sort(entries);
+            for (int i = entries.length; i < bookCount; i++) {
+                out.writeLong(-1L);
+            }
+        }
+        for (long entry : entries) {
+            out.writeLong(entry);
+        }
+        advance();
+        return offset;
+    }
+
+    private void advance() throws IOException {
+        // size() stops at Integer.MAX_VALUE rather than overflowing
+        position = HEADER_SIZE + (long) out.size();
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("Catalog snapshot larger than 2 GB");
+        }
+    }
+
+    private static long ascending(Long id, long last) {
+        if (id == null || id <= last) {
+            throw new IllegalArgumentException("Snapshot records must be written in ascending ID order, got " + id);
+        }
+        return id;
+    }
+}
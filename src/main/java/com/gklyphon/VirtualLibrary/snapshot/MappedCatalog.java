@@ -0,0 +1,92 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * The catalog snapshot served by a read-only node, active when {@code snapshot.read-only} is set.
+ *
+ * <p>The snapshot at {@code snapshot.path} is mapped when the application starts, which fails
+ * if there is none yet. The file is then checked every {@code snapshot.reload-interval-ms}, and
+ * a replaced file is mapped and swapped in with a single volatile write. A request that took
+ * the previous snapshot keeps reading it, so it never mixes two generations. A file that
+ * cannot be mapped is logged and the current snapshot is kept.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "snapshot.read-only", havingValue = "true")
+public class MappedCatalog {
+
+    private final Path path;
+    private volatile CatalogSnapshot current;
+    private FileVersion loaded;
+
+    public MappedCatalog(@Value("${snapshot.path:catalog.snapshot}") String path) {
+        this.path = Path.of(path).toAbsolutePath();
+        try {
+            load();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Catalog snapshot could not be mapped from " + this.path, ex);
+        }
+    }
+
+    /**
+     * Returns the current snapshot. Callers serving one request should take it once.
+     *
+     * @return the most recently mapped snapshot
+     */
+    public CatalogSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Maps the snapshot file again if it was replaced since it was last mapped.
+     * Scheduled every {@code snapshot.reload-interval-ms}.
+     *
+     * @return true if a new snapshot was swapped in
+     */
+    @Scheduled(fixedDelayString = "${snapshot.reload-interval-ms:5000}")
+    public synchronized boolean reload() {
+        try {
+            return load();
+        } catch (IOException ex) {
+            log.warn("Catalog snapshot could not be reloaded from {}: {}", path, ex.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized boolean load() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        FileVersion version = new FileVersion(attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+        if (version.equals(loaded)) {
+            return false;
+        }
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+        current = snapshot;
+        loaded = version;
+        log.info("Catalog snapshot of generation {} mapped from {}: {} books, {} authors",
+                snapshot.stamp().generation(), path, snapshot.bookCount(), snapshot.authorCount());
+        return true;
+    }
+
+    /**
+     * Identifies a version of the file: a replaced file has a new key on most file systems,
+     * and a new modification time or size otherwise.
+     */
+    private record FileVersion(Object key, FileTime modified, long size) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Selects the fields of a {@link FieldSet} from books and authors read from a snapshot,
+ * in the same shape as the column-limited queries of primary nodes: an association is a
+ * nested map, or null when there is none.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class SnapshotFields {
+
+    private SnapshotFields() {
+    }
+
+    /**
+     * Selects the fields of a book.
+     *
+     * @param book   the book, with its author
+     * @param fields the fields to select
+     * @return the selected fields
+     */
+    @SuppressWarnings("unchecked")
+    public static BookFields of(Book book, FieldSet fields) {
+        BookFields row = new BookFields();
+        for (String path : fields.paths()) {
+            if (!path.startsWith("author.")) {
+                row.put(path, book(book, path));
+            } else if (book.getAuthor() == null) {
+                row.put("author", null);
+            } else {
+                ((Map<String, Object>) row.computeIfAbsent("author", key -> new LinkedHashMap<String, Object>()))
+                        .put(path.substring("author.".length()), author(book.getAuthor(), path.substring("author.".length())));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Selects the fields of an author.
+     *
+     * @param author the author
+     * @param fields the fields to select
+     * @return the selected fields
+     */
+    public static AuthorFields of(Author author, FieldSet fields) {
+        AuthorFields row = new AuthorFields();
+        fields.paths().forEach(path -> row.put(path, author(author, path)));
+        return row;
+    }
+
+    private static Object book(Book book, String field) {
+        return switch (field) {
+            case "id" -> book.getId();
+            case "title" -> book.getTitle();
+            case "isbn" -> book.getIsbn();
+            case "price" -> book.getPrice();
+            case "createdAt" -> book.getCreatedAt();
+            case "updatedAt" -> book.getUpdatedAt();
+            case "version" -> book.getVersion();
+            default -> throw new IllegalArgumentException("Unknown book field " + field);
+        };
+    }
+
+    private static Object author(Author author, String field) {
+        return switch (field) {
+            case "id" -> author.getId();
+            case "firstname" -> author.getFirstname();
+            case "lastname" -> author.getLastname();
+            case "birthdate" -> author.getBirthdate();
+            case "country" -> author.getCountry();
+            case "createdAt" -> author.getCreatedAt();
+            case "updatedAt" -> author.getUpdatedAt();
+            case "version" -> author.getVersion();
+            default -> throw new IllegalArgumentException("Unknown author field " + field);
+        };
+    }
+}
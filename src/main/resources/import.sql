@@ -1,7 +1,7 @@
-INSERT INTO books (title, isbn, price) VALUES ('The Pragmatic Programmer', '978-0135957059', 42.99);
-INSERT INTO books (title, isbn, price) VALUES ('Refactoring: Improving the Design of Existing Code', '978-0134757599', 47.95);
-INSERT INTO books (title, isbn, price) VALUES ('The Clean Coder: A Code of Conduct for Professional Programmers', '978-0136083238', 37.50);
+INSERT INTO books (title, isbn, price, created_at, updated_at) VALUES ('The Pragmatic Programmer', '9780135957059', 42.99, LOCALTIMESTAMP, LOCALTIMESTAMP);
+INSERT INTO books (title, isbn, price, created_at, updated_at) VALUES ('Refactoring: Improving the Design of Existing Code', '9780134757599', 47.95, LOCALTIMESTAMP, LOCALTIMESTAMP);
+INSERT INTO books (title, isbn, price, created_at, updated_at) VALUES ('The Clean Coder: A Code of Conduct for Professional Programmers', '9780136083238', 37.50, LOCALTIMESTAMP, LOCALTIMESTAMP);
 
-INSERT INTO authors (firstname, lastname, birthdate, country) VALUES ('Gabriel', 'García Márquez', '1927-03-06', 'Colombia');
-INSERT INTO authors (firstname, lastname, birthdate, country) VALUES ('Jane', 'Austen', '1775-12-16', 'United Kingdom');
-INSERT INTO authors (firstname, lastname, birthdate, country) VALUES ('Haruki', 'Murakami', '1949-01-12', 'Japan');
+INSERT INTO authors (firstname, lastname, birthdate, country, created_at, updated_at) VALUES ('Gabriel', 'García Márquez', '1927-03-06', 'Colombia', LOCALTIMESTAMP, LOCALTIMESTAMP);
+INSERT INTO authors (firstname, lastname, birthdate, country, created_at, updated_at) VALUES ('Jane', 'Austen', '1775-12-16', 'United Kingdom', LOCALTIMESTAMP, LOCALTIMESTAMP);
+INSERT INTO authors (firstname, lastname, birthdate, country, created_at, updated_at) VALUES ('Haruki', 'Murakami', '1949-01-12', 'Japan', LOCALTIMESTAMP, LOCALTIMESTAMP);
@@ -0,0 +1,48 @@
+package com.gklyphon.VirtualLibrary;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate statement inspector of the {@code pgtest} profile that records the SQL
+ * of every statement Hibernate prepares while a capture is running, on any thread,
+ * so that query regression tests can check the statements the application really issues.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class StatementCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    private static volatile boolean capturing;
+
+    @Override
+    public String inspect(String sql) {
+        if (capturing) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Discards the statements captured so far and starts capturing.
+     */
+    public static void start() {
+        STATEMENTS.clear();
+        capturing = true;
+    }
+
+    /**
+     * Stops capturing.
+     *
+     * @return the statements captured since {@link #start()}, in the order they were prepared
+     */
+    public static List<String> stop() {
+        capturing = false;
+        return List.copyOf(STATEMENTS);
+    }
+}
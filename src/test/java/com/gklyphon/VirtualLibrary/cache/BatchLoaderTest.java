@@ -0,0 +1,121 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BatchLoader class.
+ * Verifies that concurrent lookups are coalesced into batches of distinct keys within the
+ * maximum size, that keys without a value are null, and that a failed load reaches every caller.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class BatchLoaderTest {
+
+    /**
+     * Verifies that concurrent lookups of overlapping keys are loaded in few batches,
+     * each key once, and that every caller gets the value of its key.
+     */
+    @Test
+    void shouldCoalesceConcurrentLookups() throws Exception {
+        List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+        BatchLoader<Long, String> loader = new BatchLoader<>(keys -> {
+            batches.add(Set.copyOf(keys));
+            return values(keys);
+        }, Duration.ofMillis(50), 100);
+
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            keys.add((long) i % 16);
+        }
+        Map<Long, String> results = loadConcurrently(loader, keys);
+
+        for (long key = 0; key < 16; key++) {
+            assertEquals("value-" + key, results.get(key));
+        }
+        assertTrue(batches.size() < keys.size(), "batches: " + batches.size());
+        assertEquals(16, batches.stream().mapToInt(Set::size).sum());
+    }
+
+    /**
+     * Verifies that a full batch is loaded without waiting for its window,
+     * and that no batch exceeds the maximum size.
+     */
+    @Test
+    void shouldLoadFullBatchesAtOnce() throws Exception {
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        BatchLoader<Long, String> loader = new BatchLoader<>(keys -> {
+            sizes.add(keys.size());
+            return values(keys);
+        }, Duration.ofSeconds(30), 4);
+
+        long start = System.nanoTime();
+        loadConcurrently(loader, List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(10).toNanos());
+        assertEquals(List.of(4, 4), sizes);
+    }
+
+    /**
+     * Verifies that a key without a value is null, and that a failed load
+     * is thrown to its callers and not kept for later lookups.
+     */
+    @Test
+    void shouldReturnNullForMissingKeysAndPropagateFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        BatchLoader<Long, String> loader = new BatchLoader<>(keys -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("connection refused");
+            }
+            return Map.of(1L, "one");
+        }, Duration.ZERO, 10);
+
+        assertEquals("one", loader.load(1L));
+        assertThrows(IllegalStateException.class, () -> loader.load(1L));
+        assertNull(loader.load(2L));
+    }
+
+    private static Map<Long, String> values(Set<Long> keys) {
+        Map<Long, String> values = new HashMap<>();
+        keys.forEach(key -> values.put(key, "value-" + key));
+        return values;
+    }
+
+    private static Map<Long, String> loadConcurrently(BatchLoader<Long, String> loader, List<Long> keys)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> futures = new ArrayList<>();
+            for (Long key : keys) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return loader.load(key);
+                }));
+            }
+            start.countDown();
+            Map<Long, String> results = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                String value = futures.get(i).get();
+                assertEquals("value-" + keys.get(i), value);
+                results.put(keys.get(i), value);
+            }
+            return results;
+        }
+    }
+}
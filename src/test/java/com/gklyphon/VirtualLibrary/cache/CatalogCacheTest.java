@@ -0,0 +1,128 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the CatalogCache class.
+ * Verifies that books are evicted under every key and that page generations advance.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    ConcurrentMapCacheManager cacheManager;
+    CatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("books", "authors");
+        catalogCache = new CatalogCache(cacheManager, stringRedisTemplate);
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    /**
+     * Verifies that a book is evicted by id, ISBN and title, along with its author.
+     */
+    @Test
+    void shouldEvictBookUnderEveryKey() {
+        cacheManager.getCache("books").put(1L, "book");
+        cacheManager.getCache("books").put("ISBN1", "book");
+        cacheManager.getCache("books").put("Book1", "book");
+        cacheManager.getCache("authors").put(7L, "author");
+
+        catalogCache.evictBooks(List.of(new BookRow(1L, "ISBN1", "Book1", 7L, null)));
+
+        assertNull(cacheManager.getCache("books").get(1L));
+        assertNull(cacheManager.getCache("books").get("ISBN1"));
+        assertNull(cacheManager.getCache("books").get("Book1"));
+        assertNull(cacheManager.getCache("authors").get(7L));
+        verify(valueOperations).increment(CatalogCache.GENERATION_KEY);
+    }
+
+    /**
+     * Verifies that the generation defaults to 0 and reads the stored counter otherwise.
+     */
+    @Test
+    void shouldReadGeneration() {
+        when(valueOperations.get(CatalogCache.GENERATION_KEY)).thenReturn(null, "4");
+        assertEquals(0L, catalogCache.generation());
+        assertEquals(4L, catalogCache.generation());
+    }
+
+    /**
+     * Verifies that the stamp reads the generation and its start time in one round-trip,
+     * and records a start time when none exists yet.
+     */
+    @Test
+    void shouldReadStamp() {
+        List<String> keys = List.of(CatalogCache.GENERATION_KEY, CatalogCache.MODIFIED_KEY);
+        when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList("4", "1000"), Arrays.asList(null, null));
+
+        assertEquals(new CatalogStamp(4L, 1000L), catalogCache.stamp());
+        CatalogStamp fresh = catalogCache.stamp();
+
+        assertEquals(0L, fresh.generation());
+        verify(valueOperations).setIfAbsent(CatalogCache.MODIFIED_KEY, Long.toString(fresh.modifiedAt()));
+        assertNotEquals(new CatalogStamp(4L, 1000L).etag(), new CatalogStamp(4L, 2000L).etag());
+    }
+
+    /**
+     * Verifies that a batch puts and evicts its entries and starts a new generation.
+     */
+    @Test
+    void shouldApplyCacheBatch() {
+        cacheManager.getCache("books").put(1L, "book");
+        cacheManager.getCache("books").put("ISBN1", "book");
+        cacheManager.getCache("authors").put(7L, "author");
+
+        catalogCache.writeBatch(new CacheBatch()
+                .put("authors", 8L, "new author")
+                .evictBook(new BookRow(1L, "ISBN1", "Book1", 7L, null)));
+
+        assertNull(cacheManager.getCache("books").get(1L));
+        assertNull(cacheManager.getCache("books").get("ISBN1"));
+        assertNull(cacheManager.getCache("authors").get(7L));
+        assertEquals("new author", cacheManager.getCache("authors").get(8L).get());
+        verify(valueOperations).increment(CatalogCache.GENERATION_KEY);
+    }
+
+    /**
+     * Verifies that entries of a cache other than Redis are not read or written in bulk,
+     * and that its values are serialized with JDK serialization.
+     */
+    @Test
+    void shouldSkipBulkAccessOfOtherCaches() {
+        catalogCache.putAll("books", Map.of(1L, new byte[]{1}));
+
+        assertEquals(Map.of(), catalogCache.getAll("books", List.of(1L)));
+        assertNull(cacheManager.getCache("books").get(1L));
+        RedisSerializationContext.SerializationPair<Object> serializer = catalogCache.serializer("books");
+        assertEquals("book", serializer.read(serializer.write("book")));
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
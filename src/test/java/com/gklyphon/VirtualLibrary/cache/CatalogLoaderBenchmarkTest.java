@@ -0,0 +1,167 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.config.concurrency.BatchLoaderData;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrent lookups of books by ID through the catalog loader. The correctness check always runs;
+ * the measurement runs with {@code -Dbenchmark=true} and logs the statements executed and the
+ * median and 99th percentile latency of concurrent lookups, with and without batching.
+ *
+ * <p>Runs against a local PostgreSQL with every lookup missing the cache, so each batch
+ * reaches the database. Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Sql(scripts = "/sql/catalog-dataset.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogLoaderBenchmarkTest {
+
+    static final int THREADS = 200;
+
+    @MockBean
+    CatalogCache catalogCache;
+
+    @Autowired
+    IBookRepository bookRepository;
+
+    @Autowired
+    IAuthorRepository authorRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(catalogCache.serializer(anyString()))
+                .thenReturn(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.java()));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Verifies that concurrent lookups of overlapping books each get their own book,
+     * in far fewer statements than lookups.
+     */
+    @Test
+    void shouldLoadConcurrentLookupsInFewStatements() throws Exception {
+        CatalogLoader loader = loader(true, 2000);
+        long[] ids = new long[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            ids[i] = i % 50 + 1;
+        }
+
+        statistics.clear();
+        lookUp(loader, ids);
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements < 50, "statements: " + statements);
+    }
+
+    /**
+     * Measures 20 rounds of 200 concurrent lookups of random books among the first 2,000,
+     * without and with batching.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureConcurrentLookups() throws Exception {
+        for (boolean enabled : new boolean[]{false, true}) {
+            CatalogLoader loader = loader(enabled, 500);
+            lookUp(loader, randomIds());
+
+            statistics.clear();
+            List<Long> latencies = new ArrayList<>();
+            for (int round = 0; round < 20; round++) {
+                latencies.addAll(lookUp(loader, randomIds()));
+            }
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            log.info("Batching {}: {} lookups in {} statements, p50 {} us, p99 {} us", enabled ? "on" : "off",
+                    sorted.length, statistics.getPrepareStatementCount(), sorted[sorted.length / 2] / 1000,
+                    sorted[sorted.length * 99 / 100] / 1000);
+        }
+    }
+
+    private CatalogLoader loader(boolean enabled, long windowMicros) {
+        BatchLoaderData batchLoaderData = new BatchLoaderData();
+        batchLoaderData.setEnabled(enabled);
+        batchLoaderData.setWindowMicros(windowMicros);
+        return new CatalogLoader(bookRepository, authorRepository, catalogCache, transactionManager, batchLoaderData);
+    }
+
+    private static long[] randomIds() {
+        return Arrays.stream(new long[THREADS]).map(id -> ThreadLocalRandom.current().nextLong(1, 2001)).toArray();
+    }
+
+    /**
+     * Looks up the given books at once, one virtual thread each, checks every book
+     * and returns the latency of each lookup in nanoseconds.
+     */
+    private static List<Long> lookUp(CatalogLoader loader, long[] ids) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (long id : ids) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    Book book = loader.book(id).orElseThrow();
+                    long latency = System.nanoTime() - begin;
+                    assertEquals("Title " + id, book.getTitle());
+                    assertEquals(id % 1000 + 1, book.getAuthor().getId());
+                    return latency;
+                }));
+            }
+            start.countDown();
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        }
+    }
+}
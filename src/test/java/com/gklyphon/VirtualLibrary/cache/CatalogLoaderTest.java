@@ -0,0 +1,119 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.config.concurrency.BatchLoaderData;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the CatalogLoader class.
+ * Verifies that cached entries are read without a query, that missed entries are queried
+ * and written back to the cache, and that every caller receives its own copy.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogLoaderTest {
+
+    static final RedisSerializationContext.SerializationPair<Object> JDK =
+            RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.java());
+
+    @Mock
+    IBookRepository bookRepository;
+
+    @Mock
+    IAuthorRepository authorRepository;
+
+    @Mock
+    CatalogCache catalogCache;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    CatalogLoader catalogLoader;
+
+    @BeforeEach
+    void setUp() {
+        BatchLoaderData batchLoaderData = new BatchLoaderData();
+        batchLoaderData.setWindowMicros(0);
+        catalogLoader = new CatalogLoader(bookRepository, authorRepository, catalogCache, transactionManager,
+                batchLoaderData);
+        lenient().when(catalogCache.serializer(anyString())).thenReturn(JDK);
+    }
+
+    /**
+     * Verifies that a cached book is read from the cache without a query.
+     */
+    @Test
+    void shouldReadCachedBookWithoutQuery() {
+        when(catalogCache.getAll(CatalogLoader.BOOKS, Set.of(1L))).thenReturn(Map.of(1L, bytes(Data.BOOK)));
+
+        Book book = catalogLoader.book(1L).orElseThrow();
+
+        assertEquals(Data.BOOK.getTitle(), book.getTitle());
+        verifyNoInteractions(bookRepository);
+        verify(catalogCache, never()).putAll(anyString(), anyMap());
+    }
+
+    /**
+     * Verifies that a missed author is queried and written back to the cache,
+     * and that an unknown one is neither found nor cached.
+     */
+    @Test
+    void shouldQueryAndCacheMissedAuthors() {
+        when(authorRepository.findAllById(List.of(1L))).thenReturn(List.of(Data.AUTHOR));
+
+        Author author = catalogLoader.author(1L).orElseThrow();
+        assertTrue(catalogLoader.author(9L).isEmpty());
+
+        assertEquals(Data.AUTHOR.getLastname(), author.getLastname());
+        verify(catalogCache).putAll(eq(CatalogLoader.AUTHORS), argThat(values -> values.keySet().equals(Set.of(1L))));
+        verify(authorRepository).findAllById(List.of(9L));
+    }
+
+    /**
+     * Verifies that each lookup returns its own copy, so a caller that changes its book
+     * does not change the book of another.
+     */
+    @Test
+    void shouldReturnOwnCopyToEachCaller() {
+        when(catalogCache.getAll(eq(CatalogLoader.BOOKS), anyCollection())).thenReturn(Map.of(1L, bytes(Data.BOOK)));
+
+        Book first = catalogLoader.book(1L).orElseThrow();
+        first.setTitle("Changed");
+        Book second = catalogLoader.book(1L).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(Data.BOOK.getTitle(), second.getTitle());
+        verify(bookRepository, never()).findWithAuthorByIdIn(any());
+    }
+
+    private static byte[] bytes(Object value) {
+        return RedisSerializer.java().serialize(value);
+    }
+}
@@ -0,0 +1,178 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.gklyphon.VirtualLibrary.model.projection.Isbn;
+import com.gklyphon.VirtualLibrary.model.projection.IsbnRow;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the IsbnIndex and LongLongIndex classes.
+ * Verifies lookups, catching up with new generations, removals and the footprint per million books.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class IsbnIndexTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Mock
+    IBookRepository bookRepository;
+
+    @Mock
+    CatalogCache catalogCache;
+
+    IsbnIndex isbnIndex;
+
+    @BeforeEach
+    void setUp() {
+        isbnIndex = new IsbnIndex(bookRepository, catalogCache, true, false, 5);
+    }
+
+    /**
+     * Verifies that lookups are left to the database until the index is loaded,
+     * and then resolve known ISBNs in any form and reject unknown ones.
+     */
+    @Test
+    void shouldResolveIsbnsOnceLoaded() {
+        assertEquals(IsbnIndex.UNKNOWN, isbnIndex.lookup("9780306406157"));
+
+        when(catalogCache.generation()).thenReturn(3L);
+        when(bookRepository.count()).thenReturn(2L);
+        when(bookRepository.findIsbnsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+                new IsbnRow(4L, "978-0-306-40615-7", NOW), new IsbnRow(9L, "LEGACY-9", NOW)));
+        isbnIndex.rebuild();
+
+        assertEquals(1, isbnIndex.size());
+        assertEquals(4L, isbnIndex.lookup("0-306-40615-2"));
+        assertEquals(IsbnIndex.ABSENT, isbnIndex.lookup("9781861972712"));
+        assertEquals(IsbnIndex.UNKNOWN, isbnIndex.lookup("LEGACY-9"));
+        verify(bookRepository, never()).findIsbnsChangedAfter(any(), anyLong(), any());
+    }
+
+    /**
+     * Verifies that a miss after a new generation reads the books updated since the load,
+     * reaching back by the commit lag, before reporting the ISBN as absent.
+     */
+    @Test
+    void shouldCatchUpWhenGenerationChanged() {
+        when(catalogCache.generation()).thenReturn(3L);
+        when(bookRepository.findIsbnsAfter(eq(0L), any(Limit.class))).thenReturn(List.of());
+        isbnIndex.rebuild();
+
+        when(catalogCache.generation()).thenReturn(4L);
+        when(bookRepository.findIsbnsChangedAfter(any(), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(new IsbnRow(12L, "9781861972712", LocalDateTime.now())));
+
+        assertEquals(12L, isbnIndex.lookup("9781861972712"));
+        assertEquals(IsbnIndex.ABSENT, isbnIndex.lookup("9780306406157"));
+        verify(bookRepository, times(1)).findIsbnsChangedAfter(
+                argThat(since -> since.isBefore(LocalDateTime.now().minusSeconds(4))), eq(0L), any(Limit.class));
+    }
+
+    /**
+     * Verifies that an entry is only evicted while it points to the given book.
+     */
+    @Test
+    void shouldEvictStaleEntry() {
+        when(catalogCache.generation()).thenReturn(3L);
+        when(bookRepository.findIsbnsAfter(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(new IsbnRow(4L, "9780306406157", NOW)));
+        isbnIndex.rebuild();
+
+        isbnIndex.evict("9780306406157", 5L);
+        assertEquals(4L, isbnIndex.lookup("9780306406157"));
+        isbnIndex.evict("9780306406157", 4L);
+        assertEquals(IsbnIndex.ABSENT, isbnIndex.lookup("9780306406157"));
+    }
+
+    /**
+     * Verifies that the primitive map matches a HashMap through puts, overwrites and removals.
+     */
+    @Test
+    void longLongIndexShouldMatchHashMap() {
+        for (boolean offHeap : new boolean[]{false, true}) {
+            LongLongIndex index = new LongLongIndex(0, offHeap);
+            Map<Long, Long> expected = new HashMap<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 50_000; i++) {
+                long key = 1 + random.nextInt(20_000);
+                if (random.nextInt(4) == 0) {
+                    Long value = expected.get(key);
+                    assertEquals(value != null, value != null && index.remove(key, value));
+                    expected.remove(key);
+                } else {
+                    index.put(key, i + 1);
+                    expected.put(key, (long) i + 1);
+                }
+            }
+            assertEquals(expected.size(), index.size());
+            for (long key = 1; key <= 20_000; key++) {
+                assertEquals(expected.getOrDefault(key, 0L), index.get(key));
+            }
+        }
+    }
+
+    /**
+     * Reports the memory taken by one million ISBNs, in the index and in a HashMap of boxed
+     * values, and verifies that the index takes at most 24 bytes per book.
+     */
+    @Test
+    void shouldReportFootprintPerMillionBooks() {
+        int books = 1_000_000;
+        long[] isbns = new long[books];
+        for (int i = 0; i < books; i++) {
+            isbns[i] = Isbn.pack(isbn13(978_000_000_000L + i * 7L));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+
+        LongLongIndex index = new LongLongIndex(books, true);
+        for (int i = 0; i < books; i++) {
+            index.put(isbns[i], i + 1);
+        }
+        long start = threads.getThreadAllocatedBytes(thread);
+        Map<Long, Long> boxed = new HashMap<>();
+        for (int i = 0; i < books; i++) {
+            boxed.put(isbns[i], (long) i + 1);
+        }
+        long boxedBytes = threads.getThreadAllocatedBytes(thread) - start;
+
+        assertEquals(books, index.size());
+        assertEquals(books, index.get(isbns[books - 1]));
+        log.info("Footprint per million books: index={} MB, HashMap<Long, Long>={} MB",
+                index.footprint() / 1_000_000, boxedBytes / 1_000_000);
+        assertTrue(index.footprint() <= 24L * books);
+        assertTrue(index.footprint() < boxedBytes);
+    }
+
+    private static String isbn13(long first12) {
+        String digits = Long.toString(first12);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (i % 2 == 0 ? 1 : 3) * (digits.charAt(i) - '0');
+        }
+        return digits + (10 - sum % 10) % 10;
+    }
+}
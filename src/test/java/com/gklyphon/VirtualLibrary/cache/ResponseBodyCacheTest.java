@@ -0,0 +1,115 @@
+package com.gklyphon.VirtualLibrary.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.gklyphon.VirtualLibrary.config.jackson.JacksonConfig;
+import com.gklyphon.VirtualLibrary.config.web.ResponseCacheData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ResponseBodyCache class.
+ * Verifies how the format is negotiated, that bodies are encoded with the converters' mappers
+ * and that entries keep their validators and generation.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ResponseBodyCacheTest {
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    ResponseCacheData responseCacheData;
+    ResponseBodyCache responseBodyCache;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheData = new ResponseCacheData();
+        responseCacheData.setEnabled(true);
+        responseBodyCache = new ResponseBodyCache(stringRedisTemplate, responseCacheData, new ObjectMapper(),
+                new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter());
+    }
+
+    /**
+     * Verifies that the accepted format with the highest quality is chosen, and JSON without an Accept header.
+     */
+    @Test
+    void shouldResolveFormatFromAcceptHeader() {
+        assertEquals(ResponseBodyCache.Format.JSON, responseBodyCache.format(request(null)));
+        assertEquals(ResponseBodyCache.Format.JSON, responseBodyCache.format(request("*/*")));
+        assertEquals(ResponseBodyCache.Format.CBOR,
+                responseBodyCache.format(request("application/json;q=0.5, application/cbor")));
+        assertEquals(ResponseBodyCache.Format.SMILE,
+                responseBodyCache.format(request(JacksonConfig.APPLICATION_SMILE.toString())));
+    }
+
+    /**
+     * Verifies that no format is resolved when the cache is disabled or nothing cached is accepted.
+     */
+    @Test
+    void shouldResolveNoFormatWhenDisabledOrNotAccepted() {
+        assertNull(responseBodyCache.format(request("application/xml")));
+        assertNull(responseBodyCache.format(request("application/cbor;q=0")));
+        responseCacheData.setEnabled(false);
+        assertNull(responseBodyCache.format(request(null)));
+    }
+
+    /**
+     * Verifies that a body is encoded in the requested format, and that a failed read caches nothing.
+     */
+    @Test
+    void shouldEncodeBodyAndMissWhenRedisFails() throws Exception {
+        when(stringRedisTemplate.execute(any(RedisCallback.class))).thenThrow(new IllegalStateException("down"));
+
+        byte[] bytes = responseBodyCache.encode(ResponseBodyCache.Format.CBOR, Map.of("id", 1));
+
+        assertEquals(1, new CBORMapper().readTree(bytes).get("id").asInt());
+        assertNull(responseBodyCache.get("book:1", ResponseBodyCache.Format.CBOR));
+    }
+
+    /**
+     * Verifies that an entry is stored with its validators and generation,
+     * and is current only in the generation it was stored in.
+     */
+    @Test
+    void shouldStoreEntryWithValidators() {
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        ResponseBodyCache.Entry entry = ResponseBodyCache.Entry.decode(
+                new ResponseBodyCache.Entry(7L, "1.3-2.0", 1_700_000_000_000L, body).encode());
+
+        assertEquals(7L, entry.generation());
+        assertEquals("1.3-2.0", entry.tag());
+        assertEquals(1_700_000_000_000L, entry.modifiedAt());
+        assertArrayEquals(body, entry.body());
+        assertTrue(new ResponseBodyCache.Lookup(7L, entry).isCurrent());
+        assertFalse(new ResponseBodyCache.Lookup(8L, entry).isCurrent());
+        assertFalse(new ResponseBodyCache.Lookup(7L, null).isCurrent());
+    }
+
+    private static ServletWebRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/books/1");
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return new ServletWebRequest(request);
+    }
+}
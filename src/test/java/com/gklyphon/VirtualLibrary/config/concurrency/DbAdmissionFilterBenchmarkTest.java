@@ -0,0 +1,170 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bursts of concurrent requests, one virtual thread each, that each run a short query. The
+ * correctness check always runs; the measurement runs with {@code -Dbenchmark=true} and logs the
+ * throughput, the median and 99th percentile latency of served requests and how many failed,
+ * with and without the admission filter in front of the pool.
+ *
+ * <p>Without the filter every request waits on the pool and the ones still waiting after
+ * the pool's connection timeout fail; with it, requests beyond the pool size wait on the
+ * filter and the ones still waiting after its acquire timeout are rejected with 503.</p>
+ *
+ * <p>Runs against a local PostgreSQL. Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.connection-timeout=1000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DbAdmissionFilterBenchmarkTest {
+
+    static final String QUERY = "SELECT pg_sleep(0.005)";
+
+    @Autowired
+    DataSource dataSource;
+
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    /**
+     * Verifies that with the filter sized to the pool, a burst of requests is served
+     * in full while no more of them than the pool holds ever run at once.
+     */
+    @Test
+    void shouldServeBurstWithinPoolSize() throws Exception {
+        int poolSize = ((HikariDataSource) dataSource).getMaximumPoolSize();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                query(response);
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+        DbAdmissionFilter filter = new DbAdmissionFilter(poolSize, 10_000, List.of(), objectMapper);
+
+        Burst burst = burst(filter, chain, 500);
+
+        assertEquals(500, burst.served());
+        assertTrue(maxRunning.get() <= poolSize, "running: " + maxRunning.get());
+    }
+
+    /**
+     * Measures 10 bursts of 2,000 requests on a pool of 10, without and with the filter.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureBursts() throws Exception {
+        FilterChain chain = (request, response) -> query(response);
+        for (boolean enabled : new boolean[]{false, true}) {
+            DbAdmissionFilter filter = new DbAdmissionFilter(enabled ? 10 : Integer.MAX_VALUE, 500, List.of(),
+                    objectMapper);
+            burst(filter, chain, 2000);
+
+            List<Long> latencies = new ArrayList<>();
+            int failed = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < 10; round++) {
+                Burst burst = burst(filter, chain, 2000);
+                latencies.addAll(burst.latencies());
+                failed += burst.failed();
+            }
+            long elapsed = System.nanoTime() - start;
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            log.info("Admission {}: {} served/s, {} failed, p50 {} ms, p99 {} ms", enabled ? "on" : "off",
+                    sorted.length * 1_000_000_000L / elapsed, failed, sorted[sorted.length / 2] / 1_000_000,
+                    sorted[sorted.length * 99 / 100] / 1_000_000);
+        }
+    }
+
+    private void query(ServletResponse response) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(QUERY);
+        } catch (SQLException ex) {
+            ((HttpServletResponse) response).setStatus(500);
+        }
+    }
+
+    /**
+     * Sends the given number of requests at once and returns the latency in nanoseconds
+     * of each one served, and how many were not.
+     */
+    private static Burst burst(DbAdmissionFilter filter, FilterChain chain, int requests) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    filter.doFilter(new MockHttpServletRequest("GET", "/v1/books/1"), response, chain);
+                    return response.getStatus() == 200 ? System.nanoTime() - begin : -1L;
+                }));
+            }
+            start.countDown();
+            List<Long> latencies = new ArrayList<>();
+            int failed = 0;
+            for (Future<Long> future : futures) {
+                long latency = future.get();
+                if (latency >= 0) {
+                    latencies.add(latency);
+                } else {
+                    failed++;
+                }
+            }
+            return new Burst(latencies, failed);
+        }
+    }
+
+    private record Burst(List<Long> latencies, int failed) {
+
+        int served() {
+            return latencies.size();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.gklyphon.VirtualLibrary.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DbAdmissionFilter class.
+ * Verifies that permits, including further ones a request takes, are released after
+ * each request or when a handler releases them early, that requests are rejected when
+ * no permit is available, and that excluded paths need none.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class DbAdmissionFilterTest {
+
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Verifies that a request passes through and its permit is released afterwards.
+     */
+    @Test
+    void shouldPassRequestAndReleasePermit() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(1, 10, List.of(), objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/books"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(1, filter.availablePermits());
+    }
+
+    /**
+     * Verifies that a request is rejected with 503 when no permit is available.
+     */
+    @Test
+    void shouldRejectRequestWhenNoPermitAvailable() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(0, 10, List.of(), objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/books"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        assertTrue(response.getContentAsString().contains("Server is busy"));
+    }
+
+    /**
+     * Verifies that a request to an excluded path passes without a permit.
+     */
+    @Test
+    void shouldPassExcludedPathWithoutPermit() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(0, 10, List.of("/v1/books/*/ebook"), objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/books/1/ebook"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    /**
+     * Verifies that a permit released by the handler is available at once and released only once.
+     */
+    @Test
+    void shouldReleasePermitOnceWhenHandlerReleasesIt() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(1, 10, List.of(), objectMapper);
+        AtomicInteger available = new AtomicInteger(-1);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                DbAdmissionFilter.release(request);
+                DbAdmissionFilter.release(request);
+                available.set(filter.availablePermits());
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/books/1/cover"), new MockHttpServletResponse(), chain);
+
+        assertEquals(1, available.get());
+        assertEquals(1, filter.availablePermits());
+    }
+
+    /**
+     * Verifies that further permits are taken only while free and released with the request's own.
+     */
+    @Test
+    void shouldReleaseFurtherPermitsWithRequest() throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(3, 10, List.of(), objectMapper);
+        AtomicInteger available = new AtomicInteger(-1);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+                try {
+                    assertTrue(DbAdmissionFilter.tryAcquire(2));
+                    assertFalse(DbAdmissionFilter.tryAcquire(1));
+                    available.set(filter.availablePermits());
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }
+        });
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/authors/1/overview"), new MockHttpServletResponse(),
+                chain);
+
+        assertEquals(0, available.get());
+        assertEquals(3, filter.availablePermits());
+        assertTrue(DbAdmissionFilter.tryAcquire(5));
+    }
+}
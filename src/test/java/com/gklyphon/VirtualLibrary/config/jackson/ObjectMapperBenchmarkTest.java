@@ -0,0 +1,162 @@
+package com.gklyphon.VirtualLibrary.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gklyphon.VirtualLibrary.config.redis.RedisConfig;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.collection.spi.PersistentSet;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Serialization throughput of the tuned mapper setup against a mapper with only the JavaTimeModule,
+ * and of the JSON cache codec built on it against JDK serialization.
+ * The output comparison and the cache round trips always run; the throughput measurements run with
+ * {@code -Dbenchmark=true} and log pages per second for each mapper and values per second for each codec.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class ObjectMapperBenchmarkTest {
+
+    static ObjectMapper baseline;
+    static ObjectMapper tuned;
+    static List<Book> page;
+    static RedisSerializer<Object> cacheCodec;
+
+    @BeforeAll
+    static void setUp() {
+        baseline = new ObjectMapper().registerModule(new JavaTimeModule());
+        tuned = JacksonConfig.warm(JacksonConfig.configure(new ObjectMapper()));
+        page = LongStream.rangeClosed(1, 100).mapToObj(id -> {
+            Author author = Author.builder().id(id % 10).firstname("Firstname " + id % 10)
+                    .lastname("Lastname " + id % 10).country("Colombia")
+                    .birthdate(LocalDate.of(1927, 3, 6)).build();
+            return new Book(id, "Title " + id, "978-" + String.format("%09d", id),
+                    new BigDecimal("19.99"), author);
+        }).toList();
+        cacheCodec = RedisConfig.cacheValueSerializer();
+    }
+
+    /**
+     * Verifies that the tuned setup writes exactly what the baseline writes and reads it back,
+     * in JSON and in a binary format.
+     */
+    @Test
+    void tunedMapperShouldWriteSameBytesAsBaseline() throws Exception {
+        byte[] json = tuned.writeValueAsBytes(page);
+        assertArrayEquals(baseline.writeValueAsBytes(page), json);
+        Book[] read = tuned.readValue(json, Book[].class);
+        assertEquals("Title 100", read[99].getTitle());
+        assertEquals(LocalDate.of(1927, 3, 6), read[99].getAuthor().getBirthdate());
+
+        CBORMapper cbor = JacksonConfig.configure(new CBORMapper());
+        assertArrayEquals(new CBORMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(page),
+                cbor.writeValueAsBytes(page));
+    }
+
+    /**
+     * Verifies that the values of the book and author caches read back through the cache codec,
+     * including an author whose books are still in a Hibernate collection, a list of books and null.
+     */
+    @Test
+    void cacheCodecShouldReadBackCachedValues() {
+        Book book = (Book) cacheCodec.deserialize(cacheCodec.serialize(page.get(99)));
+        assertEquals("Title 100", book.getTitle());
+        assertEquals(new BigDecimal("19.99"), book.getPrice());
+        assertEquals(LocalDate.of(1927, 3, 6), book.getAuthor().getBirthdate());
+
+        Author author = page.get(0).getAuthor();
+        author.setBooks(new PersistentSet<>(null, new LinkedHashSet<>(page.subList(0, 3))));
+        Author read = (Author) cacheCodec.deserialize(cacheCodec.serialize(author));
+        assertEquals("Firstname 1", read.getFirstname());
+        assertInstanceOf(LinkedHashSet.class, read.getBooks());
+        assertEquals(Set.of("Title 1", "Title 2", "Title 3"),
+                read.getBooks().stream().map(Book::getTitle).collect(Collectors.toSet()));
+
+        Object books = cacheCodec.deserialize(cacheCodec.serialize(new ArrayList<>(page)));
+        assertEquals(100, ((List<?>) books).size());
+        assertInstanceOf(Book.class, ((List<?>) books).get(0));
+
+        assertNull(cacheCodec.deserialize(cacheCodec.serialize(null)));
+    }
+
+    /**
+     * Measures how many books the JSON cache codec and JDK serialization write and read per second.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureCacheCodecThroughput() {
+        measureCodec("jdk", RedisSerializer.java());
+        measureCodec("json", cacheCodec);
+    }
+
+    private static void measureCodec(String name, RedisSerializer<Object> codec) {
+        for (int i = 0; i < 20_000; i++) {
+            codec.deserialize(codec.serialize(page.get(i % 100)));
+        }
+        int operations = 200_000;
+        long start = System.nanoTime();
+        long bytes = 0;
+        for (int i = 0; i < operations; i++) {
+            bytes += codec.serialize(page.get(i % 100)).length;
+        }
+        double writeSeconds = (System.nanoTime() - start) / 1e9;
+        byte[] payload = codec.serialize(page.get(0));
+        start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            codec.deserialize(payload);
+        }
+        double readSeconds = (System.nanoTime() - start) / 1e9;
+        log.info("{} cache codec: {} bytes per book, write {} books/s, read {} books/s", name,
+                bytes / operations, Math.round(operations / writeSeconds), Math.round(operations / readSeconds));
+    }
+
+    /**
+     * Measures how many pages of 100 books each mapper serializes and deserializes per second.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureMapperThroughput() throws Exception {
+        measureThroughput("baseline", baseline);
+        measureThroughput("tuned", tuned);
+    }
+
+    private static void measureThroughput(String name, ObjectMapper mapper) throws Exception {
+        byte[] payload = mapper.writeValueAsBytes(page);
+        for (int i = 0; i < 5_000; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(page), Book[].class);
+        }
+        int operations = 20_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        double writeSeconds = (System.nanoTime() - start) / 1e9;
+        start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            mapper.readValue(payload, Book[].class);
+        }
+        double readSeconds = (System.nanoTime() - start) / 1e9;
+        log.info("{}: write {} pages/s, read {} pages/s", name,
+                Math.round(operations / writeSeconds), Math.round(operations / readSeconds));
+    }
+}
@@ -0,0 +1,90 @@
+package com.gklyphon.VirtualLibrary.config.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Payload size and serialization throughput of the negotiated wire formats.
+ * The size comparison always runs; the throughput measurement runs with
+ * {@code -Dbenchmark=true} and logs operations per second for each format.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class WireFormatBenchmarkTest {
+
+    static final Map<String, ObjectMapper> MAPPERS = new LinkedHashMap<>();
+    static List<Book> page;
+
+    @BeforeAll
+    static void setUp() {
+        MAPPERS.put("json", JacksonConfig.configure(new ObjectMapper()));
+        MAPPERS.put("cbor", JacksonConfig.configure(new CBORMapper()));
+        MAPPERS.put("smile", JacksonConfig.configure(new SmileMapper()));
+        page = LongStream.rangeClosed(1, 100).mapToObj(id -> {
+            Author author = Author.builder().id(id % 10).firstname("Firstname " + id % 10)
+                    .lastname("Lastname " + id % 10).country("Colombia")
+                    .birthdate(LocalDate.of(1927, 3, 6)).build();
+            return new Book(id, "Title " + id, "978-" + String.format("%09d", id),
+                    new BigDecimal("19.99"), author);
+        }).toList();
+    }
+
+    /**
+     * Verifies that every format round-trips a page of books and that both
+     * binary formats are smaller than JSON.
+     */
+    @Test
+    void binaryFormatsShouldBeSmallerThanJson() throws Exception {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> format : MAPPERS.entrySet()) {
+            byte[] payload = format.getValue().writeValueAsBytes(page);
+            Book[] read = format.getValue().readValue(payload, Book[].class);
+            assertEquals(page.size(), read.length);
+            assertEquals("Title 100", read[99].getTitle());
+            sizes.put(format.getKey(), payload.length);
+        }
+        log.info("Payload size of 100 books in bytes: {}", sizes);
+        assertTrue(sizes.get("cbor") < sizes.get("json"));
+        assertTrue(sizes.get("smile") < sizes.get("json"));
+    }
+
+    /**
+     * Measures how many pages of 100 books each format serializes per second.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureSerializationThroughput() throws Exception {
+        for (Map.Entry<String, ObjectMapper> format : MAPPERS.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            for (int i = 0; i < 5_000; i++) {
+                mapper.writeValueAsBytes(page);
+            }
+            int operations = 20_000;
+            long start = System.nanoTime();
+            for (int i = 0; i < operations; i++) {
+                mapper.writeValueAsBytes(page);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            log.info("{}: {} pages/s", format.getKey(), Math.round(operations / seconds));
+        }
+    }
+}
@@ -3,8 +3,17 @@ package com.gklyphon.VirtualLibrary.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.media.CoverStorage;
+import com.gklyphon.VirtualLibrary.media.EbookStorage;
 import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorOverview;
+import com.gklyphon.VirtualLibrary.service.impl.AuthorOverviewServiceImpl;
 import com.gklyphon.VirtualLibrary.service.impl.AuthorServiceImpl;
+import com.gklyphon.VirtualLibrary.service.impl.AuthorStatsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +26,15 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -40,6 +55,21 @@ public class AuthorControllerTest {
     @MockBean
     AuthorServiceImpl authorService;
 
+    @MockBean
+    AuthorStatsServiceImpl authorStatsService;
+
+    @MockBean
+    AuthorOverviewServiceImpl authorOverviewService;
+
+    @MockBean
+    CatalogCache catalogCache;
+
+    @MockBean
+    CoverStorage coverStorage;
+
+    @MockBean
+    EbookStorage ebookStorage;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -51,6 +81,7 @@ public class AuthorControllerTest {
         this.objectMapper = new ObjectMapper();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
+        when(catalogCache.stamp()).thenReturn(new CatalogStamp(1L, 1_700_000_000_000L));
     }
 
     /**
@@ -114,12 +145,13 @@ public class AuthorControllerTest {
 
     /**
      * Tests that an author is deleted when calling {@code DELETE /v1/authors/delete-author/{id}}.
-     * Verifies that the operation is successful (status code 200 OK).
+     * Verifies that the operation is successful (status code 200 OK) and that the covers
+     * and e-books of the books deleted with the author are deleted too.
      */
     @Test
     @WithMockUser(username = "ADMIN", roles = "ADMIN")
     void shouldDeleteAuthorWhenDeleteAuthorById() throws Exception {
-        doNothing().when(authorService).deleteById(anyLong());
+        when(authorService.deleteWithBooks(1L)).thenReturn(List.of(4L, 5L));
 
         mockMvc.perform(
                 MockMvcRequestBuilders.delete(API_URL + "/delete-author/1")
@@ -127,6 +159,10 @@ public class AuthorControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
         )
                 .andExpect(status().isOk());
+        verify(coverStorage).delete(4L);
+        verify(coverStorage).delete(5L);
+        verify(ebookStorage).delete(4L);
+        verify(ebookStorage).delete(5L);
     }
 
     /**
@@ -149,4 +185,87 @@ public class AuthorControllerTest {
                 .andExpect(jsonPath("$.id").value(1L));
         verify(authorService).save(any(Author.class));
     }
+
+    /**
+     * Tests that an author is patched when calling {@code PATCH /v1/authors/{id}}.
+     * Verifies that the patched author has ID 1.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldReturnAuthorWhenPatchAuthorCalled() throws Exception {
+        when(authorService.patch(anyLong(), anyMap())).thenReturn(Data.AUTHOR);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(API_URL + "/1")
+                                .content("{\"country\":\"Colombia\"}")
+                                .with(csrf())
+                                .contentType(BookController.MERGE_PATCH_JSON_VALUE)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+        verify(authorService).patch(eq(1L), anyMap());
+    }
+
+    /**
+     * Tests that the statistics of an author are returned when calling {@code GET /v1/authors/{id}/stats}.
+     * Verifies the book count and the derived average price.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnAuthorStatsWhenGetAuthorStatsCalled() throws Exception {
+        when(authorStatsService.findByAuthorId(1L))
+                .thenReturn(new AuthorStats(1L, 3, 2, new BigDecimal("45.00")));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookCount").value(3))
+                .andExpect(jsonPath("$.averagePrice").value(22.5));
+    }
+
+    /**
+     * Tests that the bulk statistics endpoint rejects more IDs than allowed.
+     * Verifies that the response status is 400 and the service is not called.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnBadRequestWhenTooManyStatsIdsRequested() throws Exception {
+        String ids = String.join(",", LongStream.rangeClosed(1, AuthorController.MAX_STATS_IDS + 1)
+                .mapToObj(Long::toString).toList());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/stats").param("ids", ids))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(authorStatsService);
+    }
+
+    /**
+     * Tests that the overview of an author is returned when calling {@code GET /v1/authors/{id}/overview}.
+     * Verifies that the author is written without their books, next to the first books and the statistics.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnAuthorOverviewWhenGetAuthorOverviewCalled() throws Exception {
+        AuthorFields author = new AuthorFields();
+        author.put("id", 1L);
+        author.put("lastname", "García Márquez");
+        when(authorOverviewService.findByAuthorId(1L, 10)).thenReturn(new AuthorOverview(author,
+                List.of(Data.BOOK), false, new AuthorStats(1L, 1, 1, new BigDecimal("2500"))));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/overview"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.author.lastname").value("García Márquez"))
+                .andExpect(jsonPath("$.author.books").doesNotExist())
+                .andExpect(jsonPath("$.books", hasSize(1)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.stats.bookCount").value(1));
+    }
+
+    /**
+     * Tests that the overview endpoint rejects more books than allowed.
+     * Verifies that the response status is 400 and the service is not called.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnBadRequestWhenTooManyOverviewBooksRequested() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/overview")
+                        .param("size", String.valueOf(AuthorController.MAX_OVERVIEW_BOOKS + 1)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(authorOverviewService);
+    }
 }
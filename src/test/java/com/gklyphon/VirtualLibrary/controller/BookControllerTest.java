@@ -1,28 +1,80 @@
 package com.gklyphon.VirtualLibrary.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.cache.ResponseBodyCache;
+import com.gklyphon.VirtualLibrary.config.jackson.JacksonConfig;
+import com.gklyphon.VirtualLibrary.config.redis.BookViewsData;
+import com.gklyphon.VirtualLibrary.config.web.CoverData;
+import com.gklyphon.VirtualLibrary.config.web.HttpCacheData;
 import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidSyncTokenException;
+import com.gklyphon.VirtualLibrary.exception.custom.SyncTokenExpiredException;
+import com.gklyphon.VirtualLibrary.exception.custom.VersionConflictException;
+import com.gklyphon.VirtualLibrary.media.Cover;
+import com.gklyphon.VirtualLibrary.media.CoverStorage;
+import com.gklyphon.VirtualLibrary.media.EbookStorage;
+import com.gklyphon.VirtualLibrary.media.ThumbnailCache;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.ChangeFeed;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.PopularBook;
+import com.gklyphon.VirtualLibrary.service.IBookViewService;
+import com.gklyphon.VirtualLibrary.service.IChangeFeedService;
 import com.gklyphon.VirtualLibrary.service.impl.AuthorServiceImpl;
 import com.gklyphon.VirtualLibrary.service.impl.BookServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,14 +89,39 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @AutoConfigureMockMvc
 @WebMvcTest(BookController.class)
+@Import({ConditionalResponses.class, HttpCacheData.class, JacksonConfig.class, FileResponses.class, CoverData.class,
+        BookViewsData.class})
 class BookControllerTest {
 
+    static final CatalogStamp STAMP = new CatalogStamp(7L, 1_700_000_000_000L);
+
     @MockBean
     BookServiceImpl bookService;
 
     @MockBean
     AuthorServiceImpl authorService;
 
+    @MockBean
+    CatalogCache catalogCache;
+
+    @MockBean
+    IChangeFeedService changeFeedService;
+
+    @MockBean
+    ResponseBodyCache responseBodyCache;
+
+    @MockBean
+    CoverStorage coverStorage;
+
+    @MockBean
+    ThumbnailCache thumbnailCache;
+
+    @MockBean
+    EbookStorage ebookStorage;
+
+    @MockBean
+    IBookViewService bookViewService;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -54,6 +131,7 @@ class BookControllerTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
+        when(catalogCache.stamp()).thenReturn(STAMP);
     }
 
     /**
@@ -91,6 +169,22 @@ class BookControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L));
         verify(bookService).findById(anyLong());
+        verify(bookViewService).record(1L);
+    }
+
+    /**
+     * Tests that a view is only counted for a book that was found: an unknown ID and a
+     * request for a field that does not exist are not views.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldNotCountViewWhenBookNotReturned() throws Exception {
+        when(bookService.findById(9L)).thenThrow(new ElementNotFoundException("Book with id: 9 not found."));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/9"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").param("fields", "unknown"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(bookViewService);
     }
 
     /**
@@ -183,4 +277,543 @@ class BookControllerTest {
         verify(bookService).save(any(Book.class));
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests that a full update of a book whose ISBN is in use, or that was modified since it was read,
+     * is answered with CONFLICT, and one referencing a missing row with BAD_REQUEST.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldMapFailedUpdatesToClientErrors() throws Exception {
+        when(bookService.findById(1L)).thenAnswer(invocation -> new Book(1L, "Book1", "ISBN1", null, null));
+        when(bookService.save(any(Book.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate", new SQLException("duplicate key", "23505")))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Book.class, 1L))
+                .thenThrow(new DataIntegrityViolationException("missing", new SQLException("foreign key", "23503")));
+        String body = objectMapper.writeValueAsString(new Book(null, "Book1", "ISBN2", null, null));
+
+        for (ResultMatcher expected : List.of(status().isConflict(), status().isConflict(), status().isBadRequest())) {
+            mockMvc.perform(MockMvcRequestBuilders.put(API_URL + "/update-book/1")
+                            .content(body)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .with(csrf()))
+                    .andExpect(expected);
+        }
+    }
+
+    /**
+     * Tests that a full update violating a constraint of the book is rejected before it is saved.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldRejectUpdateViolatingConstraints() throws Exception {
+        String body = objectMapper.writeValueAsString(new Book(null, "T".repeat(256), "ISBN2", null, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.put(API_URL + "/update-book/1")
+                        .content(body)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(bookService, never()).save(any());
+    }
+
+    /**
+     * Tests the endpoint to patch a book.
+     * Verifies that the merge patch document is passed to the service and the patched book is returned.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldReturnBookWhenPatchBookCalled() throws Exception {
+        when(bookService.patch(anyLong(), anyMap())).thenReturn(Data.BOOK);
+        mockMvc.perform(MockMvcRequestBuilders.patch(API_URL + "/1")
+                        .content("{\"title\":\"Book1\",\"version\":0}")
+                        .contentType(BookController.MERGE_PATCH_JSON_VALUE)
+                        .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Book1"));
+        verify(bookService).patch(eq(1L), eq(Map.of("title", "Book1", "version", 0)));
+    }
+
+    /**
+     * Tests the endpoint to patch a book with a stale version.
+     * Verifies that a conflict status is returned.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldReturnConflictWhenPatchBookVersionIsStale() throws Exception {
+        when(bookService.patch(anyLong(), anyMap())).thenThrow(new VersionConflictException("stale"));
+        mockMvc.perform(MockMvcRequestBuilders.patch(API_URL + "/1")
+                        .content("{\"title\":\"Book1\",\"version\":0}")
+                        .contentType(BookController.MERGE_PATCH_JSON_VALUE)
+                        .with(csrf())
+                )
+                .andExpect(status().isConflict());
+    }
+
+    /**
+     * Tests that a book is returned with validators derived from its row and its author's.
+     * Verifies the ETag, Last-Modified and stale-while-revalidate headers, and that the
+     * catalog stamp is not consulted.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnValidatorsWhenGetBookByIdCalled() throws Exception {
+        Book book = versionedBook();
+        when(bookService.findById(1L)).thenReturn(book);
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.3-2.5\""))
+                .andExpect(header().dateValue("Last-Modified", book.getAuthor().getUpdatedAt()
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                .andExpect(header().string("Cache-Control", "max-age=0, stale-while-revalidate=60"));
+        verifyNoInteractions(catalogCache);
+    }
+
+    /**
+     * Tests that a matching If-None-Match returns 304 without a body, and that the
+     * book's ETag changes when its author's version does.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        Book book = versionedBook();
+        when(bookService.findById(1L)).thenReturn(book);
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").header("If-None-Match", "\"1.3-2.5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1.3-2.5\""))
+                .andExpect(content().string(""));
+
+        book.getAuthor().setVersion(6L);
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").header("If-None-Match", "\"1.3-2.5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.3-2.6\""));
+    }
+
+    /**
+     * Tests that a page is not loaded when If-Modified-Since is not older than the stamp.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnNotModifiedPageWhenNotModifiedSince() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(STAMP.modifiedAt());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL).param("page", "0").param("size", "10").headers(headers))
+                .andExpect(status().isNotModified());
+        verifyNoInteractions(bookService);
+    }
+
+    /**
+     * Tests that a stale ETag gets a full response.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnBookWhenETagIsStale() throws Exception {
+        when(bookService.findById(1L)).thenReturn(Data.BOOK);
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").header("If-None-Match", "\"6-abc\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    /**
+     * Tests that a body cached in the current catalog generation is validated and written as it is stored,
+     * without loading the book, and that its stored tag answers a conditional request with 304.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnCachedBodyWithoutLoadingWhenResponseCacheHits() throws Exception {
+        byte[] body = "{\"id\":1,\"title\":\"Cached\"}".getBytes();
+        when(responseBodyCache.format(any())).thenReturn(ResponseBodyCache.Format.JSON);
+        when(responseBodyCache.get("book:1", ResponseBodyCache.Format.JSON)).thenReturn(
+                new ResponseBodyCache.Lookup(7L, new ResponseBodyCache.Entry(7L, "1.3-2.5", -1, body)));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(body))
+                .andExpect(header().string("ETag", "\"1.3-2.5\""));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").header("If-None-Match", "\"1.3-2.5\""))
+                .andExpect(status().isNotModified());
+        verify(bookService, never()).findById(any());
+        verify(responseBodyCache, never()).put(any(), any(), any());
+    }
+
+    /**
+     * Tests that a body cached before the last write is revalidated against the loaded book,
+     * and stored again in the current generation without encoding the book when its tag still matches.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReuseCachedBodyWhenTagStillMatches() throws Exception {
+        byte[] body = "{\"id\":1,\"title\":\"Cached\"}".getBytes();
+        when(bookService.findById(1L)).thenReturn(versionedBook());
+        when(responseBodyCache.format(any())).thenReturn(ResponseBodyCache.Format.JSON);
+        when(responseBodyCache.get("book:1", ResponseBodyCache.Format.JSON)).thenReturn(
+                new ResponseBodyCache.Lookup(8L, new ResponseBodyCache.Entry(7L, "1.3-2.5", -1, body)));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(body))
+                .andExpect(header().string("ETag", "\"1.3-2.5\""));
+        verify(responseBodyCache, never()).encode(any(), any());
+        verify(responseBodyCache).put(eq("book:1"), eq(ResponseBodyCache.Format.JSON),
+                argThat(entry -> entry.generation() == 8L && entry.tag().equals("1.3-2.5") && entry.body() == body));
+    }
+
+    /**
+     * Tests that a body missing from the cache is loaded, encoded, stored and returned.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldStoreBodyWhenResponseCacheMisses() throws Exception {
+        byte[] body = "{\"id\":1}".getBytes();
+        when(responseBodyCache.format(any())).thenReturn(ResponseBodyCache.Format.CBOR);
+        when(responseBodyCache.get("book:isbn:978-1", ResponseBodyCache.Format.CBOR))
+                .thenReturn(new ResponseBodyCache.Lookup(3L, null));
+        when(bookService.findByIsbn("978-1")).thenReturn(Data.BOOK);
+        when(responseBodyCache.encode(ResponseBodyCache.Format.CBOR, Data.BOOK)).thenReturn(body);
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/by-isbn").param("isbn", "978-1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(content().bytes(body));
+        verify(bookService).findByIsbn("978-1");
+        verify(responseBodyCache).put(eq("book:isbn:978-1"), eq(ResponseBodyCache.Format.CBOR),
+                argThat(entry -> entry.generation() == 3L && entry.tag().equals(EntityStamp.of(Data.BOOK).tag())));
+    }
+
+    /**
+     * Tests that a book is returned as CBOR when the client accepts it.
+     * Verifies the content type, the decoded body and that the ETag differs from the JSON one.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnCborWhenAccepted() throws Exception {
+        when(bookService.findById(1L)).thenReturn(Data.BOOK);
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn();
+        Book book = new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), Book.class);
+        assertEquals("Book1", book.getTitle());
+        assertNotEquals(EntityStamp.of(Data.BOOK).etag(), result.getResponse().getHeader("ETag"));
+    }
+
+    /**
+     * Tests that a page of books is returned as Smile with the HAL structure of the JSON page.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnSmilePageWhenAccepted() throws Exception {
+        when(bookService.findAllPageable(any(Pageable.class))).thenReturn(Data.PAGE_BOOKS);
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(API_URL).accept(JacksonConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(JacksonConfig.APPLICATION_SMILE))
+                .andReturn();
+        JsonNode page = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(2, page.at("/_embedded/bookList").size());
+        assertEquals(2, page.at("/page/totalElements").asInt());
+    }
+
+    /**
+     * Tests that only the requested fields of a book are returned.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnRequestedFieldsWhenGetBookByIdCalledWithFields() throws Exception {
+        BookFields fields = new BookFields();
+        fields.put("id", 1L);
+        fields.put("title", "Book1");
+        when(bookService.findById(eq(1L), any(FieldSet.class))).thenReturn(fields);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.title").value("Book1"))
+                .andExpect(jsonPath("$.isbn").doesNotExist());
+        verify(bookService).findById(1L, FieldSet.forBooks("title"));
+        verify(bookService, never()).findById(anyLong());
+    }
+
+    /**
+     * Tests that a page of sparse books keeps the HAL structure of the full page.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnPageOfFieldsWhenGetBooksCalledWithFields() throws Exception {
+        BookFields fields = new BookFields();
+        fields.put("id", 1L);
+        fields.put("isbn", "978-1");
+        when(bookService.findAllPageable(any(Pageable.class), any(FieldSet.class)))
+                .thenReturn(new PageImpl<>(List.of(fields), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL).param("fields", "isbn"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.bookList", hasSize(1)))
+                .andExpect(jsonPath("$._embedded.bookList[0].isbn").value("978-1"))
+                .andExpect(jsonPath("$._embedded.bookList[0].title").doesNotExist());
+        verify(bookService, never()).findAllPageable(any(Pageable.class));
+    }
+
+    /**
+     * Tests that an unknown field is rejected before the service is called.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnBadRequestWhenFieldIsUnknown() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1").param("fields", "title,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("password")));
+        verifyNoInteractions(bookService);
+    }
+
+    /**
+     * Tests that the plain view returns the items and a compact page block without links.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnPlainPageWhenViewIsPlain() throws Exception {
+        when(bookService.findAllPageable(any(Pageable.class))).thenReturn(Data.PAGE_BOOKS);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL).param("view", "plain"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].title").value("Book1"))
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$.page.next").doesNotExist())
+                .andExpect(jsonPath("$._links").doesNotExist())
+                .andExpect(jsonPath("$._embedded").doesNotExist());
+    }
+
+    /**
+     * Tests that the plain view is selected by its media type.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnPlainPageWhenMediaTypeAccepted() throws Exception {
+        when(bookService.findAllPageable(any(Pageable.class))).thenReturn(Data.PAGE_BOOKS);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL).accept(PlainPage.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(PlainPage.MEDIA_TYPE_VALUE))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.page.number").value(0));
+    }
+
+    /**
+     * Tests that a batch reports each item and answers 207 when some items were not written.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnMultiStatusWhenSomeBatchItemsFail() throws Exception {
+        when(bookService.saveAll(anyList())).thenReturn(List.of(
+                BatchItemResult.written(0, HttpStatus.CREATED, 10L, 0L),
+                BatchItemResult.failed(1, HttpStatus.NOT_FOUND, "Author with id: 9 not found.")));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(API_URL + "/batch").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\": \"A\", \"author\": {\"id\": 1}}, {\"title\": \"B\", \"author\": {\"id\": 9}}]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+        verify(authorService, never()).findById(anyLong());
+    }
+
+    /**
+     * Tests that an empty batch is rejected.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(API_URL + "/batch").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(bookService);
+    }
+
+    /**
+     * Tests the change feed endpoint.
+     * Verifies that the changed books, the deleted IDs and the next token are returned.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnChangesWhenGetBookChangesCalled() throws Exception {
+        when(changeFeedService.bookChanges("token", 100))
+                .thenReturn(new ChangeFeed<>(Data.BOOKS, List.of(9L), "next", false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/changes").param("since", "token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed", hasSize(2)))
+                .andExpect(jsonPath("$.changed[0].id").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(9))
+                .andExpect(jsonPath("$.next").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    /**
+     * Tests that the change feed rejects an out-of-range limit without reading changes.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnBadRequestWhenChangeLimitIsOutOfRange() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/changes").param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(changeFeedService);
+    }
+
+    /**
+     * Tests that malformed tokens are rejected with BAD_REQUEST and expired ones with GONE.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldRejectInvalidAndExpiredSyncTokens() throws Exception {
+        when(changeFeedService.bookChanges(eq("bad"), anyInt())).thenThrow(new InvalidSyncTokenException("bad"));
+        when(changeFeedService.bookChanges(eq("old"), anyInt())).thenThrow(new SyncTokenExpiredException("old"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/changes").param("since", "bad"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/changes").param("since", "old"))
+                .andExpect(status().isGone());
+    }
+
+    /**
+     * Tests that an uploaded cover is stored for an existing book and its ETag returned.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldStoreCoverWhenUploaded(@TempDir Path directory) throws Exception {
+        Cover cover = new Cover(1L, directory.resolve("1.png"), MediaType.IMAGE_PNG, 4L, 1_700_000_000_000L);
+        when(bookService.findById(1L)).thenReturn(Data.BOOK);
+        when(coverStorage.store(eq(1L), any(InputStream.class))).thenReturn(cover);
+
+        mockMvc.perform(MockMvcRequestBuilders.put(API_URL + "/1/cover")
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(new byte[]{1, 2, 3, 4})
+                        .with(csrf()))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, cover.etag()));
+        verify(coverStorage).store(eq(1L), any(InputStream.class));
+    }
+
+    /**
+     * Tests that a cover is not stored for an unknown book.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldReturnNotFoundWhenCoverUploadedForUnknownBook() throws Exception {
+        when(bookService.findById(9L)).thenThrow(new ElementNotFoundException("Book with id: 9 not found."));
+
+        mockMvc.perform(MockMvcRequestBuilders.put(API_URL + "/9/cover")
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .content(new byte[]{1, 2, 3, 4})
+                        .with(csrf()))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(coverStorage);
+    }
+
+    /**
+     * Tests that the cover of a book that no longer exists is not served.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnNotFoundWhenCoverRequestedForUnknownBook() throws Exception {
+        when(bookService.findById(9L)).thenThrow(new ElementNotFoundException("Book with id: 9 not found."));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/9/cover"))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(coverStorage);
+    }
+
+    /**
+     * Tests that a cover is served whole, by range, and as NOT_MODIFIED for a current copy.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldServeCoverWithRangesAndValidators(@TempDir Path directory) throws Exception {
+        Path file = Files.write(directory.resolve("1.jpg"), "0123456789".getBytes());
+        Cover cover = new Cover(1L, file, MediaType.IMAGE_JPEG, 10L, 1_700_000_000_000L);
+        when(coverStorage.find(1L)).thenReturn(cover);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/cover"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, cover.etag()))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(content().bytes("0123456789".getBytes()));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/cover").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes()));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/cover")
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("0123456789".getBytes()));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/cover").header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/cover").header(HttpHeaders.IF_NONE_MATCH, cover.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    /**
+     * Tests that a thumbnail is served when a width is requested, and NOT_FOUND without a cover.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldServeThumbnailWhenWidthRequested(@TempDir Path directory) throws Exception {
+        Path file = Files.write(directory.resolve("1-96.png"), "thumb".getBytes());
+        Cover cover = new Cover(1L, directory.resolve("1.png"), MediaType.IMAGE_PNG, 100L, 1_700_000_000_000L);
+        Cover thumbnail = new Cover(1L, file, MediaType.IMAGE_PNG, 5L, 1_700_000_000_000L);
+        when(coverStorage.find(1L)).thenReturn(cover);
+        when(thumbnailCache.thumbnail(cover, 96)).thenReturn(thumbnail);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/1/cover").param("width", "96"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, thumbnail.etag()))
+                .andExpect(content().bytes("thumb".getBytes()));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/2/cover"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests that the popularity leaderboard is returned for windows in hours or days,
+     * and that malformed or too long windows and out of range limits are rejected.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldReturnPopularBooksOfWindow() throws Exception {
+        when(bookViewService.popular(168, 5)).thenReturn(List.of(new PopularBook(Data.BOOK, 42)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/popular").param("window", "7d").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].book.id").value(1))
+                .andExpect(jsonPath("$[0].views").value(42));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/popular").param("window", "8d"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/popular").param("window", "0h"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/popular").param("window", "week"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/popular").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+        verify(bookViewService).popular(168, 5);
+        verifyNoMoreInteractions(bookViewService);
+    }
+
+    /**
+     * A book at version 3 whose author, at version 5, was updated after it.
+     */
+    private static Book versionedBook() {
+        Author author = new Author(2L, "Jane", "Austen", LocalDate.of(1775, 12, 16), "United Kingdom", Set.of());
+        author.setVersion(5L);
+        author.setUpdatedAt(LocalDateTime.of(2026, 10, 2, 9, 30));
+        Book book = new Book(1L, "Book1", "9780306406157", new BigDecimal("2500"), author);
+        book.setVersion(3L);
+        book.setUpdatedAt(LocalDateTime.of(2026, 10, 1, 12, 0));
+        return book;
+    }
+}
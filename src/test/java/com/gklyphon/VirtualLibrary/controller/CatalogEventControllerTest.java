@@ -0,0 +1,71 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.event.CatalogEventHub;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit test for the CatalogEventController class.
+ * Verifies that subscriptions are opened for the requested entity types.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@AutoConfigureMockMvc
+@WebMvcTest(CatalogEventController.class)
+class CatalogEventControllerTest {
+
+    @MockBean
+    CatalogEventHub catalogEventHub;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /**
+     * Tests that a subscription to every type is opened as an asynchronous event stream.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldOpenStreamForAllTypes() throws Exception {
+        when(catalogEventHub.subscribe(Set.of(Tombstone.BOOK, Tombstone.AUTHOR))).thenReturn(new SseEmitter());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+        verify(catalogEventHub).subscribe(Set.of(Tombstone.BOOK, Tombstone.AUTHOR));
+    }
+
+    /**
+     * Tests that a subscription can be narrowed to one type and that unknown types are rejected.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldFilterTypesAndRejectUnknownOnes() throws Exception {
+        when(catalogEventHub.subscribe(Set.of(Tombstone.BOOK))).thenReturn(new SseEmitter());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events").param("types", "book")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/events").param("types", "book,publisher")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isBadRequest());
+        verify(catalogEventHub).subscribe(Set.of(Tombstone.BOOK));
+        verifyNoMoreInteractions(catalogEventHub);
+    }
+}
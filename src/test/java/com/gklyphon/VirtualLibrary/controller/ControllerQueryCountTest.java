@@ -0,0 +1,320 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.StatementCapture;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.projection.SyncToken;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query count regression tests for the book and author endpoints.
+ * Each request runs against a local PostgreSQL loaded with a representative catalog,
+ * and the number of JDBC statements it prepares, captured through {@link StatementCapture},
+ * must stay within a fixed budget.
+ * A budget is exceeded as soon as a page starts loading its associations row by row.
+ *
+ * <p>Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Sql(scripts = "/sql/catalog-dataset.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ControllerQueryCountTest {
+
+    static final CatalogStamp STAMP = new CatalogStamp(1L, 1_700_000_000_000L);
+
+    @MockBean
+    CatalogCache catalogCache;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    IAuthorStatsService authorStatsService;
+
+    @BeforeEach
+    void setUp() {
+        when(catalogCache.stamp()).thenReturn(STAMP);
+        when(catalogCache.serializer(anyString()))
+                .thenReturn(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.java()));
+    }
+
+    /**
+     * A page of books: page query, count query, batched author load and batched author books load.
+     */
+    @Test
+    void getAllBooksShouldStayWithinBudget() throws Exception {
+        assertStatements(4, MockMvcRequestBuilders.get("/v1/books").param("page", "3").param("size", "20"));
+    }
+
+    /**
+     * A conditional GET that still matches the catalog stamp touches no table.
+     */
+    @Test
+    void notModifiedShouldNotQuery() throws Exception {
+        StatementCapture.start();
+        try {
+            mockMvc.perform(MockMvcRequestBuilders.get("/v1/books").param("page", "3").param("size", "20")
+                            .header("If-None-Match", STAMP.etag()))
+                    .andExpect(status().isNotModified());
+        } finally {
+            assertEquals(List.of(), StatementCapture.stop());
+        }
+    }
+
+    /**
+     * A sparse page of books: one page query reading the selected columns and one count query.
+     */
+    @Test
+    void getSparseBooksShouldStayWithinBudget() throws Exception {
+        assertStatements(2, MockMvcRequestBuilders.get("/v1/books").param("page", "3").param("size", "20")
+                .param("fields", "title,author.lastname"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books").param("page", "3").param("size", "20")
+                        .param("fields", "title,author.lastname"))
+                .andExpect(jsonPath("$._embedded.bookList[0].author.lastname").exists())
+                .andExpect(jsonPath("$._embedded.bookList[0].author.firstname").doesNotExist())
+                .andExpect(jsonPath("$._embedded.bookList[0].isbn").doesNotExist());
+    }
+
+    /**
+     * A sparse author by id: one query reading the selected columns.
+     */
+    @Test
+    void getSparseAuthorByIdShouldStayWithinBudget() throws Exception {
+        assertStatements(1, MockMvcRequestBuilders.get("/v1/authors/42").param("fields", "lastname"));
+    }
+
+    /**
+     * A single book with its author and the author's books.
+     */
+    @Test
+    void getBookByIdShouldStayWithinBudget() throws Exception {
+        assertStatements(3, MockMvcRequestBuilders.get("/v1/books/42"));
+    }
+
+    /**
+     * A book by ISBN: the lookup plus its author and the author's books.
+     */
+    @Test
+    void getBookByIsbnShouldStayWithinBudget() throws Exception {
+        assertStatements(3, MockMvcRequestBuilders.get("/v1/books/by-isbn").param("isbn", "978-000000042"));
+    }
+
+    /**
+     * A book by title: the lookup plus its author and the author's books.
+     */
+    @Test
+    void getBookByTitleShouldStayWithinBudget() throws Exception {
+        assertStatements(3, MockMvcRequestBuilders.get("/v1/books/by-title").param("title", "Title 42"));
+    }
+
+    /**
+     * A page of authors: page query, count query and batched books load.
+     */
+    @Test
+    void getAllAuthorsShouldStayWithinBudget() throws Exception {
+        assertStatements(4, MockMvcRequestBuilders.get("/v1/authors").param("page", "3").param("size", "20"));
+    }
+
+    /**
+     * A single author with their books.
+     */
+    @Test
+    void getAuthorByIdShouldStayWithinBudget() throws Exception {
+        assertStatements(2, MockMvcRequestBuilders.get("/v1/authors/42"));
+    }
+
+    /**
+     * Author statistics are a primary key read of the materialized row,
+     * after the reconciliation has rebuilt it from the books table.
+     */
+    @Test
+    void getAuthorStatsShouldStayWithinBudget() throws Exception {
+        assertTrue(authorStatsService.reconcile() >= 1000);
+        assertStatements(1, MockMvcRequestBuilders.get("/v1/authors/42/stats"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/authors/42/stats"))
+                .andExpect(jsonPath("$.bookCount").value(20));
+    }
+
+    /**
+     * An author overview: the author's own columns, without their books, the first books
+     * with their author, and the statistics row, read in parallel.
+     */
+    @Test
+    void getAuthorOverviewShouldStayWithinBudget() throws Exception {
+        assertTrue(authorStatsService.reconcile() >= 1000);
+        assertStatements(3, MockMvcRequestBuilders.get("/v1/authors/42/overview").param("size", "5"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/authors/42/overview").param("size", "5"))
+                .andExpect(jsonPath("$.author.lastname").value("Lastname 42"))
+                .andExpect(jsonPath("$.author.books").doesNotExist())
+                .andExpect(jsonPath("$.books", hasSize(5)))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.stats.bookCount").value(20));
+    }
+
+    /**
+     * A merge patch: one UPDATE ... RETURNING, the author statistics upsert
+     * and the returned book's author.
+     */
+    @Test
+    void patchBookShouldStayWithinBudget() throws Exception {
+        assertStatements(3, MockMvcRequestBuilders.patch("/v1/books/43")
+                .contentType(BookController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"price\": 19.99}"));
+    }
+
+    /**
+     * Deleting a book, adjusting its author's statistics and recording its tombstone is a single statement.
+     */
+    @Test
+    void deleteBookShouldStayWithinBudget() throws Exception {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO books (title, isbn, price, author_id, created_at, updated_at, version)
+                VALUES ('Disposable', 'DISPOSABLE-1', 1.00, 1, now(), now(), 0) RETURNING id""", Long.class);
+        assertStatements(1, MockMvcRequestBuilders.delete("/v1/books/delete-book/" + id));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tombstones WHERE entity_type = 'book' AND entity_id = ?", Long.class, id));
+    }
+
+    /**
+     * Deleting an author and their books, with a tombstone for each, is a single statement.
+     */
+    @Test
+    void deleteAuthorShouldStayWithinBudget() throws Exception {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO authors (firstname, lastname, created_at, updated_at, version)
+                VALUES ('Disposable', 'Author', now(), now(), 0) RETURNING id""", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO books (title, isbn, price, author_id, created_at, updated_at, version)
+                SELECT 'Disposable ' || g, 'DISPOSABLE-A-' || g, 1.00, ?, now(), now(), 0
+                FROM generate_series(1, 5) AS g""", id);
+        List<Long> bookIds = jdbcTemplate.queryForList("SELECT id FROM books WHERE author_id = ?", Long.class, id);
+        assertStatements(1, MockMvcRequestBuilders.delete("/v1/authors/delete-author/" + id));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tombstones WHERE entity_type = 'author' AND entity_id = ?", Long.class, id));
+        assertEquals(5L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tombstones WHERE entity_type = 'book' AND entity_id IN ("
+                        + bookIds.stream().map(String::valueOf).collect(Collectors.joining(",")) + ")", Long.class));
+    }
+
+    /**
+     * A first book sync: the changed books with their authors, the authors' books and the tombstones.
+     */
+    @Test
+    void getBookChangesShouldStayWithinBudget() throws Exception {
+        assertStatements(3, MockMvcRequestBuilders.get("/v1/books/changes").param("limit", "50"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/changes").param("limit", "50"))
+                .andExpect(jsonPath("$.changed", hasSize(50)))
+                .andExpect(jsonPath("$.changed[0].id").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    /**
+     * Deleted authors are reported by the feed once their tombstone is older than the commit lag.
+     */
+    @Test
+    void getAuthorChangesShouldReportDeletions() throws Exception {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO authors (firstname, lastname, created_at, updated_at, version)
+                VALUES ('Deleted', 'Author', now(), now(), 0) RETURNING id""", Long.class);
+        mockMvc.perform(MockMvcRequestBuilders.delete("/v1/authors/delete-author/" + id))
+                .andExpect(status().isOk());
+        jdbcTemplate.update("UPDATE tombstones SET deleted_at = now() - interval '1 minute' WHERE entity_id = ?", id);
+        LocalDateTime since = LocalDateTime.now().minusMinutes(10);
+        String token = new SyncToken(since, 0, since, 0).encode();
+
+        assertStatements(2, MockMvcRequestBuilders.get("/v1/authors/changes").param("since", token));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/authors/changes").param("since", token))
+                .andExpect(jsonPath("$.deleted", hasItem(id.intValue())))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    /**
+     * A batch of 50 new books: the author and ISBN lookups, the identifier reservation and one
+     * statistics upsert for the single author. The rows themselves go out as JDBC batches.
+     */
+    @Test
+    void batchCreateBooksShouldStayWithinBudget() throws Exception {
+        String books = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> "{\"title\": \"Batch " + i + "\", \"isbn\": \"BATCH-" + i
+                        + "\", \"price\": 2.50, \"author\": {\"id\": 7}}")
+                .collect(Collectors.joining(",", "[", ",{\"title\": \"Orphan\", \"author\": {\"id\": 999999}}]"));
+        assertStatements(4, MockMvcRequestBuilders.post("/v1/books/batch")
+                .contentType(MediaType.APPLICATION_JSON).content(books));
+
+        assertEquals(50L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE isbn LIKE 'BATCH-%' AND author_id = 7 AND version = 0", Long.class));
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE title = 'Orphan'", Long.class));
+    }
+
+    /**
+     * A batch of new and updated authors: the version lock and the identifier reservation.
+     */
+    @Test
+    void batchSaveAuthorsShouldStayWithinBudget() throws Exception {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO authors (firstname, lastname, created_at, updated_at, version)
+                VALUES ('Batch', 'Author', now(), now(), 3) RETURNING id""", Long.class);
+        String authors = "[{\"firstname\": \"New\", \"lastname\": \"One\", \"birthdate\": \"1970-01-01\"},"
+                + "{\"firstname\": \"New\", \"lastname\": \"Two\"},"
+                + "{\"id\": " + id + ", \"firstname\": \"Renamed\", \"lastname\": \"Author\", \"version\": 3}]";
+        assertStatements(2, MockMvcRequestBuilders.post("/v1/authors/batch")
+                .contentType(MediaType.APPLICATION_JSON).content(authors));
+
+        assertEquals(4L, jdbcTemplate.queryForObject("SELECT version FROM authors WHERE id = ?", Long.class, id));
+        assertEquals("Renamed", jdbcTemplate.queryForObject("SELECT firstname FROM authors WHERE id = ?", String.class, id));
+        assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM authors WHERE firstname = 'New' AND id > ?", Long.class, id));
+    }
+
+    private void assertStatements(long budget, RequestBuilder request) throws Exception {
+        List<String> statements;
+        StatementCapture.start();
+        try {
+            mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        } finally {
+            statements = StatementCapture.stop();
+        }
+        assertTrue(statements.size() <= budget, () -> "Expected at most " + budget + " SQL statements but "
+                + statements.size() + " were executed:\n" + String.join("\n", statements));
+    }
+}
@@ -0,0 +1,179 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.config.web.EbookData;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileBusyException;
+import com.gklyphon.VirtualLibrary.exception.custom.UploadOffsetConflictException;
+import com.gklyphon.VirtualLibrary.media.EbookStorage;
+import com.gklyphon.VirtualLibrary.media.EbookUpload;
+import com.gklyphon.VirtualLibrary.service.impl.BookServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit test for the EbookController class.
+ * Verifies the resumable upload protocol and ranged downloads of e-books.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@AutoConfigureMockMvc
+@WebMvcTest(EbookController.class)
+@Import({FileResponses.class, EbookData.class})
+class EbookControllerTest {
+
+    static final String UPLOAD_ID = "0123456789abcdef0123456789abcdef";
+
+    @MockBean
+    BookServiceImpl bookService;
+
+    @MockBean
+    EbookStorage ebookStorage;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /**
+     * Tests that an upload is started for an existing book and its location returned.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldStartUploadForExistingBook() throws Exception {
+        when(bookService.findById(1L)).thenReturn(Data.BOOK);
+        when(ebookStorage.start(1L)).thenReturn(new EbookUpload(UPLOAD_ID, 1L, 0, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/1/ebook/uploads").with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/v1/books/1/ebook/uploads/" + UPLOAD_ID))
+                .andExpect(header().string("Upload-Offset", "0"))
+                .andExpect(jsonPath("$.id").value(UPLOAD_ID));
+    }
+
+    /**
+     * Tests that an upload is not started for an unknown book.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldNotStartUploadForUnknownBook() throws Exception {
+        when(bookService.findById(9L)).thenThrow(new ElementNotFoundException("Book with id: 9 not found."));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/9/ebook/uploads").with(csrf()))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(ebookStorage);
+    }
+
+    /**
+     * Tests that a chunk is appended at its offset, and that a chunk at another offset
+     * is rejected with the offset to resume from.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldAppendChunksAtTheirOffset() throws Exception {
+        when(ebookStorage.append(eq(1L), eq(UPLOAD_ID), eq(0L), any(InputStream.class)))
+                .thenReturn(new EbookUpload(UPLOAD_ID, 1L, 4, null));
+        when(ebookStorage.append(eq(1L), eq(UPLOAD_ID), eq(8L), any(InputStream.class)))
+                .thenThrow(new UploadOffsetConflictException("Upload ends at offset 4, not 8.", 4));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/v1/books/1/ebook/uploads/" + UPLOAD_ID)
+                        .contentType(EbookController.OFFSET_OCTET_STREAM_VALUE)
+                        .header("Upload-Offset", "0")
+                        .content(new byte[]{1, 2, 3, 4})
+                        .with(csrf()))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Upload-Offset", "4"));
+        mockMvc.perform(MockMvcRequestBuilders.patch("/v1/books/1/ebook/uploads/" + UPLOAD_ID)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Upload-Offset", "8")
+                        .content(new byte[]{5, 6})
+                        .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("Upload-Offset", "4"));
+    }
+
+    /**
+     * Tests that a completed upload returns the SHA-256 of the stored e-book.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldCompleteUpload() throws Exception {
+        when(ebookStorage.complete(1L, UPLOAD_ID, "abc")).thenReturn(new EbookUpload(UPLOAD_ID, 1L, 4, "abc"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/1/ebook/uploads/" + UPLOAD_ID + "/complete")
+                        .param("sha256", "abc")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sha256").value("abc"))
+                .andExpect(jsonPath("$.offset").value(4));
+    }
+
+    /**
+     * Tests that an e-book is served whole and by range from its mapping, and that a busy
+     * e-book is answered with SERVICE_UNAVAILABLE.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldServeEbookRanges(@TempDir Path directory) throws Exception {
+        EbookData ebookData = new EbookData();
+        ebookData.setDirectory(directory.toString());
+        EbookStorage storage = new EbookStorage(ebookData);
+        byte[] pdf = "%PDF-1.7 0123456789".getBytes(StandardCharsets.US_ASCII);
+        EbookUpload upload = storage.start(1L);
+        storage.append(1L, upload.id(), 0, new ByteArrayInputStream(pdf));
+        storage.complete(1L, upload.id(), null);
+        when(ebookStorage.open(1L)).thenAnswer(invocation -> storage.open(1L));
+        when(ebookStorage.open(2L)).thenThrow(new FileBusyException("File 2.pdf has too many readers."));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/1/ebook"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private"))
+                .andExpect(content().bytes(pdf));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/1/ebook").header(HttpHeaders.RANGE, "bytes=-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 15-18/19"))
+                .andExpect(content().bytes("6789".getBytes(StandardCharsets.US_ASCII)));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/2/ebook"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/3/ebook"))
+                .andExpect(status().isNotFound());
+    }
+    /**
+     * Tests that the e-book of a book that no longer exists is not served.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldNotServeEbookOfUnknownBook() throws Exception {
+        when(bookService.findById(9L)).thenThrow(new ElementNotFoundException("Book with id: 9 not found."));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/9/ebook"))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(ebookStorage);
+    }
+}
@@ -0,0 +1,82 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EntityStamp record.
+ * Verifies that a tag changes with the rows embedded in the representation and only with them.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class EntityStampTest {
+
+    /**
+     * Verifies that an author's tag changes when one of its books is updated, added or removed,
+     * and that an author has no Last-Modified.
+     */
+    @Test
+    void shouldTagAuthorByItsBooks() {
+        Book first = book(1L, 0L);
+        Book second = book(2L, 4L);
+        Set<Book> books = new LinkedHashSet<>(Set.of(first, second));
+        Author author = new Author(7L, "Jane", "Austen", LocalDate.of(1775, 12, 16), "United Kingdom", books);
+        author.setVersion(2L);
+        author.setUpdatedAt(LocalDateTime.of(2026, 10, 1, 12, 0));
+
+        EntityStamp stamp = EntityStamp.of(author);
+        assertTrue(stamp.tag().startsWith("7.2-"));
+        assertEquals(-1, stamp.modifiedAt());
+        assertEquals(stamp, EntityStamp.of(author));
+
+        second.setVersion(5L);
+        EntityStamp updated = EntityStamp.of(author);
+        assertNotEquals(stamp, updated);
+
+        books.remove(first);
+        assertNotEquals(updated, EntityStamp.of(author));
+    }
+
+    /**
+     * Verifies that selected fields are tagged by their ID and values.
+     */
+    @Test
+    void shouldTagFieldsByTheirValues() {
+        BookFields fields = new BookFields();
+        fields.put("id", 3L);
+        fields.put("title", "Emma");
+
+        EntityStamp stamp = EntityStamp.of(fields);
+        assertTrue(stamp.tag().startsWith("3-"));
+        assertEquals(-1, stamp.modifiedAt());
+
+        fields.put("title", "Persuasion");
+        assertNotEquals(stamp, EntityStamp.of(fields));
+    }
+
+    /**
+     * Verifies that only books, authors and selected fields have validators.
+     */
+    @Test
+    void shouldRejectOtherBodies() {
+        assertThrows(IllegalArgumentException.class, () -> EntityStamp.of("book"));
+    }
+
+    private static Book book(Long id, Long version) {
+        Book book = new Book(id, "Title " + id, null, new BigDecimal("10"), null);
+        book.setVersion(version);
+        return book;
+    }
+}
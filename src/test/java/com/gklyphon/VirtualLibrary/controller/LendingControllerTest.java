@@ -0,0 +1,124 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.exception.custom.NoCopyAvailableException;
+import com.gklyphon.VirtualLibrary.model.entity.BookCopies;
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+import com.gklyphon.VirtualLibrary.service.ILendingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit test for the LendingController class.
+ * Verifies checkouts with idempotency keys, refused checkouts and copy changes.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@AutoConfigureMockMvc
+@WebMvcTest(LendingController.class)
+class LendingControllerTest {
+
+    @MockBean
+    ILendingService lendingService;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /**
+     * Tests that a checkout returns the loan and its location, and that a checkout
+     * without an available copy is answered with CONFLICT.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldCheckOutWithIdempotencyKey() throws Exception {
+        when(lendingService.checkout(1L, "reader", "key-1"))
+                .thenReturn(new Loan(7L, "key-1", 1L, "reader", LocalDateTime.now(), null));
+        when(lendingService.checkout(2L, "reader", "key-2"))
+                .thenThrow(new NoCopyAvailableException("No copy of book with id: 2 is available."));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/1/checkouts")
+                        .header(LendingController.IDEMPOTENCY_KEY, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"borrower\":\"reader\"}")
+                        .with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/v1/loans/7"))
+                .andExpect(jsonPath("$.bookId").value(1))
+                .andExpect(jsonPath("$.requestId").value("key-1"));
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/2/checkouts")
+                        .header(LendingController.IDEMPOTENCY_KEY, "key-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"borrower\":\"reader\"}")
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
+    /**
+     * Tests that checkouts without a valid idempotency key or borrower are rejected.
+     */
+    @Test
+    @WithMockUser(username = "USER", roles = "USER")
+    void shouldRejectCheckoutWithoutKeyOrBorrower() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/1/checkouts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"borrower\":\"reader\"}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/1/checkouts")
+                        .header(LendingController.IDEMPOTENCY_KEY, "k".repeat(65))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"borrower\":\"reader\"}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/1/checkouts")
+                        .header(LendingController.IDEMPOTENCY_KEY, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"borrower\":\" \"}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(lendingService);
+    }
+
+    /**
+     * Tests that the copies of a book are set and returned.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldSetCopies() throws Exception {
+        when(lendingService.setCopies(1L, 3)).thenReturn(new BookCopies(1L, null, 3, 2));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/v1/books/1/copies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"total\":3}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.available").value(2))
+                .andExpect(jsonPath("$.book").doesNotExist());
+        mockMvc.perform(MockMvcRequestBuilders.put("/v1/books/1/copies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"total\":-1}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(lendingService, never()).setCopies(any(), eq(-1));
+    }
+}
@@ -0,0 +1,130 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.config.jackson.JacksonConfig;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation and throughput of the HAL and plain page representations.
+ * Each measurement assembles and serializes a page of 100 books as a request would.
+ * The allocation comparison always runs; the throughput measurement runs with
+ * {@code -Dbenchmark=true} and logs pages per second for each representation.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class PaginationBenchmarkTest {
+
+    static ObjectMapper mapper;
+    static PagedResourcesAssembler<Book> assembler;
+    static Page<Book> page;
+
+    @BeforeAll
+    static void setUp() {
+        mapper = JacksonConfig.configure(new ObjectMapper());
+        mapper.registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DelegatingLinkRelationProvider(new DefaultLinkRelationProvider()), CurieProvider.NONE,
+                MessageResolver.DEFAULTS_ONLY, new HalConfiguration(), new DefaultListableBeanFactory()));
+        assembler = new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("GET", "/v1/books")));
+        List<Book> books = LongStream.rangeClosed(1, 100).mapToObj(id -> {
+            Author author = Author.builder().id(id % 10).firstname("Firstname " + id % 10)
+                    .lastname("Lastname " + id % 10).country("Colombia")
+                    .birthdate(LocalDate.of(1927, 3, 6)).build();
+            return new Book(id, "Title " + id, "978-" + String.format("%09d", id),
+                    new BigDecimal("19.99"), author);
+        }).toList();
+        page = new PageImpl<>(books, PageRequest.of(3, 100), 1_000);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Verifies that both representations carry the same items and that the plain one
+     * allocates less per page than the HAL one.
+     */
+    @Test
+    void plainPageShouldAllocateLessThanHalPage() throws Exception {
+        assertTrue(mapper.writeValueAsString(assembler.toModel(page)).contains("\"bookList\""));
+        assertEquals(100, mapper.readTree(mapper.writeValueAsBytes(PlainPage.of(page))).at("/content").size());
+
+        long hal = bytesPerPage(() -> assembler.toModel(page));
+        long plain = bytesPerPage(() -> PlainPage.of(page));
+        log.info("Bytes allocated per page of 100 books: hal={}, plain={}", hal, plain);
+        assertTrue(plain < hal);
+    }
+
+    /**
+     * Measures how many pages of 100 books each representation assembles and serializes per second.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measurePageThroughput() throws Exception {
+        measureThroughput("hal", () -> assembler.toModel(page));
+        measureThroughput("plain", () -> PlainPage.of(page));
+    }
+
+    private static long bytesPerPage(Supplier<Object> representation) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 2_000; i++) {
+            mapper.writeValueAsBytes(representation.get());
+        }
+        int operations = 2_000;
+        long thread = Thread.currentThread().threadId();
+        long start = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < operations; i++) {
+            mapper.writeValueAsBytes(representation.get());
+        }
+        return (threads.getThreadAllocatedBytes(thread) - start) / operations;
+    }
+
+    private static void measureThroughput(String name, Supplier<Object> representation) throws Exception {
+        for (int i = 0; i < 5_000; i++) {
+            mapper.writeValueAsBytes(representation.get());
+        }
+        int operations = 20_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            mapper.writeValueAsBytes(representation.get());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("{}: {} pages/s", name, Math.round(operations / seconds));
+    }
+}
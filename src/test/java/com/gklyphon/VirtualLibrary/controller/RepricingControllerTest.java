@@ -0,0 +1,143 @@
+package com.gklyphon.VirtualLibrary.controller;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.JobQueueFullException;
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.RepriceRule;
+import com.gklyphon.VirtualLibrary.model.projection.RepricingRequest;
+import com.gklyphon.VirtualLibrary.service.IRepricingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit test for the RepricingController class.
+ * Verifies that repricings are accepted as jobs, that invalid rules are rejected or
+ * pushed back when the queue is full, and that jobs are reported and cancelled.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@AutoConfigureMockMvc
+@WebMvcTest(RepricingController.class)
+class RepricingControllerTest {
+
+    @MockBean
+    IRepricingService repricingService;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /**
+     * Tests that a repricing is accepted with the location of its job.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldAcceptRepricing() throws Exception {
+        when(repricingService.start(new RepricingRequest(3L, null, new BigDecimal("50"), null,
+                new RepriceRule(RepriceRule.Type.PERCENT, new BigDecimal("-10")))))
+                .thenReturn(job(RepricingJob.Status.PENDING));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/repricing-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"authorId\":3,\"maxPrice\":50,\"rule\":{\"type\":\"PERCENT\",\"value\":-10}}")
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/v1/books/repricing-jobs/5"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.total").value(20));
+    }
+
+    /**
+     * Tests that rules that cannot be applied and inverted price ranges are answered with BAD_REQUEST.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldRejectInvalidRepricing() throws Exception {
+        for (String body : new String[]{
+                "{\"rule\":{\"type\":\"PERCENT\",\"value\":-100}}",
+                "{\"rule\":{\"type\":\"ROUND\",\"value\":0}}",
+                "{\"rule\":{\"type\":\"FIXED\"}}",
+                "{\"authorId\":3}",
+                "{\"minPrice\":20,\"maxPrice\":10,\"rule\":{\"type\":\"FIXED\",\"value\":1}}"}) {
+            mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/repricing-jobs")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+        }
+        verify(repricingService, never()).start(any());
+    }
+
+    /**
+     * Tests that a repricing refused because too many are waiting is answered with
+     * SERVICE_UNAVAILABLE and a delay to retry after.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldPushBackWhenQueueIsFull() throws Exception {
+        when(repricingService.start(any())).thenThrow(new JobQueueFullException("100 jobs of type repricing are waiting to run."));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/repricing-jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rule\":{\"type\":\"FIXED\",\"value\":1}}")
+                        .with(csrf()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+    }
+
+    /**
+     * Tests that a job's progress is reported and that it can be cancelled, and that an unknown
+     * job is answered with NOT_FOUND.
+     */
+    @Test
+    @WithMockUser(username = "ADMIN", roles = "ADMIN")
+    void shouldReportAndCancelJob() throws Exception {
+        RepricingJob running = job(RepricingJob.Status.RUNNING);
+        running.setProcessed(10);
+        running.setRepriced(8);
+        when(repricingService.find(5L)).thenReturn(running);
+        when(repricingService.cancel(5L)).thenReturn(job(RepricingJob.Status.CANCELLED));
+        when(repricingService.find(9L)).thenThrow(new ElementNotFoundException("Repricing job with id: 9 not found."));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/repricing-jobs/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(10))
+                .andExpect(jsonPath("$.repriced").value(8));
+        mockMvc.perform(MockMvcRequestBuilders.post("/v1/books/repricing-jobs/5/cancel").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/books/repricing-jobs/9"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static RepricingJob job(RepricingJob.Status status) {
+        return RepricingJob.builder()
+                .id(5L)
+                .status(status)
+                .authorId(3L)
+                .ruleType(RepriceRule.Type.PERCENT)
+                .ruleValue(new BigDecimal("-10"))
+                .total(20)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
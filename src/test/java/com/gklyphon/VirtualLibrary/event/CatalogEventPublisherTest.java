@@ -0,0 +1,87 @@
+package com.gklyphon.VirtualLibrary.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.config.redis.CatalogEventsData;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the CatalogEventPublisher class.
+ * Verifies that events are sent once committed and that publishing never fails a write.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogEventPublisherTest {
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    CatalogEventsData catalogEventsData;
+    CatalogEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        catalogEventsData = new CatalogEventsData();
+        publisher = new CatalogEventPublisher(stringRedisTemplate, new ObjectMapper(), catalogEventsData);
+    }
+
+    /**
+     * Verifies that the events of a transaction are sent as one message only after it commits.
+     */
+    @Test
+    void shouldPublishAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.publish(List.of(CatalogEvent.saved(Tombstone.BOOK, true, 1L, 0L),
+                    CatalogEvent.deleted(Tombstone.AUTHOR, 2L)));
+            verifyNoInteractions(stringRedisTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(stringRedisTemplate).convertAndSend("catalog:events",
+                "[{\"type\":\"book\",\"action\":\"created\",\"id\":1,\"version\":0},"
+                        + "{\"type\":\"author\",\"action\":\"deleted\",\"id\":2}]");
+    }
+
+    /**
+     * Verifies that a Redis failure is logged instead of propagated to the committed write.
+     */
+    @Test
+    void shouldNotFailWhenRedisIsUnavailable() {
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        assertDoesNotThrow(() -> publisher.publish(CatalogEvent.deleted(Tombstone.BOOK, 1L)));
+    }
+
+    /**
+     * Verifies that nothing is published when the event stream is disabled.
+     */
+    @Test
+    void shouldNotPublishWhenDisabled() {
+        catalogEventsData.setEnabled(false);
+
+        publisher.publish(CatalogEvent.deleted(Tombstone.BOOK, 1L));
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
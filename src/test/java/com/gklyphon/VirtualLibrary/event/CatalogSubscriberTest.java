@@ -0,0 +1,117 @@
+package com.gklyphon.VirtualLibrary.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CatalogSubscriber class.
+ * Verifies the type filter, the bounded buffer and the resync on overflow.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class CatalogSubscriberTest {
+
+    /**
+     * Verifies that only events of the subscribed types are sent, in order.
+     */
+    @Test
+    void shouldSendEventsOfSubscribedTypes() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        CatalogSubscriber subscriber = new CatalogSubscriber(emitter, Set.of(Tombstone.BOOK), 4);
+
+        assertTrue(subscriber.offer(CatalogEvent.saved(Tombstone.BOOK, true, 1L, 0L)));
+        assertFalse(subscriber.offer(CatalogEvent.saved(Tombstone.AUTHOR, true, 2L, 0L)));
+        assertTrue(subscriber.offer(CatalogEvent.deleted(Tombstone.BOOK, 3L)));
+        assertTrue(subscriber.claimDrain());
+        subscriber.drain();
+
+        assertEquals(2, emitter.sent.size());
+        assertTrue(emitter.sent.get(0).contains("event:change"));
+        assertTrue(emitter.sent.get(0).contains("\"id\":1"));
+        assertTrue(emitter.sent.get(1).contains("\"action\":\"deleted\""));
+    }
+
+    /**
+     * Verifies that an overflowing buffer is dropped and replaced by a single resync event.
+     */
+    @Test
+    void shouldSendResyncWhenBufferOverflows() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        CatalogSubscriber subscriber = new CatalogSubscriber(emitter, Set.of(Tombstone.BOOK), 2);
+
+        for (long id = 1; id <= 5; id++) {
+            subscriber.offer(CatalogEvent.saved(Tombstone.BOOK, false, id, 1L));
+        }
+        assertTrue(subscriber.claimDrain());
+        subscriber.drain();
+
+        assertEquals(1, emitter.sent.size());
+        assertTrue(emitter.sent.get(0).contains("event:resync"));
+    }
+
+    /**
+     * Verifies that only one drain runs at a time.
+     */
+    @Test
+    void shouldAllowOneDrainAtATime() {
+        CatalogSubscriber subscriber = new CatalogSubscriber(new RecordingEmitter(), Set.of(Tombstone.BOOK), 2);
+
+        assertTrue(subscriber.claimDrain());
+        assertFalse(subscriber.claimDrain());
+        subscriber.drain();
+        assertTrue(subscriber.claimDrain());
+    }
+
+    /**
+     * Verifies that a subscriber whose client went away is closed and stops buffering.
+     */
+    @Test
+    void shouldCloseWhenSendFails() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        CatalogSubscriber subscriber = new CatalogSubscriber(emitter, Set.of(Tombstone.BOOK), 2);
+
+        subscriber.heartbeat();
+        assertTrue(subscriber.claimDrain());
+        subscriber.drain();
+
+        assertTrue(subscriber.isClosed());
+        assertFalse(subscriber.offer(CatalogEvent.deleted(Tombstone.BOOK, 1L)));
+        assertFalse(subscriber.claimDrain());
+    }
+
+    /**
+     * Emitter recording the text of each event instead of writing a response.
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        static final ObjectMapper MAPPER = new ObjectMapper();
+
+        final List<String> sent = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                text.append(data.getData() instanceof String value ? value : MAPPER.writeValueAsString(data.getData()));
+            }
+            sent.add(text.toString());
+        }
+    }
+}
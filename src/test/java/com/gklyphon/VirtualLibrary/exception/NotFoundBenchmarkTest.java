@@ -0,0 +1,107 @@
+package com.gklyphon.VirtualLibrary.exception;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cost of the not-found path: throwing the exception and turning it into a 404 response.
+ * The behavior checks always run; the throughput measurement runs with
+ * {@code -Dbenchmark=true} and logs 404 responses per second with and without stack traces.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class NotFoundBenchmarkTest {
+
+    /**
+     * Verifies that the exception carries its message but no stack trace.
+     */
+    @Test
+    void elementNotFoundShouldBeStackless() {
+        ElementNotFoundException ex = assertThrows(ElementNotFoundException.class, () -> find(42L));
+        assertEquals("Book with id: 42 not found.", ex.getMessage());
+        assertEquals(0, ex.getStackTrace().length);
+    }
+
+    /**
+     * Verifies that one occurrence per interval is logged and reports how many were left out.
+     */
+    @Test
+    void shouldLogOncePerInterval() {
+        RateLimitedLog rateLimitedLog = new RateLimitedLog(Duration.ofSeconds(1));
+        long start = System.nanoTime();
+
+        assertEquals(0, rateLimitedLog.record(start));
+        assertEquals(-1, rateLimitedLog.record(start + 1));
+        assertEquals(-1, rateLimitedLog.record(start + 500_000_000L));
+        assertEquals(2, rateLimitedLog.record(start + 1_000_000_000L));
+        assertEquals(4, rateLimitedLog.occurrences());
+    }
+
+    /**
+     * Verifies that every lookup is answered with 404 and counted in the registered meter.
+     */
+    @Test
+    void shouldCountNotFoundResponses() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(1_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        handler.bindTo(registry);
+        for (long id = 1; id <= 3; id++) {
+            ResponseEntity<ErrorResponse> response = respond(handler, id, ElementNotFoundException::new);
+            assertEquals(404, response.getStatusCode().value());
+            assertEquals("Book with id: " + id + " not found.", response.getBody().getMessage());
+        }
+        assertEquals(3, registry.get(GlobalExceptionHandler.NOT_FOUND_METER).functionCounter().count());
+    }
+
+    /**
+     * Measures how many 404 responses per second the handler produces for stackless exceptions,
+     * and for exceptions filling in a stack trace, as they did before, through a cause.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureNotFoundThroughput() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(1_000);
+        measureThroughput("stackless", handler, ElementNotFoundException::new);
+        measureThroughput("stack trace", handler,
+                message -> new ElementNotFoundException(message, new RuntimeException(message)));
+    }
+
+    private static void measureThroughput(String name, GlobalExceptionHandler handler,
+                                          Function<String, ElementNotFoundException> exceptions) {
+        for (int i = 0; i < 50_000; i++) {
+            respond(handler, i, exceptions);
+        }
+        int operations = 500_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            respond(handler, i, exceptions);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("{}: {} responses/s", name, Math.round(operations / seconds));
+    }
+
+    private static ResponseEntity<ErrorResponse> respond(GlobalExceptionHandler handler, long id,
+                                                         Function<String, ElementNotFoundException> exceptions) {
+        try {
+            throw exceptions.apply("Book with id: " + id + " not found.");
+        } catch (ElementNotFoundException ex) {
+            return handler.handleElementNotFound(ex);
+        }
+    }
+
+    private static void find(long id) {
+        throw new ElementNotFoundException("Book with id: " + id + " not found.");
+    }
+}
@@ -0,0 +1,112 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for the CanonicalIsbnJob class against a local PostgreSQL.
+ * Verifies that books stored with hyphenated ISBNs are found by their canonical ISBN once the
+ * job has run, and that a book whose canonical ISBN is taken by another book keeps its own.
+ * Enabled when {@code POSTGRESQL_TEST_URL} is set.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CanonicalIsbnJobTest {
+
+    static final String SEEDED = "title LIKE 'Canonical ISBN %'";
+
+    @MockBean
+    CatalogCache catalogCache;
+
+    @Autowired
+    IBookRepository bookRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    CanonicalIsbnJob canonicalIsbnJob;
+
+    @BeforeEach
+    void setUp() {
+        canonicalIsbnJob = new CanonicalIsbnJob(bookRepository, catalogCache, mock(JobScheduler.class),
+                transactionManager);
+        jdbcTemplate.update("DELETE FROM books WHERE " + SEEDED);
+        jdbcTemplate.update("""
+                INSERT INTO books (title, isbn, price, created_at, updated_at, version) VALUES
+                ('Canonical ISBN hyphenated', '978-0135957059', 42.99, LOCALTIMESTAMP, LOCALTIMESTAMP, 0),
+                ('Canonical ISBN ten digits', '0-306-40615-2', 10.00, LOCALTIMESTAMP, LOCALTIMESTAMP, 0),
+                ('Canonical ISBN duplicate', '978-0-306-40615-7', 10.00, LOCALTIMESTAMP, LOCALTIMESTAMP, 0),
+                ('Canonical ISBN invalid', 'not-an-isbn', 10.00, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)
+                """);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM books WHERE " + SEEDED);
+    }
+
+    /**
+     * Verifies that a hyphenated row is rewritten, found by the lookups that compare the
+     * canonical ISBN, versioned and evicted under both keys, while the later of two books with
+     * one canonical ISBN and a value that is not an ISBN are left as they are.
+     */
+    @Test
+    void shouldRewriteHyphenatedIsbns() {
+        assertTrue(titleByIsbn("9780135957059").isEmpty());
+
+        canonicalIsbnJob.run(new JobExecution(Job.builder().id(1L).type(CanonicalIsbnJob.TYPE).build(), 3,
+                (id, checkpoint) -> true));
+
+        assertEquals("Canonical ISBN hyphenated", titleByIsbn("9780135957059").orElseThrow());
+        assertEquals("Canonical ISBN hyphenated", bookRepository.findByIsbn("9780135957059").orElseThrow().getTitle());
+        assertEquals(1, bookRepository.findRowsByIsbnIn(List.of("9780135957059")).size());
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT version FROM books WHERE isbn = '9780135957059'", Long.class));
+        assertEquals(List.of("978-0-306-40615-7", "9780306406157", "not-an-isbn"), jdbcTemplate.queryForList(
+                "SELECT isbn FROM books WHERE " + SEEDED + " AND isbn <> '9780135957059' ORDER BY isbn",
+                String.class).stream().sorted().toList());
+        verify(catalogCache).evictBooks(argThat((Collection<BookRow> rows) -> rows.stream()
+                .map(BookRow::isbn).toList().containsAll(List.of("978-0135957059", "9780135957059"))));
+    }
+
+    private Optional<Object> titleByIsbn(String isbn) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                bookRepository.findFieldsBy("isbn", isbn, FieldSet.forBooks("title")).map(fields -> fields.get("title")));
+    }
+}
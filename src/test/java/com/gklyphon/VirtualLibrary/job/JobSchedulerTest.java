@@ -0,0 +1,167 @@
+package com.gklyphon.VirtualLibrary.job;
+
+import com.gklyphon.VirtualLibrary.config.concurrency.JobsData;
+import com.gklyphon.VirtualLibrary.exception.custom.JobQueueFullException;
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+import com.gklyphon.VirtualLibrary.repository.IJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the JobScheduler class.
+ * Verifies that a full queue refuses new jobs, that runs are completed, retried or failed
+ * according to their attempt, that a lost lease leaves the job to its new node, and that
+ * jobs interrupted by a stopping node are queued again.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class JobSchedulerTest {
+
+    static final String TYPE = "test";
+
+    @Mock
+    private IJobRepository jobRepository;
+
+    @Mock
+    private ObjectProvider<JobHandler> handlerProvider;
+
+    @Mock
+    private JobHandler handler;
+
+    private JobScheduler jobScheduler;
+
+    @BeforeEach
+    void setUp() {
+        JobsData jobsData = new JobsData();
+        jobsData.setEnabled(false);
+        jobsData.setMaxQueued(2);
+        jobsData.setMaxAttempts(3);
+        jobsData.setConcurrency(Map.of(TYPE, 2));
+        lenient().when(handler.type()).thenReturn(TYPE);
+        when(handlerProvider.orderedStream()).thenAnswer(invocation -> Stream.of(handler));
+        jobScheduler = new JobScheduler(jobRepository, jobsData, handlerProvider);
+        jobScheduler.start();
+    }
+
+    /**
+     * Verifies that a job is queued while fewer jobs of its type are waiting than the queue allows,
+     * and refused once the queue is full.
+     */
+    @Test
+    void shouldRefuseJobsWhenQueueIsFull() {
+        when(jobRepository.countPending(TYPE)).thenReturn(1L, 2L);
+        when(jobRepository.enqueue(eq(TYPE), eq("1"), isNull(), any(LocalDateTime.class))).thenReturn(List.of(7L));
+
+        assertEquals(7L, jobScheduler.submit(TYPE, "1"));
+        assertThrows(JobQueueFullException.class, () -> jobScheduler.submit(TYPE, "2"));
+        verify(jobRepository, times(1)).enqueue(any(), any(), any(), any());
+    }
+
+    /**
+     * Verifies that a unique job is not queued again while one is waiting or running.
+     */
+    @Test
+    void shouldQueueUniqueJobOnce() {
+        when(jobRepository.enqueue(eq(TYPE), isNull(), eq(TYPE), any(LocalDateTime.class)))
+                .thenReturn(List.of(7L), List.of());
+
+        assertEquals(7L, jobScheduler.submitUnique(TYPE).orElseThrow());
+        assertTrue(jobScheduler.submitUnique(TYPE).isEmpty());
+    }
+
+    /**
+     * Verifies that a successful run completes the job, frees its permit and is reported.
+     */
+    @Test
+    void shouldCompleteSuccessfulRun() throws Exception {
+        when(jobRepository.finish(eq(1L), anyString(), eq("COMPLETED"), isNull(), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(jobRepository.countActive()).thenReturn(List.<Object[]>of(new Object[]{TYPE, "PENDING", 4L}));
+
+        execute(1);
+
+        verify(handler).run(any(JobExecution.class));
+        JobsReport.TypeReport report = jobScheduler.report().types().get(0);
+        assertEquals(TYPE, report.type());
+        assertEquals(2, report.concurrency());
+        assertEquals(0, report.running());
+        assertEquals(4, report.queued());
+        assertEquals(1, report.completed());
+    }
+
+    /**
+     * Verifies that a failed run is retried until the last attempt, which fails the job.
+     */
+    @Test
+    void shouldRetryFailedRunsUntilLastAttempt() throws Exception {
+        doThrow(new IllegalStateException("broken")).when(handler).run(any(JobExecution.class));
+
+        execute(1);
+        execute(3);
+
+        verify(jobRepository).retry(eq(1L), anyString(), contains("broken"), any(LocalDateTime.class));
+        verify(jobRepository).finish(eq(1L), anyString(), eq("FAILED"), contains("broken"), any(LocalDateTime.class));
+        assertEquals(1, jobScheduler.state(TYPE).retried.sum());
+        assertEquals(1, jobScheduler.state(TYPE).failed.sum());
+    }
+
+    /**
+     * Verifies that a job whose lease was taken over is neither finished nor retried by this node.
+     */
+    @Test
+    void shouldLeaveJobWithLostLeaseToItsNewNode() throws Exception {
+        doThrow(new LeaseLostException(1L)).when(handler).run(any(JobExecution.class));
+
+        execute(1);
+
+        verify(jobRepository, never()).finish(any(), any(), any(), any(), any());
+        verify(jobRepository, never()).retry(any(), any(), any(), any());
+        assertEquals(1, jobScheduler.state(TYPE).leasesLost.sum());
+    }
+
+    /**
+     * Verifies that a job interrupted because the node is stopping is queued again,
+     * and that a job that crashed its nodes too often fails without running.
+     */
+    @Test
+    void shouldReleaseInterruptedJobsAndAbandonCrashingOnes() throws Exception {
+        doThrow(new InterruptedException()).when(handler).run(any(JobExecution.class));
+        jobScheduler.stop();
+
+        execute(2);
+        execute(4);
+
+        verify(jobRepository).release(eq(1L), anyString());
+        verify(jobRepository).finish(eq(1L), anyString(), eq("FAILED"), eq("Abandoned after 3 runs"),
+                any(LocalDateTime.class));
+        verify(handler, times(1)).run(any(JobExecution.class));
+    }
+
+    private void execute(int attempt) {
+        JobScheduler.TypeState state = jobScheduler.state(TYPE);
+        assertTrue(state.permits.tryAcquire());
+        Job job = Job.builder().id(1L).type(TYPE).attempts(attempt).build();
+        jobScheduler.execute(handler, new JobExecution(job, 3, (id, checkpoint) -> true), state);
+        assertEquals(2, state.permits.availablePermits());
+    }
+}
@@ -0,0 +1,94 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.CoverData;
+import com.gklyphon.VirtualLibrary.exception.custom.FileTooLargeException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidCoverException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CoverStorage class.
+ * Verifies that covers are recognized by their leading bytes, bounded in size,
+ * and replaced as a whole.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class CoverStorageTest {
+
+    static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 1, 2, 3, 4, 5, 6};
+    static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3, 4};
+
+    @TempDir
+    Path directory;
+
+    CoverStorage coverStorage;
+
+    @BeforeEach
+    void setUp() {
+        CoverData coverData = new CoverData();
+        coverData.setDirectory(directory.toString());
+        coverData.setMaxSizeBytes(64);
+        coverStorage = new CoverStorage(coverData);
+    }
+
+    /**
+     * Verifies that a cover is stored under the extension of its detected type and found again.
+     */
+    @Test
+    void shouldStoreAndFindCover() throws IOException {
+        Cover stored = coverStorage.store(1L, new ByteArrayInputStream(PNG));
+
+        assertEquals(MediaType.IMAGE_PNG, stored.mediaType());
+        assertEquals(PNG.length, stored.length());
+        assertArrayEquals(PNG, Files.readAllBytes(directory.resolve("1.png")));
+        assertEquals(stored, coverStorage.find(1L));
+        assertNull(coverStorage.find(2L));
+    }
+
+    /**
+     * Verifies that a cover of another type replaces the previous one, leaving a single file.
+     */
+    @Test
+    void shouldReplaceCoverOfAnotherType() throws IOException {
+        coverStorage.store(1L, new ByteArrayInputStream(PNG));
+        Cover replaced = coverStorage.store(1L, new ByteArrayInputStream(JPEG));
+
+        assertEquals(MediaType.IMAGE_JPEG, replaced.mediaType());
+        assertFalse(Files.exists(directory.resolve("1.png")));
+        assertEquals(replaced, coverStorage.find(1L));
+        assertTrue(coverStorage.delete(1L));
+        assertFalse(coverStorage.delete(1L));
+        assertNull(coverStorage.find(1L));
+    }
+
+    /**
+     * Verifies that unsupported and oversized images are rejected without touching the stored cover.
+     */
+    @Test
+    void shouldRejectInvalidAndOversizedCovers() throws IOException {
+        Cover stored = coverStorage.store(1L, new ByteArrayInputStream(JPEG));
+        byte[] large = Arrays.copyOf(PNG, 65);
+
+        assertThrows(InvalidCoverException.class,
+                () -> coverStorage.store(1L, new ByteArrayInputStream("GIF89a....".getBytes())));
+        assertThrows(InvalidCoverException.class, () -> coverStorage.store(1L, new ByteArrayInputStream(new byte[2])));
+        assertThrows(FileTooLargeException.class, () -> coverStorage.store(1L, new ByteArrayInputStream(large)));
+
+        assertEquals(stored, coverStorage.find(1L));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
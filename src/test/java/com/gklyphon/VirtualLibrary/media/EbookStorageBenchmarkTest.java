@@ -0,0 +1,240 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.EbookData;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Heap use of e-book uploads and downloads. The checksum check always runs on a 64 MB e-book;
+ * the measurement runs with {@code -Dbenchmark=true} and logs, for a 512 MB e-book, the upload
+ * and read throughput and the peak heap growth while it is uploaded and read by concurrent requests.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class EbookStorageBenchmarkTest {
+
+    static final int MB = 1024 * 1024;
+    static final int CHUNK = 8 * MB;
+    static final int READERS = 4;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Verifies that a 64 MB e-book uploaded in chunks is read back whole by concurrent readers.
+     */
+    @Test
+    void shouldReadBackLargeEbookConcurrently() throws Exception {
+        EbookStorage ebookStorage = storage();
+        String sha256 = upload(ebookStorage, 64L * MB);
+
+        for (String read : readConcurrently(ebookStorage, 64L * MB)) {
+            assertEquals(sha256, read);
+        }
+    }
+
+    /**
+     * Measures the upload of a 512 MB e-book and its reading by concurrent readers, with the peak
+     * heap growth of each step.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureHeapOfLargeEbook() throws Exception {
+        long length = 512L * MB;
+        EbookStorage ebookStorage = storage();
+
+        long heap = resetPeakHeap();
+        long start = System.nanoTime();
+        String sha256 = upload(ebookStorage, length);
+        long uploadNanos = System.nanoTime() - start;
+        long uploadPeak = peakHeap() - heap;
+
+        heap = resetPeakHeap();
+        start = System.nanoTime();
+        List<String> reads = readConcurrently(ebookStorage, length);
+        long readNanos = System.nanoTime() - start;
+        long readPeak = peakHeap() - heap;
+
+        reads.forEach(read -> assertEquals(sha256, read));
+        log.info("Upload of {} MB in {} MB chunks: {} MB/s, peak heap growth {} MB",
+                length / MB, CHUNK / MB, length * 1000 / MB / Math.max(1, uploadNanos / 1_000_000), uploadPeak / MB);
+        log.info("{} concurrent mapped reads of {} MB: {} MB/s in total, peak heap growth {} MB",
+                READERS, length / MB, READERS * length * 1000 / MB / Math.max(1, readNanos / 1_000_000), readPeak / MB);
+    }
+
+    private EbookStorage storage() {
+        EbookData ebookData = new EbookData();
+        ebookData.setDirectory(directory.toString());
+        ebookData.setMaxConcurrentReads(READERS);
+        return new EbookStorage(ebookData);
+    }
+
+    /**
+     * Uploads a generated PDF in chunks, never holding more than a copy buffer of it.
+     *
+     * @return the SHA-256 of the stored e-book
+     */
+    private static String upload(EbookStorage ebookStorage, long length) throws IOException {
+        InputStream content = new GeneratedPdf(length);
+        EbookUpload upload = ebookStorage.start(1L);
+        long offset = 0;
+        while (offset < length) {
+            offset = ebookStorage.append(1L, upload.id(), offset, limit(content, Math.min(CHUNK, length - offset))).offset();
+        }
+        return ebookStorage.complete(1L, upload.id(), null).sha256();
+    }
+
+    private static List<String> readConcurrently(EbookStorage ebookStorage, long length) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Future<String>> reads = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                reads.add(executor.submit(() -> {
+                    DigestStream out = new DigestStream();
+                    try (MappedFile.Reader reader = ebookStorage.open(1L)) {
+                        for (long position = 0; position < length; position += CHUNK) {
+                            reader.write(position, Math.min(CHUNK, length - position), out);
+                        }
+                    }
+                    return HexFormat.of().formatHex(out.digest.digest());
+                }));
+            }
+            List<String> digests = new ArrayList<>();
+            for (Future<String> read : reads) {
+                digests.add(read.get());
+            }
+            return digests;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static InputStream limit(InputStream in, long length) {
+        return new InputStream() {
+            private long left = length;
+
+            @Override
+            public int read() throws IOException {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (left == 0) {
+                    return -1;
+                }
+                int read = in.read(b, off, (int) Math.min(len, left));
+                left -= Math.max(read, 0);
+                return read;
+            }
+        };
+    }
+
+    private static long resetPeakHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * A PDF of random bytes, generated as it is read.
+     */
+    private static final class GeneratedPdf extends InputStream {
+
+        private final Random random = new Random(42);
+        private final byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        private long left;
+        private long position;
+
+        private GeneratedPdf(long length) {
+            this.left = length;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (left == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, left);
+            byte[] bytes = new byte[count];
+            random.nextBytes(bytes);
+            for (int i = 0; i < count && position + i < header.length; i++) {
+                bytes[i] = header[(int) position + i];
+            }
+            System.arraycopy(bytes, 0, b, off, count);
+            left -= count;
+            position += count;
+            return count;
+        }
+    }
+
+    /**
+     * Discards what is written, keeping its SHA-256.
+     */
+    private static final class DigestStream extends OutputStream {
+
+        private final MessageDigest digest;
+
+        private DigestStream() throws NoSuchAlgorithmException {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        }
+
+        @Override
+        public void write(int b) {
+            digest.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            digest.update(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.EbookData;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileBusyException;
+import com.gklyphon.VirtualLibrary.exception.custom.FileTooLargeException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidEbookException;
+import com.gklyphon.VirtualLibrary.exception.custom.UploadOffsetConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EbookStorage and MappedFile classes.
+ * Verifies that chunked uploads are checksummed and resumable, that completed e-books are
+ * recognized by type, and that mapped reads return the requested ranges within the reader limit.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class EbookStorageTest {
+
+    @TempDir
+    Path directory;
+
+    EbookData ebookData;
+    EbookStorage ebookStorage;
+
+    @BeforeEach
+    void setUp() {
+        ebookData = new EbookData();
+        ebookData.setDirectory(directory.toString());
+        ebookData.setMaxSizeBytes(1024 * 1024);
+        ebookData.setMaxConcurrentReads(2);
+        ebookData.setReadWaitMs(10);
+        ebookStorage = new EbookStorage(ebookData);
+    }
+
+    /**
+     * Verifies that an e-book sent in chunks is stored whole, with the SHA-256 of the whole file.
+     */
+    @Test
+    void shouldStoreEbookUploadedInChunks() throws Exception {
+        byte[] pdf = pdf(300_000);
+        EbookUpload upload = ebookStorage.start(1L);
+
+        assertEquals(100_000, ebookStorage.append(1L, upload.id(), 0, chunk(pdf, 0, 100_000)).offset());
+        assertEquals(300_000, ebookStorage.append(1L, upload.id(), 100_000, chunk(pdf, 100_000, 300_000)).offset());
+        EbookUpload completed = ebookStorage.complete(1L, upload.id(), sha256(pdf).toUpperCase());
+
+        assertEquals(sha256(pdf), completed.sha256());
+        Ebook ebook = ebookStorage.find(1L);
+        assertEquals(MediaType.APPLICATION_PDF, ebook.mediaType());
+        assertArrayEquals(pdf, Files.readAllBytes(ebook.path()));
+        assertThrows(ElementNotFoundException.class, () -> ebookStorage.find(1L, upload.id()));
+        try (var files = Files.list(directory.resolve("uploads"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * Verifies that a chunk at the wrong offset is rejected with the offset to resume from,
+     * and that a chunk cut short keeps the bytes received.
+     */
+    @Test
+    void shouldResumeFromOffsetOfInterruptedChunk() throws Exception {
+        byte[] pdf = pdf(200_000);
+        EbookUpload upload = ebookStorage.start(1L);
+        InputStream broken = new FilterInputStream(chunk(pdf, 0, 200_000)) {
+            private int sent;
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (sent >= 70_000) {
+                    throw new IOException("Connection reset");
+                }
+                int read = super.read(b, off, Math.min(len, 70_000 - sent));
+                sent += read;
+                return read;
+            }
+        };
+
+        assertThrows(IOException.class, () -> ebookStorage.append(1L, upload.id(), 0, broken));
+        long offset = ebookStorage.find(1L, upload.id()).offset();
+        UploadOffsetConflictException conflict = assertThrows(UploadOffsetConflictException.class,
+                () -> ebookStorage.append(1L, upload.id(), 0, chunk(pdf, 0, 200_000)));
+
+        assertEquals(70_000, offset);
+        assertEquals(70_000, conflict.getOffset());
+        ebookStorage.append(1L, upload.id(), offset, chunk(pdf, (int) offset, 200_000));
+        assertEquals(sha256(pdf), ebookStorage.complete(1L, upload.id(), sha256(pdf)).sha256());
+        assertArrayEquals(pdf, Files.readAllBytes(ebookStorage.find(1L).path()));
+    }
+
+    /**
+     * Verifies that an upload is resumed by another instance, as after a restart,
+     * with its checksum recomputed from the partial file.
+     */
+    @Test
+    void shouldResumeUploadAfterRestart() throws Exception {
+        byte[] epub = epub(150_000);
+        EbookUpload upload = ebookStorage.start(1L);
+        ebookStorage.append(1L, upload.id(), 0, chunk(epub, 0, 50_000));
+
+        EbookStorage restarted = new EbookStorage(ebookData);
+        assertEquals(50_000, restarted.find(1L, upload.id()).offset());
+        assertThrows(ElementNotFoundException.class, () -> restarted.find(2L, upload.id()));
+        restarted.append(1L, upload.id(), 50_000, chunk(epub, 50_000, 150_000));
+
+        assertEquals(sha256(epub), restarted.complete(1L, upload.id(), sha256(epub)).sha256());
+        assertEquals(EbookStorage.EPUB, restarted.find(1L).mediaType());
+    }
+
+    /**
+     * Verifies that oversized chunks, unknown types and checksum mismatches are rejected,
+     * and that a rejected completion discards the upload.
+     */
+    @Test
+    void shouldRejectInvalidUploads() throws Exception {
+        EbookUpload large = ebookStorage.start(1L);
+        assertThrows(FileTooLargeException.class,
+                () -> ebookStorage.append(1L, large.id(), 0, new ByteArrayInputStream(new byte[1024 * 1024 + 1])));
+        assertEquals(1024 * 1024, ebookStorage.find(1L, large.id()).offset());
+
+        EbookUpload text = ebookStorage.start(1L);
+        ebookStorage.append(1L, text.id(), 0, new ByteArrayInputStream("plain text".getBytes()));
+        assertThrows(InvalidEbookException.class, () -> ebookStorage.complete(1L, text.id(), null));
+        assertThrows(ElementNotFoundException.class, () -> ebookStorage.find(1L, text.id()));
+
+        EbookUpload mismatch = ebookStorage.start(1L);
+        ebookStorage.append(1L, mismatch.id(), 0, new ByteArrayInputStream(pdf(1000)));
+        assertThrows(InvalidEbookException.class, () -> ebookStorage.complete(1L, mismatch.id(), sha256(new byte[1])));
+
+        assertThrows(ElementNotFoundException.class, () -> ebookStorage.find(1L, "../../1.pdf"));
+        assertNull(ebookStorage.find(1L));
+    }
+
+    /**
+     * Verifies that uploads idle for longer than the expiry are purged, and others kept.
+     */
+    @Test
+    void shouldPurgeExpiredUploads() throws Exception {
+        EbookUpload idle = ebookStorage.start(1L);
+        EbookUpload recent = ebookStorage.start(2L);
+        Path partial = directory.resolve("uploads").resolve("1-" + idle.id() + ".part");
+        Files.setLastModifiedTime(partial, FileTime.from(Instant.now().minus(25, ChronoUnit.HOURS)));
+
+        assertEquals(1, ebookStorage.purgeUploads());
+        assertThrows(ElementNotFoundException.class, () -> ebookStorage.find(1L, idle.id()));
+        assertEquals(0, ebookStorage.find(2L, recent.id()).offset());
+    }
+
+    /**
+     * Verifies that mapped reads return the requested ranges, that a replaced e-book is remapped,
+     * and that readers beyond the limit are refused until one is closed.
+     */
+    @Test
+    void shouldReadRangesThroughBoundedReaders() throws Exception {
+        byte[] pdf = pdf(100_000);
+        store(1L, pdf);
+
+        try (MappedFile.Reader first = ebookStorage.open(1L); MappedFile.Reader second = ebookStorage.open(1L)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            first.write(10, 5000, out);
+            second.write(99_000, 1000, out);
+
+            assertArrayEquals(Arrays.copyOfRange(pdf, 10, 5010), Arrays.copyOfRange(out.toByteArray(), 0, 5000));
+            assertArrayEquals(Arrays.copyOfRange(pdf, 99_000, 100_000), Arrays.copyOfRange(out.toByteArray(), 5000, 6000));
+            assertThrows(FileBusyException.class, () -> ebookStorage.open(1L));
+        }
+
+        byte[] replaced = pdf(50_000);
+        store(1L, replaced);
+        try (MappedFile.Reader reader = ebookStorage.open(1L)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            reader.write(0, 50_000, out);
+
+            assertEquals(50_000, reader.file().length());
+            assertArrayEquals(replaced, out.toByteArray());
+        }
+        assertTrue(ebookStorage.delete(1L));
+        assertNull(ebookStorage.open(1L));
+    }
+
+    /**
+     * Verifies that evicting or remapping the mapping of an e-book being read keeps its
+     * readers counted, and that its slots are free again once they are closed.
+     */
+    @Test
+    void shouldBoundReadersAcrossEvictionAndRemap() throws Exception {
+        ebookData.setMappedFiles(1);
+        ebookStorage = new EbookStorage(ebookData);
+        store(1L, pdf(10_000));
+        store(2L, pdf(20_000));
+
+        try (MappedFile.Reader first = ebookStorage.open(1L); MappedFile.Reader second = ebookStorage.open(1L)) {
+            ebookStorage.open(2L).close();
+            assertThrows(FileBusyException.class, () -> ebookStorage.open(1L));
+
+            store(1L, pdf(30_000));
+            assertThrows(FileBusyException.class, () -> ebookStorage.open(1L));
+            assertEquals(10_000, first.file().length());
+        }
+
+        try (MappedFile.Reader first = ebookStorage.open(1L); MappedFile.Reader second = ebookStorage.open(1L)) {
+            assertEquals(30_000, second.file().length());
+        }
+    }
+
+    private void store(long bookId, byte[] content) throws IOException {
+        EbookUpload upload = ebookStorage.start(bookId);
+        ebookStorage.append(bookId, upload.id(), 0, new ByteArrayInputStream(content));
+        ebookStorage.complete(bookId, upload.id(), null);
+    }
+
+    static byte[] pdf(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, content, 0, header.length);
+        return content;
+    }
+
+    static byte[] epub(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        content[0] = 'P';
+        content[1] = 'K';
+        content[2] = 3;
+        content[3] = 4;
+        byte[] mimetype = "mimetypeapplication/epub+zip".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(mimetype, 0, content, 30, mimetype.length);
+        return content;
+    }
+
+    private static InputStream chunk(byte[] content, int from, int to) {
+        return new ByteArrayInputStream(content, from, to - from);
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
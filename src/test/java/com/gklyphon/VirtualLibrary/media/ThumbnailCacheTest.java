@@ -0,0 +1,141 @@
+package com.gklyphon.VirtualLibrary.media;
+
+import com.gklyphon.VirtualLibrary.config.web.CoverData;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidCoverException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ThumbnailCache class.
+ * Verifies that thumbnails are resized once, reused, and evicted least recently used first
+ * once the cache exceeds its size.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class ThumbnailCacheTest {
+
+    @TempDir
+    Path directory;
+
+    ThumbnailCache thumbnailCache;
+
+    @AfterEach
+    void tearDown() {
+        if (thumbnailCache != null) {
+            thumbnailCache.shutdown();
+        }
+    }
+
+    /**
+     * Verifies that a thumbnail has the requested width and the cover's proportions,
+     * and that the cached file is served on the next request.
+     */
+    @Test
+    void shouldResizeOnceAndReuseThumbnail() throws IOException {
+        thumbnailCache = new ThumbnailCache(coverData(directory, Long.MAX_VALUE));
+        Cover cover = cover(1L, 400, 600, MediaType.IMAGE_PNG);
+
+        Cover thumbnail = thumbnailCache.thumbnail(cover, 96);
+        BufferedImage image = ImageIO.read(thumbnail.path().toFile());
+
+        assertNotEquals(cover.path(), thumbnail.path());
+        assertEquals(96, image.getWidth());
+        assertEquals(144, image.getHeight());
+        assertEquals(thumbnail.length(), thumbnailCache.size());
+        assertEquals(thumbnail, thumbnailCache.thumbnail(cover, 96));
+    }
+
+    /**
+     * Verifies that a cover narrower than the thumbnail is cached as it is rather than enlarged.
+     */
+    @Test
+    void shouldNotEnlargeNarrowCovers() throws IOException {
+        thumbnailCache = new ThumbnailCache(coverData(directory, Long.MAX_VALUE));
+        Cover cover = cover(1L, 50, 80, MediaType.IMAGE_JPEG);
+
+        Cover thumbnail = thumbnailCache.thumbnail(cover, 96);
+
+        assertEquals(50, ImageIO.read(thumbnail.path().toFile()).getWidth());
+        assertArrayEquals(Files.readAllBytes(cover.path()), Files.readAllBytes(thumbnail.path()));
+    }
+
+    /**
+     * Verifies that the least recently served thumbnail is deleted once the cache exceeds its size,
+     * and that the cache is reloaded from disk.
+     */
+    @Test
+    void shouldEvictLeastRecentlyServedThumbnail() throws IOException {
+        Cover first = cover(1L, 400, 600, MediaType.IMAGE_PNG);
+        Cover second = cover(2L, 400, 600, MediaType.IMAGE_PNG);
+        Cover third = cover(3L, 400, 600, MediaType.IMAGE_PNG);
+        ThumbnailCache measure = new ThumbnailCache(coverData(directory.resolve("measure"), Long.MAX_VALUE));
+        long bound;
+        try {
+            bound = measure.thumbnail(first, 96).length() + measure.thumbnail(second, 96).length()
+                    + measure.thumbnail(third, 96).length() - 1;
+        } finally {
+            measure.shutdown();
+        }
+
+        thumbnailCache = new ThumbnailCache(coverData(directory, bound));
+        Cover firstThumbnail = thumbnailCache.thumbnail(first, 96);
+        Cover secondThumbnail = thumbnailCache.thumbnail(second, 96);
+        thumbnailCache.thumbnail(first, 96);
+        Cover thirdThumbnail = thumbnailCache.thumbnail(third, 96);
+
+        assertTrue(Files.exists(firstThumbnail.path()));
+        assertFalse(Files.exists(secondThumbnail.path()));
+        assertTrue(Files.exists(thirdThumbnail.path()));
+        assertEquals(firstThumbnail.length() + thirdThumbnail.length(), thumbnailCache.size());
+
+        thumbnailCache.shutdown();
+        thumbnailCache = new ThumbnailCache(coverData(directory, Long.MAX_VALUE));
+        assertEquals(firstThumbnail.length() + thirdThumbnail.length(), thumbnailCache.size());
+    }
+
+    /**
+     * Verifies that widths which are not offered are rejected.
+     */
+    @Test
+    void shouldRejectWidthNotOffered() throws IOException {
+        thumbnailCache = new ThumbnailCache(coverData(directory, Long.MAX_VALUE));
+        Cover cover = cover(1L, 400, 600, MediaType.IMAGE_PNG);
+
+        assertThrows(InvalidCoverException.class, () -> thumbnailCache.thumbnail(cover, 100));
+    }
+
+    private static CoverData coverData(Path directory, long cacheBytes) {
+        CoverData coverData = new CoverData();
+        coverData.setDirectory(directory.toString());
+        coverData.setThumbnailWidths(List.of(96, 192));
+        coverData.setThumbnailCacheBytes(cacheBytes);
+        coverData.setThumbnailTimeoutMs(10_000);
+        return coverData;
+    }
+
+    private Cover cover(long bookId, int width, int height, MediaType type) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (int) (bookId * 0x3F1F0F) ^ (x * 31 + y * 17));
+            }
+        }
+        String extension = CoverStorage.extension(type);
+        Path path = directory.resolve(bookId + "." + extension);
+        ImageIO.write(image, MediaType.IMAGE_PNG.equals(type) ? "png" : "jpeg", path.toFile());
+        return Cover.of(bookId, path, type);
+    }
+}
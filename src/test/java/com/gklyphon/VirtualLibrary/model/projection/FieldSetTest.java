@@ -0,0 +1,51 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidFieldsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FieldSet class.
+ * Verifies that sparse fieldsets are validated and put in canonical order.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class FieldSetTest {
+
+    /**
+     * Verifies that the same selection in a different order yields the same key,
+     * and that the id of the book and of its author are always selected.
+     */
+    @Test
+    void shouldCanonicalizeBookFields() {
+        FieldSet fields = FieldSet.forBooks(" author.lastname, isbn,title ");
+
+        assertEquals(List.of("id", "title", "isbn", "author.id", "author.lastname"), fields.paths());
+        assertEquals(fields.key(), FieldSet.forBooks("title,isbn,author.lastname").key());
+    }
+
+    /**
+     * Verifies that naming an association alone selects all of its fields.
+     */
+    @Test
+    void shouldExpandAssociation() {
+        FieldSet fields = FieldSet.forBooks("author");
+
+        assertEquals(List.of("id", "author.id", "author.firstname", "author.lastname",
+                "author.birthdate", "author.country"), fields.paths());
+    }
+
+    /**
+     * Verifies that unknown fields are rejected.
+     */
+    @Test
+    void shouldRejectUnknownFields() {
+        assertThrows(InvalidFieldsException.class, () -> FieldSet.forBooks("title,secret"));
+        assertThrows(InvalidFieldsException.class, () -> FieldSet.forAuthors("books"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Isbn class.
+ * Verifies that ISBN-10 and ISBN-13 variants share one canonical form and packed value.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class IsbnTest {
+
+    /**
+     * Verifies that hyphenated, spaced and ISBN-10 forms normalize to the same ISBN-13.
+     */
+    @Test
+    void shouldNormalizeVariantsToIsbn13() {
+        assertEquals("9780306406157", Isbn.normalize("978-0-306-40615-7"));
+        assertEquals("9780306406157", Isbn.normalize("978 0 306 40615 7"));
+        assertEquals("9780306406157", Isbn.normalize("0-306-40615-2"));
+        assertEquals("9780804429573", Isbn.normalize("0-8044-2957-x"));
+        assertEquals(9780306406157L, Isbn.pack("0306406152"));
+        assertEquals("9780306406157", Isbn.unpack(Isbn.pack("978-0306406157")));
+    }
+
+    /**
+     * Verifies that values with a wrong check digit, length or prefix are kept as they are.
+     */
+    @Test
+    void shouldKeepValuesThatAreNotIsbns() {
+        assertEquals(Isbn.INVALID, Isbn.pack("978-0-306-40615-8"));
+        assertEquals(Isbn.INVALID, Isbn.pack("0-306-40615-3"));
+        assertEquals(Isbn.INVALID, Isbn.pack("123-0-306-40615-7"));
+        assertEquals(Isbn.INVALID, Isbn.pack("03064X6152"));
+        assertEquals(Isbn.INVALID, Isbn.pack(null));
+        assertEquals("978-000000042", Isbn.normalize(" 978-000000042 "));
+        assertEquals("ISBN1", Isbn.normalize("ISBN1"));
+        assertNull(Isbn.normalize(null));
+    }
+}
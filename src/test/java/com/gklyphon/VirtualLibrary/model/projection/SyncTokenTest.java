@@ -0,0 +1,43 @@
+package com.gklyphon.VirtualLibrary.model.projection;
+
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidSyncTokenException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SyncToken class.
+ * Verifies that tokens survive encoding and that malformed tokens are rejected.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class SyncTokenTest {
+
+    /**
+     * Verifies that a token is decoded to the positions it was encoded from, to the microsecond.
+     */
+    @Test
+    void shouldRoundTripToken() {
+        SyncToken token = new SyncToken(LocalDateTime.of(2026, 10, 19, 8, 30, 15, 123_456_000), 42,
+                LocalDateTime.of(2026, 10, 18, 23, 59, 59, 999_999_000), 7);
+
+        String encoded = token.encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        assertEquals(token, SyncToken.decode(encoded));
+    }
+
+    /**
+     * Verifies that strings that are not tokens are rejected.
+     */
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThrows(InvalidSyncTokenException.class, () -> SyncToken.decode("not a token"));
+        assertThrows(InvalidSyncTokenException.class, () -> SyncToken.decode("MTIzLjQ1"));
+        assertThrows(InvalidSyncTokenException.class, () -> SyncToken.decode(""));
+    }
+}
@@ -0,0 +1,159 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the statements that rebuild the author statistics.
+ * Verifies that a rebuild racing a book insert keeps the change of the insert, whether the
+ * insert commits while the rebuild waits for it or after the rebuild has committed.
+ *
+ * <p>Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IAuthorStatsRepositoryTest {
+
+    @Autowired
+    IAuthorStatsRepository authorStatsRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    long authorId;
+
+    @BeforeEach
+    void setUp() {
+        authorId = jdbcTemplate.queryForObject("""
+                INSERT INTO authors (firstname, lastname, created_at, updated_at, version)
+                VALUES ('Stats', 'Race', LOCALTIMESTAMP, LOCALTIMESTAMP, 0) RETURNING id
+                """, Long.class);
+        insertBook(new BigDecimal("10.00"));
+        authorStatsRepository.rebuildBatch(authorId - 1, 1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM author_stats WHERE author_id = ?", authorId);
+        jdbcTemplate.update("DELETE FROM books WHERE author_id = ?", authorId);
+        jdbcTemplate.update("DELETE FROM authors WHERE id = ?", authorId);
+    }
+
+    /**
+     * Verifies that a rebuild started while a book insert holds the author's statistics
+     * waits for it and counts the new book.
+     */
+    @Test
+    void shouldKeepInsertCommittedWhileRebuildWaits() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> insert = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    insertBook(new BigDecimal("5.50"));
+                    authorStatsRepository.applyDelta(authorId, 1, 1, new BigDecimal("5.50"));
+                    written.countDown();
+                    await(commit);
+                }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+
+        CompletableFuture<List<Long>> rebuild = CompletableFuture.supplyAsync(
+                () -> authorStatsRepository.rebuildBatch(authorId - 1, 1));
+        awaitLockWait();
+        commit.countDown();
+        insert.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(authorId), rebuild.get(10, TimeUnit.SECONDS));
+        assertStats(2, "15.50");
+    }
+
+    /**
+     * Verifies that a book insert that adjusts the statistics after a rebuild adds its change
+     * to the rebuilt value.
+     */
+    @Test
+    void shouldKeepInsertCommittedAfterRebuild() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch adjust = new CountDownLatch(1);
+        CompletableFuture<Void> insert = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    insertBook(new BigDecimal("5.50"));
+                    inserted.countDown();
+                    await(adjust);
+                    authorStatsRepository.applyDelta(authorId, 1, 1, new BigDecimal("5.50"));
+                }));
+        assertTrue(inserted.await(10, TimeUnit.SECONDS));
+
+        assertEquals(List.of(authorId), authorStatsRepository.rebuildBatch(authorId - 1, 1));
+        adjust.countDown();
+        insert.get(10, TimeUnit.SECONDS);
+
+        assertStats(2, "15.50");
+    }
+
+    private void insertBook(BigDecimal price) {
+        jdbcTemplate.update("""
+                INSERT INTO books (title, price, author_id, created_at, updated_at, version)
+                VALUES ('Stats race', ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)
+                """, price, authorId);
+    }
+
+    private void assertStats(long books, String priceSum) {
+        var stats = authorStatsRepository.findById(authorId).orElseThrow();
+        assertEquals(books, stats.getBookCount());
+        assertEquals(books, stats.getPricedCount());
+        assertEquals(0, new BigDecimal(priceSum).compareTo(stats.getPriceSum()));
+    }
+
+    /**
+     * Waits until a session of this database is blocked on a row lock.
+     */
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_stat_activity
+                WHERE datname = current_database() AND wait_event_type = 'Lock'
+                """, Long.class) == 0) {
+            assertTrue(System.nanoTime() < deadline, "the rebuild never waited for the insert");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
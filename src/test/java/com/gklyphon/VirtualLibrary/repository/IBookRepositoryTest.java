@@ -1,5 +1,198 @@
 package com.gklyphon.VirtualLibrary.repository;
 
+import com.gklyphon.VirtualLibrary.StatementCapture;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan regression tests for the book and author tables.
+ * Runs against a local PostgreSQL loaded with a representative catalog, calls the repository
+ * methods, captures the statements they issue through {@link StatementCapture} and asserts,
+ * through {@code EXPLAIN}, that lookups and listings are served by indexes.
+ *
+ * <p>Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Sql(scripts = "/sql/catalog-dataset.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
 class IBookRepositoryTest {
 
-}
\ No newline at end of file
+    @Autowired
+    IBookRepository bookRepository;
+
+    @Autowired
+    IAuthorRepository authorRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    /**
+     * Verifies that a book can be found by its ISBN in the dataset.
+     */
+    @Test
+    void shouldFindBookByIsbn() {
+        Optional<Book> book = bookRepository.findByIsbn("978-000000042");
+        assertTrue(book.isPresent());
+        assertEquals("Title 42", book.get().getTitle());
+    }
+
+    /**
+     * Verifies that a slice of an author's books holds the first books by ID, with their author,
+     * and tells whether more follow.
+     */
+    @Test
+    void shouldReadSliceOfAuthorBooks() {
+        Slice<Book> books = bookRepository.findByAuthorId(43L, PageRequest.of(0, 5, Sort.by("id")));
+
+        assertEquals(List.of(42L, 1042L, 2042L, 3042L, 4042L), books.map(Book::getId).getContent());
+        assertEquals("Lastname 43", books.getContent().get(0).getAuthor().getLastname());
+        assertTrue(books.hasNext());
+    }
+
+    /**
+     * Verifies that patching a book to an ISBN already in use fails with a unique violation,
+     * which the API answers with 409.
+     */
+    @Test
+    void shouldRejectPatchToIsbnInUse() {
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> bookRepository.patch(43L, Map.of("isbn", "978-000000042")));
+        assertInstanceOf(SQLException.class, ex.getMostSpecificCause());
+        assertEquals("23505", ((SQLException) ex.getMostSpecificCause()).getSQLState());
+    }
+
+    /**
+     * Verifies that the ISBN lookup uses the unique index on isbn.
+     */
+    @Test
+    void shouldUseIndexForFindByIsbn() {
+        assertUsesIndex("books", () -> bookRepository.findByIsbn("978-000000042"), "978-000000042");
+    }
+
+    /**
+     * Verifies that the title lookup uses the index on title.
+     */
+    @Test
+    void shouldUseIndexForFindByTitle() {
+        assertUsesIndex("books", () -> bookRepository.findByTitle("Title 42"), "Title 42");
+    }
+
+    /**
+     * Verifies that a slice of an author's books, joined to its author, uses the index on author_id.
+     */
+    @Test
+    void shouldUseIndexForAuthorBooksJoin() {
+        assertUsesIndex("books", () -> bookRepository.findByAuthorId(43L, PageRequest.of(0, 5, Sort.by("id"))),
+                43L, 6);
+    }
+
+    /**
+     * Verifies that the set-based delete of an author's books uses the index on author_id.
+     */
+    @Test
+    void shouldUseIndexForAuthorBooksDelete() {
+        LocalDateTime now = LocalDateTime.now();
+        assertUsesIndex("books", () -> authorRepository.deleteWithBooks(43L), 43L, 43L, 43L, now, now);
+    }
+
+    /**
+     * Verifies that the book and author listings page through the primary key index.
+     */
+    @Test
+    void shouldUsePrimaryKeyForListings() {
+        assertUsesIndex("books", () -> bookRepository.findAll(PageRequest.of(50, 10, Sort.by("id"))), 500, 10);
+        assertUsesIndex("authors", () -> authorRepository.findAll(PageRequest.of(50, 10, Sort.by("id"))), 500, 10);
+    }
+
+    /**
+     * Verifies that the change feeds walk the update time indexes after their position.
+     */
+    @Test
+    void shouldUseIndexForChangeFeeds() {
+        LocalDateTime horizon = LocalDateTime.now();
+        LocalDateTime since = horizon.minusDays(2);
+        assertUsesIndex("books", () -> bookRepository.findChangedAfter(since, 500L, horizon, Limit.of(100)),
+                since, 500L, horizon, 100);
+        assertUsesIndex("authors", () -> authorRepository.findChangedAfter(since, 500L, horizon, Limit.of(100)),
+                since, 500L, horizon, 100);
+    }
+
+    /**
+     * Runs a repository call, captures the first statement it issues and asserts that its plan
+     * for the given parameter values reads the table through an index. The statement is prepared
+     * and explained with {@code EXPLAIN EXECUTE}, so the plan is the one the driver's bound
+     * statement gets rather than the one of a hand-written copy of the query.
+     */
+    private void assertUsesIndex(String table, Runnable call, Object... parameters) {
+        List<String> statements;
+        StatementCapture.start();
+        try {
+            call.run();
+        } finally {
+            statements = StatementCapture.stop();
+        }
+        assertFalse(statements.isEmpty(), "No statement issued");
+        String sql = statements.get(0);
+        String plan = explain(sql, parameters);
+        assertFalse(plan.contains("Seq Scan on " + table),
+                () -> "Sequential scan on " + table + " for:\n" + sql + "\n" + plan);
+        assertTrue(plan.contains("Index"), () -> "No index used for:\n" + sql + "\n" + plan);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        StringBuilder prepared = new StringBuilder();
+        int position = 0;
+        for (char c : sql.toCharArray()) {
+            prepared.append(c == '?' ? "$" + ++position : String.valueOf(c));
+        }
+        String arguments = Arrays.stream(parameters)
+                .map(value -> value instanceof Number ? value.toString()
+                        : "'" + value.toString().replace("'", "''") + "'")
+                .collect(Collectors.joining(", "));
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE plan_check AS " + prepared);
+                try (ResultSet rows = statement.executeQuery("EXPLAIN EXECUTE plan_check(" + arguments + ")")) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                } finally {
+                    statement.execute("DEALLOCATE plan_check");
+                }
+            }
+        });
+    }
+}
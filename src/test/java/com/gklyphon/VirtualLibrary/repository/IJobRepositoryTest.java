@@ -0,0 +1,95 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the lease statements of the jobs table.
+ * Verifies that a job is held by one node at a time, that an expired lease is taken over,
+ * that the former holder can no longer write to the job, and that unique jobs are queued once.
+ *
+ * <p>Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+class IJobRepositoryTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Autowired
+    IJobRepository jobRepository;
+
+    /**
+     * Verifies that a claimed job is not claimed by another node until its lease expires,
+     * and that its first node then loses the right to checkpoint and finish it.
+     */
+    @Test
+    void shouldHandOverJobWhoseLeaseExpired() {
+        Long id = jobRepository.enqueue("test", "42", null, NOW).get(0);
+
+        assertEquals(List.of(id), jobRepository.claim("test", "node-a", NOW, NOW.plusSeconds(60)));
+        assertEquals(List.of(), jobRepository.claim("test", "node-b", NOW.plusSeconds(30), NOW.plusSeconds(90)));
+        assertEquals(1, jobRepository.checkpoint(id, "node-a", "100", NOW.plusSeconds(60)));
+
+        assertEquals(List.of(id), jobRepository.claim("test", "node-b", NOW.plusSeconds(61), NOW.plusSeconds(121)));
+        assertEquals(List.of(), jobRepository.renew(List.of(id), "node-a", NOW.plusSeconds(120)));
+        assertEquals(0, jobRepository.checkpoint(id, "node-a", "200", NOW.plusSeconds(120)));
+        assertEquals(0, jobRepository.finish(id, "node-a", "COMPLETED", null, NOW.plusSeconds(62)));
+
+        var job = jobRepository.findById(id).orElseThrow();
+        assertEquals("node-b", job.getLeaseOwner());
+        assertEquals("100", job.getCheckpoint());
+        assertEquals(2, job.getAttempts());
+        assertEquals(1, jobRepository.finish(id, "node-b", "COMPLETED", null, NOW.plusSeconds(70)));
+    }
+
+    /**
+     * Verifies that a retried job waits for its delay, and that a released job is claimed
+     * again at once without counting the interrupted run.
+     */
+    @Test
+    void shouldDelayRetriesAndRequeueReleasedJobs() {
+        Long retried = jobRepository.enqueue("test", null, null, NOW).get(0);
+        jobRepository.claim("test", "node-a", NOW, NOW.plusSeconds(60));
+        assertEquals(1, jobRepository.retry(retried, "node-a", "broken", NOW.plusSeconds(30)));
+
+        assertEquals(List.of(), jobRepository.claim("test", "node-a", NOW.plusSeconds(10), NOW.plusSeconds(70)));
+        assertEquals(1, jobRepository.countPending("test"));
+        assertEquals(List.of(retried), jobRepository.claim("test", "node-a", NOW.plusSeconds(30), NOW.plusSeconds(90)));
+        assertEquals(1, jobRepository.release(retried, "node-a"));
+        assertEquals(List.of(retried), jobRepository.claim("test", "node-b", NOW.plusSeconds(31), NOW.plusSeconds(91)));
+        assertEquals(2, jobRepository.findById(retried).orElseThrow().getAttempts());
+    }
+
+    /**
+     * Verifies that a unique job is queued once until it finishes, and that finished jobs are purged.
+     */
+    @Test
+    void shouldQueueUniqueJobOnceUntilFinished() {
+        Long id = jobRepository.enqueue("unique", null, "unique", NOW).get(0);
+
+        assertEquals(List.of(), jobRepository.enqueue("unique", null, "unique", NOW));
+        jobRepository.claim("unique", "node-a", NOW, NOW.plusSeconds(60));
+        assertEquals(List.of(), jobRepository.enqueue("unique", null, "unique", NOW));
+        jobRepository.finish(id, "node-a", "FAILED", "broken", NOW);
+        assertEquals(1, jobRepository.enqueue("unique", null, "unique", NOW).size());
+
+        assertEquals(1, jobRepository.deleteFinishedBefore(NOW.plusDays(1)));
+        assertEquals(1, jobRepository.count());
+    }
+}
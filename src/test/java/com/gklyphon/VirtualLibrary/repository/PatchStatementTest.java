@@ -0,0 +1,50 @@
+package com.gklyphon.VirtualLibrary.repository;
+
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidPatchException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PatchStatement class.
+ * Verifies that patched values are checked against the constraints of the entity before any SQL is built.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class PatchStatementTest {
+
+    /**
+     * Verifies that values violating a constraint of their property are rejected, naming the field.
+     */
+    @Test
+    void shouldRejectValuesViolatingEntityConstraints() {
+        PatchStatement<Book> books = new PatchStatement<>(null, Book.class, "books");
+        PatchStatement<Author> authors = new PatchStatement<>(null, Author.class, "authors");
+
+        InvalidPatchException ex = assertThrows(InvalidPatchException.class,
+                () -> books.set("title", "title", String.class, "T".repeat(256)));
+        assertTrue(ex.getMessage().startsWith("Field 'title'"), ex.getMessage());
+        assertThrows(InvalidPatchException.class,
+                () -> books.set("price", "price", BigDecimal.class, new BigDecimal("10.999")));
+        assertThrows(InvalidPatchException.class,
+                () -> authors.set("country", "country", String.class, "C".repeat(256)));
+    }
+
+    /**
+     * Verifies that values within the constraints, and cleared values, are accepted.
+     */
+    @Test
+    void shouldAcceptValuesWithinEntityConstraints() {
+        PatchStatement<Book> books = new PatchStatement<>(null, Book.class, "books");
+
+        assertSame(books, books.set("title", "title", String.class, "T".repeat(255)));
+        assertSame(books, books.set("price", "price", BigDecimal.class, new BigDecimal("10.99")));
+        assertSame(books, books.set("isbn", "isbn", String.class, null));
+    }
+}
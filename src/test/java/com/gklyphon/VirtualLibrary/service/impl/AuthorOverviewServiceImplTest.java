@@ -0,0 +1,198 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.config.concurrency.DbAdmissionFilter;
+import com.gklyphon.VirtualLibrary.config.concurrency.OverviewData;
+import com.gklyphon.VirtualLibrary.exception.custom.DeadlineExceededException;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorFields;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorOverview;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.service.IAuthorService;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AuthorOverviewServiceImpl class.
+ * Verifies that the three reads are combined into one overview, that they run in parallel only
+ * with database permits for each of them, that the first failed read cancels the others, and
+ * that reads still running at the deadline are cancelled.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthorOverviewServiceImplTest {
+
+    static final AuthorStats STATS = new AuthorStats(1L, 1, 1, new BigDecimal("2500"));
+
+    static final AuthorFields AUTHOR = new AuthorFields();
+
+    static {
+        AUTHOR.put("id", Data.AUTHOR.getId());
+        AUTHOR.put("lastname", Data.AUTHOR.getLastname());
+    }
+
+    @Mock
+    IAuthorService authorService;
+
+    @Mock
+    IBookService bookService;
+
+    @Mock
+    IAuthorStatsService authorStatsService;
+
+    OverviewData overviewData;
+
+    AuthorOverviewServiceImpl authorOverviewService;
+
+    @BeforeEach
+    void setUp() {
+        overviewData = new OverviewData();
+        authorOverviewService = new AuthorOverviewServiceImpl(authorService, bookService, authorStatsService,
+                overviewData);
+    }
+
+    /**
+     * Verifies that the author's own fields, the first books by ID and the statistics make up the overview,
+     * and that the author entity, which would load all of their books, is never read.
+     */
+    @Test
+    void shouldCombineReadsIntoOverview() {
+        PageRequest firstPage = PageRequest.of(0, 10, Sort.by("id"));
+        when(authorService.findById(1L, AuthorOverviewServiceImpl.AUTHOR_FIELDS)).thenReturn(AUTHOR);
+        when(bookService.findAllByAuthorId(1L, firstPage))
+                .thenReturn(new SliceImpl<>(List.of(Data.BOOK), firstPage, true));
+        when(authorStatsService.findByAuthorId(1L)).thenReturn(STATS);
+
+        AuthorOverview overview = authorOverviewService.findByAuthorId(1L, 10);
+
+        assertSame(AUTHOR, overview.author());
+        assertEquals(List.of(Data.BOOK), overview.books());
+        assertTrue(overview.hasMore());
+        assertSame(STATS, overview.stats());
+        assertEquals(FieldSet.AUTHOR_FIELDS, AuthorOverviewServiceImpl.AUTHOR_FIELDS.paths());
+        verify(authorService, never()).findById(1L);
+    }
+
+    /**
+     * Verifies that an admitted request reads in parallel when two further permits are free,
+     * and one read after another on a single thread when they are not.
+     */
+    @Test
+    void shouldReadInParallelOnlyWithFurtherPermits() throws Exception {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        when(authorService.findById(1L, AuthorOverviewServiceImpl.AUTHOR_FIELDS)).thenAnswer(invocation -> record(threads, AUTHOR));
+        when(bookService.findAllByAuthorId(eq(1L), any()))
+                .thenAnswer(invocation -> record(threads, new SliceImpl<>(List.of(Data.BOOK))));
+        when(authorStatsService.findByAuthorId(1L)).thenAnswer(invocation -> record(threads, STATS));
+
+        admitted(3, () -> authorOverviewService.findByAuthorId(1L, 10));
+        assertEquals(3, threads.size());
+
+        threads.clear();
+        admitted(2, () -> authorOverviewService.findByAuthorId(1L, 10));
+        assertEquals(1, threads.size());
+    }
+
+    /**
+     * Verifies that a missing author fails the overview at once and interrupts the reads still running.
+     */
+    @Test
+    void shouldCancelOtherReadsWhenOneFails() {
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(bookService.findAllByAuthorId(eq(9L), any())).thenAnswer(invocation -> block(started, interrupted));
+        when(authorStatsService.findByAuthorId(9L)).thenAnswer(invocation -> block(started, interrupted));
+        when(authorService.findById(9L, AuthorOverviewServiceImpl.AUTHOR_FIELDS)).thenAnswer(invocation -> {
+            started.await();
+            throw new ElementNotFoundException("Author with id: 9 not found.");
+        });
+
+        assertThrows(ElementNotFoundException.class, () -> authorOverviewService.findByAuthorId(9L, 10));
+        assertTrue(interrupted.get());
+    }
+
+    /**
+     * Verifies that a read still running at the deadline fails the overview and is interrupted.
+     */
+    @Test
+    void shouldCancelReadsAtDeadline() {
+        overviewData.setTimeoutMs(500);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(authorService.findById(1L, AuthorOverviewServiceImpl.AUTHOR_FIELDS)).thenAnswer(invocation -> {
+            started.await();
+            return AUTHOR;
+        });
+        when(bookService.findAllByAuthorId(eq(1L), any())).thenReturn(new SliceImpl<>(List.of()));
+        when(authorStatsService.findByAuthorId(1L)).thenAnswer(invocation -> block(started, interrupted));
+
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class, () -> authorOverviewService.findByAuthorId(1L, 10));
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(10).toNanos());
+        assertTrue(interrupted.get());
+    }
+
+    private static Object block(CountDownLatch started, AtomicBoolean interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(Duration.ofSeconds(30));
+        } catch (InterruptedException ex) {
+            interrupted.set(true);
+        }
+        return null;
+    }
+
+    private static <T> T record(Set<Thread> threads, T result) {
+        threads.add(Thread.currentThread());
+        return result;
+    }
+
+    /**
+     * Runs the task as a request admitted by a filter with the given number of permits.
+     */
+    private static void admitted(int permits, Runnable task) throws Exception {
+        DbAdmissionFilter filter = new DbAdmissionFilter(permits, 10, List.of(), new ObjectMapper());
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/authors/1/overview"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                            (HttpServletRequest) request));
+                    try {
+                        task.run();
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                });
+    }
+}
@@ -2,8 +2,19 @@ package com.gklyphon.VirtualLibrary.service.impl;
 
 
 import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.cache.CacheBatch;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogLoader;
+import com.gklyphon.VirtualLibrary.event.CatalogEvent;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
 import com.gklyphon.VirtualLibrary.model.entity.Author;
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.AuthorDeletion;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
 import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.Test;
@@ -15,10 +26,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -37,22 +50,32 @@ class AuthorServiceImplTest {
     @Mock
     IAuthorRepository authorRepository;
 
+    @Mock
+    CatalogCache catalogCache;
+
+    @Mock
+    CatalogEventPublisher catalogEventPublisher;
+
+    @Mock
+    CatalogLoader catalogLoader;
+
     @InjectMocks
     AuthorServiceImpl authorService;
 
     /**
      * Test to ensure that an author can be found by ID.
-     * It mocks the repository behavior and verifies the expected results.
+     * It mocks the catalog loader behavior and verifies the expected results.
      */
     @Test
     void shouldFindAuthorByIdWhenCalled() {
-        when(authorRepository.findById(anyLong())).thenReturn(Optional.of(Data.AUTHOR));
+        when(catalogLoader.author(anyLong())).thenReturn(Optional.of(Data.AUTHOR));
         Author author = authorService.findById(1L);
 
         assertNotNull(author);
         assertEquals(Data.AUTHOR.getBirthdate(), author.getBirthdate());
         assertEquals(1L, author.getId());
-        verify(authorRepository).findById(anyLong());
+        verify(catalogLoader).author(anyLong());
+        verifyNoInteractions(authorRepository);
     }
 
     /**
@@ -98,4 +121,71 @@ class AuthorServiceImplTest {
         assertEquals("Gabriel", authorCalled.getFirstname());
         verify(authorRepository).save(any(Author.class));
     }
+
+    /**
+     * Test to ensure that an author can be patched.
+     * It mocks the repository update and verifies that the returned row is used
+     * and that the author is evicted rather than written to the cache.
+     */
+    @Test
+    void shouldPatchAuthor() {
+        Map<String, Object> patch = Map.of("country", "Colombia");
+        when(authorRepository.patch(1L, patch)).thenReturn(Optional.of(Data.AUTHOR));
+        Author authorCalled = authorService.patch(1L, patch);
+        assertEquals("Colombia", authorCalled.getCountry());
+        verify(authorRepository).patch(1L, patch);
+        verify(catalogCache).evictAuthor(1L, List.of());
+    }
+
+    /**
+     * Test to ensure that deleting an author evicts the author and their deleted books,
+     * and publishes the deletion of the books before the author's.
+     */
+    @Test
+    void shouldDeleteAuthorWithBooks() {
+        List<BookRow> books = List.of(new BookRow(1L, "ISBN1", "Book1", 1L, null));
+        when(authorRepository.deleteWithBooks(1L)).thenReturn(new AuthorDeletion(1, books));
+        assertEquals(List.of(1L), authorService.deleteWithBooks(1L));
+        verify(catalogCache).evictAuthor(1L, books);
+        verify(catalogEventPublisher).publish(List.of(CatalogEvent.deleted(Tombstone.BOOK, 1L),
+                CatalogEvent.deleted(Tombstone.AUTHOR, 1L)));
+    }
+
+    /**
+     * Test to ensure that deleting a missing author throws ElementNotFoundException.
+     */
+    @Test
+    void shouldThrowNotFoundWhenDeletedAuthorDoesNotExist() {
+        when(authorRepository.deleteWithBooks(1L)).thenReturn(new AuthorDeletion(0, List.of()));
+        assertThrows(ElementNotFoundException.class, () -> authorService.deleteById(1L));
+        verifyNoInteractions(catalogCache);
+    }
+
+    /**
+     * Test to ensure that a batch of authors is written in batches, that new authors
+     * are written through to the cache and that stale or missing updates are reported.
+     */
+    @Test
+    void shouldSaveAuthorsInBatch() {
+        Author created = Author.builder().firstname("New").build();
+        Author updated = Author.builder().id(2L).firstname("Renamed").build();
+        Author stale = Author.builder().id(3L).build();
+        stale.setVersion(1L);
+        Author missing = Author.builder().id(4L).build();
+        when(authorRepository.lockVersions(List.of(2L, 3L, 4L)))
+                .thenReturn(List.of(new Versioned<>(2L, 0L), new Versioned<>(3L, 5L)));
+        doAnswer(invocation -> {
+            created.setId(10L);
+            created.setVersion(0L);
+            return null;
+        }).when(authorRepository).insertBatch(List.of(created));
+
+        List<BatchItemResult> results = authorService.saveAll(List.of(created, updated, stale, missing));
+
+        assertEquals(List.of(201, 200, 409, 404), results.stream().map(BatchItemResult::status).toList());
+        assertEquals(1L, updated.getVersion());
+        verify(authorRepository).updateBatch(List.of(updated));
+        verify(catalogCache).writeBatch(any(CacheBatch.class));
+        assertNotNull(created.getBooks());
+    }
 }
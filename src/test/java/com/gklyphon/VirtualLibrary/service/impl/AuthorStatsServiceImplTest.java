@@ -0,0 +1,140 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.AuthorStats;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IAuthorStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the AuthorStatsServiceImpl class.
+ * Verifies the deltas applied for each kind of book change
+ * and the batching of the reconciliation.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthorStatsServiceImplTest {
+
+    @Mock
+    private IAuthorStatsRepository authorStatsRepository;
+
+    @Mock
+    private IAuthorRepository authorRepository;
+
+    private AuthorStatsServiceImpl authorStatsService;
+
+    @BeforeEach
+    void setUp() {
+        authorStatsService = new AuthorStatsServiceImpl(authorStatsRepository, authorRepository, 2);
+    }
+
+    /**
+     * Verifies that a new priced book adds one book and its price to the author.
+     */
+    @Test
+    void shouldAddBookToAuthorWhenBookIsCreated() {
+        authorStatsService.recordChange(null, null, 1L, new BigDecimal("10"));
+        verify(authorStatsRepository).applyDelta(1L, 1, 1, new BigDecimal("10"));
+        verifyNoMoreInteractions(authorStatsRepository);
+    }
+
+    /**
+     * Verifies that a price change only adjusts the price aggregates of the same author.
+     */
+    @Test
+    void shouldAdjustPriceWhenOnlyPriceChanges() {
+        authorStatsService.recordChange(1L, new BigDecimal("10"), 1L, new BigDecimal("15"));
+        verify(authorStatsRepository).applyDelta(1L, 0, 0, new BigDecimal("5"));
+        verifyNoMoreInteractions(authorStatsRepository);
+    }
+
+    /**
+     * Verifies that an unchanged author and price writes nothing.
+     */
+    @Test
+    void shouldNotWriteWhenNothingChanges() {
+        authorStatsService.recordChange(1L, new BigDecimal("10"), 1L, new BigDecimal("10"));
+        verifyNoInteractions(authorStatsRepository);
+    }
+
+    /**
+     * Verifies that moving a book moves its count and price between authors.
+     */
+    @Test
+    void shouldMoveBookBetweenAuthors() {
+        authorStatsService.recordChange(1L, new BigDecimal("10"), 2L, null);
+        verify(authorStatsRepository).applyDelta(1L, -1, -1, new BigDecimal("-10"));
+        verify(authorStatsRepository).applyDelta(2L, 1, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * Verifies that an author without a statistics row gets empty statistics.
+     */
+    @Test
+    void shouldReturnEmptyStatsForAuthorWithoutBooks() {
+        when(authorStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(authorRepository.existsById(1L)).thenReturn(true);
+        AuthorStats stats = authorStatsService.findByAuthorId(1L);
+        assertEquals(0, stats.getBookCount());
+        assertNull(stats.getAveragePrice());
+    }
+
+    /**
+     * Verifies that the statistics of a missing author are not found.
+     */
+    @Test
+    void shouldThrowNotFoundWhenAuthorDoesNotExist() {
+        when(authorStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(authorRepository.existsById(1L)).thenReturn(false);
+        assertThrows(ElementNotFoundException.class, () -> authorStatsService.findByAuthorId(1L));
+    }
+
+    /**
+     * Verifies that reconciliation walks the authors in keyset batches until one comes back empty.
+     */
+    @Test
+    void shouldReconcileInBatches() {
+        when(authorStatsRepository.rebuildBatch(0L, 2)).thenReturn(List.of(1L, 3L));
+        when(authorStatsRepository.rebuildBatch(3L, 2)).thenReturn(List.of(4L));
+        when(authorStatsRepository.rebuildBatch(4L, 2)).thenReturn(List.of());
+        assertEquals(3, authorStatsService.reconcile());
+        verify(authorStatsRepository, times(3)).rebuildBatch(anyLong(), anyInt());
+    }
+
+    /**
+     * Verifies that a batch of changes is applied as one upsert per author.
+     */
+    @Test
+    void shouldSumBatchChangesPerAuthor() {
+        Author first = Author.builder().id(1L).build();
+        Author second = Author.builder().id(2L).build();
+        authorStatsService.recordChanges(List.of(
+                new BookPatch(Book.builder().price(new BigDecimal("10")).author(first).build(), null),
+                new BookPatch(Book.builder().price(new BigDecimal("5")).author(first).build(), null),
+                new BookPatch(Book.builder().author(first).build(),
+                        new BookRow(3L, "ISBN3", "Book3", 2L, new BigDecimal("7")))));
+        verify(authorStatsRepository).applyDelta(1L, 3, 2, new BigDecimal("15"));
+        verify(authorStatsRepository).applyDelta(2L, -1, -1, new BigDecimal("-7"));
+        verifyNoMoreInteractions(authorStatsRepository);
+    }
+}
@@ -1,8 +1,25 @@
 package com.gklyphon.VirtualLibrary.service.impl;
 
 import com.gklyphon.VirtualLibrary.Data;
+import com.gklyphon.VirtualLibrary.cache.CacheBatch;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogLoader;
+import com.gklyphon.VirtualLibrary.cache.IsbnIndex;
+import com.gklyphon.VirtualLibrary.event.CatalogEvent;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.VersionConflictException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
 import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.BatchItemResult;
+import com.gklyphon.VirtualLibrary.model.projection.BookPatch;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
 import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.service.IAuthorStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +30,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -37,6 +61,24 @@ class BookServiceImplTest {
     @Mock
     private IBookRepository bookRepository;
 
+    @Mock
+    private IAuthorRepository authorRepository;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private IAuthorStatsService authorStatsService;
+
+    @Mock
+    private CatalogEventPublisher catalogEventPublisher;
+
+    @Mock
+    private IsbnIndex isbnIndex;
+
+    @Mock
+    private CatalogLoader catalogLoader;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -47,15 +89,26 @@ class BookServiceImplTest {
 
     /**
      * Tests the findById method in BookServiceImpl.
-     * Verifies that a book can be found by its ID when it exists.
+     * Verifies that a book can be found by its ID when it exists, through the catalog loader.
      */
     @Test
     void shouldFindBookByIdWhenCalled() {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.of(Data.BOOK));
+        when(catalogLoader.book(anyLong())).thenReturn(Optional.of(Data.BOOK));
         Book bookCalled = bookService.findById(1L);
         assertNotNull(bookCalled);
         assertEquals(1L, bookCalled.getId());
-        verify(bookRepository).findById(anyLong());
+        verify(catalogLoader).book(anyLong());
+        verifyNoInteractions(bookRepository);
+    }
+
+    /**
+     * Tests the findById method in BookServiceImpl.
+     * Verifies that an unknown ID is rejected.
+     */
+    @Test
+    void shouldThrowWhenBookByIdDoesNotExist() {
+        when(catalogLoader.book(9L)).thenReturn(Optional.empty());
+        assertThrows(ElementNotFoundException.class, () -> bookService.findById(9L));
     }
 
     /**
@@ -71,6 +124,40 @@ class BookServiceImplTest {
         verify(bookRepository).findByIsbn(anyString());
     }
 
+    /**
+     * Verifies that an ISBN found in the index is loaded by ID through the catalog loader,
+     * so that a cached book needs no repository call.
+     */
+    @Test
+    void shouldLoadBookByIdWhenIsbnIsIndexed() {
+        Book book = Book.builder().id(4L).isbn("9780306406157").build();
+        when(isbnIndex.lookup("9780306406157")).thenReturn(4L);
+        when(catalogLoader.book(4L)).thenReturn(Optional.of(book));
+
+        assertSame(book, bookService.findByIsbn("9780306406157"));
+        verifyNoInteractions(bookRepository);
+    }
+
+    /**
+     * Verifies that an ISBN the index knows to be absent is rejected without a query,
+     * and that a stale entry is evicted before falling back to the lookup by ISBN.
+     */
+    @Test
+    void shouldUseIsbnIndexToRejectOrCorrectLookups() {
+        when(isbnIndex.lookup("9780306406157")).thenReturn(IsbnIndex.ABSENT);
+        assertThrows(ElementNotFoundException.class, () -> bookService.findByIsbn("9780306406157"));
+        verifyNoInteractions(bookRepository);
+
+        Book renamed = Book.builder().id(4L).isbn("9781861972712").build();
+        Book current = Book.builder().id(9L).isbn("9780306406157").build();
+        when(isbnIndex.lookup("9780306406157")).thenReturn(4L);
+        when(catalogLoader.book(4L)).thenReturn(Optional.of(renamed));
+        when(bookRepository.findByIsbn("9780306406157")).thenReturn(Optional.of(current));
+
+        assertSame(current, bookService.findByIsbn("9780306406157"));
+        verify(isbnIndex).evict("9780306406157", 4L);
+    }
+
     /**
      * Tests the findByTitle method in BookServiceImpl.
      * Verifies that a book can be found by its title when it exists.
@@ -84,6 +171,18 @@ class BookServiceImplTest {
         verify(bookRepository).findByTitle(anyString());
     }
 
+    /**
+     * Tests the findById method with a fieldset in BookServiceImpl.
+     * Verifies that a missing book raises ElementNotFoundException.
+     */
+    @Test
+    void shouldThrowWhenBookFieldsNotFound() {
+        FieldSet fields = FieldSet.forBooks("title");
+        when(bookRepository.findFieldsBy("id", 9L, fields)).thenReturn(Optional.empty());
+        assertThrows(ElementNotFoundException.class, () -> bookService.findById(9L, fields));
+        verify(bookRepository, never()).findById(anyLong());
+    }
+
     /**
      * Tests the findAll method in BookServiceImpl.
      * Verifies that all books can be retrieved and that the returned list is not empty.
@@ -125,5 +224,139 @@ class BookServiceImplTest {
         assertEquals("Book1", bookCalled.getTitle());
         verify(bookRepository).save(any(Book.class));
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * Tests the save method in BookServiceImpl for an existing book moved to another author.
+     * Verifies that the statistics change is recorded from the locked previous row.
+     */
+    @Test
+    void shouldRecordStatsChangeWhenSavingExistingBook() {
+        Book book = new Book(1L, "Book1", "ISBN1", new BigDecimal("30"), Author.builder().id(2L).build());
+        when(bookRepository.lockRow(1L))
+                .thenReturn(Optional.of(new BookRow(1L, "ISBN1", "Book1", 1L, new BigDecimal("20"))));
+        when(bookRepository.save(book)).thenReturn(book);
+        bookService.save(book);
+        verify(authorStatsService).recordChange(1L, new BigDecimal("20"), 2L, new BigDecimal("30"));
+    }
+
+    /**
+     * Tests the save method in BookServiceImpl for a new book.
+     * Verifies that no previous row is read and the book is counted for its author.
+     */
+    @Test
+    void shouldRecordStatsChangeWhenSavingNewBook() {
+        Book book = new Book(null, "Book3", "ISBN3", new BigDecimal("30"), Author.builder().id(2L).build());
+        when(bookRepository.save(book)).thenReturn(book);
+        bookService.save(book);
+        verify(bookRepository, never()).lockRow(any());
+        verify(authorStatsService).recordChange(null, null, 2L, new BigDecimal("30"));
+    }
+
+    /**
+     * Tests the patch method in BookServiceImpl.
+     * Verifies that the row returned by the repository update is returned, and that the book
+     * is evicted under its previous and new keys.
+     */
+    @Test
+    void shouldPatchBook() {
+        Map<String, Object> patch = Map.of("title", "Book1");
+        BookRow previous = new BookRow(1L, "ISBN1", "Book0", null, new BigDecimal("2000"));
+        when(bookRepository.patch(1L, patch)).thenReturn(Optional.of(new BookPatch(Data.BOOK, previous)));
+        Book bookCalled = bookService.patch(1L, patch);
+        assertEquals("Book1", bookCalled.getTitle());
+        verify(bookRepository).patch(1L, patch);
+        verify(bookRepository, never()).existsById(anyLong());
+        verify(authorStatsService).recordChange(null, new BigDecimal("2000"), null, new BigDecimal("2500"));
+        verify(catalogCache).evictBooks(List.of(previous, new BookRow(Data.BOOK.getId(), Data.BOOK.getIsbn(),
+                Data.BOOK.getTitle(), null, Data.BOOK.getPrice())));
+        verify(catalogCache, never()).invalidatePages();
+    }
+
+    /**
+     * Tests the patch method in BookServiceImpl when the expected version is stale.
+     * Verifies that a VersionConflictException is thrown.
+     */
+    @Test
+    void shouldThrowVersionConflictWhenPatchVersionIsStale() {
+        Map<String, Object> patch = Map.of("title", "Book1", "version", 3);
+        when(bookRepository.patch(1L, patch)).thenReturn(Optional.empty());
+        when(bookRepository.existsById(1L)).thenReturn(true);
+        assertThrows(VersionConflictException.class, () -> bookService.patch(1L, patch));
+    }
+
+    /**
+     * Tests the patch method in BookServiceImpl when the book does not exist.
+     * Verifies that an ElementNotFoundException is thrown.
+     */
+    @Test
+    void shouldThrowNotFoundWhenPatchedBookDoesNotExist() {
+        Map<String, Object> patch = Map.of("title", "Book1");
+        when(bookRepository.patch(1L, patch)).thenReturn(Optional.empty());
+        assertThrows(ElementNotFoundException.class, () -> bookService.patch(1L, patch));
+    }
+
+    /**
+     * Tests the deleteById method in BookServiceImpl.
+     * Verifies that the deleted row's keys are evicted from the cache and the deletion is published.
+     */
+    @Test
+    void shouldDeleteBookAndEvictItsKeys() {
+        List<BookRow> deleted = List.of(new BookRow(1L, "ISBN1", "Book1", 1L, new BigDecimal("2500")));
+        when(bookRepository.deleteReturningRow(1L)).thenReturn(deleted);
+        bookService.deleteById(1L);
+        verify(catalogCache).evictBooks(deleted);
+        verify(catalogEventPublisher).publish(CatalogEvent.deleted(Tombstone.BOOK, 1L));
+    }
+
+    /**
+     * Tests the deleteById method in BookServiceImpl when no row is deleted.
+     * Verifies that an ElementNotFoundException is thrown and nothing is evicted.
+     */
+    @Test
+    void shouldThrowNotFoundWhenDeletedBookDoesNotExist() {
+        when(bookRepository.deleteReturningRow(1L)).thenReturn(List.of());
+        assertThrows(ElementNotFoundException.class, () -> bookService.deleteById(1L));
+        verifyNoInteractions(catalogCache, authorStatsService);
+    }
+
+    /**
+     * Tests the saveAll method in BookServiceImpl.
+     * Verifies that valid books are written in batches and invalid ones are reported per item.
+     */
+    @Test
+    void shouldSaveValidBooksAndReportInvalidOnes() {
+        Author author = Author.builder().id(1L).build();
+        List<Book> books = Arrays.asList(
+                Book.builder().title("New").isbn("NEW1").author(author).build(),
+                Book.builder().id(5L).title("Renamed").isbn("ISBN5").author(author).build(),
+                Book.builder().title("Orphan").author(Author.builder().id(3L).build()).build(),
+                Book.builder().title("Copy").isbn("TAKEN").build(),
+                Book.builder().id(6L).title("Missing").build(),
+                null);
+        books.get(1).setVersion(2L);
+        when(bookRepository.lockRows(Set.of(5L, 6L))).thenReturn(List.of(
+                new Versioned<>(new BookRow(5L, "ISBN5", "Old", 1L, new BigDecimal("10")), 2L)));
+        when(authorRepository.findExistingIds(Set.of(1L, 3L))).thenReturn(List.of(1L));
+        when(bookRepository.findRowsByIsbnIn(Set.of("NEW1", "ISBN5", "TAKEN")))
+                .thenReturn(List.of(new BookRow(9L, "TAKEN", "Other", null, null)));
+        doAnswer(invocation -> {
+            List<Book> created = invocation.getArgument(0);
+            created.forEach(book -> {
+                book.setId(100L);
+                book.setVersion(0L);
+            });
+            return null;
+        }).when(bookRepository).insertBatch(anyList());
+
+        List<BatchItemResult> results = bookService.saveAll(books);
+
+        assertEquals(List.of(201, 200, 404, 409, 404, 400), results.stream().map(BatchItemResult::status).toList());
+        assertEquals(100L, results.get(0).id());
+        assertEquals(3L, results.get(1).version());
+        verify(bookRepository).insertBatch(List.of(books.get(0)));
+        verify(bookRepository).updateBatch(List.of(books.get(1)));
+        verify(authorStatsService).recordChanges(argThat(changes -> changes.size() == 2));
+        verify(catalogCache).writeBatch(any(CacheBatch.class));
+        verify(authorRepository, never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,144 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.config.redis.BookViewsData;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+/**
+ * Cost of counting a book view on the read path. The accounting check always runs;
+ * the measurement runs with {@code -Dbenchmark=true} and logs the nanoseconds per view
+ * on one thread and on one thread per processor reading the same book, next to a single shared
+ * {@link AtomicLong}, which is what one counter per book without striping would cost.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class BookViewServiceBenchmarkTest {
+
+    static final int THREADS = 8;
+    static final int BOOKS = 64;
+
+    /**
+     * Verifies that every view counted by concurrent readers is flushed exactly once
+     * while flushes run alongside them.
+     */
+    @Test
+    void shouldFlushEveryViewCountedConcurrently() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        BookViewServiceImpl bookViewService = service(flushed);
+        AtomicBoolean reading = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (reading.get()) {
+                bookViewService.flush();
+                Thread.onSpinWait();
+            }
+        });
+        flusher.start();
+
+        run(THREADS, 200_000, view -> bookViewService.record(view % BOOKS));
+        reading.set(false);
+        flusher.join();
+        bookViewService.flush();
+
+        assertEquals((long) THREADS * 200_000, flushed.get());
+    }
+
+    /**
+     * Measures the cost of a view on one thread and on contended threads, against a shared AtomicLong.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureViewCost() throws Exception {
+        BookViewServiceImpl bookViewService = service(new AtomicLong());
+        AtomicLong shared = new AtomicLong();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int views = 20_000_000;
+
+        for (int round = 0; round < 3; round++) {
+            run(1, views, view -> bookViewService.record(1L));
+            run(threads, views / threads, view -> bookViewService.record(1L));
+            run(threads, views / threads, view -> shared.incrementAndGet());
+        }
+        log.info("One thread, one book: {} ns per view",
+                run(1, views, view -> bookViewService.record(1L)) / views);
+        log.info("{} threads, one book: {} ns per view per thread", threads,
+                run(threads, views / threads, view -> bookViewService.record(1L)) / (views / threads));
+        log.info("{} threads, one AtomicLong: {} ns per view per thread", threads,
+                run(threads, views / threads, view -> shared.incrementAndGet()) / (views / threads));
+    }
+
+    /**
+     * Returns a service whose flushes add the flushed views to a total instead of sending them to Redis.
+     */
+    private static BookViewServiceImpl service(AtomicLong flushed) {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisZSetCommands zSetCommands = mock(RedisZSetCommands.class);
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        when(connection.keyCommands()).thenReturn(mock(RedisKeyCommands.class));
+        when(zSetCommands.zIncrBy(any(byte[].class), anyDouble(), any(byte[].class))).thenAnswer(invocation -> {
+            flushed.addAndGet((long) invocation.getArgument(1, Double.class).doubleValue());
+            return null;
+        });
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, RedisCallback.class).doInRedis(connection);
+            return List.of();
+        });
+        return new BookViewServiceImpl(stringRedisTemplate, mock(IBookService.class), new BookViewsData());
+    }
+
+    /**
+     * Runs the views on the given number of threads, started together.
+     *
+     * @return the longest time a thread took, in nanoseconds
+     */
+    private static long run(int threads, int views, LongConsumer view) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> times = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                times.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    for (long i = 0; i < views; i++) {
+                        view.accept(i);
+                    }
+                    return System.nanoTime() - begin;
+                }));
+            }
+            start.countDown();
+            long longest = 0;
+            for (Future<Long> time : times) {
+                longest = Math.max(longest, time.get());
+            }
+            return longest;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
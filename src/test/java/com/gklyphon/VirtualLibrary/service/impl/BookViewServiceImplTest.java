@@ -0,0 +1,214 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.config.redis.BookViewsData;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.PopularBook;
+import com.gklyphon.VirtualLibrary.service.IBookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the BookViewServiceImpl class.
+ * Verifies that counted views are flushed as deltas in one pipeline, kept when Redis
+ * is unavailable, bounded in number of books, and ranked from the hourly buckets with
+ * deleted books replaced by the next ranks.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class BookViewServiceImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private IBookService bookService;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisZSetCommands zSetCommands;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    private BookViewsData bookViewsData;
+    private BookViewServiceImpl bookViewService;
+
+    @BeforeEach
+    void setUp() {
+        bookViewsData = new BookViewsData();
+        bookViewService = new BookViewServiceImpl(stringRedisTemplate, bookService, bookViewsData);
+    }
+
+    /**
+     * Verifies that the views of each book are added to the current bucket in one pipeline,
+     * and that nothing is sent when no book was viewed since.
+     */
+    @Test
+    void shouldFlushViewsAsDeltasInOnePipeline() {
+        pipeline();
+        bookViewService.record(1L);
+        bookViewService.record(1L);
+        bookViewService.record(1L);
+        bookViewService.record(2L);
+
+        assertEquals(2, bookViewService.flush());
+        ArgumentCaptor<byte[]> bucket = ArgumentCaptor.forClass(byte[].class);
+        verify(zSetCommands).zIncrBy(bucket.capture(), eq(3.0), aryEq(bytes("1")));
+        verify(zSetCommands).zIncrBy(any(byte[].class), eq(1.0), aryEq(bytes("2")));
+        verify(keyCommands).expire(any(byte[].class), eq(169L * 3600));
+        assertTrue(new String(bucket.getValue(), StandardCharsets.UTF_8).startsWith(BookViewServiceImpl.BUCKET_PREFIX));
+
+        assertEquals(0, bookViewService.flush());
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    /**
+     * Verifies that views which could not be flushed are sent with the next flush.
+     */
+    @Test
+    void shouldKeepViewsWhenFlushFails() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(0, RedisCallback.class).doInRedis(connection);
+                    return List.of();
+                });
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        bookViewService.record(1L);
+        bookViewService.record(1L);
+
+        assertEquals(0, bookViewService.flush());
+        bookViewService.record(1L);
+        assertEquals(1, bookViewService.flush());
+        verify(zSetCommands).zIncrBy(any(byte[].class), eq(3.0), aryEq(bytes("1")));
+    }
+
+    /**
+     * Verifies that views of books beyond the tracked limit are dropped, and that
+     * disabled counting records nothing.
+     */
+    @Test
+    void shouldBoundTrackedBooks() {
+        pipeline();
+        bookViewsData.setMaxTrackedBooks(2);
+        bookViewService.record(1L);
+        bookViewService.record(2L);
+        bookViewService.record(3L);
+        bookViewService.record(1L);
+
+        assertEquals(2, bookViewService.flush());
+        verify(zSetCommands, times(2)).zIncrBy(any(byte[].class), anyDouble(), any(byte[].class));
+
+        bookViewsData.setEnabled(false);
+        bookViewService.record(4L);
+        assertEquals(0, bookViewService.flush());
+    }
+
+    /**
+     * Verifies that a leaderboard is the union of the buckets of its window, cached for the
+     * configured time, and returned most viewed first without deleted books.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRankBooksOfWindowSkippingDeletedOnes() {
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSet);
+        when(stringRedisTemplate.hasKey("views:books:popular:24")).thenReturn(false);
+        Set<ZSetOperations.TypedTuple<String>> top = new LinkedHashSet<>();
+        top.add(new DefaultTypedTuple<>("2", 40.0));
+        top.add(new DefaultTypedTuple<>("9", 30.0));
+        top.add(new DefaultTypedTuple<>("1", 10.0));
+        when(zSet.reverseRangeWithScores("views:books:popular:24", 0, 2)).thenReturn(top);
+        when(bookService.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(book(1L), book(2L)));
+
+        List<PopularBook> popular = bookViewService.popular(24, 3);
+
+        assertEquals(List.of(2L, 1L), popular.stream().map(entry -> entry.book().getId()).toList());
+        assertEquals(List.of(40L, 10L), popular.stream().map(PopularBook::views).toList());
+        ArgumentCaptor<Collection<String>> buckets = ArgumentCaptor.forClass(Collection.class);
+        verify(zSet).unionAndStore(any(String.class), buckets.capture(), eq("views:books:popular:24"));
+        assertEquals(23, buckets.getValue().size());
+        verify(stringRedisTemplate).expire("views:books:popular:24", Duration.ofSeconds(30));
+    }
+
+    /**
+     * Verifies that ranks past the limit are read when deleted books leave it unfilled,
+     * twice as many as are missing, and that reading stops at the end of the ranking.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReadFurtherRanksToFillLimit() {
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSet);
+        when(stringRedisTemplate.hasKey("views:books:popular:24")).thenReturn(true);
+        when(zSet.reverseRangeWithScores("views:books:popular:24", 0, 2)).thenReturn(tuples("2", "9", "8"));
+        when(zSet.reverseRangeWithScores("views:books:popular:24", 3, 6)).thenReturn(tuples("7", "1"));
+        when(bookService.findAllById(List.of(2L, 9L, 8L))).thenReturn(List.of(book(2L)));
+        when(bookService.findAllById(List.of(7L, 1L))).thenReturn(List.of(book(1L)));
+
+        List<PopularBook> popular = bookViewService.popular(24, 3);
+
+        assertEquals(List.of(2L, 1L), popular.stream().map(entry -> entry.book().getId()).toList());
+        verify(zSet, times(2)).reverseRangeWithScores(eq("views:books:popular:24"), anyLong(), anyLong());
+    }
+
+    private static Set<ZSetOperations.TypedTuple<String>> tuples(String... ids) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            tuples.add(new DefaultTypedTuple<>(ids[i], 100.0 - i));
+        }
+        return tuples;
+    }
+
+    private void pipeline() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, RedisCallback.class).doInRedis(connection);
+            return List.of();
+        });
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+    }
+
+    private static Book book(long id) {
+        Book book = new Book();
+        book.setId(id);
+        return book;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
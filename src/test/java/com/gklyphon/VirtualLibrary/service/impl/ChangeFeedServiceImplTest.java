@@ -0,0 +1,145 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.SyncTokenExpiredException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.entity.Tombstone;
+import com.gklyphon.VirtualLibrary.model.projection.ChangeFeed;
+import com.gklyphon.VirtualLibrary.model.projection.SyncToken;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.ITombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the ChangeFeedServiceImpl class.
+ * Verifies how the sync token advances and when it is rejected.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceImplTest {
+
+    @Mock
+    private IBookRepository bookRepository;
+
+    @Mock
+    private IAuthorRepository authorRepository;
+
+    @Mock
+    private ITombstoneRepository tombstoneRepository;
+
+    private ChangeFeedServiceImpl changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new ChangeFeedServiceImpl(bookRepository, authorRepository, tombstoneRepository, 5, 30);
+    }
+
+    /**
+     * Verifies that a first sync reads every book up to the commit-lag horizon and, having
+     * exhausted both streams, returns a token positioned at that horizon.
+     */
+    @Test
+    void shouldAdvanceTokenToHorizonWhenChangesAreExhausted() {
+        Book book = book(1L, LocalDateTime.now().minusDays(1));
+        when(bookRepository.findChangedAfter(any(), anyLong(), any(), eq(Limit.of(10)))).thenReturn(List.of(book));
+        when(tombstoneRepository.findDeletedAfter(eq(Tombstone.BOOK), any(), anyLong(), any(), eq(Limit.of(10))))
+                .thenReturn(List.of(new Tombstone(3L, Tombstone.BOOK, 9L, LocalDateTime.now().minusHours(1))));
+        LocalDateTime before = LocalDateTime.now();
+
+        ChangeFeed<Book> feed = changeFeedService.bookChanges(null, 10);
+
+        ArgumentCaptor<LocalDateTime> horizon = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bookRepository).findChangedAfter(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(0L),
+                horizon.capture(), eq(Limit.of(10)));
+        assertFalse(horizon.getValue().isBefore(before.minusSeconds(5)));
+        assertTrue(horizon.getValue().isBefore(LocalDateTime.now().minusSeconds(4)));
+        assertEquals(List.of(book), feed.changed());
+        assertEquals(List.of(9L), feed.deleted());
+        assertFalse(feed.hasMore());
+        SyncToken next = SyncToken.decode(feed.next());
+        assertEquals(horizon.getValue().truncatedTo(ChronoUnit.MICROS), next.changedAt());
+        assertEquals(0L, next.changedId());
+        assertEquals(next.changedAt(), next.deletedAt());
+    }
+
+    /**
+     * Verifies that a full page positions the token after its last row and reports more changes.
+     */
+    @Test
+    void shouldResumeAfterLastChangeWhenPageIsFull() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 19, 8, 0);
+        Author first = author(4L, updatedAt);
+        Author second = author(5L, updatedAt);
+        when(authorRepository.findChangedAfter(any(), anyLong(), any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+        when(tombstoneRepository.findDeletedAfter(eq(Tombstone.AUTHOR), any(), anyLong(), any(), eq(Limit.of(2))))
+                .thenReturn(List.of());
+        LocalDateTime since = LocalDateTime.now().minusDays(1);
+
+        ChangeFeed<Author> feed = changeFeedService.authorChanges(new SyncToken(since, 0, since, 0).encode(), 2);
+
+        assertTrue(feed.hasMore());
+        SyncToken next = SyncToken.decode(feed.next());
+        assertEquals(updatedAt, next.changedAt());
+        assertEquals(5L, next.changedId());
+        assertTrue(next.deletedAt().isAfter(since));
+    }
+
+    /**
+     * Verifies that a token older than the tombstone retention is rejected without querying.
+     */
+    @Test
+    void shouldRejectTokenOlderThanRetention() {
+        LocalDateTime since = LocalDateTime.now().minusDays(31);
+        String token = new SyncToken(since, 0, since, 0).encode();
+
+        assertThrows(SyncTokenExpiredException.class, () -> changeFeedService.bookChanges(token, 10));
+        verifyNoInteractions(bookRepository, tombstoneRepository);
+    }
+
+    /**
+     * Verifies that the purge removes the tombstones older than the retention period.
+     */
+    @Test
+    void shouldPurgeTombstonesOlderThanRetention() {
+        when(tombstoneRepository.purgeBefore(any())).thenReturn(3);
+
+        assertEquals(3, changeFeedService.purgeTombstones());
+
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(tombstoneRepository).purgeBefore(before.capture());
+        assertTrue(before.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+
+    private static Book book(Long id, LocalDateTime updatedAt) {
+        Book book = Book.builder().id(id).title("Title " + id).build();
+        book.setUpdatedAt(updatedAt);
+        return book;
+    }
+
+    private static Author author(Long id, LocalDateTime updatedAt) {
+        Author author = Author.builder().id(id).firstname("Firstname").lastname("Lastname " + id).build();
+        author.setUpdatedAt(updatedAt);
+        return author;
+    }
+}
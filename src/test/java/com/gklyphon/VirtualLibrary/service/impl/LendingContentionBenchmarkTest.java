@@ -0,0 +1,180 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.NoCopyAvailableException;
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+import com.gklyphon.VirtualLibrary.repository.IBookCopiesRepository;
+import com.gklyphon.VirtualLibrary.repository.ILoanRepository;
+import com.gklyphon.VirtualLibrary.service.ILendingService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checkouts racing for the copies of one book. The oversell and idempotency checks always
+ * run; the measurement runs with {@code -Dbenchmark=true} and logs the checkouts per second
+ * of many threads borrowing the same book.
+ *
+ * <p>Runs against a local PostgreSQL without a test transaction, so every checkout commits
+ * on its own. Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Sql(scripts = "/sql/catalog-dataset.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@Import(LendingServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LendingContentionBenchmarkTest {
+
+    static final int THREADS = 16;
+
+    @Autowired
+    ILendingService lendingService;
+
+    @Autowired
+    ILoanRepository loanRepository;
+
+    @Autowired
+    IBookCopiesRepository bookCopiesRepository;
+
+    @AfterEach
+    void cleanUp() {
+        loanRepository.deleteAllInBatch();
+        bookCopiesRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Verifies that concurrent checkouts lend exactly as many copies as exist and refuse the others.
+     */
+    @Test
+    void shouldNeverLendMoreCopiesThanExist() throws Exception {
+        lendingService.setCopies(42L, 25);
+        AtomicInteger refused = new AtomicInteger();
+
+        List<Loan> loans = run(THREADS, 10, () -> checkout(42L, UUID.randomUUID().toString(), refused));
+
+        assertEquals(25, loans.size());
+        assertEquals(THREADS * 10 - 25, refused.get());
+        assertEquals(0, lendingService.findCopies(42L).getAvailable());
+        assertEquals(25, loanRepository.count());
+    }
+
+    /**
+     * Verifies that a checkout retried concurrently with the same key lends one copy,
+     * and that a loan returned concurrently puts its copy back once.
+     */
+    @Test
+    void shouldLendAndReturnOnceWhenRetried() throws Exception {
+        lendingService.setCopies(43L, 5);
+        String key = UUID.randomUUID().toString();
+
+        List<Loan> loans = run(8, 1, () -> lendingService.checkout(43L, "reader", key));
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        loans.forEach(loan -> ids.add(loan.getId()));
+
+        assertEquals(1, ids.size());
+        assertEquals(4, lendingService.findCopies(43L).getAvailable());
+
+        Long loanId = ids.iterator().next();
+        run(8, 1, () -> lendingService.returnLoan(loanId));
+
+        assertEquals(5, lendingService.findCopies(43L).getAvailable());
+        assertNotNull(lendingService.findLoan(loanId).getReturnedAt());
+    }
+
+    /**
+     * Measures checkouts per second of many threads borrowing the same book, then checks
+     * that none was oversold.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureContendedCheckouts() throws Exception {
+        int threads = 64;
+        int attempts = 200;
+        int copies = threads * attempts / 2;
+        lendingService.setCopies(44L, copies);
+        AtomicInteger refused = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<Loan> loans = run(threads, attempts, () -> checkout(44L, UUID.randomUUID().toString(), refused));
+        long nanos = System.nanoTime() - start;
+
+        assertEquals(copies, loans.size());
+        assertEquals(0, lendingService.findCopies(44L).getAvailable());
+        log.info("{} threads, {} checkouts of one book with {} copies: {} checkouts/s, {} lent, {} refused",
+                threads, threads * attempts, copies, threads * attempts * 1_000_000_000L / nanos,
+                loans.size(), refused.get());
+    }
+
+    private Loan checkout(Long bookId, String key, AtomicInteger refused) {
+        try {
+            return lendingService.checkout(bookId, "reader", key);
+        } catch (NoCopyAvailableException ex) {
+            refused.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Runs the task the given number of times on each thread, all threads started together.
+     *
+     * @return the non-null results
+     */
+    private static List<Loan> run(int threads, int times, Callable<Loan> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Loan>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Loan> results = new ArrayList<>();
+                    for (int i = 0; i < times; i++) {
+                        Loan loan = task.call();
+                        if (loan != null) {
+                            results.add(loan);
+                        }
+                    }
+                    return results;
+                }));
+            }
+            start.countDown();
+            List<Loan> loans = new ArrayList<>();
+            for (Future<List<Loan>> future : futures) {
+                loans.addAll(future.get());
+            }
+            return loans;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.CopiesOnLoanException;
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.IdempotencyKeyReuseException;
+import com.gklyphon.VirtualLibrary.exception.custom.NoCopyAvailableException;
+import com.gklyphon.VirtualLibrary.model.entity.Loan;
+import com.gklyphon.VirtualLibrary.repository.IBookCopiesRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.ILoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the LendingServiceImpl class.
+ * Verifies that checkouts take a copy only once per idempotency key,
+ * and that returns and copy changes are conditional.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class LendingServiceImplTest {
+
+    @Mock
+    private IBookCopiesRepository bookCopiesRepository;
+
+    @Mock
+    private ILoanRepository loanRepository;
+
+    @Mock
+    private IBookRepository bookRepository;
+
+    private LendingServiceImpl lendingService;
+
+    @BeforeEach
+    void setUp() {
+        lendingService = new LendingServiceImpl(bookCopiesRepository, loanRepository, bookRepository);
+    }
+
+    /**
+     * Verifies that a new checkout inserts its loan and takes a copy.
+     */
+    @Test
+    void shouldTakeCopyForNewCheckout() {
+        Loan loan = loan(7L, 1L, null);
+        when(loanRepository.insertIfAbsent(eq("key"), eq(1L), eq("reader"), any(LocalDateTime.class))).thenReturn(1);
+        when(bookCopiesRepository.takeCopy(1L)).thenReturn(1);
+        when(loanRepository.findByRequestId("key")).thenReturn(Optional.of(loan));
+
+        assertSame(loan, lendingService.checkout(1L, "reader", "key"));
+    }
+
+    /**
+     * Verifies that a retried checkout returns the existing loan without taking another copy,
+     * and that a key used for another book is rejected.
+     */
+    @Test
+    void shouldReturnExistingLoanForRetriedCheckout() {
+        Loan loan = loan(7L, 1L, null);
+        when(loanRepository.insertIfAbsent(eq("key"), anyLong(), eq("reader"), any(LocalDateTime.class))).thenReturn(0);
+        when(loanRepository.findByRequestId("key")).thenReturn(Optional.of(loan));
+
+        assertSame(loan, lendingService.checkout(1L, "reader", "key"));
+        assertThrows(IdempotencyKeyReuseException.class, () -> lendingService.checkout(2L, "reader", "key"));
+        verifyNoInteractions(bookCopiesRepository);
+    }
+
+    /**
+     * Verifies that a checkout without a copy left is refused, and one of a book
+     * without copies is not found.
+     */
+    @Test
+    void shouldRefuseCheckoutWithoutAvailableCopy() {
+        when(loanRepository.insertIfAbsent(any(), anyLong(), any(), any())).thenReturn(1);
+        when(bookCopiesRepository.takeCopy(anyLong())).thenReturn(0);
+        when(bookCopiesRepository.existsById(1L)).thenReturn(true);
+        when(bookCopiesRepository.existsById(2L)).thenReturn(false);
+
+        assertThrows(NoCopyAvailableException.class, () -> lendingService.checkout(1L, "reader", "a"));
+        assertThrows(ElementNotFoundException.class, () -> lendingService.checkout(2L, "reader", "b"));
+        verify(loanRepository, never()).findByRequestId(any());
+    }
+
+    /**
+     * Verifies that a copy is put back only by the return that closes the loan.
+     */
+    @Test
+    void shouldPutCopyBackOnlyWhenLoanIsClosed() {
+        when(loanRepository.findById(7L)).thenReturn(Optional.of(loan(7L, 1L, null)));
+        when(loanRepository.markReturned(eq(7L), any(LocalDateTime.class))).thenReturn(1, 0);
+
+        lendingService.returnLoan(7L);
+        lendingService.returnLoan(7L);
+
+        verify(bookCopiesRepository, times(1)).returnCopy(1L);
+    }
+
+    /**
+     * Verifies that copies are set only for existing books and never below the copies on loan.
+     */
+    @Test
+    void shouldSetCopiesOfExistingBook() {
+        when(bookRepository.existsById(1L)).thenReturn(true);
+        when(bookRepository.existsById(2L)).thenReturn(false);
+        when(bookCopiesRepository.setTotal(1L, 3)).thenReturn(0);
+
+        assertThrows(CopiesOnLoanException.class, () -> lendingService.setCopies(1L, 3));
+        assertThrows(ElementNotFoundException.class, () -> lendingService.setCopies(2L, 3));
+        verify(bookCopiesRepository, never()).setTotal(eq(2L), anyInt());
+    }
+
+    private static Loan loan(Long id, Long bookId, LocalDateTime returnedAt) {
+        return new Loan(id, "key", bookId, "reader", LocalDateTime.now(), returnedAt);
+    }
+}
@@ -0,0 +1,227 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.config.concurrency.JobsData;
+import com.gklyphon.VirtualLibrary.config.concurrency.RepricingData;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
+import com.gklyphon.VirtualLibrary.job.JobExecution;
+import com.gklyphon.VirtualLibrary.job.JobScheduler;
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.RepriceRule;
+import com.gklyphon.VirtualLibrary.model.projection.RepricingRequest;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.IJobRepository;
+import com.gklyphon.VirtualLibrary.repository.IRepricingJobRepository;
+import com.gklyphon.VirtualLibrary.service.IRepricingService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Bulk repricing against the catalog. The correctness checks always run; the measurement runs
+ * with {@code -Dbenchmark=true} and logs the books repriced per second when the whole catalog
+ * is repriced, and the longest chunk, which bounds how long a book stays locked.
+ *
+ * <p>Runs against a local PostgreSQL without a test transaction, so every chunk commits
+ * on its own, with the repricings run by the job scheduler. Enabled when
+ * {@code POSTGRESQL_TEST_URL} is set. The context is closed afterwards so its job poller does
+ * not add statements to the query regression suites that share the database.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Sql(scripts = "/sql/catalog-dataset.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@Import({RepricingServiceImpl.class, RepricingData.class, AuthorStatsServiceImpl.class, JobScheduler.class,
+        JobsData.class})
+@TestPropertySource(properties = {"repricing.chunk-size=7", "repricing.max-duty-percent=100", "jobs.enabled=true",
+        "jobs.poll-interval-ms=100"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class RepricingBenchmarkTest {
+
+    @MockBean
+    CatalogCache catalogCache;
+
+    @MockBean
+    CatalogEventPublisher catalogEventPublisher;
+
+    @Autowired
+    IRepricingService repricingService;
+
+    @Autowired
+    IRepricingJobRepository repricingJobRepository;
+
+    @Autowired
+    IBookRepository bookRepository;
+
+    @Autowired
+    IJobRepository jobRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    AuthorStatsServiceImpl authorStatsService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        repricingJobRepository.deleteAllInBatch();
+        jobRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Verifies that a percentage repricing of one author's books in a price range changes only
+     * those books, in several chunks, bumps their versions, and keeps the author's statistics
+     * equal to a rebuild from the books table.
+     */
+    @Test
+    void shouldRepriceMatchingBooksInChunks() throws Exception {
+        authorStatsService.reconcile();
+        Map<Long, BigDecimal> before = prices("author_id = 43");
+
+        RepricingJob job = awaitFinished(repricingService.start(new RepricingRequest(43L, new BigDecimal("20"),
+                new BigDecimal("80"), null, new RepriceRule(RepriceRule.Type.PERCENT, new BigDecimal("10")))));
+
+        long expected = before.values().stream()
+                .filter(price -> price.compareTo(new BigDecimal("20")) >= 0 && price.compareTo(new BigDecimal("80")) <= 0)
+                .count();
+        assertEquals(RepricingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(expected, job.getTotal());
+        assertEquals(expected, job.getProcessed());
+        assertEquals(expected, job.getRepriced());
+        prices("author_id = 43").forEach((id, price) -> {
+            BigDecimal old = before.get(id);
+            boolean matched = old.compareTo(new BigDecimal("20")) >= 0 && old.compareTo(new BigDecimal("80")) <= 0;
+            assertEquals(matched ? old.multiply(new BigDecimal("1.1")).setScale(2, RoundingMode.HALF_UP) : old,
+                    price, "book " + id);
+        });
+        assertEquals(expected, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE author_id = 43 AND version = 1", Long.class));
+        assertEquals(before.size() - expected, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE author_id = 43 AND version = 0", Long.class));
+        assertStatsConsistent(43L);
+    }
+
+    /**
+     * Verifies that rounding reprices only the listed books whose price changes, and that
+     * a repeated repricing with the same rule changes nothing.
+     */
+    @Test
+    void shouldRepriceListedBooksOnlyWhenPriceChanges() throws Exception {
+        RepriceRule round = new RepriceRule(RepriceRule.Type.ROUND, new BigDecimal("5"));
+        RepricingRequest request = new RepricingRequest(null, null, null, List.of(5L, 6L, 7L, 19_999L), round);
+
+        RepricingJob first = awaitFinished(repricingService.start(request));
+        RepricingJob second = awaitFinished(repricingService.start(request));
+
+        assertEquals(4, first.getProcessed());
+        assertEquals(4, first.getRepriced());
+        assertEquals(4, second.getProcessed());
+        assertEquals(0, second.getRepriced());
+        assertEquals(Map.of(5L, new BigDecimal("15.00"), 6L, new BigDecimal("15.00"),
+                7L, new BigDecimal("15.00"), 19_999L, new BigDecimal("30.00")), prices("id IN (5, 6, 7, 19999)"));
+    }
+
+    /**
+     * Verifies that a cancelled job stops before its next chunk and keeps the chunks it repriced.
+     */
+    @Test
+    void shouldStopCancelledJob() throws Exception {
+        List<Long> bookIds = LongStream.rangeClosed(12_001, 13_000).filter(id -> id != 12_042).boxed().toList();
+        RepricingJob job = repricingService.start(new RepricingRequest(null, null, null, bookIds,
+                new RepriceRule(RepriceRule.Type.FIXED, new BigDecimal("-1000"))));
+        repricingService.cancel(job.getId());
+        job = awaitFinished(job);
+
+        assertEquals(RepricingJob.Status.CANCELLED, job.getStatus());
+        assertTrue(job.getProcessed() < job.getTotal());
+        assertEquals(job.getRepriced(), (long) jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE id BETWEEN 12001 AND 13000 AND price = 0", Long.class));
+        assertEquals(RepricingJob.Status.CANCELLED, repricingService.cancel(job.getId()).getStatus());
+    }
+
+    /**
+     * Measures the repricing of the whole catalog in chunks of 500 books, without pauses.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureCatalogRepricing() throws Exception {
+        RepricingData chunksOf500 = new RepricingData();
+        chunksOf500.setMaxDutyPercent(100);
+        RepricingServiceImpl service = new RepricingServiceImpl(repricingJobRepository, bookRepository, catalogCache,
+                catalogEventPublisher, mock(JobScheduler.class), transactionManager, chunksOf500);
+        RepricingJob job = service.start(new RepricingRequest(null, null, null, null,
+                new RepriceRule(RepriceRule.Type.FIXED, new BigDecimal("0.01"))));
+        JobExecution execution = new JobExecution(Job.builder().id(1L).type(RepricingServiceImpl.TYPE)
+                .payload(job.getId().toString()).attempts(1).build(), 1, (id, checkpoint) -> true);
+
+        long start = System.nanoTime();
+        service.run(execution);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        job = repricingService.find(job.getId());
+        assertEquals(RepricingJob.Status.COMPLETED, job.getStatus());
+        log.info("Repriced {} of {} books in chunks of {} in {} ms: {} books/s", job.getRepriced(),
+                job.getProcessed(), chunksOf500.getChunkSize(), millis, job.getRepriced() * 1000 / Math.max(1, millis));
+    }
+
+    private RepricingJob awaitFinished(RepricingJob job) throws InterruptedException {
+        for (int i = 0; i < 600; i++) {
+            RepricingJob current = repricingService.find(job.getId());
+            if (current.getStatus().isFinished()) {
+                return current;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Repricing job " + job.getId() + " did not finish");
+    }
+
+    private Map<Long, BigDecimal> prices(String condition) {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        jdbcTemplate.query("SELECT id, price FROM books WHERE " + condition,
+                row -> { prices.put(row.getLong(1), row.getBigDecimal(2)); });
+        return prices;
+    }
+
+    private void assertStatsConsistent(long authorId) {
+        assertEquals(jdbcTemplate.queryForObject("SELECT SUM(price) FROM books WHERE author_id = ?",
+                        BigDecimal.class, authorId),
+                jdbcTemplate.queryForObject("SELECT price_sum FROM author_stats WHERE author_id = ?",
+                        BigDecimal.class, authorId));
+    }
+}
@@ -0,0 +1,242 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.cache.CacheBatch;
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.config.concurrency.RepricingData;
+import com.gklyphon.VirtualLibrary.event.CatalogEvent;
+import com.gklyphon.VirtualLibrary.event.CatalogEventPublisher;
+import com.gklyphon.VirtualLibrary.job.JobExecution;
+import com.gklyphon.VirtualLibrary.job.JobScheduler;
+import com.gklyphon.VirtualLibrary.job.LeaseLostException;
+import com.gklyphon.VirtualLibrary.model.entity.Job;
+import com.gklyphon.VirtualLibrary.model.entity.RepricingJob;
+import com.gklyphon.VirtualLibrary.model.projection.BookRow;
+import com.gklyphon.VirtualLibrary.model.projection.RepriceRule;
+import com.gklyphon.VirtualLibrary.model.projection.RepricedChunk;
+import com.gklyphon.VirtualLibrary.model.projection.RepricingRequest;
+import com.gklyphon.VirtualLibrary.model.projection.Versioned;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import com.gklyphon.VirtualLibrary.repository.IRepricingJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the RepricingServiceImpl class.
+ * Verifies that each chunk advances the job's cursor and counters, evicts and publishes
+ * only the repriced books under the lease of the job running it, and that repricings complete,
+ * stop on cancellation and record failures on the last attempt.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class RepricingServiceImplTest {
+
+    @Mock
+    private IRepricingJobRepository repricingJobRepository;
+
+    @Mock
+    private IBookRepository bookRepository;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private CatalogEventPublisher catalogEventPublisher;
+
+    @Mock
+    private JobScheduler jobScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RepricingServiceImpl repricingService;
+
+    @BeforeEach
+    void setUp() {
+        RepricingData repricingData = new RepricingData();
+        repricingData.setChunkSize(2);
+        repricingData.setMaxDutyPercent(100);
+        repricingService = new RepricingServiceImpl(repricingJobRepository, bookRepository, catalogCache,
+                catalogEventPublisher, jobScheduler, transactionManager, repricingData);
+    }
+
+    /**
+     * Verifies that a repricing is saved with the number of matching books and queued as a job.
+     */
+    @Test
+    void shouldSaveAndQueueRepricing() {
+        when(bookRepository.countRepriceable(any(RepricingJob.class))).thenReturn(40L);
+        when(repricingJobRepository.save(any(RepricingJob.class))).thenAnswer(invocation -> {
+            RepricingJob job = invocation.getArgument(0);
+            job.setId(7L);
+            return job;
+        });
+
+        RepricingJob job = repricingService.start(new RepricingRequest(3L, null, null, null,
+                new RepriceRule(RepriceRule.Type.FIXED, BigDecimal.ONE)));
+
+        assertEquals(RepricingJob.Status.PENDING, job.getStatus());
+        assertEquals(40L, job.getTotal());
+        verify(jobScheduler).submit(RepricingServiceImpl.TYPE, "7");
+    }
+
+    /**
+     * Verifies that a full chunk advances the cursor, evicts and publishes the repriced book only,
+     * and leaves the job running.
+     */
+    @Test
+    void shouldAdvanceCursorAndEvictRepricedBooks() {
+        RepricingJob job = job(RepricingJob.Status.PENDING);
+        BookRow repriced = new BookRow(12L, "978-000000012", "Title 12", 3L, new BigDecimal("11.00"));
+        when(repricingJobRepository.lockById(1L)).thenReturn(Optional.of(job));
+        when(bookRepository.repriceChunk(eq(job), eq(2), any(LocalDateTime.class)))
+                .thenReturn(new RepricedChunk(12L, 2, List.of(new Versioned<>(repriced, 4L))));
+
+        assertTrue(repricingService.runChunk(1L, execution(1, (id, checkpoint) -> true)));
+
+        assertEquals(RepricingJob.Status.RUNNING, job.getStatus());
+        assertNotNull(job.getStartedAt());
+        assertEquals(12L, job.getLastId());
+        assertEquals(2, job.getProcessed());
+        assertEquals(1, job.getRepriced());
+        verify(catalogCache).writeBatch(any(CacheBatch.class));
+        verify(catalogEventPublisher).publish(List.of(CatalogEvent.saved("book", false, 12L, 4L)));
+    }
+
+    /**
+     * Verifies that a chunk without price changes leaves the caches alone, and that
+     * a partial chunk completes the job.
+     */
+    @Test
+    void shouldCompleteJobOnPartialChunk() {
+        RepricingJob job = job(RepricingJob.Status.RUNNING);
+        when(repricingJobRepository.lockById(1L)).thenReturn(Optional.of(job));
+        when(bookRepository.repriceChunk(eq(job), eq(2), any(LocalDateTime.class)))
+                .thenReturn(new RepricedChunk(15L, 1, List.of()));
+
+        assertFalse(repricingService.runChunk(1L, execution(1, (id, checkpoint) -> true)));
+
+        assertEquals(RepricingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(15L, job.getLastId());
+        assertNotNull(job.getFinishedAt());
+        verifyNoInteractions(catalogCache, catalogEventPublisher);
+    }
+
+    /**
+     * Verifies that a job whose cancellation was requested stops before repricing another chunk,
+     * and that a finished job is not run again.
+     */
+    @Test
+    void shouldStopCancelledAndFinishedJobs() {
+        RepricingJob cancelled = job(RepricingJob.Status.RUNNING);
+        cancelled.setCancelRequested(true);
+        when(repricingJobRepository.lockById(1L)).thenReturn(Optional.of(cancelled));
+        when(repricingJobRepository.lockById(2L)).thenReturn(Optional.of(job(RepricingJob.Status.COMPLETED)));
+
+        assertFalse(repricingService.runChunk(1L, execution(1, (id, checkpoint) -> true)));
+        assertFalse(repricingService.runChunk(2L, execution(1, (id, checkpoint) -> true)));
+
+        assertEquals(RepricingJob.Status.CANCELLED, cancelled.getStatus());
+        verify(bookRepository, never()).repriceChunk(any(), anyInt(), any());
+    }
+
+    /**
+     * Verifies that a chunk is checkpointed in its transaction, so that a lost lease
+     * fails the chunk before its books are evicted.
+     */
+    @Test
+    void shouldNotEvictChunkWhenLeaseIsLost() {
+        RepricingJob job = job(RepricingJob.Status.RUNNING);
+        BookRow repriced = new BookRow(12L, "978-000000012", "Title 12", 3L, new BigDecimal("11.00"));
+        when(repricingJobRepository.lockById(1L)).thenReturn(Optional.of(job));
+        when(bookRepository.repriceChunk(eq(job), eq(2), any(LocalDateTime.class)))
+                .thenReturn(new RepricedChunk(12L, 2, List.of(new Versioned<>(repriced, 4L))));
+
+        assertThrows(LeaseLostException.class,
+                () -> repricingService.runChunk(1L, execution(1, (id, checkpoint) -> false)));
+        verifyNoInteractions(catalogCache, catalogEventPublisher);
+    }
+
+    /**
+     * Verifies that a repricing runs its chunks until the last one, and that a failing chunk
+     * marks the repricing as failed on the last attempt only.
+     */
+    @Test
+    void shouldRunChunksUntilDoneOrFailed() throws Exception {
+        RepricingJob job = job(RepricingJob.Status.PENDING);
+        when(repricingJobRepository.lockById(1L)).thenReturn(Optional.of(job));
+        when(bookRepository.repriceChunk(eq(job), eq(2), any(LocalDateTime.class)))
+                .thenReturn(new RepricedChunk(2L, 2, List.of()), new RepricedChunk(4L, 2, List.of()),
+                        new RepricedChunk(null, 0, List.of()));
+        List<String> checkpoints = new ArrayList<>();
+
+        repricingService.run(execution(1, (id, checkpoint) -> checkpoints.add(checkpoint)));
+
+        assertEquals(RepricingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(4L, job.getLastId());
+        assertEquals(4, job.getProcessed());
+        assertEquals(List.of("2", "4", "4"), checkpoints);
+
+        RepricingJob failing = job(RepricingJob.Status.RUNNING);
+        when(repricingJobRepository.lockById(1L)).thenReturn(Optional.of(failing));
+        when(bookRepository.repriceChunk(eq(failing), eq(2), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("numeric field overflow"));
+
+        assertThrows(IllegalStateException.class, () -> repricingService.run(execution(3, (id, checkpoint) -> true)));
+        assertEquals(RepricingJob.Status.RUNNING, failing.getStatus());
+        assertThrows(IllegalStateException.class, () -> repricingService.run(execution(1, (id, checkpoint) -> true)));
+        assertEquals(RepricingJob.Status.FAILED, failing.getStatus());
+        assertTrue(failing.getError().contains("numeric field overflow"));
+        verify(catalogEventPublisher, never()).publish(anyList());
+    }
+
+    /**
+     * Verifies that a cancellation is a conditional update followed by a read of the job.
+     */
+    @Test
+    void shouldRequestCancellation() {
+        RepricingJob job = job(RepricingJob.Status.CANCELLED);
+        when(repricingJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        assertSame(job, repricingService.cancel(1L));
+        verify(repricingJobRepository).requestCancel(eq(1L), any(LocalDateTime.class));
+    }
+
+    /**
+     * Returns a run of the job of repricing 1, allowed the given number of attempts.
+     */
+    private static JobExecution execution(int maxAttempts, JobExecution.CheckpointWriter writer) {
+        return new JobExecution(Job.builder().id(10L).type(RepricingServiceImpl.TYPE).payload("1").attempts(1).build(),
+                maxAttempts, writer);
+    }
+
+    private static RepricingJob job(RepricingJob.Status status) {
+        return RepricingJob.builder()
+                .id(1L)
+                .status(status)
+                .authorId(3L)
+                .ruleType(RepriceRule.Type.PERCENT)
+                .ruleValue(BigDecimal.TEN)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.gklyphon.VirtualLibrary.service.impl;
+
+import com.gklyphon.VirtualLibrary.exception.custom.ElementNotFoundException;
+import com.gklyphon.VirtualLibrary.exception.custom.InvalidFieldsException;
+import com.gklyphon.VirtualLibrary.exception.custom.ReadOnlyNodeException;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.snapshot.CatalogSnapshot;
+import com.gklyphon.VirtualLibrary.snapshot.MappedCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the SnapshotBookServiceImpl class.
+ * Verifies that reads are served from the current snapshot and writes are rejected.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class SnapshotBookServiceImplTest {
+
+    @Mock
+    MappedCatalog mappedCatalog;
+
+    @Mock
+    CatalogSnapshot snapshot;
+
+    SnapshotBookServiceImpl bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookService = new SnapshotBookServiceImpl(mappedCatalog);
+    }
+
+    /**
+     * Verifies that a book is read from the snapshot, and a missing one is reported as not found.
+     */
+    @Test
+    void shouldFindBookInSnapshot() {
+        when(mappedCatalog.current()).thenReturn(snapshot);
+        when(snapshot.bookByIsbn("9780306406157")).thenReturn(Book.builder().id(4L).build());
+
+        assertEquals(4L, bookService.findByIsbn("9780306406157").getId());
+        assertThrows(ElementNotFoundException.class, () -> bookService.findById(5L));
+    }
+
+    /**
+     * Verifies that pages are read in descending ID order when requested, and that other
+     * sort orders are rejected.
+     */
+    @Test
+    void shouldPageInIdOrder() {
+        when(mappedCatalog.current()).thenReturn(snapshot);
+        when(snapshot.bookCount()).thenReturn(25);
+        when(snapshot.books(10, 10, true)).thenReturn(List.of(Book.builder().id(15L).build()));
+
+        Page<Book> page = bookService.findAllPageable(PageRequest.of(1, 10, Sort.by("id").descending()));
+
+        assertEquals(25, page.getTotalElements());
+        assertEquals(15L, page.getContent().get(0).getId());
+        assertThrows(InvalidFieldsException.class,
+                () -> bookService.findAllPageable(PageRequest.of(0, 10, Sort.by("title"))));
+    }
+
+    /**
+     * Verifies that a slice of an author's books holds their first books by ID, each with its author,
+     * and that an author missing from the snapshot has no books.
+     */
+    @Test
+    void shouldSliceAuthorBooksInIdOrder() {
+        when(mappedCatalog.current()).thenReturn(snapshot);
+        when(snapshot.author(7L)).thenReturn(Author.builder().id(7L).books(Set.of(Book.builder().id(30L).build(),
+                Book.builder().id(10L).build(), Book.builder().id(20L).build())).build());
+        when(snapshot.book(anyLong())).thenAnswer(invocation -> Book.builder().id(invocation.getArgument(0))
+                .author(Author.builder().id(7L).build()).build());
+
+        Slice<Book> books = bookService.findAllByAuthorId(7L, PageRequest.of(0, 2, Sort.by("id")));
+
+        assertEquals(List.of(10L, 20L), books.map(Book::getId).getContent());
+        assertEquals(7L, books.getContent().get(0).getAuthor().getId());
+        assertTrue(books.hasNext());
+        assertTrue(bookService.findAllByAuthorId(8L, PageRequest.of(0, 2)).isEmpty());
+    }
+
+    /**
+     * Verifies that writes are rejected without reading the snapshot.
+     */
+    @Test
+    void shouldRejectWrites() {
+        assertThrows(ReadOnlyNodeException.class, () -> bookService.save(new Book()));
+        assertThrows(ReadOnlyNodeException.class, () -> bookService.patch(1L, Map.of("title", "Title")));
+        assertThrows(ReadOnlyNodeException.class, () -> bookService.deleteById(1L));
+        verifyNoInteractions(mappedCatalog);
+    }
+}
@@ -0,0 +1,153 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Startup time and memory of a read-only node serving a catalog snapshot.
+ * The size and lookup checks always run; the measurement runs with {@code -Dbenchmark=true}
+ * and logs, for one million books, the time to map the snapshot against the time to load the
+ * same books onto the heap, and the resident set size (RSS) of the process along the way.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+class CatalogSnapshotBenchmarkTest {
+
+    static final int BOOKS_PER_AUTHOR = 20;
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Verifies that a catalog of 50,000 books takes less than 150 bytes per book with its
+     * indexes, and that every book is found by ID and ISBN.
+     */
+    @Test
+    void shouldServeEveryBookOfLargeSnapshot() throws IOException {
+        int books = 50_000;
+        Path path = write(directory.resolve("catalog.snapshot"), books);
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+
+        assertEquals(books, snapshot.bookCount());
+        assertTrue(Files.size(path) < 150L * books);
+        for (int id = 1; id <= books; id += 7) {
+            Book book = snapshot.bookByIsbn(isbn(id));
+            assertEquals(id, book.getId());
+            assertEquals("Title " + id, snapshot.book(id).getTitle());
+            assertEquals(BOOKS_PER_AUTHOR, snapshot.author(book.getAuthor().getId()).getBooks().size());
+        }
+    }
+
+    /**
+     * Measures the startup of a node holding one million books, mapping the snapshot or loading
+     * the books onto the heap, with the RSS after each step and the random lookup throughput.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void measureStartupAndResidentMemory() throws IOException {
+        int books = 1_000_000;
+        long start = System.nanoTime();
+        Path path = write(directory.resolve("catalog.snapshot"), books);
+        log.info("Snapshot of {} books written in {} ms: {} MB", books,
+                (System.nanoTime() - start) / 1_000_000, Files.size(path) / 1_000_000);
+
+        System.gc();
+        long rssBefore = rss();
+        start = System.nanoTime();
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+        long mapped = System.nanoTime() - start;
+        long rssMapped = rss();
+
+        Random random = new Random(42);
+        int lookups = 1_000_000;
+        start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            assertNotNull(snapshot.book(1 + random.nextInt(books)));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long rssTouched = rss();
+
+        start = System.nanoTime();
+        Map<Long, Book> heap = new HashMap<>();
+        for (Book book : snapshot.books(0, books, false)) {
+            heap.put(book.getId(), book);
+        }
+        long loaded = System.nanoTime() - start;
+        System.gc();
+        long rssLoaded = rss();
+
+        assertEquals(books, heap.size());
+        log.info("Startup: mapped in {} ms, loaded onto the heap in {} ms",
+                String.format("%.1f", mapped / 1e6), loaded / 1_000_000);
+        log.info("RSS: {} MB before, +{} MB mapped, +{} MB after {} random lookups, +{} MB loaded onto the heap",
+                rssBefore / 1_000_000, (rssMapped - rssBefore) / 1_000_000, (rssTouched - rssBefore) / 1_000_000,
+                lookups, (rssLoaded - rssBefore) / 1_000_000);
+        log.info("Random lookups by ID: {} books/s", Math.round(lookups / seconds));
+    }
+
+    private static Path write(Path path, int books) throws IOException {
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(path, new CatalogStamp(1L, 1_000L))) {
+            for (int author = 1; author <= books / BOOKS_PER_AUTHOR; author++) {
+                Author row = Author.builder().id((long) author).firstname("Firstname " + author)
+                        .lastname("Lastname " + author).country("Country " + author % 50).build();
+                row.setCreatedAt(NOW);
+                row.setUpdatedAt(NOW);
+                row.setVersion(0L);
+                long first = (long) (author - 1) * BOOKS_PER_AUTHOR + 1;
+                writer.writeAuthor(row, LongStream.range(first, first + BOOKS_PER_AUTHOR).toArray());
+            }
+            for (int id = 1; id <= books; id++) {
+                Book row = Book.builder().id((long) id).title("Title " + id).isbn(isbn(id))
+                        .price(BigDecimal.valueOf(id % 90 + 999, 2))
+                        .author(Author.builder().id((long) (id - 1) / BOOKS_PER_AUTHOR + 1).build()).build();
+                row.setCreatedAt(NOW);
+                row.setUpdatedAt(NOW);
+                row.setVersion(0L);
+                writer.writeBook(row);
+            }
+            writer.finish();
+        }
+        return path;
+    }
+
+    private static String isbn(int id) {
+        return "978-" + String.format("%09d", id);
+    }
+
+    /**
+     * Reads the resident set size of the process from {@code /proc/self/status}.
+     *
+     * @return the RSS in bytes, or 0 where it is not available
+     */
+    private static long rss() throws IOException {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                .findFirst().orElse(0);
+    }
+}
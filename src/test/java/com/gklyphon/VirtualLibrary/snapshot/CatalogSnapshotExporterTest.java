@@ -0,0 +1,88 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogCache;
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.repository.IAuthorRepository;
+import com.gklyphon.VirtualLibrary.repository.IBookRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for the CatalogSnapshotExporter class.
+ * Exports the representative catalog from a local PostgreSQL and verifies that the
+ * snapshot serves the same books and authors as the repositories.
+ *
+ * <p>Enabled when {@code POSTGRESQL_TEST_URL} is set.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("pgtest")
+@EnabledIfEnvironmentVariable(named = "POSTGRESQL_TEST_URL", matches = ".+")
+@Sql(scripts = "/sql/catalog-dataset.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class CatalogSnapshotExporterTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    IBookRepository bookRepository;
+
+    @Autowired
+    IAuthorRepository authorRepository;
+
+    @MockBean
+    CatalogCache catalogCache;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Verifies that the exported snapshot holds every row, with the values stored in the database.
+     */
+    @Test
+    void shouldExportCatalog() throws IOException {
+        when(catalogCache.stamp()).thenReturn(new CatalogStamp(5L, 1_000L));
+        Path path = directory.resolve("catalog.snapshot");
+
+        CatalogStamp stamp = new CatalogSnapshotExporter(dataSource, catalogCache, path.toString()).export();
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+
+        assertEquals(5L, stamp.generation());
+        assertEquals(stamp, snapshot.stamp());
+        assertEquals(bookRepository.count(), snapshot.bookCount());
+        assertEquals(authorRepository.count(), snapshot.authorCount());
+
+        Book expected = bookRepository.findByIsbn("978-000000042").orElseThrow();
+        Book book = snapshot.bookByIsbn("978-000000042");
+        assertEquals(expected.getId(), book.getId());
+        assertEquals(expected.getTitle(), book.getTitle());
+        assertEquals(0, expected.getPrice().compareTo(book.getPrice()));
+        assertEquals(expected.getUpdatedAt(), book.getUpdatedAt());
+        assertEquals(expected.getAuthor().getId(), book.getAuthor().getId());
+        assertEquals(expected.getAuthor().getLastname(), book.getAuthor().getLastname());
+
+        Author author = snapshot.author(expected.getAuthor().getId());
+        assertEquals(20, author.getBooks().size());
+        assertEquals(expected.getAuthor().getBirthdate(), author.getBirthdate());
+    }
+}
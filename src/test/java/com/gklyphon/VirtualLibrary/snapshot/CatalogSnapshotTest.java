@@ -0,0 +1,171 @@
+package com.gklyphon.VirtualLibrary.snapshot;
+
+import com.gklyphon.VirtualLibrary.cache.CatalogStamp;
+import com.gklyphon.VirtualLibrary.model.entity.Author;
+import com.gklyphon.VirtualLibrary.model.entity.Book;
+import com.gklyphon.VirtualLibrary.model.projection.BookFields;
+import com.gklyphon.VirtualLibrary.model.projection.FieldSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CatalogSnapshot, CatalogSnapshotWriter and MappedCatalog classes.
+ * Verifies that written books and authors are read back by ID, ISBN and title,
+ * and that a replaced snapshot file is swapped in.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class CatalogSnapshotTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Verifies that every field of a book and of its author is read back, including absent ones.
+     */
+    @Test
+    void shouldReadBackBooksAndAuthors() throws IOException {
+        CatalogSnapshot snapshot = CatalogSnapshot.open(write(directory.resolve("catalog.snapshot"), 7L));
+
+        assertEquals(new CatalogStamp(7L, 1_000L), snapshot.stamp());
+        assertEquals(3, snapshot.bookCount());
+        assertEquals(2, snapshot.authorCount());
+
+        Book book = snapshot.book(10L);
+        assertEquals("El Aleph", book.getTitle());
+        assertEquals("9780306406157", book.getIsbn());
+        assertEquals(new BigDecimal("12.50"), book.getPrice());
+        assertEquals(NOW, book.getCreatedAt());
+        assertEquals(3L, book.getVersion());
+        assertEquals("Borges", book.getAuthor().getLastname());
+        assertEquals(LocalDate.of(1899, 8, 24), book.getAuthor().getBirthdate());
+
+        Book orphan = snapshot.book(12L);
+        assertNull(orphan.getAuthor());
+        assertNull(orphan.getIsbn());
+        assertNull(orphan.getPrice());
+        assertNull(orphan.getUpdatedAt());
+
+        Author author = snapshot.author(1L);
+        assertEquals("Jorge Luis", author.getFirstname());
+        assertEquals(2, author.getBooks().size());
+        assertNull(snapshot.author(2L).getBirthdate());
+        assertTrue(snapshot.author(2L).getBooks().isEmpty());
+
+        assertNull(snapshot.book(99L));
+        assertNull(snapshot.author(99L));
+    }
+
+    /**
+     * Verifies that ISBN and title lookups compare the stored value, and that a shared title
+     * resolves to the book with the lowest ID.
+     */
+    @Test
+    void shouldFindBooksByIsbnAndTitle() throws IOException {
+        CatalogSnapshot snapshot = CatalogSnapshot.open(write(directory.resolve("catalog.snapshot"), 7L));
+
+        assertEquals(11L, snapshot.bookByIsbn("9781861972712").getId());
+        assertNull(snapshot.bookByIsbn("9780000000000"));
+        assertEquals(10L, snapshot.bookByTitle("El Aleph").getId());
+        assertEquals(11L, snapshot.bookByTitle("Ficciones").getId());
+        assertNull(snapshot.bookByTitle("Rayuela"));
+        assertNull(snapshot.bookByTitle(null));
+    }
+
+    /**
+     * Verifies that books are paged in ID order in both directions, and selected as fields.
+     */
+    @Test
+    void shouldPageBooksInIdOrder() throws IOException {
+        CatalogSnapshot snapshot = CatalogSnapshot.open(write(directory.resolve("catalog.snapshot"), 7L));
+
+        assertEquals(List.of(11L, 12L), snapshot.books(1, 5, false).stream().map(Book::getId).toList());
+        assertEquals(List.of(12L, 11L), snapshot.books(0, 2, true).stream().map(Book::getId).toList());
+        assertTrue(snapshot.books(3, 5, false).isEmpty());
+
+        BookFields fields = SnapshotFields.of(snapshot.book(10L), FieldSet.forBooks("title,author.lastname"));
+        assertEquals(List.of("id", "title", "author"), List.copyOf(fields.keySet()));
+        assertEquals(Map.of("id", 1L, "lastname", "Borges"), fields.get("author"));
+        assertNull(SnapshotFields.of(snapshot.book(12L), FieldSet.forBooks("author")).get("author"));
+    }
+
+    /**
+     * Verifies that files that are not finished snapshots are rejected.
+     */
+    @Test
+    void shouldRejectInvalidFiles() throws IOException {
+        Path unfinished = directory.resolve("unfinished.snapshot");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(unfinished, new CatalogStamp(1L, 1L))) {
+            writer.writeBook(Book.builder().id(1L).title("Title").build());
+        }
+        assertThrows(IOException.class, () -> CatalogSnapshot.open(unfinished));
+
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(unfinished, new CatalogStamp(1L, 1L))) {
+            writer.writeBook(Book.builder().id(2L).build());
+            assertThrows(IllegalArgumentException.class, () -> writer.writeBook(Book.builder().id(1L).build()));
+        }
+    }
+
+    /**
+     * Verifies that a snapshot moved over the mapped file is swapped in, while the previous one
+     * stays readable, and that an invalid replacement keeps the current snapshot.
+     */
+    @Test
+    void shouldSwapReplacedSnapshot() throws IOException {
+        Path path = write(directory.resolve("catalog.snapshot"), 7L);
+        MappedCatalog mappedCatalog = new MappedCatalog(path.toString());
+        CatalogSnapshot previous = mappedCatalog.current();
+        assertFalse(mappedCatalog.reload());
+
+        Files.move(write(directory.resolve("next.snapshot"), 8L), path,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        assertTrue(mappedCatalog.reload());
+        assertEquals(8L, mappedCatalog.current().stamp().generation());
+        assertEquals("El Aleph", previous.book(10L).getTitle());
+
+        Files.writeString(directory.resolve("broken.snapshot"), "not a snapshot");
+        Files.move(directory.resolve("broken.snapshot"), path, StandardCopyOption.REPLACE_EXISTING);
+        assertFalse(mappedCatalog.reload());
+        assertEquals(8L, mappedCatalog.current().stamp().generation());
+    }
+
+    private static Path write(Path path, long generation) throws IOException {
+        Author borges = Author.builder().id(1L).firstname("Jorge Luis").lastname("Borges")
+                .birthdate(LocalDate.of(1899, 8, 24)).country("Argentina").build();
+        borges.setCreatedAt(NOW);
+        Author anonymous = Author.builder().id(2L).build();
+        Book aleph = Book.builder().id(10L).title("El Aleph").isbn("9780306406157")
+                .price(new BigDecimal("12.50")).author(borges).build();
+        aleph.setCreatedAt(NOW);
+        aleph.setUpdatedAt(NOW);
+        aleph.setVersion(3L);
+        Book ficciones = Book.builder().id(11L).title("Ficciones").isbn("9781861972712").author(borges).build();
+        Book orphan = Book.builder().id(12L).title("Ficciones").build();
+
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(path, new CatalogStamp(generation, 1_000L))) {
+            writer.writeAuthor(borges, new long[]{10L, 11L});
+            writer.writeAuthor(anonymous, new long[0]);
+            writer.writeBook(aleph);
+            writer.writeBook(ficciones);
+            writer.writeBook(orphan);
+            writer.finish();
+        }
+        return path;
+    }
+}
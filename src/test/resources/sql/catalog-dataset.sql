@@ -0,0 +1,14 @@
+-- Representative catalog for the query regression suite: 1,000 authors with 20 books each,
+-- last updated a day ago so the change feeds see them before their commit-lag horizon.
+TRUNCATE TABLE tombstones, author_stats, books, authors RESTART IDENTITY CASCADE;
+
+INSERT INTO authors (firstname, lastname, birthdate, country, created_at, updated_at, version)
+SELECT 'Firstname ' || g, 'Lastname ' || g, DATE '1900-01-01' + g * 20, 'Country ' || (g % 50), now() - interval '1 day', now() - interval '1 day', 0
+FROM generate_series(1, 1000) AS g;
+
+INSERT INTO books (title, isbn, price, author_id, created_at, updated_at, version)
+SELECT 'Title ' || g, '978-' || lpad(g::text, 9, '0'), (g % 90) + 9.99, (g % 1000) + 1, now() - interval '1 day', now() - interval '1 day', 0
+FROM generate_series(1, 20000) AS g;
+
+ANALYZE authors;
+ANALYZE books;